@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.agent;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.lang.instrument.Instrumentation;
+
+/**
+ * <p>The agent entry point.</p>
+ *
+ * <p>The agent is enabled with
+ * {@code -javaagent:com.io7m.jaffirm.agent-4.1.0-agent.jar=RULES}, where
+ * {@code RULES} is parsed by {@link ContractAgentRules#parse(String)}.
+ * Checks are removed from classes as they are loaded; classes that are
+ * already loaded when the agent starts are not affected.</p>
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractAgent
+{
+  private ContractAgent()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * The agent entry point.
+   *
+   * @param arguments       The agent arguments
+   * @param instrumentation The instrumentation interface
+   */
+
+  public static void premain(
+    final String arguments,
+    final Instrumentation instrumentation)
+  {
+    final var rules = ContractAgentRules.parse(arguments);
+    if (rules.isEmpty()) {
+      return;
+    }
+    instrumentation.addTransformer(new ContractStripper(rules), false);
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.agent;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * <p>Per-package rules that decide which contract checks the agent removes.</p>
+ *
+ * <p>Rules are written as a comma-separated list of
+ * {@code package=kind+kind...} entries, where each {@code kind} is one of
+ * {@code preconditions}, {@code postconditions}, {@code invariants},
+ * {@code all}, or {@code none}. A rule applies to the named package and all
+ * of its subpackages, and the rule with the longest matching package wins.
+ * The package {@code *} matches every class. The entry {@code verbose}
+ * causes the agent to report the checks it removes on the standard error
+ * stream.</p>
+ *
+ * <p>For example, {@code com.example=invariants,com.example.api=none}
+ * removes invariant checks from {@code com.example} and its subpackages,
+ * except for {@code com.example.api}.</p>
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractAgentRules
+{
+  private static final String ANY_PACKAGE = "*";
+
+  private final Map<String, Set<ContractKind>> rules;
+  private final boolean verbose;
+
+  private ContractAgentRules(
+    final Map<String, Set<ContractKind>> inRules,
+    final boolean inVerbose)
+  {
+    this.rules = Objects.requireNonNull(inRules, "rules");
+    this.verbose = inVerbose;
+  }
+
+  /**
+   * Parse a set of rules.
+   *
+   * @param text The rule text, or {@code null} for an empty set of rules
+   *
+   * @return A set of rules
+   *
+   * @throws IllegalArgumentException If the text is malformed
+   */
+
+  public static ContractAgentRules parse(
+    final String text)
+    throws IllegalArgumentException
+  {
+    final var rules = new TreeMap<String, Set<ContractKind>>();
+    var verbose = false;
+
+    if (text != null) {
+      for (final var entry : text.split(",")) {
+        final var trimmed = entry.trim();
+        if (trimmed.isEmpty()) {
+          continue;
+        }
+        if ("verbose".equals(trimmed)) {
+          verbose = true;
+          continue;
+        }
+
+        final var separator = trimmed.indexOf('=');
+        if (separator <= 0) {
+          throw new IllegalArgumentException(
+            "Malformed rule '" + trimmed + "': Expected package=kind");
+        }
+
+        final var name = trimmed.substring(0, separator).trim();
+        rules.put(
+          internalPackageName(name),
+          Collections.unmodifiableSet(
+            parseKinds(trimmed, trimmed.substring(separator + 1))));
+      }
+    }
+
+    return new ContractAgentRules(
+      Collections.unmodifiableMap(rules), verbose);
+  }
+
+  private static String internalPackageName(
+    final String name)
+  {
+    if (ANY_PACKAGE.equals(name)) {
+      return "";
+    }
+    return name.replace('.', '/');
+  }
+
+  private static EnumSet<ContractKind> parseKinds(
+    final String rule,
+    final String text)
+  {
+    final var kinds = EnumSet.noneOf(ContractKind.class);
+    for (final var part : text.split("\\+")) {
+      final var name = part.trim();
+      switch (name) {
+        case "all" -> kinds.addAll(EnumSet.allOf(ContractKind.class));
+        case "none" -> {
+        }
+        default -> kinds.add(parseKind(rule, name));
+      }
+    }
+    return kinds;
+  }
+
+  private static ContractKind parseKind(
+    final String rule,
+    final String name)
+  {
+    for (final var kind : ContractKind.values()) {
+      if (kind.ruleName().equals(name)) {
+        return kind;
+      }
+    }
+    throw new IllegalArgumentException(
+      "Malformed rule '" + rule + "': Unrecognized kind '" + name + "'");
+  }
+
+  /**
+   * @return {@code true} if removed checks should be reported
+   */
+
+  public boolean isVerbose()
+  {
+    return this.verbose;
+  }
+
+  /**
+   * @return {@code true} if no rule removes any checks
+   */
+
+  public boolean isEmpty()
+  {
+    return this.rules.values()
+      .stream()
+      .allMatch(Set::isEmpty);
+  }
+
+  /**
+   * Determine the kinds of checks that should be removed from a class.
+   *
+   * @param className The internal name of the class, such as
+   *                  {@code com/example/Example}
+   *
+   * @return The kinds of checks to remove
+   */
+
+  public Set<ContractKind> kindsFor(
+    final String className)
+  {
+    Objects.requireNonNull(className, "className");
+
+    final var end = className.lastIndexOf('/');
+    var packageName = end < 0 ? "" : className.substring(0, end);
+
+    while (true) {
+      final var kinds = this.rules.get(packageName);
+      if (kinds != null) {
+        return kinds;
+      }
+      if (packageName.isEmpty()) {
+        return Set.of();
+      }
+      final var parent = packageName.lastIndexOf('/');
+      packageName = parent < 0 ? "" : packageName.substring(0, parent);
+    }
+  }
+}
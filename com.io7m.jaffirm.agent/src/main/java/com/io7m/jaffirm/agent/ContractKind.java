@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.agent;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The kinds of contract check that the agent can remove.
+ *
+ * @since 4.1.0
+ */
+
+public enum ContractKind
+{
+  /**
+   * Calls to {@code com.io7m.jaffirm.core.Preconditions}.
+   */
+
+  PRECONDITIONS("com/io7m/jaffirm/core/Preconditions"),
+
+  /**
+   * Calls to {@code com.io7m.jaffirm.core.Postconditions}.
+   */
+
+  POSTCONDITIONS("com/io7m/jaffirm/core/Postconditions"),
+
+  /**
+   * Calls to {@code com.io7m.jaffirm.core.Invariants}.
+   */
+
+  INVARIANTS("com/io7m/jaffirm/core/Invariants");
+
+  private final String owner;
+
+  ContractKind(
+    final String inOwner)
+  {
+    this.owner = Objects.requireNonNull(inOwner, "owner");
+  }
+
+  /**
+   * @return The internal name of the class that declares the checks
+   */
+
+  public String owner()
+  {
+    return this.owner;
+  }
+
+  /**
+   * @return The name of the kind as it appears in agent rules
+   */
+
+  public String ruleName()
+  {
+    return this.name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * @param owner The internal name of a class
+   *
+   * @return The kind of check declared by the class, or {@code null}
+   */
+
+  static ContractKind ofOwner(
+    final String owner)
+  {
+    for (final var kind : values()) {
+      if (kind.owner.equals(owner)) {
+        return kind;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,600 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.agent;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>Removes contract checks from a single method.</p>
+ *
+ * <p>A check is removed together with the instructions that evaluate its
+ * arguments. The instructions for each argument are located by tracking the
+ * operand stack depth backwards from the call; if the instructions for any
+ * argument cannot be isolated exactly (because they store to locals, branch
+ * outside of the argument, overlap an exception handler, and so on), the
+ * call is left in place. If the value returned by a check is used, the
+ * argument that the check would have returned is evaluated and left on the
+ * stack in place of the call.</p>
+ */
+
+final class ContractMethodStripper
+{
+  private static final String SAMPLER =
+    "Lcom/io7m/jaffirm/core/ContractSampler;";
+  private static final Set<String> CONTEXT_CONDITIONS = Set.of(
+    "Lcom/io7m/jaffirm/core/ContractContextConditionType;",
+    "Lcom/io7m/jaffirm/core/ContractObjIntConditionType;",
+    "Lcom/io7m/jaffirm/core/ContractObjLongConditionType;",
+    "Lcom/io7m/jaffirm/core/ContractObjDoubleConditionType;"
+  );
+
+  private final MethodNode method;
+  private final Set<ContractKind> kinds;
+  private AbstractInsnNode[] nodes;
+  private int[] depths;
+  private Map<LabelNode, List<Integer>> references;
+  private int found;
+  private int removed;
+
+  private ContractMethodStripper(
+    final MethodNode inMethod,
+    final Set<ContractKind> inKinds)
+  {
+    this.method = Objects.requireNonNull(inMethod, "method");
+    this.kinds = Objects.requireNonNull(inKinds, "kinds");
+  }
+
+  /**
+   * Remove checks of the given kinds from a method.
+   *
+   * @param method The method
+   * @param kinds  The kinds of checks to remove
+   *
+   * @return The stripper, for access to the resulting counts
+   */
+
+  static ContractMethodStripper strip(
+    final MethodNode method,
+    final Set<ContractKind> kinds)
+  {
+    final var stripper = new ContractMethodStripper(method, kinds);
+    stripper.run();
+    return stripper;
+  }
+
+  /**
+   * @return The number of checks found in the method
+   */
+
+  int found()
+  {
+    return this.found;
+  }
+
+  /**
+   * @return The number of checks removed from the method
+   */
+
+  int removed()
+  {
+    return this.removed;
+  }
+
+  private void run()
+  {
+    final var calls = this.calls();
+    this.found = calls.size();
+    if (calls.isEmpty()) {
+      return;
+    }
+
+    /*
+     * Calls are processed last to first so that a check nested inside the
+     * arguments of another check is removed along with the outer check.
+     */
+
+    final var gone = new IdentityHashMap<AbstractInsnNode, Boolean>();
+    for (int index = calls.size() - 1; index >= 0; --index) {
+      final var call = calls.get(index);
+      if (gone.containsKey(call)) {
+        ++this.removed;
+        continue;
+      }
+      if (!this.analyze()) {
+        break;
+      }
+
+      final var removal = this.plan(call);
+      if (removal != null) {
+        for (final var node : removal) {
+          this.method.instructions.remove(node);
+          gone.put(node, Boolean.TRUE);
+        }
+        ++this.removed;
+      }
+    }
+
+    if (this.removed > 0) {
+      this.collapseFrames();
+      this.removeEmptyTryBlocks();
+    }
+  }
+
+  private List<MethodInsnNode> calls()
+  {
+    final var calls = new ArrayList<MethodInsnNode>();
+    for (final var node : this.method.instructions) {
+      if (node instanceof MethodInsnNode && this.isTarget((MethodInsnNode) node)) {
+        calls.add((MethodInsnNode) node);
+      }
+    }
+    return calls;
+  }
+
+  private boolean isTarget(
+    final MethodInsnNode call)
+  {
+    if (call.getOpcode() != Opcodes.INVOKESTATIC) {
+      return false;
+    }
+    if (!call.name.startsWith("check")) {
+      return false;
+    }
+    final var kind = ContractKind.ofOwner(call.owner);
+    return kind != null && this.kinds.contains(kind);
+  }
+
+  /**
+   * Compute the operand stack depth before every instruction.
+   *
+   * @return {@code false} if the method cannot be analyzed
+   */
+
+  private boolean analyze()
+  {
+    final var instructions = this.method.instructions;
+    this.nodes = instructions.toArray();
+    this.depths = new int[this.nodes.length];
+    this.references = new IdentityHashMap<>();
+    Arrays.fill(this.depths, -1);
+
+    if (this.nodes.length == 0) {
+      return true;
+    }
+
+    for (int index = 0; index < this.nodes.length; ++index) {
+      for (final var target : targets(this.nodes[index])) {
+        this.reference(target, index);
+      }
+    }
+
+    final var work = new ArrayDeque<Integer>();
+    this.merge(work, 0, 0);
+    for (final var block : this.method.tryCatchBlocks) {
+      this.reference(block.start, -1);
+      this.reference(block.end, -1);
+      this.reference(block.handler, -1);
+      if (!this.merge(work, instructions.indexOf(block.handler), 1)) {
+        return false;
+      }
+    }
+
+    while (!work.isEmpty()) {
+      if (!this.step(work, work.pop().intValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean step(
+    final ArrayDeque<Integer> work,
+    final int index)
+  {
+    final var node = this.nodes[index];
+    final int opcode = node.getOpcode();
+    if (opcode == Opcodes.JSR || opcode == Opcodes.RET) {
+      return false;
+    }
+
+    final int before = this.depths[index] - StackEffects.pops(node);
+    if (before < 0) {
+      return false;
+    }
+    final int after = before + StackEffects.pushes(node);
+
+    for (final var target : targets(node)) {
+      if (!this.merge(work, this.method.instructions.indexOf(target), after)) {
+        return false;
+      }
+    }
+
+    final var next = index + 1;
+    if (fallsThrough(node) && next < this.nodes.length) {
+      return this.merge(work, next, after);
+    }
+    return true;
+  }
+
+  /**
+   * Record that a label is referenced from the instruction at
+   * {@code index}, or from outside the instruction stream if {@code index}
+   * is negative.
+   */
+
+  private void reference(
+    final LabelNode label,
+    final int index)
+  {
+    this.references.computeIfAbsent(label, k -> new ArrayList<>())
+      .add(Integer.valueOf(index));
+  }
+
+  private boolean merge(
+    final ArrayDeque<Integer> work,
+    final int index,
+    final int depth)
+  {
+    final int existing = this.depths[index];
+    if (existing == -1) {
+      this.depths[index] = depth;
+      work.push(Integer.valueOf(index));
+      return true;
+    }
+    return existing == depth;
+  }
+
+  private static List<LabelNode> targets(
+    final AbstractInsnNode node)
+  {
+    if (node instanceof JumpInsnNode) {
+      return List.of(((JumpInsnNode) node).label);
+    }
+    if (node instanceof TableSwitchInsnNode) {
+      final var sw = (TableSwitchInsnNode) node;
+      final var result = new ArrayList<>(sw.labels);
+      result.add(sw.dflt);
+      return result;
+    }
+    if (node instanceof LookupSwitchInsnNode) {
+      final var sw = (LookupSwitchInsnNode) node;
+      final var result = new ArrayList<>(sw.labels);
+      result.add(sw.dflt);
+      return result;
+    }
+    return List.of();
+  }
+
+  private static boolean fallsThrough(
+    final AbstractInsnNode node)
+  {
+    final int opcode = node.getOpcode();
+    return switch (opcode) {
+      case Opcodes.GOTO,
+        Opcodes.TABLESWITCH,
+        Opcodes.LOOKUPSWITCH,
+        Opcodes.IRETURN,
+        Opcodes.LRETURN,
+        Opcodes.FRETURN,
+        Opcodes.DRETURN,
+        Opcodes.ARETURN,
+        Opcodes.RETURN,
+        Opcodes.ATHROW -> false;
+      default -> true;
+    };
+  }
+
+  private static boolean isForbidden(
+    final AbstractInsnNode node)
+  {
+    final int opcode = node.getOpcode();
+    return switch (opcode) {
+      case Opcodes.ISTORE,
+        Opcodes.LSTORE,
+        Opcodes.FSTORE,
+        Opcodes.DSTORE,
+        Opcodes.ASTORE,
+        Opcodes.IINC,
+        Opcodes.IRETURN,
+        Opcodes.LRETURN,
+        Opcodes.FRETURN,
+        Opcodes.DRETURN,
+        Opcodes.ARETURN,
+        Opcodes.RETURN,
+        Opcodes.ATHROW,
+        Opcodes.MONITORENTER,
+        Opcodes.MONITOREXIT,
+        Opcodes.JSR,
+        Opcodes.RET -> true;
+      default -> false;
+    };
+  }
+
+  /**
+   * Decide which instructions must be removed to eliminate a call.
+   *
+   * @param call The call
+   *
+   * @return The instructions to remove, or {@code null} if the call must be
+   * left in place
+   */
+
+  private List<AbstractInsnNode> plan(
+    final MethodInsnNode call)
+  {
+    final int callIndex = this.method.instructions.indexOf(call);
+    final var arguments = Type.getArgumentTypes(call.desc);
+    final var starts = this.argumentStarts(arguments, callIndex);
+    if (starts == null) {
+      return null;
+    }
+
+    final var returnType = Type.getReturnType(call.desc);
+    final var next = call.getNext();
+    if (returnType.getSort() == Type.VOID) {
+      return this.removals(starts[0], callIndex + 1, -1, -1);
+    }
+    if (next != null && next.getOpcode() == popFor(returnType)) {
+      return this.removals(starts[0], callIndex + 2, -1, -1);
+    }
+
+    final int kept = returnedArgument(arguments);
+    if (kept >= arguments.length || !arguments[kept].equals(returnType)) {
+      return null;
+    }
+    if (kept > 0 && this.containsFrame(starts[kept], starts[kept + 1])) {
+      return null;
+    }
+    return this.removals(
+      starts[0], callIndex + 1, starts[kept], starts[kept + 1]);
+  }
+
+  /**
+   * Locate the instructions that evaluate the arguments of a call.
+   *
+   * @param arguments The argument types
+   * @param callIndex The index of the call
+   *
+   * @return The index of the first instruction of each argument, followed
+   * by the index of the call, or {@code null} if the arguments cannot be
+   * isolated
+   */
+
+  private int[] argumentStarts(
+    final Type[] arguments,
+    final int callIndex)
+  {
+    final var starts = new int[arguments.length + 1];
+    starts[arguments.length] = callIndex;
+
+    var level = this.depths[callIndex];
+    if (level < 0) {
+      return null;
+    }
+
+    for (int index = arguments.length - 1; index >= 0; --index) {
+      level -= arguments[index].getSize();
+      final int start = level < 0 ? -1 : this.regionStart(starts[index + 1], level);
+      if (start < 0) {
+        return null;
+      }
+      starts[index] = start;
+    }
+
+    if (!this.isSelfContained(starts[0], callIndex)) {
+      return null;
+    }
+    return starts;
+  }
+
+  private static int popFor(
+    final Type type)
+  {
+    return type.getSize() == 2 ? Opcodes.POP2 : Opcodes.POP;
+  }
+
+  /**
+   * Checks return their first argument, except for sampled checks (which
+   * take a sampler first) and context checks (which take a context first).
+   */
+
+  private static int returnedArgument(
+    final Type[] arguments)
+  {
+    if (arguments.length == 0) {
+      return 0;
+    }
+    if (SAMPLER.equals(arguments[0].getDescriptor())) {
+      return 1;
+    }
+    final var last = arguments[arguments.length - 1].getDescriptor();
+    if (CONTEXT_CONDITIONS.contains(last)) {
+      return 1;
+    }
+    return 0;
+  }
+
+  /**
+   * Find the first instruction of the argument whose evaluation ends
+   * immediately before {@code end}.
+   *
+   * @param end   The index of the instruction following the argument
+   * @param level The stack depth before the argument is evaluated
+   *
+   * @return The index of the first instruction, or {@code -1}
+   */
+
+  private int regionStart(
+    final int end,
+    final int level)
+  {
+    for (int index = end - 1; index >= 0; --index) {
+      final var node = this.nodes[index];
+      final int depth = this.depths[index];
+      if (depth < 0 || isForbidden(node)) {
+        return -1;
+      }
+      if (depth - StackEffects.pops(node) < level) {
+        return -1;
+      }
+      if (node.getOpcode() >= 0
+        && depth == level
+        && this.isSelfContained(index, end)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @param start The first instruction in the region
+   * @param end   The index of the instruction following the region
+   *
+   * @return {@code true} if control only enters the region at {@code start}
+   * and only leaves it at {@code end}
+   */
+
+  private boolean isSelfContained(
+    final int start,
+    final int end)
+  {
+    final var instructions = this.method.instructions;
+    for (int index = start; index < end; ++index) {
+      final var node = this.nodes[index];
+      for (final var target : targets(node)) {
+        final int targetIndex = instructions.indexOf(target);
+        if (targetIndex <= start || targetIndex > end) {
+          return false;
+        }
+      }
+
+      if (index > start && node instanceof LabelNode) {
+        final var users = this.references.get(node);
+        if (users != null) {
+          for (final var user : users) {
+            final int userIndex = user.intValue();
+            if (userIndex < start || userIndex >= end) {
+              return false;
+            }
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  private boolean containsFrame(
+    final int start,
+    final int end)
+  {
+    for (int index = start; index < end; ++index) {
+      if (this.nodes[index] instanceof FrameNode) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Collect the instructions in {@code [start, end)}, excluding those in
+   * {@code [keepStart, keepEnd)}. Labels and line numbers are preserved;
+   * frames among the removed instructions are not, because they describe
+   * stack states that no longer exist.
+   */
+
+  private List<AbstractInsnNode> removals(
+    final int start,
+    final int end,
+    final int keepStart,
+    final int keepEnd)
+  {
+    final var result = new ArrayList<AbstractInsnNode>();
+    for (int index = start; index < end; ++index) {
+      if (index >= keepStart && index < keepEnd) {
+        continue;
+      }
+      final var node = this.nodes[index];
+      if (node.getOpcode() >= 0 || node instanceof FrameNode) {
+        result.add(node);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Removing instructions can leave several frames at the same offset. The
+   * last of these describes the state that holds at the offset.
+   */
+
+  private void collapseFrames()
+  {
+    final var instructions = this.method.instructions;
+    FrameNode previous = null;
+    for (final var node : instructions.toArray()) {
+      if (node instanceof FrameNode) {
+        if (previous != null) {
+          instructions.remove(previous);
+        }
+        previous = (FrameNode) node;
+      } else if (node.getOpcode() >= 0) {
+        previous = null;
+      }
+    }
+  }
+
+  /**
+   * The class file format forbids exception handlers that cover no
+   * instructions.
+   */
+
+  private void removeEmptyTryBlocks()
+  {
+    this.method.tryCatchBlocks.removeIf(this::isEmptyTryBlock);
+  }
+
+  private boolean isEmptyTryBlock(
+    final TryCatchBlockNode block)
+  {
+    for (var node = block.start.getNext();
+         node != null && node != block.end;
+         node = node.getNext()) {
+      if (node.getOpcode() >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.agent;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.tree.ClassNode;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.nio.charset.StandardCharsets;
+import java.security.ProtectionDomain;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>A class file transformer that removes contract checks, and the
+ * evaluation of their arguments, according to a set of
+ * {@link ContractAgentRules}.</p>
+ *
+ * <p>A check whose result is discarded is removed entirely. A check whose
+ * result is used is replaced by the argument that it would have returned.
+ * Checks whose arguments cannot be safely separated from the surrounding
+ * code are left in place. Classes are returned unmodified if anything goes
+ * wrong during transformation.</p>
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractStripper implements ClassFileTransformer
+{
+  private static final byte[] CORE_PACKAGE =
+    "com/io7m/jaffirm/core/".getBytes(StandardCharsets.UTF_8);
+
+  private final ContractAgentRules rules;
+
+  /**
+   * Construct a transformer.
+   *
+   * @param inRules The rules that select the checks to remove
+   */
+
+  public ContractStripper(
+    final ContractAgentRules inRules)
+  {
+    this.rules = Objects.requireNonNull(inRules, "rules");
+  }
+
+  private static boolean contains(
+    final byte[] data,
+    final byte[] pattern)
+  {
+    final int limit = data.length - pattern.length;
+    for (int index = 0; index <= limit; ++index) {
+      if (regionMatches(data, index, pattern)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean regionMatches(
+    final byte[] data,
+    final int offset,
+    final byte[] pattern)
+  {
+    for (int index = 0; index < pattern.length; ++index) {
+      if (data[offset + index] != pattern[index]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public byte[] transform(
+    final ClassLoader loader,
+    final String className,
+    final Class<?> classBeingRedefined,
+    final ProtectionDomain protectionDomain,
+    final byte[] classfileBuffer)
+  {
+    if (className == null
+      || className.startsWith("com/io7m/jaffirm/core/")
+      || className.startsWith("com/io7m/jaffirm/agent/")) {
+      return null;
+    }
+
+    final var kinds = this.rules.kindsFor(className);
+    if (kinds.isEmpty() || !contains(classfileBuffer, CORE_PACKAGE)) {
+      return null;
+    }
+
+    try {
+      return this.strip(className, classfileBuffer, kinds);
+    } catch (final RuntimeException e) {
+      if (this.rules.isVerbose()) {
+        System.err.printf(
+          "[jaffirm-agent] %s: left unmodified: %s%n", className, e);
+      }
+      return null;
+    }
+  }
+
+  private byte[] strip(
+    final String className,
+    final byte[] classfileBuffer,
+    final Set<ContractKind> kinds)
+  {
+    final var classNode = new ClassNode();
+    new ClassReader(classfileBuffer)
+      .accept(classNode, ClassReader.EXPAND_FRAMES);
+
+    var found = 0;
+    var removed = 0;
+    for (final var method : classNode.methods) {
+      final var result = ContractMethodStripper.strip(method, kinds);
+      found += result.found();
+      removed += result.removed();
+    }
+
+    if (this.rules.isVerbose() && found > 0) {
+      System.err.printf(
+        "[jaffirm-agent] %s: removed %d of %d contract checks%n",
+        className,
+        Integer.valueOf(removed),
+        Integer.valueOf(found));
+    }
+
+    if (removed == 0) {
+      return null;
+    }
+
+    final var writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    classNode.accept(writer);
+    return writer.toByteArray();
+  }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.agent;
+
+import com.io7m.junreachable.UnreachableCodeException;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+
+import java.util.Arrays;
+
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.AASTORE;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ARRAYLENGTH;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.ATHROW;
+import static org.objectweb.asm.Opcodes.BALOAD;
+import static org.objectweb.asm.Opcodes.BASTORE;
+import static org.objectweb.asm.Opcodes.BIPUSH;
+import static org.objectweb.asm.Opcodes.CALOAD;
+import static org.objectweb.asm.Opcodes.CASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.D2F;
+import static org.objectweb.asm.Opcodes.D2I;
+import static org.objectweb.asm.Opcodes.D2L;
+import static org.objectweb.asm.Opcodes.DADD;
+import static org.objectweb.asm.Opcodes.DALOAD;
+import static org.objectweb.asm.Opcodes.DASTORE;
+import static org.objectweb.asm.Opcodes.DCMPG;
+import static org.objectweb.asm.Opcodes.DCMPL;
+import static org.objectweb.asm.Opcodes.DCONST_0;
+import static org.objectweb.asm.Opcodes.DCONST_1;
+import static org.objectweb.asm.Opcodes.DDIV;
+import static org.objectweb.asm.Opcodes.DLOAD;
+import static org.objectweb.asm.Opcodes.DMUL;
+import static org.objectweb.asm.Opcodes.DNEG;
+import static org.objectweb.asm.Opcodes.DREM;
+import static org.objectweb.asm.Opcodes.DRETURN;
+import static org.objectweb.asm.Opcodes.DSTORE;
+import static org.objectweb.asm.Opcodes.DSUB;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.DUP2;
+import static org.objectweb.asm.Opcodes.DUP2_X1;
+import static org.objectweb.asm.Opcodes.DUP2_X2;
+import static org.objectweb.asm.Opcodes.DUP_X1;
+import static org.objectweb.asm.Opcodes.DUP_X2;
+import static org.objectweb.asm.Opcodes.F2D;
+import static org.objectweb.asm.Opcodes.F2I;
+import static org.objectweb.asm.Opcodes.F2L;
+import static org.objectweb.asm.Opcodes.FADD;
+import static org.objectweb.asm.Opcodes.FALOAD;
+import static org.objectweb.asm.Opcodes.FASTORE;
+import static org.objectweb.asm.Opcodes.FCMPG;
+import static org.objectweb.asm.Opcodes.FCMPL;
+import static org.objectweb.asm.Opcodes.FCONST_0;
+import static org.objectweb.asm.Opcodes.FCONST_1;
+import static org.objectweb.asm.Opcodes.FCONST_2;
+import static org.objectweb.asm.Opcodes.FDIV;
+import static org.objectweb.asm.Opcodes.FLOAD;
+import static org.objectweb.asm.Opcodes.FMUL;
+import static org.objectweb.asm.Opcodes.FNEG;
+import static org.objectweb.asm.Opcodes.FREM;
+import static org.objectweb.asm.Opcodes.FRETURN;
+import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.FSUB;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.I2B;
+import static org.objectweb.asm.Opcodes.I2C;
+import static org.objectweb.asm.Opcodes.I2D;
+import static org.objectweb.asm.Opcodes.I2F;
+import static org.objectweb.asm.Opcodes.I2L;
+import static org.objectweb.asm.Opcodes.I2S;
+import static org.objectweb.asm.Opcodes.IADD;
+import static org.objectweb.asm.Opcodes.IALOAD;
+import static org.objectweb.asm.Opcodes.IAND;
+import static org.objectweb.asm.Opcodes.IASTORE;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.ICONST_2;
+import static org.objectweb.asm.Opcodes.ICONST_3;
+import static org.objectweb.asm.Opcodes.ICONST_4;
+import static org.objectweb.asm.Opcodes.ICONST_5;
+import static org.objectweb.asm.Opcodes.ICONST_M1;
+import static org.objectweb.asm.Opcodes.IDIV;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFGE;
+import static org.objectweb.asm.Opcodes.IFGT;
+import static org.objectweb.asm.Opcodes.IFLE;
+import static org.objectweb.asm.Opcodes.IFLT;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNONNULL;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.IF_ACMPEQ;
+import static org.objectweb.asm.Opcodes.IF_ACMPNE;
+import static org.objectweb.asm.Opcodes.IF_ICMPEQ;
+import static org.objectweb.asm.Opcodes.IF_ICMPGE;
+import static org.objectweb.asm.Opcodes.IF_ICMPGT;
+import static org.objectweb.asm.Opcodes.IF_ICMPLE;
+import static org.objectweb.asm.Opcodes.IF_ICMPLT;
+import static org.objectweb.asm.Opcodes.IF_ICMPNE;
+import static org.objectweb.asm.Opcodes.IINC;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.IMUL;
+import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEDYNAMIC;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.IOR;
+import static org.objectweb.asm.Opcodes.IREM;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.ISHL;
+import static org.objectweb.asm.Opcodes.ISHR;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.ISUB;
+import static org.objectweb.asm.Opcodes.IUSHR;
+import static org.objectweb.asm.Opcodes.IXOR;
+import static org.objectweb.asm.Opcodes.JSR;
+import static org.objectweb.asm.Opcodes.L2D;
+import static org.objectweb.asm.Opcodes.L2F;
+import static org.objectweb.asm.Opcodes.L2I;
+import static org.objectweb.asm.Opcodes.LADD;
+import static org.objectweb.asm.Opcodes.LALOAD;
+import static org.objectweb.asm.Opcodes.LAND;
+import static org.objectweb.asm.Opcodes.LASTORE;
+import static org.objectweb.asm.Opcodes.LCMP;
+import static org.objectweb.asm.Opcodes.LCONST_0;
+import static org.objectweb.asm.Opcodes.LCONST_1;
+import static org.objectweb.asm.Opcodes.LDC;
+import static org.objectweb.asm.Opcodes.LDIV;
+import static org.objectweb.asm.Opcodes.LLOAD;
+import static org.objectweb.asm.Opcodes.LMUL;
+import static org.objectweb.asm.Opcodes.LNEG;
+import static org.objectweb.asm.Opcodes.LOOKUPSWITCH;
+import static org.objectweb.asm.Opcodes.LOR;
+import static org.objectweb.asm.Opcodes.LREM;
+import static org.objectweb.asm.Opcodes.LRETURN;
+import static org.objectweb.asm.Opcodes.LSHL;
+import static org.objectweb.asm.Opcodes.LSHR;
+import static org.objectweb.asm.Opcodes.LSTORE;
+import static org.objectweb.asm.Opcodes.LSUB;
+import static org.objectweb.asm.Opcodes.LUSHR;
+import static org.objectweb.asm.Opcodes.LXOR;
+import static org.objectweb.asm.Opcodes.MONITORENTER;
+import static org.objectweb.asm.Opcodes.MONITOREXIT;
+import static org.objectweb.asm.Opcodes.MULTIANEWARRAY;
+import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.NEWARRAY;
+import static org.objectweb.asm.Opcodes.NOP;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
+import static org.objectweb.asm.Opcodes.RET;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SALOAD;
+import static org.objectweb.asm.Opcodes.SASTORE;
+import static org.objectweb.asm.Opcodes.SIPUSH;
+import static org.objectweb.asm.Opcodes.SWAP;
+import static org.objectweb.asm.Opcodes.TABLESWITCH;
+
+/**
+ * The effects of instructions on the size of the operand stack, measured
+ * in slots ({@code long} and {@code double} values occupy two slots).
+ */
+
+final class StackEffects
+{
+  private static final int[] POPS = new int[256];
+  private static final int[] PUSHES = new int[256];
+
+  static {
+    Arrays.fill(POPS, -1);
+    Arrays.fill(PUSHES, -1);
+
+    define(0, 0, NOP, IINC, GOTO, RET, RETURN);
+    define(0, 1, ACONST_NULL, ICONST_M1, ICONST_0, ICONST_1, ICONST_2);
+    define(0, 1, ICONST_3, ICONST_4, ICONST_5, FCONST_0, FCONST_1, FCONST_2);
+    define(0, 1, BIPUSH, SIPUSH, ILOAD, FLOAD, ALOAD, NEW, JSR);
+    define(0, 2, LCONST_0, LCONST_1, DCONST_0, DCONST_1, LLOAD, DLOAD);
+    define(1, 0, ISTORE, FSTORE, ASTORE, POP, TABLESWITCH, LOOKUPSWITCH);
+    define(1, 0, IFEQ, IFNE, IFLT, IFGE, IFGT, IFLE, IFNULL, IFNONNULL);
+    define(1, 0, IRETURN, FRETURN, ARETURN, ATHROW, MONITORENTER, MONITOREXIT);
+    define(1, 1, INEG, FNEG, I2F, F2I, I2B, I2C, I2S);
+    define(1, 1, NEWARRAY, ANEWARRAY, ARRAYLENGTH, CHECKCAST, INSTANCEOF);
+    define(1, 2, DUP, I2L, I2D, F2L, F2D);
+    define(2, 0, LSTORE, DSTORE, POP2, LRETURN, DRETURN);
+    define(2, 0, IF_ICMPEQ, IF_ICMPNE, IF_ICMPLT, IF_ICMPGE, IF_ICMPGT);
+    define(2, 0, IF_ICMPLE, IF_ACMPEQ, IF_ACMPNE);
+    define(2, 1, IALOAD, FALOAD, AALOAD, BALOAD, CALOAD, SALOAD);
+    define(2, 1, IADD, FADD, ISUB, FSUB, IMUL, FMUL, IDIV, FDIV, IREM, FREM);
+    define(2, 1, ISHL, ISHR, IUSHR, IAND, IOR, IXOR);
+    define(2, 1, L2I, L2F, D2I, D2F, FCMPL, FCMPG);
+    define(2, 2, LALOAD, DALOAD, SWAP, LNEG, DNEG, L2D, D2L);
+    define(2, 3, DUP_X1);
+    define(2, 4, DUP2);
+    define(3, 0, IASTORE, FASTORE, AASTORE, BASTORE, CASTORE, SASTORE);
+    define(3, 2, LSHL, LSHR, LUSHR);
+    define(3, 4, DUP_X2);
+    define(3, 5, DUP2_X1);
+    define(4, 0, LASTORE, DASTORE);
+    define(4, 1, LCMP, DCMPL, DCMPG);
+    define(4, 2, LADD, DADD, LSUB, DSUB, LMUL, DMUL, LDIV, DDIV);
+    define(4, 2, LREM, DREM, LAND, LOR, LXOR);
+    define(4, 6, DUP2_X2);
+
+    POPS[LDC] = 0;
+    POPS[GETSTATIC] = 0;
+    POPS[GETFIELD] = 1;
+    PUSHES[PUTSTATIC] = 0;
+    PUSHES[PUTFIELD] = 0;
+    PUSHES[MULTIANEWARRAY] = 1;
+  }
+
+  private StackEffects()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static void define(
+    final int pops,
+    final int pushes,
+    final int... opcodes)
+  {
+    for (final var opcode : opcodes) {
+      POPS[opcode] = pops;
+      PUSHES[opcode] = pushes;
+    }
+  }
+
+  /**
+   * @param node An instruction
+   *
+   * @return The number of slots popped by the instruction
+   */
+
+  static int pops(
+    final AbstractInsnNode node)
+  {
+    final int opcode = node.getOpcode();
+    if (opcode < 0) {
+      return 0;
+    }
+
+    final int fixed = POPS[opcode];
+    if (fixed >= 0) {
+      return fixed;
+    }
+
+    return switch (opcode) {
+      case PUTSTATIC -> fieldSlots(node);
+      case PUTFIELD -> 1 + fieldSlots(node);
+      case INVOKESTATIC -> argumentSlots(((MethodInsnNode) node).desc);
+      case INVOKEVIRTUAL, INVOKESPECIAL, INVOKEINTERFACE ->
+        1 + argumentSlots(((MethodInsnNode) node).desc);
+      case INVOKEDYNAMIC ->
+        argumentSlots(((InvokeDynamicInsnNode) node).desc);
+      case MULTIANEWARRAY -> ((MultiANewArrayInsnNode) node).dims;
+      default -> throw unrecognized(opcode);
+    };
+  }
+
+  /**
+   * @param node An instruction
+   *
+   * @return The number of slots pushed by the instruction
+   */
+
+  static int pushes(
+    final AbstractInsnNode node)
+  {
+    final int opcode = node.getOpcode();
+    if (opcode < 0) {
+      return 0;
+    }
+
+    final int fixed = PUSHES[opcode];
+    if (fixed >= 0) {
+      return fixed;
+    }
+
+    return switch (opcode) {
+      case LDC -> constantSlots(((LdcInsnNode) node).cst);
+      case GETSTATIC, GETFIELD -> fieldSlots(node);
+      case INVOKESTATIC, INVOKEVIRTUAL, INVOKESPECIAL, INVOKEINTERFACE ->
+        Type.getReturnType(((MethodInsnNode) node).desc).getSize();
+      case INVOKEDYNAMIC ->
+        Type.getReturnType(((InvokeDynamicInsnNode) node).desc).getSize();
+      default -> throw unrecognized(opcode);
+    };
+  }
+
+  private static IllegalArgumentException unrecognized(
+    final int opcode)
+  {
+    return new IllegalArgumentException("Unrecognized opcode: " + opcode);
+  }
+
+  private static int fieldSlots(
+    final AbstractInsnNode node)
+  {
+    return Type.getType(((FieldInsnNode) node).desc).getSize();
+  }
+
+  /**
+   * @param descriptor A method descriptor
+   *
+   * @return The number of slots occupied by the arguments of the method
+   */
+
+  static int argumentSlots(
+    final String descriptor)
+  {
+    return (Type.getArgumentsAndReturnSizes(descriptor) >> 2) - 1;
+  }
+
+  private static int constantSlots(
+    final Object constant)
+  {
+    if (constant instanceof Long || constant instanceof Double) {
+      return 2;
+    }
+    if (constant instanceof ConstantDynamic) {
+      return ((ConstantDynamic) constant).getSize();
+    }
+    return 1;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractAdaptiveIntConditionSet;
+import com.io7m.jaffirm.core.ContractException;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractIntConditionSet;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing a condition set evaluated in declared order with an
+ * adaptive condition set, using the fast-fail functions. The set declares
+ * three comparatively expensive conditions that always hold, followed by a
+ * cheap condition that always fails, so the adaptive set is expected to
+ * learn to evaluate the failing condition first. Stack traces are disabled
+ * so that the cost of evaluating the conditions is not hidden by the cost
+ * of filling in the stack.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(
+  value = 1,
+  jvmArgsAppend = "-D" + ContractException.STACK_TRACES_PROPERTY + "=false")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AdaptiveBenchmark
+{
+  private static final ContractIntCondition INT_SHORT =
+    Contracts.conditionI(
+      x -> Integer.toString(x).length() < 12,
+      x -> "Value " + x + " must have fewer than 12 digits");
+  private static final ContractIntCondition INT_HEX_SHORT =
+    Contracts.conditionI(
+      x -> Integer.toHexString(x).length() <= 8,
+      x -> "Value " + x + " must have at most 8 hex digits");
+  private static final ContractIntCondition INT_OCTAL_SHORT =
+    Contracts.conditionI(
+      x -> Integer.toOctalString(x).length() <= 11,
+      x -> "Value " + x + " must have at most 11 octal digits");
+  private static final ContractIntCondition INT_POSITIVE =
+    Contracts.conditionI(
+      x -> x > 0,
+      x -> "Value " + x + " must be > 0");
+
+  private static final ContractIntConditionSet SET =
+    Contracts.conditionSetI(
+      INT_SHORT, INT_HEX_SHORT, INT_OCTAL_SHORT, INT_POSITIVE);
+  private static final ContractAdaptiveIntConditionSet ADAPTIVE =
+    ContractAdaptiveIntConditionSet.of(SET);
+
+  private int value;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public AdaptiveBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.value = -3;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object declaredFail()
+  {
+    try {
+      return Integer.valueOf(
+        Preconditions.checkPreconditionsFirstI(this.value, SET));
+    } catch (final PreconditionViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object adaptiveFail()
+  {
+    try {
+      return Integer.valueOf(
+        Preconditions.checkPreconditionsFirstI(this.value, ADAPTIVE));
+    } catch (final PreconditionViolationException e) {
+      return e;
+    }
+  }
+}
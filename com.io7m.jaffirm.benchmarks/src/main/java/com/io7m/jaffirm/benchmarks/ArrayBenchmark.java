@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing per-element checks of a primitive array against the
+ * bulk array checks.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArrayBenchmark
+{
+  private static final ContractIntCondition NON_NEGATIVE =
+    Contracts.conditionI(
+      x -> x >= 0,
+      x -> "Value " + x + " must be non-negative");
+
+  /**
+   * The number of array elements.
+   */
+
+  @Param({"1024", "1048576"})
+  public int size;
+
+  private int[] values;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public ArrayBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = new int[this.size];
+    for (int index = 0; index < this.size; ++index) {
+      this.values[index] = index;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int[] loop()
+  {
+    final int[] data = this.values;
+    for (int index = 0; index < data.length; ++index) {
+      Preconditions.checkPreconditionI(data[index], NON_NEGATIVE);
+    }
+    return data;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int[] bulkAll()
+  {
+    return Preconditions.checkPreconditionsI(
+      this.values, 0, this.values.length, NON_NEGATIVE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int[] bulkFirst()
+  {
+    return Preconditions.checkPreconditionsFirstI(
+      this.values, 0, this.values.length, NON_NEGATIVE);
+  }
+}
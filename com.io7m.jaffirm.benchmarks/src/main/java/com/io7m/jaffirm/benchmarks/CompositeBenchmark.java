@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractIntConditionSet;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+/**
+ * Benchmarks comparing a condition built from an {@link IntPredicate#and}
+ * chain, a condition built from nested combinators, and a condition set,
+ * each checking the same four predicates on the passing path.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompositeBenchmark
+{
+  private static final IntPredicate POSITIVE = x -> x > 0;
+  private static final IntPredicate EVEN = x -> x % 2 == 0;
+  private static final IntPredicate SMALL = x -> x < 1000;
+  private static final IntPredicate NOT_MAX = x -> x != Integer.MAX_VALUE;
+
+  private static final ContractIntCondition INT_POSITIVE =
+    Contracts.conditionI(POSITIVE, x -> "Value " + x + " must be > 0");
+  private static final ContractIntCondition INT_EVEN =
+    Contracts.conditionI(EVEN, x -> "Value " + x + " must be even");
+  private static final ContractIntCondition INT_SMALL =
+    Contracts.conditionI(SMALL, x -> "Value " + x + " must be < 1000");
+  private static final ContractIntCondition INT_NOT_MAX =
+    Contracts.conditionI(
+      NOT_MAX,
+      x -> "Value " + x + " must not be Integer.MAX_VALUE");
+
+  private static final ContractIntCondition CHAINED =
+    Contracts.conditionI(
+      POSITIVE.and(EVEN).and(SMALL).and(NOT_MAX),
+      x -> "Value " + x + " must satisfy all conditions");
+
+  private static final ContractIntCondition COMPOSITE =
+    Contracts.andI(
+      Contracts.andI(Contracts.andI(INT_POSITIVE, INT_EVEN), INT_SMALL),
+      INT_NOT_MAX);
+
+  private static final ContractIntConditionSet SET =
+    Contracts.conditionSetI(INT_POSITIVE, INT_EVEN, INT_SMALL, INT_NOT_MAX);
+
+  private int value;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public CompositeBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.value = 2;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int chained()
+  {
+    return Preconditions.checkPreconditionI(this.value, CHAINED);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int composite()
+  {
+    return Preconditions.checkPreconditionI(this.value, COMPOSITE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int conditionSet()
+  {
+    return Preconditions.checkPreconditionsI(this.value, SET);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractObjIntCondition;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing capturing conditions, constructed at each call,
+ * against non-capturing context conditions. Escape analysis is disabled so
+ * that the allocations of the capturing form are visible.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContextConditionBenchmark
+{
+  private static final ContractObjIntCondition<int[]> BELOW =
+    Contracts.contextConditionI(
+      (limit, x) -> x < limit[0],
+      (limit, x) -> "Value " + x + " must be < " + limit[0]);
+
+  private int value;
+  private int[] limit;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public ContextConditionBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.value = 23;
+    this.limit = new int[]{100};
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int capturing()
+  {
+    final int bound = this.limit[0];
+    return Preconditions.checkPreconditionI(
+      this.value,
+      Contracts.conditionI(
+        x -> x < bound,
+        x -> "Value " + x + " must be < " + bound));
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int context()
+  {
+    return Preconditions.checkPreconditionI(this.limit, this.value, BELOW);
+  }
+}
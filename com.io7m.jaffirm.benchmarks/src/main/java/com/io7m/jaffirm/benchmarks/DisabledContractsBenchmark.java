@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractSampler;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Invariants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing enabled, sampled, and disabled invariant checks
+ * against a baseline that performs no checking at all. A disabled check is
+ * expected to be indistinguishable from the baseline.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DisabledContractsBenchmark
+{
+  private static final String DISABLED =
+    "-D" + Invariants.ENABLED_PROPERTY + "=false";
+
+  private static final int[] DATA = new int[256];
+
+  private static final ContractIntCondition SORTED =
+    Contracts.conditionI(
+      DisabledContractsBenchmark::isSorted,
+      x -> "Data must be sorted");
+
+  private static final ContractCondition<Integer> SORTED_OBJECT =
+    Contracts.condition(
+      x -> isSorted(x.intValue()),
+      x -> "Data must be sorted");
+
+  private static final ContractSampler EVERY_16 =
+    ContractSampler.everyNth(16);
+  private static final ContractSampler PROBABILITY_16 =
+    ContractSampler.withProbability(1.0 / 16.0);
+
+  private int value;
+  private Integer boxed;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public DisabledContractsBenchmark()
+  {
+
+  }
+
+  private static boolean isSorted(
+    final int ignored)
+  {
+    for (int index = 1; index < DATA.length; ++index) {
+      if (DATA[index - 1] > DATA[index]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    for (int index = 0; index < DATA.length; ++index) {
+      DATA[index] = index;
+    }
+    this.value = 23;
+    this.boxed = Integer.valueOf(this.value);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int baseline()
+  {
+    return this.value;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int invariantEnabled()
+  {
+    return Invariants.checkInvariantI(this.value, SORTED);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = DISABLED)
+  public int invariantDisabled()
+  {
+    return Invariants.checkInvariantI(this.value, SORTED);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = DISABLED)
+  public int invariantsDisabled()
+  {
+    return Invariants.checkInvariantsI(this.value, SORTED, SORTED);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Integer invariantObjectEnabled()
+  {
+    return Invariants.checkInvariant(this.boxed, SORTED_OBJECT);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Integer invariantSampledEvery16()
+  {
+    return Invariants.checkInvariantSampled(EVERY_16, this.boxed, SORTED_OBJECT);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Integer invariantSampledProbability16()
+  {
+    return Invariants.checkInvariantSampled(
+      PROBABILITY_16, this.boxed, SORTED_OBJECT);
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractException;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the cost of raising contract exceptions with and
+ * without stack traces. The {@code depth} parameter controls the number of
+ * additional stack frames present when the exception is raised, as the cost
+ * of capturing a stack trace is proportional to the depth of the stack.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExceptionBenchmark
+{
+  private static final String STACKLESS =
+    "-D" + ContractException.STACK_TRACES_PROPERTY + "=false";
+
+  private static final ContractIntCondition INT_POSITIVE =
+    Contracts.conditionI(
+      x -> x > 0,
+      x -> "Value " + x + " must be > 0");
+
+  @Param({"0", "32"})
+  private int depth;
+
+  private int value;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public ExceptionBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.value = -1;
+  }
+
+  private Object conditionAt(
+    final int remaining)
+  {
+    if (remaining > 0) {
+      return this.conditionAt(remaining - 1);
+    }
+
+    try {
+      return Integer.valueOf(
+        Preconditions.checkPreconditionI(this.value, INT_POSITIVE));
+    } catch (final PreconditionViolationException e) {
+      return e;
+    }
+  }
+
+  private Object messageAt(
+    final int remaining)
+  {
+    if (remaining > 0) {
+      return this.messageAt(remaining - 1);
+    }
+
+    try {
+      Preconditions.checkPrecondition(this.value > 0, "Value must be > 0");
+      return this;
+    } catch (final PreconditionViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object conditionFail()
+  {
+    return this.conditionAt(this.depth);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = STACKLESS)
+  public Object conditionFailStackless()
+  {
+    return this.conditionAt(this.depth);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object messageFail()
+  {
+    return this.messageAt(this.depth);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = STACKLESS)
+  public Object messageFailStackless()
+  {
+    return this.messageAt(this.depth);
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractMessageTemplate;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the variadic format string checks against the
+ * fixed-arity overloads and pre-parsed message templates.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FormatBenchmark
+{
+  private static final ContractMessageTemplate RANGE =
+    ContractMessageTemplate.parse("Index %d must be in the range [%d, %d)");
+
+  private int index;
+  private int lower;
+  private int upper;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public FormatBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values. The values lie outside the range of the
+   * {@link Integer} box cache so that boxing allocates.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.index = 1000;
+    this.lower = 500;
+    this.upper = 2000;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object varargsPass()
+  {
+    return Preconditions.checkPreconditionV(
+      this,
+      this.index >= this.lower && this.index < this.upper,
+      "Index %d must be in the range [%d, %d)",
+      new Object[]{
+        Integer.valueOf(this.index),
+        Integer.valueOf(this.lower),
+        Integer.valueOf(this.upper),
+      });
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object fixedArityPass()
+  {
+    return Preconditions.checkPreconditionV(
+      this,
+      this.index >= this.lower && this.index < this.upper,
+      "Index %d must be in the range [%d, %d)",
+      Integer.valueOf(this.index),
+      Integer.valueOf(this.lower),
+      Integer.valueOf(this.upper));
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object varargsFail()
+  {
+    try {
+      return Preconditions.checkPreconditionV(
+        this,
+        this.index < this.lower,
+        "Index %d must be in the range [%d, %d)",
+        new Object[]{
+          Integer.valueOf(this.index),
+          Integer.valueOf(this.lower),
+          Integer.valueOf(this.upper),
+        });
+    } catch (final PreconditionViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object fixedArityFail()
+  {
+    try {
+      return Preconditions.checkPreconditionV(
+        this,
+        this.index < this.lower,
+        "Index %d must be in the range [%d, %d)",
+        Integer.valueOf(this.index),
+        Integer.valueOf(this.lower),
+        Integer.valueOf(this.upper));
+    } catch (final PreconditionViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object templatePass()
+  {
+    return Preconditions.checkPreconditionV(
+      this,
+      this.index >= this.lower && this.index < this.upper,
+      RANGE,
+      this.index,
+      this.lower,
+      this.upper);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object templateFail()
+  {
+    try {
+      return Preconditions.checkPreconditionV(
+        this,
+        this.index < this.lower,
+        RANGE,
+        this.index,
+        this.lower,
+        this.upper);
+    } catch (final PreconditionViolationException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractObjIntCondition;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing index checks expressed as conditions against the
+ * intrinsic-backed index checks, in a loop that sums a sub-range of an
+ * array.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IndexBenchmark
+{
+  private static final ContractObjIntCondition<int[]> IN_BOUNDS =
+    Contracts.contextConditionI(
+      (array, index) -> index >= 0 && index < array.length,
+      (array, index) -> "Index " + index + " must be in the range [0, " + array.length + ")");
+
+  /**
+   * The number of array elements.
+   */
+
+  @Param({"1024", "1048576"})
+  public int size;
+
+  private int[] values;
+  private int offset;
+  private int length;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public IndexBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = new int[this.size];
+    for (int index = 0; index < this.size; ++index) {
+      this.values[index] = index;
+    }
+    this.offset = this.size / 4;
+    this.length = this.size / 2;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public long unchecked()
+  {
+    final int[] data = this.values;
+    final int end = this.offset + this.length;
+    long sum = 0L;
+    for (int index = this.offset; index < end; ++index) {
+      sum += data[index];
+    }
+    return sum;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public long condition()
+  {
+    final int[] data = this.values;
+    final int end = this.offset + this.length;
+    long sum = 0L;
+    for (int index = this.offset; index < end; ++index) {
+      sum += data[Preconditions.checkPreconditionI(data, index, IN_BOUNDS)];
+    }
+    return sum;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public long checkIndex()
+  {
+    final int[] data = this.values;
+    final int end = this.offset + this.length;
+    long sum = 0L;
+    for (int index = this.offset; index < end; ++index) {
+      sum += data[Preconditions.checkIndex(index, data.length)];
+    }
+    return sum;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public long checkFromIndexSize()
+  {
+    final int[] data = this.values;
+    final int start =
+      Preconditions.checkFromIndexSize(this.offset, this.length, data.length);
+    final int end = start + this.length;
+    long sum = 0L;
+    for (int index = start; index < end; ++index) {
+      sum += data[index];
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,469 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractDoubleCondition;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractLongCondition;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.Invariants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the passing and failing paths of {@link Invariants}.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InvariantsBenchmark
+{
+  private static final ContractCondition<Integer> OBJECT_POSITIVE =
+    Contracts.condition(
+      x -> x.intValue() > 0,
+      x -> "Value " + x + " must be > 0");
+  private static final ContractCondition<Integer> OBJECT_EVEN =
+    Contracts.condition(
+      x -> x.intValue() % 2 == 0,
+      x -> "Value " + x + " must be even");
+
+  private static final ContractIntCondition INT_POSITIVE =
+    Contracts.conditionI(
+      x -> x > 0,
+      x -> "Value " + x + " must be > 0");
+  private static final ContractIntCondition INT_EVEN =
+    Contracts.conditionI(
+      x -> x % 2 == 0,
+      x -> "Value " + x + " must be even");
+
+  private static final ContractLongCondition LONG_POSITIVE =
+    Contracts.conditionL(
+      x -> x > 0L,
+      x -> "Value " + x + " must be > 0");
+  private static final ContractLongCondition LONG_EVEN =
+    Contracts.conditionL(
+      x -> x % 2L == 0L,
+      x -> "Value " + x + " must be even");
+
+  private static final ContractDoubleCondition DOUBLE_POSITIVE =
+    Contracts.conditionD(
+      x -> x > 0.0,
+      x -> "Value " + x + " must be > 0");
+  private static final ContractDoubleCondition DOUBLE_FINITE =
+    Contracts.conditionD(
+      Double::isFinite,
+      x -> "Value " + x + " must be finite");
+
+  private Integer objectPass;
+  private Integer objectFail;
+  private int intPass;
+  private int intFail;
+  private long longPass;
+  private long longFail;
+  private double doublePass;
+  private double doubleFail;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public InvariantsBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values. The values are held in fields so that the
+   * compiler cannot constant-fold the conditions away.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.objectPass = Integer.valueOf(2);
+    this.objectFail = Integer.valueOf(-1);
+    this.intPass = 2;
+    this.intFail = -1;
+    this.longPass = 2L;
+    this.longFail = -1L;
+    this.doublePass = 2.0;
+    this.doubleFail = Double.NaN;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object objectConditionPass()
+  {
+    return Invariants.checkInvariant(this.objectPass, OBJECT_POSITIVE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object objectConditionFail()
+  {
+    try {
+      return Invariants.checkInvariant(this.objectFail, OBJECT_POSITIVE);
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object objectPredicatePass()
+  {
+    return Invariants.checkInvariant(
+      this.objectPass,
+      x -> x.intValue() > 0,
+      x -> "Value " + x + " must be > 0");
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object objectPredicateFail()
+  {
+    try {
+      return Invariants.checkInvariant(
+        this.objectFail,
+        x -> x.intValue() > 0,
+        x -> "Value " + x + " must be > 0");
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object objectBooleanPass()
+  {
+    return Invariants.checkInvariant(
+      this.objectPass,
+      this.objectPass.intValue() > 0,
+      x -> "Value " + x + " must be > 0");
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object objectBooleanFail()
+  {
+    try {
+      return Invariants.checkInvariant(
+        this.objectFail,
+        this.objectFail.intValue() > 0,
+        x -> "Value " + x + " must be > 0");
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object stringPass()
+  {
+    Invariants.checkInvariant(this.intPass > 0, "Value must be > 0");
+    return this;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object stringFail()
+  {
+    try {
+      Invariants.checkInvariant(this.intFail > 0, "Value must be > 0");
+      return this;
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object supplierPass()
+  {
+    Invariants.checkInvariant(this.intPass > 0, () -> "Value must be > 0");
+    return this;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object supplierFail()
+  {
+    try {
+      Invariants.checkInvariant(this.intFail > 0, () -> "Value must be > 0");
+      return this;
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int intConditionPass()
+  {
+    return Invariants.checkInvariantI(this.intPass, INT_POSITIVE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object intConditionFail()
+  {
+    try {
+      return Integer.valueOf(
+        Invariants.checkInvariantI(this.intFail, INT_POSITIVE));
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public long longConditionPass()
+  {
+    return Invariants.checkInvariantL(this.longPass, LONG_POSITIVE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object longConditionFail()
+  {
+    try {
+      return Long.valueOf(
+        Invariants.checkInvariantL(this.longFail, LONG_POSITIVE));
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public double doubleConditionPass()
+  {
+    return Invariants.checkInvariantD(this.doublePass, DOUBLE_FINITE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object doubleConditionFail()
+  {
+    try {
+      return Double.valueOf(
+        Invariants.checkInvariantD(this.doubleFail, DOUBLE_FINITE));
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object formatPass()
+  {
+    return Invariants.checkInvariantV(
+      this.objectPass,
+      this.intPass > 0,
+      "Value %d must be > 0",
+      Integer.valueOf(this.intPass));
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object formatFail()
+  {
+    try {
+      return Invariants.checkInvariantV(
+        this.objectFail,
+        this.intFail > 0,
+        "Value %d must be > 0",
+        Integer.valueOf(this.intFail));
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object multiObjectPass()
+  {
+    return Invariants.checkInvariants(
+      this.objectPass, OBJECT_POSITIVE, OBJECT_EVEN);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object multiObjectFail()
+  {
+    try {
+      return Invariants.checkInvariants(
+        this.objectFail, OBJECT_POSITIVE, OBJECT_EVEN);
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int multiIntPass()
+  {
+    return Invariants.checkInvariantsI(
+      this.intPass, INT_POSITIVE, INT_EVEN);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object multiIntFail()
+  {
+    try {
+      return Integer.valueOf(
+        Invariants.checkInvariantsI(this.intFail, INT_POSITIVE, INT_EVEN));
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public long multiLongPass()
+  {
+    return Invariants.checkInvariantsL(
+      this.longPass, LONG_POSITIVE, LONG_EVEN);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object multiLongFail()
+  {
+    try {
+      return Long.valueOf(
+        Invariants.checkInvariantsL(this.longFail, LONG_POSITIVE, LONG_EVEN));
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public double multiDoublePass()
+  {
+    return Invariants.checkInvariantsD(
+      this.doublePass, DOUBLE_POSITIVE, DOUBLE_FINITE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object multiDoubleFail()
+  {
+    try {
+      return Double.valueOf(
+        Invariants.checkInvariantsD(this.doubleFail, DOUBLE_POSITIVE, DOUBLE_FINITE));
+    } catch (final InvariantViolationException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The main entry point for the benchmarks. All benchmarks are executed with
+ * the GC profiler enabled, so that both the time per operation and the
+ * number of bytes allocated per operation are reported. Any standard JMH
+ * command-line options may be passed. Unless specified otherwise, results
+ * are written in JSON format to {@code jaffirm-benchmarks.json}.
+ */
+
+public final class JaffirmBenchmarks
+{
+  private JaffirmBenchmarks()
+  {
+
+  }
+
+  /**
+   * Run the benchmarks.
+   *
+   * @param args The JMH command-line arguments
+   *
+   * @throws CommandLineOptionException On malformed arguments
+   * @throws RunnerException            On benchmark failures
+   */
+
+  public static void main(
+    final String[] args)
+    throws CommandLineOptionException, RunnerException
+  {
+    final var commandLine =
+      new CommandLineOptions(args);
+    final var options =
+      new OptionsBuilder()
+        .parent(commandLine)
+        .addProfiler(GCProfiler.class);
+
+    if (!commandLine.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLine.getResult().hasValue()) {
+      options.result("jaffirm-benchmarks.json");
+    }
+
+    new Runner(options.build()).run();
+  }
+}
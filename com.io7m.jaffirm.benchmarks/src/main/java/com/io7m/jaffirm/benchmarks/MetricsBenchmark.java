@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractIntConditionType;
+import com.io7m.jaffirm.core.ContractMetrics;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks measuring the cost of counting evaluations with
+ * {@link ContractMetrics} when many threads share a call site.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(Threads.MAX)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MetricsBenchmark
+{
+  private static final ContractIntConditionType POSITIVE =
+    Contracts.conditionI(
+      x -> x > 0,
+      x -> "Value " + x + " must be > 0");
+
+  private static final ContractIntConditionType POSITIVE_COUNTED =
+    ContractMetrics.create().countedI("positive", POSITIVE);
+
+  private static final ContractIntConditionType POSITIVE_DISABLED =
+    ContractMetrics.disabled().countedI("positive", POSITIVE);
+
+  private int value;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public MetricsBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.value = 23;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int uncounted()
+  {
+    return Preconditions.checkPreconditionI(this.value, POSITIVE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int counted()
+  {
+    return Preconditions.checkPreconditionI(this.value, POSITIVE_COUNTED);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int countedDisabled()
+  {
+    return Preconditions.checkPreconditionI(this.value, POSITIVE_DISABLED);
+  }
+}
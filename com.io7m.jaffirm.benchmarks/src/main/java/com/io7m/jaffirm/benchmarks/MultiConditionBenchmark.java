@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractIntConditionSet;
+import com.io7m.jaffirm.core.ContractIntConditionType;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the variadic, fixed-arity, and condition set
+ * multi-condition functions on the passing path. Escape analysis is disabled in the forked
+ * virtual machine in order to model call sites at which the compiler fails
+ * to eliminate the variadic argument array; the fixed-arity and condition
+ * set functions are expected to report zero bytes allocated per operation
+ * regardless.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MultiConditionBenchmark
+{
+  private static final ContractIntCondition INT_POSITIVE =
+    Contracts.conditionI(
+      x -> x > 0,
+      x -> "Value " + x + " must be > 0");
+  private static final ContractIntCondition INT_EVEN =
+    Contracts.conditionI(
+      x -> x % 2 == 0,
+      x -> "Value " + x + " must be even");
+  private static final ContractIntCondition INT_SMALL =
+    Contracts.conditionI(
+      x -> x < 1000,
+      x -> "Value " + x + " must be < 1000");
+  private static final ContractIntCondition INT_NOT_MAX =
+    Contracts.conditionI(
+      x -> x != Integer.MAX_VALUE,
+      x -> "Value " + x + " must not be Integer.MAX_VALUE");
+
+  private static final ContractIntConditionSet SET_2 =
+    Contracts.conditionSetI(INT_POSITIVE, INT_EVEN);
+  private static final ContractIntConditionSet SET_3 =
+    Contracts.conditionSetI(INT_POSITIVE, INT_EVEN, INT_SMALL);
+  private static final ContractIntConditionSet SET_4 =
+    Contracts.conditionSetI(INT_POSITIVE, INT_EVEN, INT_SMALL, INT_NOT_MAX);
+
+  private int value;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public MultiConditionBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.value = 2;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int varargs2()
+  {
+    return Preconditions.checkPreconditionsI(
+      this.value,
+      new ContractIntConditionType[]{INT_POSITIVE, INT_EVEN});
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int fixed2()
+  {
+    return Preconditions.checkPreconditionsI(
+      this.value, INT_POSITIVE, INT_EVEN);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int varargs3()
+  {
+    return Preconditions.checkPreconditionsI(
+      this.value,
+      new ContractIntConditionType[]{INT_POSITIVE, INT_EVEN, INT_SMALL});
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int fixed3()
+  {
+    return Preconditions.checkPreconditionsI(
+      this.value, INT_POSITIVE, INT_EVEN, INT_SMALL);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int varargs4()
+  {
+    return Preconditions.checkPreconditionsI(
+      this.value,
+      new ContractIntConditionType[]{INT_POSITIVE, INT_EVEN, INT_SMALL, INT_NOT_MAX});
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int fixed4()
+  {
+    return Preconditions.checkPreconditionsI(
+      this.value, INT_POSITIVE, INT_EVEN, INT_SMALL, INT_NOT_MAX);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int set2()
+  {
+    return Preconditions.checkPreconditionsI(this.value, SET_2);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int set3()
+  {
+    return Preconditions.checkPreconditionsI(this.value, SET_3);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int set4()
+  {
+    return Preconditions.checkPreconditionsI(this.value, SET_4);
+  }
+}
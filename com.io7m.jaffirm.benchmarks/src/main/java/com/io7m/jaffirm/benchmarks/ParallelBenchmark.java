@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Invariants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing sequential and parallel invariant checks over large
+ * arrays.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelBenchmark
+{
+  private static final ContractIntCondition HASH_NON_ZERO =
+    Contracts.conditionI(
+      ParallelBenchmark::hashNonZero,
+      x -> "Hash of " + x + " must be non-zero");
+
+  /**
+   * The number of array elements.
+   */
+
+  @Param({"4096", "1048576"})
+  public int size;
+
+  private int[] values;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public ParallelBenchmark()
+  {
+
+  }
+
+  private static boolean hashNonZero(
+    final int x)
+  {
+    int h = x;
+    for (int round = 0; round < 16; ++round) {
+      h = (h ^ (h >>> 16)) * 0x45d9f3b;
+    }
+    return h != 0 || x == 0;
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.values = new int[this.size];
+    for (int index = 0; index < this.size; ++index) {
+      this.values[index] = index;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int[] sequential()
+  {
+    return Invariants.checkInvariantsI(
+      this.values, 0, this.values.length, HASH_NON_ZERO);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int[] parallel()
+  {
+    return Invariants.checkInvariantsParallelI(
+      this.values, 0, this.values.length, HASH_NON_ZERO);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractDoubleCondition;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jaffirm.vector.VectorPreconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks comparing the scalar bulk array checks against the vectorized
+ * array checks.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VectorBenchmark
+{
+  private static final ContractIntCondition IN_RANGE =
+    Contracts.conditionI(
+      x -> x >= 0 && x <= 1_000_000_000,
+      x -> "Value " + x + " must be in range");
+
+  private static final ContractDoubleCondition FINITE =
+    Contracts.conditionD(
+      Double::isFinite,
+      x -> "Value " + x + " must be finite");
+
+  /**
+   * The number of array elements.
+   */
+
+  @Param({"1024", "1048576"})
+  public int size;
+
+  private int[] ints;
+  private double[] doubles;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public VectorBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.ints = new int[this.size];
+    this.doubles = new double[this.size];
+    for (int index = 0; index < this.size; ++index) {
+      this.ints[index] = index;
+      this.doubles[index] = index;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int[] rangeScalar()
+  {
+    return Preconditions.checkPreconditionsFirstI(
+      this.ints, 0, this.ints.length, IN_RANGE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public int[] rangeVector()
+  {
+    return VectorPreconditions.checkPreconditionsRangeI(
+      this.ints, 0, this.ints.length, 0, 1_000_000_000);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public double[] finiteScalar()
+  {
+    return Preconditions.checkPreconditionsFirstD(
+      this.doubles, 0, this.doubles.length, FINITE);
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public double[] finiteVector()
+  {
+    return VectorPreconditions.checkPreconditionsFiniteD(
+      this.doubles, 0, this.doubles.length);
+  }
+}
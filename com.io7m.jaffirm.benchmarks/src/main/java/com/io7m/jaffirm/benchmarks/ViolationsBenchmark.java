@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.benchmarks;
+
+import com.io7m.jaffirm.core.ContractException;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractIntConditionSet;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks measuring the failure path of a multi-condition check in which
+ * several conditions fail. Stack traces are disabled so that the cost of
+ * recording violations is not hidden by the cost of filling in the stack.
+ * The {@code *Caught} benchmarks discard the exception without reading the
+ * message; the {@code *Rendered} benchmarks also read the message.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(
+  value = 1,
+  jvmArgsAppend = "-D" + ContractException.STACK_TRACES_PROPERTY + "=false")
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ViolationsBenchmark
+{
+  private static final ContractIntCondition INT_POSITIVE =
+    Contracts.conditionI(
+      x -> x > 0,
+      x -> "Value " + x + " must be > 0");
+  private static final ContractIntCondition INT_EVEN =
+    Contracts.conditionI(
+      x -> x % 2 == 0,
+      x -> "Value " + x + " must be even");
+  private static final ContractIntCondition INT_SMALL =
+    Contracts.conditionI(
+      x -> x < 1000,
+      x -> "Value " + x + " must be < 1000");
+  private static final ContractIntCondition INT_NONZERO =
+    Contracts.conditionI(
+      x -> x != 0,
+      x -> "Value " + x + " must not be 0");
+
+  private static final ContractIntConditionSet SET_8 =
+    Contracts.conditionSetI(
+      INT_POSITIVE, INT_EVEN, INT_SMALL, INT_NONZERO,
+      INT_POSITIVE, INT_EVEN, INT_SMALL, INT_NONZERO);
+
+  private int value;
+
+  /**
+   * Construct a benchmark.
+   */
+
+  public ViolationsBenchmark()
+  {
+
+  }
+
+  /**
+   * Set up the input values.
+   */
+
+  @Setup
+  public void setup()
+  {
+    this.value = -3;
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object setFailCaught()
+  {
+    try {
+      return Integer.valueOf(
+        Preconditions.checkPreconditionsI(this.value, SET_8));
+    } catch (final PreconditionViolationException e) {
+      return e;
+    }
+  }
+
+  /**
+   * @return The result
+   */
+
+  @Benchmark
+  public Object setFailRendered()
+  {
+    try {
+      return Integer.valueOf(
+        Preconditions.checkPreconditionsI(this.value, SET_8));
+    } catch (final PreconditionViolationException e) {
+      return e.getMessage();
+    }
+  }
+}
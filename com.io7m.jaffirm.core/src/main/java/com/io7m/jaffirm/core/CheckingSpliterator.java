@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator that checks each element with a given function before
+ * passing it on. Splitting produces independent checking spliterators, so
+ * no state is shared between the threads of a parallel stream.
+ *
+ * @param <T> The type of elements
+ */
+
+final class CheckingSpliterator<T> implements Spliterator<T>
+{
+  private final Spliterator<T> delegate;
+  private final Consumer<T> check;
+
+  CheckingSpliterator(
+    final Spliterator<T> inDelegate,
+    final Consumer<T> inCheck)
+  {
+    this.delegate = inDelegate;
+    this.check = inCheck;
+  }
+
+  @Override
+  public boolean tryAdvance(
+    final Consumer<? super T> action)
+  {
+    return this.delegate.tryAdvance(x -> {
+      this.check.accept(x);
+      action.accept(x);
+    });
+  }
+
+  @Override
+  public void forEachRemaining(
+    final Consumer<? super T> action)
+  {
+    this.delegate.forEachRemaining(x -> {
+      this.check.accept(x);
+      action.accept(x);
+    });
+  }
+
+  @Override
+  public Spliterator<T> trySplit()
+  {
+    final Spliterator<T> split = this.delegate.trySplit();
+    if (split == null) {
+      return null;
+    }
+    return new CheckingSpliterator<>(split, this.check);
+  }
+
+  @Override
+  public long estimateSize()
+  {
+    return this.delegate.estimateSize();
+  }
+
+  @Override
+  public long getExactSizeIfKnown()
+  {
+    return this.delegate.getExactSizeIfKnown();
+  }
+
+  @Override
+  public int characteristics()
+  {
+    return this.delegate.characteristics();
+  }
+
+  @Override
+  public Comparator<? super T> getComparator()
+  {
+    return this.delegate.getComparator();
+  }
+}
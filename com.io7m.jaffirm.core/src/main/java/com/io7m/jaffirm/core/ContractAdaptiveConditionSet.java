@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * <p>A condition set that adapts the order in which its conditions are
+ * evaluated.</p>
+ *
+ * <p>An adaptive condition set is intended for use with the fast-fail
+ * functions such as
+ * {@link Preconditions#checkPreconditionsFirst(Object, ContractAdaptiveConditionSet)},
+ * for which the cheapest order is the one that evaluates cheap, frequently
+ * violated conditions first. On calls selected by a {@link ContractSampler},
+ * the set times each evaluated condition and counts its violations, and it
+ * periodically reorders its conditions according to the observed failure
+ * rates and costs. Calls that are not selected only read the current
+ * order. The new order is published atomically, so a set may be shared
+ * between threads.</p>
+ *
+ * <p>Violations are always reported using the indices of the conditions in
+ * the order in which they were declared, regardless of the order in which
+ * they were evaluated.</p>
+ *
+ * @param <T> The type of input values
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractAdaptiveConditionSet<T>
+{
+  private final ContractConditionSet<T> conditions;
+  private final ContractAdaptiveOrder adaptive;
+
+  private ContractAdaptiveConditionSet(
+    final ContractConditionSet<T> inConditions,
+    final ContractSampler sampler,
+    final LongSupplier clock)
+  {
+    this.conditions = Objects.requireNonNull(inConditions, "conditions");
+    this.adaptive =
+      new ContractAdaptiveOrder(inConditions.size(), sampler, clock);
+  }
+
+  /**
+   * Construct an adaptive condition set from the given conditions. The
+   * conditions are initially evaluated in the order given, and every
+   * {@code 16}th call on each thread is sampled.
+   *
+   * @param conditions The conditions
+   * @param <T>        The type of input values
+   *
+   * @return An adaptive condition set
+   */
+
+  public static <T> ContractAdaptiveConditionSet<T> of(
+    final ContractConditionSet<T> conditions)
+  {
+    return new ContractAdaptiveConditionSet<>(
+      conditions,
+      ContractSampler.everyNth(ContractAdaptiveOrder.DEFAULT_SAMPLING_PERIOD),
+      System::nanoTime);
+  }
+
+  /**
+   * Construct an adaptive condition set from the given conditions. The
+   * conditions are initially evaluated in the order given, and calls
+   * selected by {@code sampler} are used to estimate the failure rate and
+   * cost of each condition.
+   *
+   * @param conditions The conditions
+   * @param sampler    The sampler that selects calls to measure
+   * @param <T>        The type of input values
+   *
+   * @return An adaptive condition set
+   */
+
+  public static <T> ContractAdaptiveConditionSet<T> of(
+    final ContractConditionSet<T> conditions,
+    final ContractSampler sampler)
+  {
+    return of(conditions, sampler, System::nanoTime);
+  }
+
+  /**
+   * Construct an adaptive condition set from the given conditions. The
+   * conditions are initially evaluated in the order given, calls selected
+   * by {@code sampler} are used to estimate the failure rate and cost of
+   * each condition, and the cost of each evaluation is measured as the
+   * difference between two values returned by {@code clock}.
+   *
+   * @param conditions The conditions
+   * @param sampler    The sampler that selects calls to measure
+   * @param clock      A monotonic source of timestamps in nanoseconds, such
+   *                   as {@link System#nanoTime()}
+   * @param <T>        The type of input values
+   *
+   * @return An adaptive condition set
+   */
+
+  public static <T> ContractAdaptiveConditionSet<T> of(
+    final ContractConditionSet<T> conditions,
+    final ContractSampler sampler,
+    final LongSupplier clock)
+  {
+    return new ContractAdaptiveConditionSet<>(conditions, sampler, clock);
+  }
+
+  /**
+   * @return The number of conditions in the set
+   */
+
+  public int size()
+  {
+    return this.conditions.size();
+  }
+
+  /**
+   * @return The indices of the conditions, as declared, in the order in which
+   * they are currently evaluated
+   */
+
+  public List<Integer> order()
+  {
+    return this.adaptive.orderList();
+  }
+
+  Predicate<T>[] predicates()
+  {
+    return this.conditions.predicates();
+  }
+
+  Function<T, String>[] describers()
+  {
+    return this.conditions.describers();
+  }
+
+  ContractAdaptiveOrder adaptive()
+  {
+    return this.adaptive;
+  }
+}
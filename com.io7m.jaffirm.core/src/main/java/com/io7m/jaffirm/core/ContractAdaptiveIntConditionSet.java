@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * An {@code int} specialized version of the
+ * {@link ContractAdaptiveConditionSet} type.
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractAdaptiveIntConditionSet
+{
+  private final ContractIntConditionSet conditions;
+  private final ContractAdaptiveOrder adaptive;
+
+  private ContractAdaptiveIntConditionSet(
+    final ContractIntConditionSet inConditions,
+    final ContractSampler sampler,
+    final LongSupplier clock)
+  {
+    this.conditions = Objects.requireNonNull(inConditions, "conditions");
+    this.adaptive =
+      new ContractAdaptiveOrder(inConditions.size(), sampler, clock);
+  }
+
+  /**
+   * Construct an adaptive condition set from the given conditions. The
+   * conditions are initially evaluated in the order given, and every
+   * {@code 16}th call on each thread is sampled.
+   *
+   * @param conditions The conditions
+   *
+   * @return An adaptive condition set
+   */
+
+  public static ContractAdaptiveIntConditionSet of(
+    final ContractIntConditionSet conditions)
+  {
+    return new ContractAdaptiveIntConditionSet(
+      conditions,
+      ContractSampler.everyNth(ContractAdaptiveOrder.DEFAULT_SAMPLING_PERIOD),
+      System::nanoTime);
+  }
+
+  /**
+   * Construct an adaptive condition set from the given conditions. The
+   * conditions are initially evaluated in the order given, and calls
+   * selected by {@code sampler} are used to estimate the failure rate and
+   * cost of each condition.
+   *
+   * @param conditions The conditions
+   * @param sampler    The sampler that selects calls to measure
+   *
+   * @return An adaptive condition set
+   */
+
+  public static ContractAdaptiveIntConditionSet of(
+    final ContractIntConditionSet conditions,
+    final ContractSampler sampler)
+  {
+    return of(conditions, sampler, System::nanoTime);
+  }
+
+  /**
+   * Construct an adaptive condition set from the given conditions. The
+   * conditions are initially evaluated in the order given, calls selected
+   * by {@code sampler} are used to estimate the failure rate and cost of
+   * each condition, and the cost of each evaluation is measured as the
+   * difference between two values returned by {@code clock}.
+   *
+   * @param conditions The conditions
+   * @param sampler    The sampler that selects calls to measure
+   * @param clock      A monotonic source of timestamps in nanoseconds, such
+   *                   as {@link System#nanoTime()}
+   *
+   * @return An adaptive condition set
+   */
+
+  public static ContractAdaptiveIntConditionSet of(
+    final ContractIntConditionSet conditions,
+    final ContractSampler sampler,
+    final LongSupplier clock)
+  {
+    return new ContractAdaptiveIntConditionSet(conditions, sampler, clock);
+  }
+
+  /**
+   * @return The number of conditions in the set
+   */
+
+  public int size()
+  {
+    return this.conditions.size();
+  }
+
+  /**
+   * @return The indices of the conditions, as declared, in the order in which
+   * they are currently evaluated
+   */
+
+  public List<Integer> order()
+  {
+    return this.adaptive.orderList();
+  }
+
+  IntPredicate[] predicates()
+  {
+    return this.conditions.predicates();
+  }
+
+  IntFunction<String>[] describers()
+  {
+    return this.conditions.describers();
+  }
+
+  ContractAdaptiveOrder adaptive()
+  {
+    return this.adaptive;
+  }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * <p>The evaluation order of an adaptive condition set.</p>
+ *
+ * <p>Evaluations made on sampled calls are timed and counted per condition
+ * in striped counters, and so recording an evaluation does not acquire a
+ * lock. After every {@link #REORDER_PERIOD} sampled evaluations per
+ * condition, a single thread folds the counters into decayed totals and
+ * sorts the conditions in descending order of estimated failure probability
+ * divided by estimated cost, which minimizes the expected cost of reaching
+ * the first violated condition when conditions fail independently. The
+ * new order is published with a single atomic reference update, and so
+ * callers always observe a complete permutation of the conditions.</p>
+ *
+ * <p>The totals of a condition are halved only when the condition has been
+ * evaluated since the previous reordering, so that the order follows
+ * changes in traffic without the estimates of conditions that are no longer
+ * reached drifting back towards the prior. Conditions that have never been
+ * sampled are assumed to fail half of the time and to cost the mean
+ * measured cost of the other conditions.</p>
+ */
+
+final class ContractAdaptiveOrder
+{
+  static final int REORDER_PERIOD = 64;
+  static final int DEFAULT_SAMPLING_PERIOD = 16;
+
+  private final ContractSampler sampler;
+  private final LongSupplier clock;
+  private final AtomicReference<int[]> order;
+  private final LongAdder[] windowEvaluations;
+  private final LongAdder[] windowFailures;
+  private final LongAdder[] windowNanos;
+  private final LongAdder recorded;
+  private final ReentrantLock reorderLock;
+  private final long[] evaluations;
+  private final long[] failures;
+  private final long[] nanos;
+  private final long threshold;
+
+  ContractAdaptiveOrder(
+    final int count,
+    final ContractSampler inSampler,
+    final LongSupplier inClock)
+  {
+    this.sampler = Objects.requireNonNull(inSampler, "sampler");
+    this.clock = Objects.requireNonNull(inClock, "clock");
+
+    final int[] initial = new int[count];
+    for (int index = 0; index < count; ++index) {
+      initial[index] = index;
+    }
+
+    this.order = new AtomicReference<>(initial);
+    this.windowEvaluations = adders(count);
+    this.windowFailures = adders(count);
+    this.windowNanos = adders(count);
+    this.recorded = new LongAdder();
+    this.reorderLock = new ReentrantLock();
+    this.evaluations = new long[count];
+    this.failures = new long[count];
+    this.nanos = new long[count];
+    this.threshold = (long) REORDER_PERIOD * (long) Math.max(1, count);
+  }
+
+  private static LongAdder[] adders(
+    final int count)
+  {
+    final LongAdder[] results = new LongAdder[count];
+    for (int index = 0; index < count; ++index) {
+      results[index] = new LongAdder();
+    }
+    return results;
+  }
+
+  static <T> Violations innerCheckAdaptive(
+    final T value,
+    final ContractAdaptiveConditionSet<T> conditions)
+  {
+    final Predicate<T>[] predicates = conditions.predicates();
+    final Function<T, String>[] describers = conditions.describers();
+    final ContractAdaptiveOrder adaptive = conditions.adaptive();
+    final int[] order = adaptive.order();
+    final boolean sampled = adaptive.sample();
+    final int count = predicates.length;
+
+    for (int position = 0; position < count; ++position) {
+      final int index = order[position];
+      final long start = sampled ? adaptive.time() : 0L;
+      final Violations violations = Violations.checkOne(
+        null, value, predicates[index], describers[index], index, count);
+      if (sampled) {
+        adaptive.record(index, violations != null, adaptive.time() - start);
+      }
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  static Violations innerCheckAdaptiveInt(
+    final int value,
+    final ContractAdaptiveIntConditionSet conditions)
+  {
+    final IntPredicate[] predicates = conditions.predicates();
+    final IntFunction<String>[] describers = conditions.describers();
+    final ContractAdaptiveOrder adaptive = conditions.adaptive();
+    final int[] order = adaptive.order();
+    final boolean sampled = adaptive.sample();
+    final int count = predicates.length;
+
+    for (int position = 0; position < count; ++position) {
+      final int index = order[position];
+      final long start = sampled ? adaptive.time() : 0L;
+      final Violations violations = Violations.checkOneInt(
+        null, value, predicates[index], describers[index], index, count);
+      if (sampled) {
+        adaptive.record(index, violations != null, adaptive.time() - start);
+      }
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  static Violations innerCheckAdaptiveLong(
+    final long value,
+    final ContractAdaptiveLongConditionSet conditions)
+  {
+    final LongPredicate[] predicates = conditions.predicates();
+    final LongFunction<String>[] describers = conditions.describers();
+    final ContractAdaptiveOrder adaptive = conditions.adaptive();
+    final int[] order = adaptive.order();
+    final boolean sampled = adaptive.sample();
+    final int count = predicates.length;
+
+    for (int position = 0; position < count; ++position) {
+      final int index = order[position];
+      final long start = sampled ? adaptive.time() : 0L;
+      final Violations violations = Violations.checkOneLong(
+        null, value, predicates[index], describers[index], index, count);
+      if (sampled) {
+        adaptive.record(index, violations != null, adaptive.time() - start);
+      }
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  static Violations innerCheckAdaptiveDouble(
+    final double value,
+    final ContractAdaptiveDoubleConditionSet conditions)
+  {
+    final DoublePredicate[] predicates = conditions.predicates();
+    final DoubleFunction<String>[] describers = conditions.describers();
+    final ContractAdaptiveOrder adaptive = conditions.adaptive();
+    final int[] order = adaptive.order();
+    final boolean sampled = adaptive.sample();
+    final int count = predicates.length;
+
+    for (int position = 0; position < count; ++position) {
+      final int index = order[position];
+      final long start = sampled ? adaptive.time() : 0L;
+      final Violations violations = Violations.checkOneDouble(
+        null, value, predicates[index], describers[index], index, count);
+      if (sampled) {
+        adaptive.record(index, violations != null, adaptive.time() - start);
+      }
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  boolean sample()
+  {
+    return this.sampler.sample();
+  }
+
+  long time()
+  {
+    return this.clock.getAsLong();
+  }
+
+  int[] order()
+  {
+    return this.order.get();
+  }
+
+  List<Integer> orderList()
+  {
+    final int[] current = this.order.get();
+    final ArrayList<Integer> results = new ArrayList<>(current.length);
+    for (final int index : current) {
+      results.add(Integer.valueOf(index));
+    }
+    return List.copyOf(results);
+  }
+
+  void record(
+    final int index,
+    final boolean failed,
+    final long elapsed)
+  {
+    this.windowEvaluations[index].increment();
+    if (failed) {
+      this.windowFailures[index].increment();
+    }
+    this.windowNanos[index].add(Math.max(0L, elapsed));
+    this.recorded.increment();
+
+    if (this.recorded.sum() >= this.threshold && this.reorderLock.tryLock()) {
+      try {
+        if (this.recorded.sum() >= this.threshold) {
+          this.recorded.reset();
+          this.reorder();
+        }
+      } finally {
+        this.reorderLock.unlock();
+      }
+    }
+  }
+
+  private void reorder()
+  {
+    final int count = this.evaluations.length;
+    for (int index = 0; index < count; ++index) {
+      final long evaluated = this.windowEvaluations[index].sumThenReset();
+      final long failed = this.windowFailures[index].sumThenReset();
+      final long elapsed = this.windowNanos[index].sumThenReset();
+      if (evaluated > 0L) {
+        this.evaluations[index] = this.evaluations[index] / 2L + evaluated;
+        this.failures[index] = this.failures[index] / 2L + failed;
+        this.nanos[index] = this.nanos[index] / 2L + elapsed;
+      }
+    }
+
+    final double prior = this.meanCost();
+    final double[] scores = new double[count];
+    for (int index = 0; index < count; ++index) {
+      final double evaluated = (double) this.evaluations[index];
+      final double failureRate =
+        ((double) this.failures[index] + 1.0) / (evaluated + 2.0);
+      final double cost =
+        evaluated == 0.0
+          ? prior
+          : Math.max(1.0, (double) this.nanos[index] / evaluated);
+
+      scores[index] = failureRate / cost;
+    }
+
+    /*
+     * An insertion sort starting from the declared order; the sort is
+     * stable, so conditions with equal scores keep their declared order
+     * and the order does not oscillate between equivalent permutations.
+     */
+
+    final int[] next = new int[count];
+    for (int index = 0; index < count; ++index) {
+      int position = index;
+      while (position > 0 && scores[next[position - 1]] < scores[index]) {
+        next[position] = next[position - 1];
+        --position;
+      }
+      next[position] = index;
+    }
+
+    this.order.set(next);
+  }
+
+  private double meanCost()
+  {
+    double total = 0.0;
+    int measured = 0;
+    for (int index = 0; index < this.evaluations.length; ++index) {
+      final long evaluated = this.evaluations[index];
+      if (evaluated > 0L) {
+        total += Math.max(1.0, (double) this.nanos[index] / (double) evaluated);
+        ++measured;
+      }
+    }
+    return measured == 0 ? 1.0 : total / (double) measured;
+  }
+}
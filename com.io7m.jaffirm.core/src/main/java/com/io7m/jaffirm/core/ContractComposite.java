@@ -0,0 +1,213 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p>The predicate and describer of a composite condition.</p>
+ *
+ * <p>The branches of a composite are held in flat arrays. Combining a
+ * composite with further conditions in the same mode copies its branches
+ * into the new composite rather than nesting it, so that evaluation is a
+ * single loop regardless of how the composite was built.</p>
+ */
+
+final class ContractComposite<T>
+  implements Predicate<T>, Function<T, String>
+{
+  private final ContractCompositeMode mode;
+  private final Predicate<T>[] predicates;
+  private final Function<T, String>[] describers;
+
+  @SuppressWarnings("unchecked")
+  private ContractComposite(
+    final ContractCompositeMode inMode,
+    final List<Predicate<T>> inPredicates,
+    final List<Function<T, String>> inDescribers)
+  {
+    this.mode = inMode;
+    this.predicates = inPredicates.toArray(new Predicate[0]);
+    this.describers = inDescribers.toArray(new Function[0]);
+  }
+
+  /**
+   * Combine conditions.
+   *
+   * @param mode       The mode
+   * @param conditions The conditions
+   * @param <T>        The type of values
+   *
+   * @return A composite condition
+   */
+
+  @SuppressWarnings("unchecked")
+  static <T> ContractCondition<T> of(
+    final ContractCompositeMode mode,
+    final List<? extends ContractConditionType<T>> conditions)
+  {
+    final ArrayList<Predicate<T>> predicates =
+      new ArrayList<>(conditions.size());
+    final ArrayList<Function<T, String>> describers =
+      new ArrayList<>(conditions.size());
+
+    for (final ContractConditionType<T> condition : conditions) {
+      Objects.requireNonNull(condition, "condition");
+      final Predicate<T> predicate =
+        Objects.requireNonNull(condition.predicate(), "predicate");
+      final Function<T, String> describer =
+        Objects.requireNonNull(condition.describer(), "describer");
+
+      if (mode != ContractCompositeMode.NONE
+        && predicate instanceof ContractComposite
+        && ((ContractComposite<T>) predicate).mode == mode) {
+        final ContractComposite<T> composite = (ContractComposite<T>) predicate;
+        predicates.addAll(List.of(composite.predicates));
+        describers.addAll(List.of(composite.describers));
+      } else {
+        predicates.add(predicate);
+        describers.add(describer);
+      }
+    }
+
+    final ContractComposite<T> composite =
+      new ContractComposite<>(mode, predicates, describers);
+    return ContractCondition.of(composite, composite);
+  }
+
+  /**
+   * Negate a condition. Negating a negation yields the original condition,
+   * and negating a disjunction yields a single composite in which no branch
+   * may hold.
+   *
+   * @param condition The condition
+   * @param <T>       The type of values
+   *
+   * @return The negated condition
+   */
+
+  @SuppressWarnings("unchecked")
+  static <T> ContractCondition<T> not(
+    final ContractConditionType<T> condition)
+  {
+    final Predicate<T> predicate =
+      Objects.requireNonNull(condition.predicate(), "predicate");
+
+    if (predicate instanceof ContractComposite) {
+      final ContractComposite<T> composite = (ContractComposite<T>) predicate;
+      final ContractCompositeMode negated = composite.mode.negated();
+      if (negated == ContractCompositeMode.ANY
+        && composite.predicates.length == 1) {
+        return ContractCondition.of(
+          composite.predicates[0], composite.describers[0]);
+      }
+      if (negated != null) {
+        final ContractComposite<T> result = new ContractComposite<>(
+          negated,
+          List.of(composite.predicates),
+          List.of(composite.describers));
+        return ContractCondition.of(result, result);
+      }
+    }
+
+    return of(ContractCompositeMode.NONE, List.of(condition));
+  }
+
+  @Override
+  public boolean test(
+    final T value)
+  {
+    return switch (this.mode) {
+      case ALL -> this.testAll(value);
+      case ANY -> this.testAny(value);
+      case NONE -> !this.testAny(value);
+    };
+  }
+
+  private boolean testAll(
+    final T value)
+  {
+    for (final Predicate<T> predicate : this.predicates) {
+      if (!predicate.test(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean testAny(
+    final T value)
+  {
+    for (final Predicate<T> predicate : this.predicates) {
+      if (predicate.test(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Describe the branch responsible for the failure of the composite: the
+   * first branch that does not hold for {@link ContractCompositeMode#ALL},
+   * the first branch that holds for {@link ContractCompositeMode#NONE}, and
+   * every branch for {@link ContractCompositeMode#ANY}.
+   */
+
+  @Override
+  public String apply(
+    final T value)
+  {
+    final boolean expected = this.mode != ContractCompositeMode.NONE;
+    if (this.mode != ContractCompositeMode.ANY) {
+      for (int index = 0; index < this.predicates.length; ++index) {
+        if (this.predicates[index].test(value) != expected) {
+          return this.describe(index, value);
+        }
+      }
+    }
+
+    final StringBuilder text = new StringBuilder(64);
+    text.append(
+      switch (this.mode) {
+        case ALL -> "All of the following must hold: ";
+        case ANY -> "At least one of the following must hold: ";
+        case NONE -> "None of the following may hold: ";
+      });
+    for (int index = 0; index < this.describers.length; ++index) {
+      if (index > 0) {
+        text.append("; ");
+      }
+      text.append(this.describers[index].apply(value));
+    }
+    return text.toString();
+  }
+
+  private String describe(
+    final int index,
+    final T value)
+  {
+    final String description = this.describers[index].apply(value);
+    if (this.mode == ContractCompositeMode.NONE) {
+      return "Must not hold: " + description;
+    }
+    return description;
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <p>An immutable, precompiled set of conditions.</p>
+ *
+ * <p>A condition set is intended to be constructed once (typically held in a
+ * {@code static final} field) and then evaluated many times. The predicates
+ * and describers of the conditions are extracted into flat arrays at
+ * construction time, and evaluating the set does not allocate unless one or
+ * more conditions are violated.</p>
+ *
+ * @param <T> The type of input values
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractConditionSet<T>
+{
+  private final Predicate<T>[] predicates;
+  private final Function<T, String>[] describers;
+
+  @SuppressWarnings("unchecked")
+  private ContractConditionSet(
+    final List<? extends ContractConditionType<T>> conditions)
+  {
+    final int size = conditions.size();
+    this.predicates = (Predicate<T>[]) new Predicate[size];
+    this.describers = (Function<T, String>[]) new Function[size];
+
+    for (int index = 0; index < size; ++index) {
+      final ContractConditionType<T> condition =
+        Objects.requireNonNull(conditions.get(index), "condition");
+      this.predicates[index] =
+        Objects.requireNonNull(condition.predicate(), "predicate");
+      this.describers[index] =
+        Objects.requireNonNull(condition.describer(), "describer");
+    }
+  }
+
+  /**
+   * Construct a condition set from the given conditions. The conditions are
+   * evaluated in the order given.
+   *
+   * @param conditions The conditions
+   * @param <T>        The type of input values
+   *
+   * @return A condition set
+   */
+
+  @SafeVarargs
+  public static <T> ContractConditionSet<T> of(
+    final ContractConditionType<T>... conditions)
+  {
+    return new ContractConditionSet<>(List.of(conditions));
+  }
+
+  /**
+   * Construct a condition set from the given conditions. The conditions are
+   * evaluated in the order given.
+   *
+   * @param conditions The conditions
+   * @param <T>        The type of input values
+   *
+   * @return A condition set
+   */
+
+  public static <T> ContractConditionSet<T> of(
+    final List<? extends ContractConditionType<T>> conditions)
+  {
+    return new ContractConditionSet<>(conditions);
+  }
+
+  /**
+   * @return The number of conditions in the set
+   */
+
+  public int size()
+  {
+    return this.predicates.length;
+  }
+
+  Predicate<T>[] predicates()
+  {
+    return this.predicates;
+  }
+
+  Function<T, String>[] describers()
+  {
+    return this.describers;
+  }
+}
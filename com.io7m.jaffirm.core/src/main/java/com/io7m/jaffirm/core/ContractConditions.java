@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * <p>A catalogue of common conditions.</p>
+ *
+ * <p>Each of the functions that take no arguments returns the same
+ * preallocated condition on every call, so using them allocates nothing and
+ * presents a single, monomorphic predicate to the JIT compiler for each
+ * rule. The describers produce messages of the form
+ * {@code "Value -1 must be non-negative"}.</p>
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractConditions
+{
+  private static final ContractIntCondition NON_NEGATIVE_I =
+    ContractIntCondition.of(
+      x -> x >= 0,
+      x -> String.format("Value %d must be non-negative", Integer.valueOf(x)));
+
+  private static final ContractIntCondition POSITIVE_I =
+    ContractIntCondition.of(
+      x -> x > 0,
+      x -> String.format("Value %d must be positive", Integer.valueOf(x)));
+
+  private static final ContractIntCondition POWER_OF_TWO_I =
+    ContractIntCondition.of(
+      x -> x > 0 && Integer.bitCount(x) == 1,
+      x -> String.format("Value %d must be a power of two", Integer.valueOf(x)));
+
+  private static final ContractLongCondition NON_NEGATIVE_L =
+    ContractLongCondition.of(
+      x -> x >= 0L,
+      x -> String.format("Value %d must be non-negative", Long.valueOf(x)));
+
+  private static final ContractLongCondition POSITIVE_L =
+    ContractLongCondition.of(
+      x -> x > 0L,
+      x -> String.format("Value %d must be positive", Long.valueOf(x)));
+
+  private static final ContractLongCondition POWER_OF_TWO_L =
+    ContractLongCondition.of(
+      x -> x > 0L && Long.bitCount(x) == 1,
+      x -> String.format("Value %d must be a power of two", Long.valueOf(x)));
+
+  private static final ContractDoubleCondition NON_NEGATIVE_D =
+    ContractDoubleCondition.of(
+      x -> x >= 0.0,
+      x -> String.format("Value %s must be non-negative", Double.valueOf(x)));
+
+  private static final ContractDoubleCondition POSITIVE_D =
+    ContractDoubleCondition.of(
+      x -> x > 0.0,
+      x -> String.format("Value %s must be positive", Double.valueOf(x)));
+
+  private static final ContractDoubleCondition FINITE_D =
+    ContractDoubleCondition.of(
+      Double::isFinite,
+      x -> String.format("Value %s must be finite", Double.valueOf(x)));
+
+  private static final ContractDoubleCondition NOT_NAN_D =
+    ContractDoubleCondition.of(
+      x -> !Double.isNaN(x),
+      x -> String.format("Value %s must not be NaN", Double.valueOf(x)));
+
+  private static final ContractCondition<Object> NOT_NULL =
+    ContractCondition.of(
+      Objects::nonNull,
+      x -> "Value must not be null");
+
+  private static final ContractCondition<Collection<?>> NON_EMPTY =
+    ContractCondition.of(
+      x -> !x.isEmpty(),
+      x -> "Collection must not be empty");
+
+  private static final ContractCondition<CharSequence> NON_EMPTY_STRING =
+    ContractCondition.of(
+      x -> x.length() > 0,
+      x -> "String must not be empty");
+
+  private ContractConditions()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * @return A condition that requires an {@code int} value to be non-negative ({@code x >= 0})
+   */
+
+  public static ContractIntCondition nonNegativeI()
+  {
+    return NON_NEGATIVE_I;
+  }
+
+  /**
+   * @return A condition that requires an {@code int} value to be positive ({@code x > 0})
+   */
+
+  public static ContractIntCondition positiveI()
+  {
+    return POSITIVE_I;
+  }
+
+  /**
+   * @return A condition that requires an {@code int} value to be a positive power of two
+   */
+
+  public static ContractIntCondition powerOfTwoI()
+  {
+    return POWER_OF_TWO_I;
+  }
+
+  /**
+   * <p>Create a condition that requires an {@code int} value {@code x} to
+   * be in the inclusive range {@code [lower, upper]}.</p>
+   *
+   * <p>Each call creates a new condition; conditions with fixed bounds should
+   * be created once and stored in constants.</p>
+   *
+   * @param lower The inclusive lower bound
+   * @param upper The inclusive upper bound
+   *
+   * @return A condition
+   */
+
+  public static ContractIntCondition inRangeI(
+    final int lower,
+    final int upper)
+  {
+    return ContractIntCondition.of(
+      x -> x >= lower && x <= upper,
+      x -> String.format(
+        "Value %d must be in the range [%d, %d]",
+        Integer.valueOf(x),
+        Integer.valueOf(lower),
+        Integer.valueOf(upper)));
+  }
+
+  /**
+   * @return A condition that requires a {@code long} value to be non-negative ({@code x >= 0L})
+   */
+
+  public static ContractLongCondition nonNegativeL()
+  {
+    return NON_NEGATIVE_L;
+  }
+
+  /**
+   * @return A condition that requires a {@code long} value to be positive ({@code x > 0L})
+   */
+
+  public static ContractLongCondition positiveL()
+  {
+    return POSITIVE_L;
+  }
+
+  /**
+   * @return A condition that requires a {@code long} value to be a positive power of two
+   */
+
+  public static ContractLongCondition powerOfTwoL()
+  {
+    return POWER_OF_TWO_L;
+  }
+
+  /**
+   * <p>Create a condition that requires a {@code long} value {@code x} to
+   * be in the inclusive range {@code [lower, upper]}.</p>
+   *
+   * <p>Each call creates a new condition; conditions with fixed bounds should
+   * be created once and stored in constants.</p>
+   *
+   * @param lower The inclusive lower bound
+   * @param upper The inclusive upper bound
+   *
+   * @return A condition
+   */
+
+  public static ContractLongCondition inRangeL(
+    final long lower,
+    final long upper)
+  {
+    return ContractLongCondition.of(
+      x -> x >= lower && x <= upper,
+      x -> String.format(
+        "Value %d must be in the range [%d, %d]",
+        Long.valueOf(x),
+        Long.valueOf(lower),
+        Long.valueOf(upper)));
+  }
+
+  /**
+   * @return A condition that requires a {@code double} value to be non-negative ({@code x >= 0.0})
+   */
+
+  public static ContractDoubleCondition nonNegativeD()
+  {
+    return NON_NEGATIVE_D;
+  }
+
+  /**
+   * @return A condition that requires a {@code double} value to be positive ({@code x > 0.0})
+   */
+
+  public static ContractDoubleCondition positiveD()
+  {
+    return POSITIVE_D;
+  }
+
+  /**
+   * @return A condition that requires a {@code double} value to be finite (neither infinite nor {@code NaN})
+   */
+
+  public static ContractDoubleCondition finiteD()
+  {
+    return FINITE_D;
+  }
+
+  /**
+   * @return A condition that requires a {@code double} value to be any value other than {@code NaN}
+   */
+
+  public static ContractDoubleCondition notNaND()
+  {
+    return NOT_NAN_D;
+  }
+
+  /**
+   * <p>Create a condition that requires a {@code double} value {@code x} to
+   * be in the inclusive range {@code [lower, upper]}.</p>
+   *
+   * <p>Each call creates a new condition; conditions with fixed bounds should
+   * be created once and stored in constants.</p>
+   *
+   * @param lower The inclusive lower bound
+   * @param upper The inclusive upper bound
+   *
+   * @return A condition
+   */
+
+  public static ContractDoubleCondition inRangeD(
+    final double lower,
+    final double upper)
+  {
+    return ContractDoubleCondition.of(
+      x -> x >= lower && x <= upper,
+      x -> String.format(
+        "Value %s must be in the range [%s, %s]",
+        Double.valueOf(x),
+        Double.valueOf(lower),
+        Double.valueOf(upper)));
+  }
+
+  /**
+   * @param <T> The type of values
+   *
+   * @return A condition that requires a value to be non-null
+   */
+
+  @SuppressWarnings("unchecked")
+  public static <T> ContractCondition<T> notNull()
+  {
+    return (ContractCondition<T>) (Object) NOT_NULL;
+  }
+
+  /**
+   * @param <T> The type of collections
+   *
+   * @return A condition that requires a collection to be non-empty
+   */
+
+  @SuppressWarnings("unchecked")
+  public static <T extends Collection<?>> ContractCondition<T> nonEmpty()
+  {
+    return (ContractCondition<T>) (Object) NON_EMPTY;
+  }
+
+  /**
+   * @param <T> The type of strings
+   *
+   * @return A condition that requires a string to be non-empty
+   */
+
+  @SuppressWarnings("unchecked")
+  public static <T extends CharSequence> ContractCondition<T> nonEmptyString()
+  {
+    return (ContractCondition<T>) (Object) NON_EMPTY_STRING;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.Optional;
+
+/**
+ * <p>Functions shared by the flight recorder events published when contracts
+ * are violated.</p>
+ *
+ * <p>The {@code jdk.jfr} module is an optional dependency. The event classes
+ * are only loaded if the module is present in the boot layer, so contracts
+ * work unchanged on runtime images that do not include it.</p>
+ *
+ * <p>Optional dependencies are not resolved on their own. An application
+ * on the class path resolves {@code jdk.jfr} as one of the default root
+ * modules, but an application launched as a module with {@code -m} only
+ * resolves {@code jdk.jfr} if some other module requires it. Otherwise no
+ * events are published, and the application must be started with
+ * {@code --add-modules jdk.jfr} to publish them.</p>
+ */
+
+final class ContractEvents
+{
+  private static final boolean AVAILABLE =
+    ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+  private static final StackWalker WALKER =
+    StackWalker.getInstance();
+  private static final String PACKAGE_PREFIX =
+    ContractEvents.class.getPackageName() + ".";
+
+  private ContractEvents()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * Publish a precondition violation event, if flight recorder events are
+   * available.
+   *
+   * @param violations The number of violated conditions
+   */
+
+  static void publishPrecondition(
+    final int violations)
+  {
+    if (AVAILABLE) {
+      PreconditionViolationEvent.publish(violations);
+    }
+  }
+
+  /**
+   * Publish a postcondition violation event, if flight recorder events are
+   * available.
+   *
+   * @param violations The number of violated conditions
+   */
+
+  static void publishPostcondition(
+    final int violations)
+  {
+    if (AVAILABLE) {
+      PostconditionViolationEvent.publish(violations);
+    }
+  }
+
+  /**
+   * Publish an invariant violation event, if flight recorder events are
+   * available.
+   *
+   * @param violations The number of violated conditions
+   */
+
+  static void publishInvariant(
+    final int violations)
+  {
+    if (AVAILABLE) {
+      InvariantViolationEvent.publish(violations);
+    }
+  }
+
+  /**
+   * @return The first stack frame outside of this package, formatted as
+   * {@code class.method:line}
+   */
+
+  static String callSite()
+  {
+    final Optional<StackWalker.StackFrame> frame =
+      WALKER.walk(frames -> frames.filter(
+        f -> !f.getClassName().startsWith(PACKAGE_PREFIX)).findFirst());
+
+    return frame.map(f -> String.format(
+      "%s.%s:%d",
+      f.getClassName(),
+      f.getMethodName(),
+      Integer.valueOf(f.getLineNumber()))
+    ).orElse("<unknown>");
+  }
+}
@@ -16,13 +16,85 @@
 
 package com.io7m.jaffirm.core;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
 /**
- * One or more conditions have been violated.
+ * <p>One or more conditions have been violated.</p>
+ *
+ * <p>By default, contract exceptions capture a stack trace in the same manner
+ * as any other exception. If the system property named by
+ * {@link #STACK_TRACES_PROPERTY} is set to {@code false} when this class is
+ * initialized, contract exceptions are instead constructed with writable
+ * stack traces disabled. This avoids the (often considerable) cost of
+ * {@link Throwable#fillInStackTrace()} in applications that raise and handle
+ * large numbers of contract exceptions, at the cost of less informative
+ * diagnostics.</p>
+ *
+ * <p>The messages of exceptions raised by the contract checking functions are
+ * rendered lazily on the first call to {@link #getMessage()}. Such exceptions
+ * retain a reference to the received value until then, and the string form of
+ * the value is taken at the time the message is rendered.</p>
  */
 
 public abstract class ContractException extends RuntimeException
 {
+  /**
+   * The name of the system property that controls whether contract exceptions
+   * capture stack traces.
+   *
+   * @since 4.1.0
+   */
+
+  public static final String STACK_TRACES_PROPERTY =
+    "com.io7m.jaffirm.core.stackTraces";
+
+  private static final boolean STACK_TRACES =
+    !"false".equals(System.getProperty(STACK_TRACES_PROPERTY));
+
   private final int violations;
+  private final String heading;
+  private final transient Object value;
+  private final Violations violationData;
+
+  /**
+   * Construct an exception.
+   *
+   * @param cause              The cause
+   * @param message            The message
+   * @param in_violations      The number of violated conditions
+   * @param writableStackTrace Whether or not the stack trace should be
+   *                           writable
+   *
+   * @since 4.1.0
+   */
+
+  protected ContractException(
+    final String message,
+    final Throwable cause,
+    final int in_violations,
+    final boolean writableStackTrace)
+  {
+    super(message, cause, true, writableStackTrace);
+    this.violations = in_violations;
+    this.heading = null;
+    this.value = null;
+    this.violationData = null;
+  }
+
+  ContractException(
+    final String in_heading,
+    final Object in_value,
+    final Violations in_violations,
+    final Throwable cause)
+  {
+    super(null, cause, true, STACK_TRACES);
+    this.violations = in_violations.count();
+    this.heading = in_heading;
+    this.value = in_value;
+    this.violationData = in_violations;
+  }
 
   /**
    * Construct an exception.
@@ -37,8 +109,7 @@ public abstract class ContractException extends RuntimeException
     final Throwable cause,
     final int in_violations)
   {
-    super(message, cause);
-    this.violations = in_violations;
+    this(message, cause, in_violations, STACK_TRACES);
   }
 
   /**
@@ -52,8 +123,7 @@ public abstract class ContractException extends RuntimeException
     final String message,
     final int in_violations)
   {
-    super(message);
-    this.violations = in_violations;
+    this(message, null, in_violations, STACK_TRACES);
   }
 
   /**
@@ -64,4 +134,64 @@ public abstract class ContractException extends RuntimeException
   {
     return this.violations;
   }
+
+  /**
+   * <p>The structured details of the violated conditions, in ascending order
+   * of condition index.</p>
+   *
+   * <p>The returned list is empty for exceptions that were not raised by the
+   * contract checking functions (such as those constructed directly with a
+   * message).</p>
+   *
+   * @return The violated conditions
+   *
+   * @since 4.1.0
+   */
+
+  public final List<ContractViolation> violationDetails()
+  {
+    if (this.violationData != null) {
+      return this.violationData.details();
+    }
+    return List.of();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>For exceptions raised by the contract checking functions, the message
+   * is constructed on the first call to this method, so that no formatting
+   * work is performed for exceptions whose messages are never inspected.</p>
+   */
+
+  @Override
+  public String getMessage()
+  {
+    if (this.violationData != null) {
+      return this.violationData.format(this.heading, this.value);
+    }
+    return super.getMessage();
+  }
+
+  private void writeObject(
+    final ObjectOutputStream stream)
+    throws IOException
+  {
+    // The received value is not serialized; render the message first.
+    this.getMessage();
+    stream.defaultWriteObject();
+  }
+
+  /**
+   * @return {@code true} if contract exceptions capture stack traces by
+   * default
+   *
+   * @see #STACK_TRACES_PROPERTY
+   * @since 4.1.0
+   */
+
+  public static boolean stackTracesEnabled()
+  {
+    return STACK_TRACES;
+  }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+
+/**
+ * <p>The predicate and describer of a composite {@code long} condition.</p>
+ *
+ * <p>The branches of a composite are held in flat arrays. Combining a
+ * composite with further conditions in the same mode copies its branches
+ * into the new composite rather than nesting it, so that evaluation is a
+ * single loop regardless of how the composite was built.</p>
+ */
+
+final class ContractLongComposite
+  implements LongPredicate, LongFunction<String>
+{
+  private final ContractCompositeMode mode;
+  private final LongPredicate[] predicates;
+  private final LongFunction<String>[] describers;
+
+  @SuppressWarnings("unchecked")
+  private ContractLongComposite(
+    final ContractCompositeMode inMode,
+    final List<LongPredicate> inPredicates,
+    final List<LongFunction<String>> inDescribers)
+  {
+    this.mode = inMode;
+    this.predicates = inPredicates.toArray(new LongPredicate[0]);
+    this.describers = inDescribers.toArray(new LongFunction[0]);
+  }
+
+  /**
+   * Combine conditions.
+   *
+   * @param mode       The mode
+   * @param conditions The conditions
+   *
+   * @return A composite condition
+   */
+
+  static ContractLongCondition of(
+    final ContractCompositeMode mode,
+    final List<? extends ContractLongConditionType> conditions)
+  {
+    final ArrayList<LongPredicate> predicates =
+      new ArrayList<>(conditions.size());
+    final ArrayList<LongFunction<String>> describers =
+      new ArrayList<>(conditions.size());
+
+    for (final ContractLongConditionType condition : conditions) {
+      Objects.requireNonNull(condition, "condition");
+      final LongPredicate predicate =
+        Objects.requireNonNull(condition.predicate(), "predicate");
+      final LongFunction<String> describer =
+        Objects.requireNonNull(condition.describer(), "describer");
+
+      if (mode != ContractCompositeMode.NONE
+        && predicate instanceof ContractLongComposite
+        && ((ContractLongComposite) predicate).mode == mode) {
+        final ContractLongComposite composite =
+          (ContractLongComposite) predicate;
+        predicates.addAll(List.of(composite.predicates));
+        describers.addAll(List.of(composite.describers));
+      } else {
+        predicates.add(predicate);
+        describers.add(describer);
+      }
+    }
+
+    final ContractLongComposite composite =
+      new ContractLongComposite(mode, predicates, describers);
+    return ContractLongCondition.of(composite, composite);
+  }
+
+  /**
+   * Negate a condition. Negating a negation yields the original condition,
+   * and negating a disjunction yields a single composite in which no branch
+   * may hold.
+   *
+   * @param condition The condition
+   *
+   * @return The negated condition
+   */
+
+  static ContractLongCondition not(
+    final ContractLongConditionType condition)
+  {
+    final LongPredicate predicate =
+      Objects.requireNonNull(condition.predicate(), "predicate");
+
+    if (predicate instanceof ContractLongComposite) {
+      final ContractLongComposite composite = (ContractLongComposite) predicate;
+      final ContractCompositeMode negated = composite.mode.negated();
+      if (negated == ContractCompositeMode.ANY
+        && composite.predicates.length == 1) {
+        return ContractLongCondition.of(
+          composite.predicates[0], composite.describers[0]);
+      }
+      if (negated != null) {
+        final ContractLongComposite result = new ContractLongComposite(
+          negated,
+          List.of(composite.predicates),
+          List.of(composite.describers));
+        return ContractLongCondition.of(result, result);
+      }
+    }
+
+    return of(ContractCompositeMode.NONE, List.of(condition));
+  }
+
+  @Override
+  public boolean test(
+    final long value)
+  {
+    return switch (this.mode) {
+      case ALL -> this.testAll(value);
+      case ANY -> this.testAny(value);
+      case NONE -> !this.testAny(value);
+    };
+  }
+
+  private boolean testAll(
+    final long value)
+  {
+    for (final LongPredicate predicate : this.predicates) {
+      if (!predicate.test(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean testAny(
+    final long value)
+  {
+    for (final LongPredicate predicate : this.predicates) {
+      if (predicate.test(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Describe the branch responsible for the failure of the composite: the
+   * first branch that does not hold for {@link ContractCompositeMode#ALL},
+   * the first branch that holds for {@link ContractCompositeMode#NONE}, and
+   * every branch for {@link ContractCompositeMode#ANY}.
+   */
+
+  @Override
+  public String apply(
+    final long value)
+  {
+    final boolean expected = this.mode != ContractCompositeMode.NONE;
+    if (this.mode != ContractCompositeMode.ANY) {
+      for (int index = 0; index < this.predicates.length; ++index) {
+        if (this.predicates[index].test(value) != expected) {
+          return this.describe(index, value);
+        }
+      }
+    }
+
+    final StringBuilder text = new StringBuilder(64);
+    text.append(
+      switch (this.mode) {
+        case ALL -> "All of the following must hold: ";
+        case ANY -> "At least one of the following must hold: ";
+        case NONE -> "None of the following may hold: ";
+      });
+    for (int index = 0; index < this.describers.length; ++index) {
+      if (index > 0) {
+        text.append("; ");
+      }
+      text.append(this.describers[index].apply(value));
+    }
+    return text.toString();
+  }
+
+  private String describe(
+    final int index,
+    final long value)
+  {
+    final String description = this.describers[index].apply(value);
+    if (this.mode == ContractCompositeMode.NONE) {
+      return "Must not hold: " + description;
+    }
+    return description;
+  }
+}
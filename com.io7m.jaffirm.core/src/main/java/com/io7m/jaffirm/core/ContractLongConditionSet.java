@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+
+/**
+ * A {@code long} specialized version of the {@link ContractConditionSet} type.
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractLongConditionSet
+{
+  private final LongPredicate[] predicates;
+  private final LongFunction<String>[] describers;
+
+  @SuppressWarnings("unchecked")
+  private ContractLongConditionSet(
+    final List<? extends ContractLongConditionType> conditions)
+  {
+    final int size = conditions.size();
+    this.predicates = new LongPredicate[size];
+    this.describers = (LongFunction<String>[]) new LongFunction[size];
+
+    for (int index = 0; index < size; ++index) {
+      final ContractLongConditionType condition =
+        Objects.requireNonNull(conditions.get(index), "condition");
+      this.predicates[index] =
+        Objects.requireNonNull(condition.predicate(), "predicate");
+      this.describers[index] =
+        Objects.requireNonNull(condition.describer(), "describer");
+    }
+  }
+
+  /**
+   * Construct a condition set from the given conditions. The conditions are
+   * evaluated in the order given.
+   *
+   * @param conditions The conditions
+   *
+   * @return A condition set
+   */
+
+  public static ContractLongConditionSet of(
+    final ContractLongConditionType... conditions)
+  {
+    return new ContractLongConditionSet(List.of(conditions));
+  }
+
+  /**
+   * Construct a condition set from the given conditions. The conditions are
+   * evaluated in the order given.
+   *
+   * @param conditions The conditions
+   *
+   * @return A condition set
+   */
+
+  public static ContractLongConditionSet of(
+    final List<? extends ContractLongConditionType> conditions)
+  {
+    return new ContractLongConditionSet(conditions);
+  }
+
+  /**
+   * @return The number of conditions in the set
+   */
+
+  public int size()
+  {
+    return this.predicates.length;
+  }
+
+  LongPredicate[] predicates()
+  {
+    return this.predicates;
+  }
+
+  LongFunction<String>[] describers()
+  {
+    return this.describers;
+  }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+import static com.io7m.jaffirm.core.SafeApplication.applyToStringChecked;
+
+/**
+ * <p>A pre-parsed message template.</p>
+ *
+ * <p>A template is parsed once, typically into a {@code static final} field,
+ * and can then be rendered any number of times without the parsing work
+ * that {@link String#format(String, Object...)} performs on every call.
+ * Rendering appends arguments directly to a per-thread
+ * {@link StringBuilder} that is reused across calls, and the primitive
+ * overloads of the {@code format} methods append their arguments without
+ * boxing. Object arguments are converted to strings before the builder is
+ * used, so an argument whose {@code toString()} method itself renders a
+ * template cannot corrupt the message being rendered.</p>
+ *
+ * <p>Templates support a deliberately small subset of the syntax accepted
+ * by {@link java.util.Formatter}: each {@code %s} or {@code %d} conversion
+ * is replaced by the next argument, rendered as if by
+ * {@link StringBuilder#append(Object)} (or the corresponding primitive
+ * overload), {@code %%} produces a literal {@code %}, and {@code %n}
+ * produces the platform line separator. Any other conversion is rejected
+ * when the template is parsed. Templates written against this subset
+ * therefore produce the same messages as the {@code check*V} methods that
+ * accept format strings, for arguments of types {@code int}, {@code long},
+ * and {@link String}.</p>
+ *
+ * <p>Rendering is lenient: arguments beyond those required by the template
+ * are ignored, and conversions for which no argument was supplied are
+ * rendered verbatim. If the {@code toString()} method of an argument raises
+ * an exception, a description of the exception is rendered in place of the
+ * argument. Rendering a template therefore never raises an exception that
+ * could obscure the contract violation being reported.</p>
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractMessageTemplate
+{
+  private static final int BUILDER_RETAIN_LIMIT = 1024;
+
+  private static final ThreadLocal<StringBuilder> BUILDERS =
+    ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+  private final String template;
+  private final String[] literals;
+  private final String[] conversions;
+
+  private ContractMessageTemplate(
+    final String inTemplate,
+    final String[] inLiterals,
+    final String[] inConversions)
+  {
+    this.template = inTemplate;
+    this.literals = inLiterals;
+    this.conversions = inConversions;
+  }
+
+  /**
+   * Parse a template.
+   *
+   * @param template The template text
+   *
+   * @return A parsed template
+   *
+   * @throws IllegalArgumentException If the template contains an unsupported
+   *                                  or incomplete conversion
+   */
+
+  public static ContractMessageTemplate parse(
+    final String template)
+  {
+    Objects.requireNonNull(template, "template");
+
+    final ArrayList<String> literals = new ArrayList<>();
+    final ArrayList<String> conversions = new ArrayList<>();
+    final StringBuilder literal = new StringBuilder(template.length());
+
+    int index = 0;
+    while (index < template.length()) {
+      final char c = template.charAt(index);
+      if (c != '%') {
+        literal.append(c);
+        ++index;
+        continue;
+      }
+
+      if (index + 1 >= template.length()) {
+        throw new IllegalArgumentException(
+          String.format(
+            "Incomplete conversion at index %d in template \"%s\"",
+            Integer.valueOf(index),
+            template));
+      }
+
+      final char conversion = template.charAt(index + 1);
+      if (conversion == 's' || conversion == 'd') {
+        literals.add(literal.toString());
+        literal.setLength(0);
+        conversions.add(template.substring(index, index + 2));
+      } else if (conversion == '%') {
+        literal.append('%');
+      } else if (conversion == 'n') {
+        literal.append(System.lineSeparator());
+      } else {
+        throw new IllegalArgumentException(
+          String.format(
+            "Unsupported conversion '%%%c' at index %d in template \"%s\"",
+            Character.valueOf(conversion),
+            Integer.valueOf(index),
+            template));
+      }
+      index += 2;
+    }
+
+    literals.add(literal.toString());
+    return new ContractMessageTemplate(
+      template,
+      literals.toArray(new String[0]),
+      conversions.toArray(new String[0]));
+  }
+
+  /**
+   * @return The original template text
+   */
+
+  public String template()
+  {
+    return this.template;
+  }
+
+  /**
+   * @return The number of arguments required by the template
+   */
+
+  public int arguments()
+  {
+    return this.conversions.length;
+  }
+
+  /**
+   * Render the template with one argument.
+   *
+   * @param a0 The first argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final Object a0)
+  {
+    final String s0 = applyToStringChecked(a0);
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(s0).append(this.literals[1]);
+    }
+    return this.finish(builder, 1);
+  }
+
+  /**
+   * Render the template with one {@code int} argument.
+   *
+   * @param a0 The first argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final int a0)
+  {
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(a0).append(this.literals[1]);
+    }
+    return this.finish(builder, 1);
+  }
+
+  /**
+   * Render the template with one {@code long} argument.
+   *
+   * @param a0 The first argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final long a0)
+  {
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(a0).append(this.literals[1]);
+    }
+    return this.finish(builder, 1);
+  }
+
+  /**
+   * Render the template with one {@code double} argument.
+   *
+   * @param a0 The first argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final double a0)
+  {
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(a0).append(this.literals[1]);
+    }
+    return this.finish(builder, 1);
+  }
+
+  /**
+   * Render the template with one {@code char} argument.
+   *
+   * @param a0 The first argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final char a0)
+  {
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(a0).append(this.literals[1]);
+    }
+    return this.finish(builder, 1);
+  }
+
+  /**
+   * Render the template with two arguments.
+   *
+   * @param a0 The first argument
+   * @param a1 The second argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final Object a0,
+    final Object a1)
+  {
+    final String s0 = applyToStringChecked(a0);
+    final String s1 = applyToStringChecked(a1);
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(s0).append(this.literals[1]);
+    }
+    if (this.accepts(1)) {
+      builder.append(s1).append(this.literals[2]);
+    }
+    return this.finish(builder, 2);
+  }
+
+  /**
+   * Render the template with two {@code int} arguments.
+   *
+   * @param a0 The first argument
+   * @param a1 The second argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final int a0,
+    final int a1)
+  {
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(a0).append(this.literals[1]);
+    }
+    if (this.accepts(1)) {
+      builder.append(a1).append(this.literals[2]);
+    }
+    return this.finish(builder, 2);
+  }
+
+  /**
+   * Render the template with two {@code long} arguments.
+   *
+   * @param a0 The first argument
+   * @param a1 The second argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final long a0,
+    final long a1)
+  {
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(a0).append(this.literals[1]);
+    }
+    if (this.accepts(1)) {
+      builder.append(a1).append(this.literals[2]);
+    }
+    return this.finish(builder, 2);
+  }
+
+  /**
+   * Render the template with three arguments.
+   *
+   * @param a0 The first argument
+   * @param a1 The second argument
+   * @param a2 The third argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final Object a0,
+    final Object a1,
+    final Object a2)
+  {
+    final String s0 = applyToStringChecked(a0);
+    final String s1 = applyToStringChecked(a1);
+    final String s2 = applyToStringChecked(a2);
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(s0).append(this.literals[1]);
+    }
+    if (this.accepts(1)) {
+      builder.append(s1).append(this.literals[2]);
+    }
+    if (this.accepts(2)) {
+      builder.append(s2).append(this.literals[3]);
+    }
+    return this.finish(builder, 3);
+  }
+
+  /**
+   * Render the template with three {@code int} arguments.
+   *
+   * @param a0 The first argument
+   * @param a1 The second argument
+   * @param a2 The third argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final int a0,
+    final int a1,
+    final int a2)
+  {
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(a0).append(this.literals[1]);
+    }
+    if (this.accepts(1)) {
+      builder.append(a1).append(this.literals[2]);
+    }
+    if (this.accepts(2)) {
+      builder.append(a2).append(this.literals[3]);
+    }
+    return this.finish(builder, 3);
+  }
+
+  /**
+   * Render the template with three {@code long} arguments.
+   *
+   * @param a0 The first argument
+   * @param a1 The second argument
+   * @param a2 The third argument
+   *
+   * @return The rendered message
+   */
+
+  public String format(
+    final long a0,
+    final long a1,
+    final long a2)
+  {
+    final StringBuilder builder = this.start();
+    if (this.accepts(0)) {
+      builder.append(a0).append(this.literals[1]);
+    }
+    if (this.accepts(1)) {
+      builder.append(a1).append(this.literals[2]);
+    }
+    if (this.accepts(2)) {
+      builder.append(a2).append(this.literals[3]);
+    }
+    return this.finish(builder, 3);
+  }
+
+  private boolean accepts(
+    final int argument)
+  {
+    return argument < this.conversions.length;
+  }
+
+  private StringBuilder start()
+  {
+    final StringBuilder builder = BUILDERS.get();
+    builder.setLength(0);
+    builder.append(this.literals[0]);
+    return builder;
+  }
+
+  private String finish(
+    final StringBuilder builder,
+    final int supplied)
+  {
+    for (int index = supplied; index < this.conversions.length; ++index) {
+      builder.append(this.conversions[index]);
+      builder.append(this.literals[index + 1]);
+    }
+
+    final String result = builder.toString();
+    if (builder.capacity() > BUILDER_RETAIN_LIMIT) {
+      BUILDERS.remove();
+    }
+    return result;
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.template;
+  }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * <p>A registry of per-call-site contract metrics.</p>
+ *
+ * <p>A registry wraps conditions so that each evaluation and each violation
+ * of the condition is counted against a named call site. Conditions that
+ * share a call site name share counters. Counters are {@link LongAdder}
+ * instances, so heavily contended call sites do not become a bottleneck.
+ * Counted conditions can be used anywhere that ordinary conditions can be
+ * used, including in precompiled condition sets.</p>
+ *
+ * <p>A disabled registry returns conditions unchanged, and so adds no cost
+ * whatsoever to the evaluation of contracts. The {@link #global()} registry
+ * is disabled unless the system property named by {@link #ENABLED_PROPERTY}
+ * is set to {@code true}.</p>
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractMetrics
+{
+  /**
+   * The name of the system property that controls whether the global
+   * registry is enabled.
+   */
+
+  public static final String ENABLED_PROPERTY =
+    "com.io7m.jaffirm.core.metrics";
+
+  private static final ContractMetrics GLOBAL =
+    new ContractMetrics(
+      "true".equals(System.getProperty(ENABLED_PROPERTY)));
+
+  private final boolean enabled;
+  private final ConcurrentHashMap<String, Counters> sites;
+
+  private ContractMetrics(
+    final boolean inEnabled)
+  {
+    this.enabled = inEnabled;
+    this.sites = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @return The global registry
+   */
+
+  public static ContractMetrics global()
+  {
+    return GLOBAL;
+  }
+
+  /**
+   * @return A new, enabled registry
+   */
+
+  public static ContractMetrics create()
+  {
+    return new ContractMetrics(true);
+  }
+
+  /**
+   * @return A new, disabled registry
+   */
+
+  public static ContractMetrics disabled()
+  {
+    return new ContractMetrics(false);
+  }
+
+  /**
+   * @return {@code true} if this registry counts evaluations
+   */
+
+  public boolean isEnabled()
+  {
+    return this.enabled;
+  }
+
+  private Counters counters(
+    final String site)
+  {
+    Objects.requireNonNull(site, "site");
+    return this.sites.computeIfAbsent(site, k -> new Counters());
+  }
+
+  /**
+   * Wrap the given condition such that evaluations and violations are
+   * counted against {@code site}. If this registry is disabled,
+   * {@code condition} is returned unchanged.
+   *
+   * @param site      The call site name
+   * @param condition The condition
+   * @param <T>       The type of values
+   *
+   * @return A counted condition
+   */
+
+  public <T> ContractConditionType<T> counted(
+    final String site,
+    final ContractConditionType<T> condition)
+  {
+    Objects.requireNonNull(condition, "condition");
+    if (!this.enabled) {
+      return condition;
+    }
+
+    final Counters counters = this.counters(site);
+    final Predicate<T> predicate = condition.predicate();
+    return ContractCondition.of(
+      x -> {
+        counters.evaluations.increment();
+        boolean ok = false;
+        try {
+          ok = predicate.test(x);
+          return ok;
+        } finally {
+          if (!ok) {
+            counters.violations.increment();
+          }
+        }
+      },
+      condition.describer());
+  }
+
+  /**
+   * Wrap the given condition such that evaluations and violations are
+   * counted against {@code site}. If this registry is disabled,
+   * {@code condition} is returned unchanged.
+   *
+   * @param site      The call site name
+   * @param condition The condition
+   *
+   * @return A counted condition
+   */
+
+  public ContractIntConditionType countedI(
+    final String site,
+    final ContractIntConditionType condition)
+  {
+    Objects.requireNonNull(condition, "condition");
+    if (!this.enabled) {
+      return condition;
+    }
+
+    final Counters counters = this.counters(site);
+    final IntPredicate predicate = condition.predicate();
+    return ContractIntCondition.of(
+      x -> {
+        counters.evaluations.increment();
+        boolean ok = false;
+        try {
+          ok = predicate.test(x);
+          return ok;
+        } finally {
+          if (!ok) {
+            counters.violations.increment();
+          }
+        }
+      },
+      condition.describer());
+  }
+
+  /**
+   * Wrap the given condition such that evaluations and violations are
+   * counted against {@code site}. If this registry is disabled,
+   * {@code condition} is returned unchanged.
+   *
+   * @param site      The call site name
+   * @param condition The condition
+   *
+   * @return A counted condition
+   */
+
+  public ContractLongConditionType countedL(
+    final String site,
+    final ContractLongConditionType condition)
+  {
+    Objects.requireNonNull(condition, "condition");
+    if (!this.enabled) {
+      return condition;
+    }
+
+    final Counters counters = this.counters(site);
+    final LongPredicate predicate = condition.predicate();
+    return ContractLongCondition.of(
+      x -> {
+        counters.evaluations.increment();
+        boolean ok = false;
+        try {
+          ok = predicate.test(x);
+          return ok;
+        } finally {
+          if (!ok) {
+            counters.violations.increment();
+          }
+        }
+      },
+      condition.describer());
+  }
+
+  /**
+   * Wrap the given condition such that evaluations and violations are
+   * counted against {@code site}. If this registry is disabled,
+   * {@code condition} is returned unchanged.
+   *
+   * @param site      The call site name
+   * @param condition The condition
+   *
+   * @return A counted condition
+   */
+
+  public ContractDoubleConditionType countedD(
+    final String site,
+    final ContractDoubleConditionType condition)
+  {
+    Objects.requireNonNull(condition, "condition");
+    if (!this.enabled) {
+      return condition;
+    }
+
+    final Counters counters = this.counters(site);
+    final DoublePredicate predicate = condition.predicate();
+    return ContractDoubleCondition.of(
+      x -> {
+        counters.evaluations.increment();
+        boolean ok = false;
+        try {
+          ok = predicate.test(x);
+          return ok;
+        } finally {
+          if (!ok) {
+            counters.violations.increment();
+          }
+        }
+      },
+      condition.describer());
+  }
+
+  /**
+   * Take a snapshot of the current metrics. The snapshot is not atomic with
+   * respect to concurrent evaluations; each counter is read independently.
+   *
+   * @return The metrics for each call site, ordered by site name
+   */
+
+  public List<ContractSiteMetrics> snapshot()
+  {
+    final List<ContractSiteMetrics> results =
+      new ArrayList<>(this.sites.size());
+    for (final Map.Entry<String, Counters> entry : this.sites.entrySet()) {
+      final Counters counters = entry.getValue();
+      results.add(ContractSiteMetrics.of(
+        entry.getKey(),
+        counters.evaluations.sum(),
+        counters.violations.sum()));
+    }
+    results.sort(Comparator.comparing(ContractSiteMetrics::site));
+    return List.copyOf(results);
+  }
+
+  /**
+   * Reset all counters to zero. Call sites remain registered.
+   */
+
+  public void reset()
+  {
+    for (final Counters counters : this.sites.values()) {
+      counters.evaluations.reset();
+      counters.violations.reset();
+    }
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+      "[ContractMetrics enabled=%s sites=%d]",
+      Boolean.valueOf(this.enabled),
+      Integer.valueOf(this.sites.size()));
+  }
+
+  private static final class Counters
+  {
+    private final LongAdder evaluations;
+    private final LongAdder violations;
+
+    Counters()
+    {
+      this.evaluations = new LongAdder();
+      this.violations = new LongAdder();
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>A sampler that decides whether a given contract check should be
+ * performed.</p>
+ *
+ * <p>Samplers allow expensive checks to be performed on only a subset of
+ * calls. A sampler either selects every {@code n}th call made on each thread,
+ * or selects calls at random with a given probability. Samplers maintain no
+ * shared mutable state: counters are held per-thread, and random numbers are
+ * taken from {@link ThreadLocalRandom}. Samplers are therefore safe to share
+ * between threads, and do not introduce contention.</p>
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractSampler
+{
+  private static final ContractSampler ALWAYS =
+    new ContractSampler(1, 1.0);
+
+  private final int period;
+  private final double probability;
+  private final ThreadLocal<int[]> counters;
+
+  private ContractSampler(
+    final int inPeriod,
+    final double inProbability)
+  {
+    this.period = inPeriod;
+    this.probability = inProbability;
+    this.counters = ThreadLocal.withInitial(() -> new int[1]);
+  }
+
+  /**
+   * @return A sampler that selects every call
+   */
+
+  public static ContractSampler always()
+  {
+    return ALWAYS;
+  }
+
+  /**
+   * Create a sampler that selects every {@code n}th call on each thread.
+   * The first call selected on each thread is the {@code n}th call.
+   *
+   * @param n The sampling period
+   *
+   * @return A sampler
+   *
+   * @throws IllegalArgumentException If {@code n < 1}
+   */
+
+  public static ContractSampler everyNth(
+    final int n)
+  {
+    if (n < 1) {
+      throw new IllegalArgumentException(
+        "Sampling period must be positive (received " + n + ")");
+    }
+    if (n == 1) {
+      return ALWAYS;
+    }
+    return new ContractSampler(n, 1.0);
+  }
+
+  /**
+   * Create a sampler that selects each call with probability {@code p}.
+   *
+   * @param p The probability in the range {@code [0, 1]}
+   *
+   * @return A sampler
+   *
+   * @throws IllegalArgumentException If {@code p} is not in {@code [0, 1]}
+   */
+
+  public static ContractSampler withProbability(
+    final double p)
+  {
+    if (!(p >= 0.0 && p <= 1.0)) {
+      throw new IllegalArgumentException(
+        "Sampling probability must be in the range [0, 1] (received " + p + ")");
+    }
+    if (p == 1.0) {
+      return ALWAYS;
+    }
+    return new ContractSampler(0, p);
+  }
+
+  /**
+   * Decide whether the current call should be checked.
+   *
+   * @return {@code true} if the current call is selected
+   */
+
+  public boolean sample()
+  {
+    final int p = this.period;
+    if (p == 1) {
+      return true;
+    }
+    if (p > 1) {
+      final int[] counter = this.counters.get();
+      final int next = counter[0] + 1;
+      if (next >= p) {
+        counter[0] = 0;
+        return true;
+      }
+      counter[0] = next;
+      return false;
+    }
+    return ThreadLocalRandom.current().nextDouble() < this.probability;
+  }
+
+  @Override
+  public String toString()
+  {
+    if (this.period > 0) {
+      return "[ContractSampler every " + this.period + "]";
+    }
+    return "[ContractSampler probability " + this.probability + "]";
+  }
+}
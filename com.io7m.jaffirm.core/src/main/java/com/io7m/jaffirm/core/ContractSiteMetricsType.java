@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import com.io7m.immutables.styles.ImmutablesStyleType;
+import org.immutables.value.Value;
+
+import static org.immutables.value.Value.Immutable;
+
+/**
+ * A snapshot of the metrics recorded for a single call site.
+ *
+ * @see ContractMetrics
+ * @since 4.1.0
+ */
+
+@Immutable
+@ImmutablesStyleType
+public interface ContractSiteMetricsType
+{
+  /**
+   * @return The name of the call site
+   */
+
+  @Value.Parameter(order = 0)
+  String site();
+
+  /**
+   * @return The number of times conditions at the call site were evaluated
+   */
+
+  @Value.Parameter(order = 1)
+  long evaluations();
+
+  /**
+   * @return The number of times conditions at the call site were violated
+   */
+
+  @Value.Parameter(order = 2)
+  long violations();
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import com.io7m.jaffirm.core.Violations.ArrayViolations;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.io7m.jaffirm.core.Violations.collectElement;
+import static com.io7m.jaffirm.core.Violations.collectionDescription;
+
+/**
+ * Functions to check the elements of streams.
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractStreams
+{
+  private ContractStreams()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * <p>Wrap {@code stream} such that each element is checked against
+   * {@code conditions} as it passes through the stream, as if by {@link
+   * Preconditions#checkPreconditions(Object, ContractConditionSet)}.</p>
+   *
+   * <p>Checks are performed lazily, when elements are consumed by a terminal
+   * operation, and the terminal operation throws {@link PreconditionViolationException} at the first
+   * element that violates any of the conditions. Terminal operations that
+   * do not traverse the elements (such as {@link Stream#count()} on a stream
+   * of known size) perform no checks. The returned stream is
+   * parallel if {@code stream} is parallel, and closing it closes
+   * {@code stream}.</p>
+   *
+   * @param stream     The stream
+   * @param conditions The conditions each element must obey
+   * @param <T>        The type of elements
+   *
+   * @return A checking stream
+   */
+
+  public static <T> Stream<T> checkingPreconditions(
+    final Stream<T> stream,
+    final ContractConditionSet<T> conditions)
+  {
+    Objects.requireNonNull(stream, "stream");
+    Objects.requireNonNull(conditions, "conditions");
+
+    if (!Preconditions.ENABLED) {
+      return stream;
+    }
+    return checking(stream, x -> Preconditions.checkPreconditions(x, conditions));
+  }
+
+  /**
+   * A single-condition version of {@link #checkingPreconditions(Stream,
+   * ContractConditionSet)}.
+   *
+   * @param stream    The stream
+   * @param condition The condition each element must obey
+   * @param <T>       The type of elements
+   *
+   * @return A checking stream
+   */
+
+  public static <T> Stream<T> checkingPreconditions(
+    final Stream<T> stream,
+    final ContractConditionType<T> condition)
+  {
+    return checkingPreconditions(stream, ContractConditionSet.of(condition));
+  }
+
+  /**
+   * <p>A collector that accumulates the elements of a stream into a list,
+   * checking each element against {@code conditions}.</p>
+   *
+   * <p>Unlike {@link #checkingPreconditions(Stream, ContractConditionSet)}, all of the
+   * elements are checked, and the collector throws a single {@link PreconditionViolationException}
+   * reporting every violation when the collection is complete. The violated
+   * conditions reported by the exception are indexed by the encounter
+   * position of the failing elements, in ascending order. Each thread of a
+   * parallel stream accumulates into its own container, and containers are
+   * combined without locking.</p>
+   *
+   * @param conditions The conditions each element must obey
+   * @param <T>        The type of elements
+   *
+   * @return A collector producing an unmodifiable list
+   */
+
+  public static <T> Collector<T, ?, List<T>> toListCheckingPreconditions(
+    final ContractConditionSet<T> conditions)
+  {
+    Objects.requireNonNull(conditions, "conditions");
+    return collecting(
+      conditions,
+      Preconditions.ENABLED,
+      (value, violations) -> new PreconditionViolationException(value, violations, null));
+  }
+
+  /**
+   * <p>Wrap {@code stream} such that each element is checked against
+   * {@code conditions} as it passes through the stream, as if by {@link
+   * Postconditions#checkPostconditions(Object, ContractConditionSet)}.</p>
+   *
+   * <p>Checks are performed lazily, when elements are consumed by a terminal
+   * operation, and the terminal operation throws {@link PostconditionViolationException} at the first
+   * element that violates any of the conditions. Terminal operations that
+   * do not traverse the elements (such as {@link Stream#count()} on a stream
+   * of known size) perform no checks. The returned stream is
+   * parallel if {@code stream} is parallel, and closing it closes
+   * {@code stream}.</p>
+   *
+   * @param stream     The stream
+   * @param conditions The conditions each element must obey
+   * @param <T>        The type of elements
+   *
+   * @return A checking stream
+   */
+
+  public static <T> Stream<T> checkingPostconditions(
+    final Stream<T> stream,
+    final ContractConditionSet<T> conditions)
+  {
+    Objects.requireNonNull(stream, "stream");
+    Objects.requireNonNull(conditions, "conditions");
+
+    if (!Postconditions.ENABLED) {
+      return stream;
+    }
+    return checking(stream, x -> Postconditions.checkPostconditions(x, conditions));
+  }
+
+  /**
+   * A single-condition version of {@link #checkingPostconditions(Stream,
+   * ContractConditionSet)}.
+   *
+   * @param stream    The stream
+   * @param condition The condition each element must obey
+   * @param <T>       The type of elements
+   *
+   * @return A checking stream
+   */
+
+  public static <T> Stream<T> checkingPostconditions(
+    final Stream<T> stream,
+    final ContractConditionType<T> condition)
+  {
+    return checkingPostconditions(stream, ContractConditionSet.of(condition));
+  }
+
+  /**
+   * <p>A collector that accumulates the elements of a stream into a list,
+   * checking each element against {@code conditions}.</p>
+   *
+   * <p>Unlike {@link #checkingPostconditions(Stream, ContractConditionSet)}, all of the
+   * elements are checked, and the collector throws a single {@link PostconditionViolationException}
+   * reporting every violation when the collection is complete. The violated
+   * conditions reported by the exception are indexed by the encounter
+   * position of the failing elements, in ascending order. Each thread of a
+   * parallel stream accumulates into its own container, and containers are
+   * combined without locking.</p>
+   *
+   * @param conditions The conditions each element must obey
+   * @param <T>        The type of elements
+   *
+   * @return A collector producing an unmodifiable list
+   */
+
+  public static <T> Collector<T, ?, List<T>> toListCheckingPostconditions(
+    final ContractConditionSet<T> conditions)
+  {
+    Objects.requireNonNull(conditions, "conditions");
+    return collecting(
+      conditions,
+      Postconditions.ENABLED,
+      (value, violations) -> new PostconditionViolationException(value, violations, null));
+  }
+
+  /**
+   * <p>Wrap {@code stream} such that each element is checked against
+   * {@code conditions} as it passes through the stream, as if by {@link
+   * Invariants#checkInvariants(Object, ContractConditionSet)}.</p>
+   *
+   * <p>Checks are performed lazily, when elements are consumed by a terminal
+   * operation, and the terminal operation throws {@link InvariantViolationException} at the first
+   * element that violates any of the conditions. Terminal operations that
+   * do not traverse the elements (such as {@link Stream#count()} on a stream
+   * of known size) perform no checks. The returned stream is
+   * parallel if {@code stream} is parallel, and closing it closes
+   * {@code stream}.</p>
+   *
+   * @param stream     The stream
+   * @param conditions The conditions each element must obey
+   * @param <T>        The type of elements
+   *
+   * @return A checking stream
+   */
+
+  public static <T> Stream<T> checkingInvariants(
+    final Stream<T> stream,
+    final ContractConditionSet<T> conditions)
+  {
+    Objects.requireNonNull(stream, "stream");
+    Objects.requireNonNull(conditions, "conditions");
+
+    if (!Invariants.ENABLED) {
+      return stream;
+    }
+    return checking(stream, x -> Invariants.checkInvariants(x, conditions));
+  }
+
+  /**
+   * A single-condition version of {@link #checkingInvariants(Stream,
+   * ContractConditionSet)}.
+   *
+   * @param stream    The stream
+   * @param condition The condition each element must obey
+   * @param <T>       The type of elements
+   *
+   * @return A checking stream
+   */
+
+  public static <T> Stream<T> checkingInvariants(
+    final Stream<T> stream,
+    final ContractConditionType<T> condition)
+  {
+    return checkingInvariants(stream, ContractConditionSet.of(condition));
+  }
+
+  /**
+   * <p>A collector that accumulates the elements of a stream into a list,
+   * checking each element against {@code conditions}.</p>
+   *
+   * <p>Unlike {@link #checkingInvariants(Stream, ContractConditionSet)}, all of the
+   * elements are checked, and the collector throws a single {@link InvariantViolationException}
+   * reporting every violation when the collection is complete. The violated
+   * conditions reported by the exception are indexed by the encounter
+   * position of the failing elements, in ascending order. Each thread of a
+   * parallel stream accumulates into its own container, and containers are
+   * combined without locking.</p>
+   *
+   * @param conditions The conditions each element must obey
+   * @param <T>        The type of elements
+   *
+   * @return A collector producing an unmodifiable list
+   */
+
+  public static <T> Collector<T, ?, List<T>> toListCheckingInvariants(
+    final ContractConditionSet<T> conditions)
+  {
+    Objects.requireNonNull(conditions, "conditions");
+    return collecting(
+      conditions,
+      Invariants.ENABLED,
+      (value, violations) -> new InvariantViolationException(value, violations, null));
+  }
+
+  private static <T> Stream<T> checking(
+    final Stream<T> stream,
+    final Consumer<T> check)
+  {
+    return StreamSupport.stream(
+        new CheckingSpliterator<>(stream.spliterator(), check),
+        stream.isParallel())
+      .onClose(stream::close);
+  }
+
+  private static <T> Collector<T, ?, List<T>> collecting(
+    final ContractConditionSet<T> conditions,
+    final boolean enabled,
+    final ExceptionConstructorType constructor)
+  {
+    return Collector.<T, Accumulator<T>, List<T>>of(
+      Accumulator::new,
+      (accumulator, value) -> {
+        if (enabled) {
+          accumulator.violations = collectElement(
+            accumulator.violations,
+            value,
+            accumulator.values.size(),
+            conditions);
+        }
+        accumulator.values.add(value);
+      },
+      (left, right) -> {
+        left.violations = ArrayViolations.merge(
+          left.violations, right.violations, left.values.size());
+        left.values.addAll(right.values);
+        return left;
+      },
+      accumulator -> {
+        if (accumulator.violations != null) {
+          throw constructor.create(
+            collectionDescription(accumulator.values.size()),
+            accumulator.violations.build());
+        }
+        return Collections.unmodifiableList(accumulator.values);
+      }
+    );
+  }
+
+  private interface ExceptionConstructorType
+  {
+    ContractException create(
+      Object value,
+      Violations violations);
+  }
+
+  private static final class Accumulator<T>
+  {
+    private final ArrayList<T> values;
+    private ArrayViolations violations;
+
+    Accumulator()
+    {
+      this.values = new ArrayList<>();
+    }
+  }
+}
@@ -18,6 +18,9 @@ package com.io7m.jaffirm.core;
 
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -105,4 +108,479 @@ public final class Contracts
   {
     return ContractDoubleCondition.of(condition, describer);
   }
+
+  /**
+   * Construct a precompiled set of conditions.
+   *
+   * @param conditions The conditions
+   * @param <T>        The type of values
+   *
+   * @return A condition set
+   *
+   * @see ContractConditionSet
+   * @since 4.1.0
+   */
+
+  @SafeVarargs
+  public static <T> ContractConditionSet<T> conditionSet(
+    final ContractConditionType<T>... conditions)
+  {
+    return ContractConditionSet.of(conditions);
+  }
+
+  /**
+   * Construct a precompiled set of {@code int} specialized conditions.
+   *
+   * @param conditions The conditions
+   *
+   * @return A condition set
+   *
+   * @see ContractIntConditionSet
+   * @since 4.1.0
+   */
+
+  public static ContractIntConditionSet conditionSetI(
+    final ContractIntConditionType... conditions)
+  {
+    return ContractIntConditionSet.of(conditions);
+  }
+
+  /**
+   * Construct a precompiled set of {@code long} specialized conditions.
+   *
+   * @param conditions The conditions
+   *
+   * @return A condition set
+   *
+   * @see ContractLongConditionSet
+   * @since 4.1.0
+   */
+
+  public static ContractLongConditionSet conditionSetL(
+    final ContractLongConditionType... conditions)
+  {
+    return ContractLongConditionSet.of(conditions);
+  }
+
+  /**
+   * Construct a precompiled set of {@code double} specialized conditions.
+   *
+   * @param conditions The conditions
+   *
+   * @return A condition set
+   *
+   * @see ContractDoubleConditionSet
+   * @since 4.1.0
+   */
+
+  public static ContractDoubleConditionSet conditionSetD(
+    final ContractDoubleConditionType... conditions)
+  {
+    return ContractDoubleConditionSet.of(conditions);
+  }
+
+  /**
+   * Construct a condition whose predicate and describer receive a context
+   * value in addition to the value being checked.
+   *
+   * @param condition The predicate function
+   * @param describer The describer
+   * @param <C>       The type of context values
+   * @param <T>       The type of values
+   *
+   * @return A condition
+   *
+   * @since 4.1.0
+   */
+
+  public static <C, T> ContractContextCondition<C, T> contextCondition(
+    final BiPredicate<C, T> condition,
+    final BiFunction<C, T, String> describer)
+  {
+    return ContractContextCondition.of(condition, describer);
+  }
+
+  /**
+   * Construct an {@code int} specialized condition whose predicate and
+   * describer receive a context value in addition to the value being checked.
+   *
+   * @param condition The predicate function
+   * @param describer The describer
+   * @param <C>       The type of context values
+   *
+   * @return A condition
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> ContractObjIntCondition<C> contextConditionI(
+    final ContractObjIntPredicateType<C> condition,
+    final ContractObjIntDescriberType<C> describer)
+  {
+    return ContractObjIntCondition.of(condition, describer);
+  }
+
+  /**
+   * Construct a {@code long} specialized condition whose predicate and
+   * describer receive a context value in addition to the value being checked.
+   *
+   * @param condition The predicate function
+   * @param describer The describer
+   * @param <C>       The type of context values
+   *
+   * @return A condition
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> ContractObjLongCondition<C> contextConditionL(
+    final ContractObjLongPredicateType<C> condition,
+    final ContractObjLongDescriberType<C> describer)
+  {
+    return ContractObjLongCondition.of(condition, describer);
+  }
+
+  /**
+   * Construct a {@code double} specialized condition whose predicate and
+   * describer receive a context value in addition to the value being checked.
+   *
+   * @param condition The predicate function
+   * @param describer The describer
+   * @param <C>       The type of context values
+   *
+   * @return A condition
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> ContractObjDoubleCondition<C> contextConditionD(
+    final ContractObjDoublePredicateType<C> condition,
+    final ContractObjDoubleDescriberType<C> describer)
+  {
+    return ContractObjDoubleCondition.of(condition, describer);
+  }
+
+  /**
+   * Construct a condition that holds if both of the given conditions
+   * hold. The conditions are evaluated in order, and the composite is
+   * described by the first condition that does not hold. Combining
+   * conjunctions produces a single flat composite rather than a chain.
+   *
+   * @param first  The first condition
+   * @param second The second condition
+   * @param <T>    The type of values
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> ContractCondition<T> and(
+    final ContractConditionType<T> first,
+    final ContractConditionType<T> second)
+  {
+    return ContractComposite.of(
+      ContractCompositeMode.ALL, List.of(first, second));
+  }
+
+  /**
+   * Construct a condition that holds if either of the given
+   * conditions hold. The conditions are evaluated in order, and the composite
+   * is described by all of the conditions. Combining disjunctions produces a
+   * single flat composite rather than a chain.
+   *
+   * @param first  The first condition
+   * @param second The second condition
+   * @param <T>    The type of values
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> ContractCondition<T> or(
+    final ContractConditionType<T> first,
+    final ContractConditionType<T> second)
+  {
+    return ContractComposite.of(
+      ContractCompositeMode.ANY, List.of(first, second));
+  }
+
+  /**
+   * Construct a condition that holds if the given condition does not
+   * hold. Negating a negation yields the original condition, and negating
+   * a disjunction yields a single flat composite.
+   *
+   * @param condition The condition
+   * @param <T>       The type of values
+   *
+   * @return A negated condition
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> ContractCondition<T> not(
+    final ContractConditionType<T> condition)
+  {
+    return ContractComposite.not(condition);
+  }
+
+  /**
+   * Construct a condition that holds if all of the given conditions
+   * hold. The conditions are evaluated in order, and the composite is
+   * described by the first condition that does not hold.
+   *
+   * @param conditions The conditions
+   * @param <T>        The type of values
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> ContractCondition<T> allOf(
+    final List<? extends ContractConditionType<T>> conditions)
+  {
+    return ContractComposite.of(ContractCompositeMode.ALL, conditions);
+  }
+
+  /**
+   * Construct an {@code int} specialized condition that holds if both of the given conditions
+   * hold. The conditions are evaluated in order, and the composite is
+   * described by the first condition that does not hold. Combining
+   * conjunctions produces a single flat composite rather than a chain.
+   *
+   * @param first  The first condition
+   * @param second The second condition
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractIntCondition andI(
+    final ContractIntConditionType first,
+    final ContractIntConditionType second)
+  {
+    return ContractIntComposite.of(
+      ContractCompositeMode.ALL, List.of(first, second));
+  }
+
+  /**
+   * Construct an {@code int} specialized condition that holds if either of the given
+   * conditions hold. The conditions are evaluated in order, and the composite
+   * is described by all of the conditions. Combining disjunctions produces a
+   * single flat composite rather than a chain.
+   *
+   * @param first  The first condition
+   * @param second The second condition
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractIntCondition orI(
+    final ContractIntConditionType first,
+    final ContractIntConditionType second)
+  {
+    return ContractIntComposite.of(
+      ContractCompositeMode.ANY, List.of(first, second));
+  }
+
+  /**
+   * Construct an {@code int} specialized condition that holds if the given condition does not
+   * hold. Negating a negation yields the original condition, and negating
+   * a disjunction yields a single flat composite.
+   *
+   * @param condition The condition
+   *
+   * @return A negated condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractIntCondition notI(
+    final ContractIntConditionType condition)
+  {
+    return ContractIntComposite.not(condition);
+  }
+
+  /**
+   * Construct an {@code int} specialized condition that holds if all of the given conditions
+   * hold. The conditions are evaluated in order, and the composite is
+   * described by the first condition that does not hold.
+   *
+   * @param conditions The conditions
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractIntCondition allOfI(
+    final List<? extends ContractIntConditionType> conditions)
+  {
+    return ContractIntComposite.of(ContractCompositeMode.ALL, conditions);
+  }
+
+  /**
+   * Construct a {@code long} specialized condition that holds if both of the given conditions
+   * hold. The conditions are evaluated in order, and the composite is
+   * described by the first condition that does not hold. Combining
+   * conjunctions produces a single flat composite rather than a chain.
+   *
+   * @param first  The first condition
+   * @param second The second condition
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractLongCondition andL(
+    final ContractLongConditionType first,
+    final ContractLongConditionType second)
+  {
+    return ContractLongComposite.of(
+      ContractCompositeMode.ALL, List.of(first, second));
+  }
+
+  /**
+   * Construct a {@code long} specialized condition that holds if either of the given
+   * conditions hold. The conditions are evaluated in order, and the composite
+   * is described by all of the conditions. Combining disjunctions produces a
+   * single flat composite rather than a chain.
+   *
+   * @param first  The first condition
+   * @param second The second condition
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractLongCondition orL(
+    final ContractLongConditionType first,
+    final ContractLongConditionType second)
+  {
+    return ContractLongComposite.of(
+      ContractCompositeMode.ANY, List.of(first, second));
+  }
+
+  /**
+   * Construct a {@code long} specialized condition that holds if the given condition does not
+   * hold. Negating a negation yields the original condition, and negating
+   * a disjunction yields a single flat composite.
+   *
+   * @param condition The condition
+   *
+   * @return A negated condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractLongCondition notL(
+    final ContractLongConditionType condition)
+  {
+    return ContractLongComposite.not(condition);
+  }
+
+  /**
+   * Construct a {@code long} specialized condition that holds if all of the given conditions
+   * hold. The conditions are evaluated in order, and the composite is
+   * described by the first condition that does not hold.
+   *
+   * @param conditions The conditions
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractLongCondition allOfL(
+    final List<? extends ContractLongConditionType> conditions)
+  {
+    return ContractLongComposite.of(ContractCompositeMode.ALL, conditions);
+  }
+
+  /**
+   * Construct a {@code double} specialized condition that holds if both of the given conditions
+   * hold. The conditions are evaluated in order, and the composite is
+   * described by the first condition that does not hold. Combining
+   * conjunctions produces a single flat composite rather than a chain.
+   *
+   * @param first  The first condition
+   * @param second The second condition
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractDoubleCondition andD(
+    final ContractDoubleConditionType first,
+    final ContractDoubleConditionType second)
+  {
+    return ContractDoubleComposite.of(
+      ContractCompositeMode.ALL, List.of(first, second));
+  }
+
+  /**
+   * Construct a {@code double} specialized condition that holds if either of the given
+   * conditions hold. The conditions are evaluated in order, and the composite
+   * is described by all of the conditions. Combining disjunctions produces a
+   * single flat composite rather than a chain.
+   *
+   * @param first  The first condition
+   * @param second The second condition
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractDoubleCondition orD(
+    final ContractDoubleConditionType first,
+    final ContractDoubleConditionType second)
+  {
+    return ContractDoubleComposite.of(
+      ContractCompositeMode.ANY, List.of(first, second));
+  }
+
+  /**
+   * Construct a {@code double} specialized condition that holds if the given condition does not
+   * hold. Negating a negation yields the original condition, and negating
+   * a disjunction yields a single flat composite.
+   *
+   * @param condition The condition
+   *
+   * @return A negated condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractDoubleCondition notD(
+    final ContractDoubleConditionType condition)
+  {
+    return ContractDoubleComposite.not(condition);
+  }
+
+  /**
+   * Construct a {@code double} specialized condition that holds if all of the given conditions
+   * hold. The conditions are evaluated in order, and the composite is
+   * described by the first condition that does not hold.
+   *
+   * @param conditions The conditions
+   *
+   * @return A composite condition
+   *
+   * @since 4.1.0
+   */
+
+  public static ContractDoubleCondition allOfD(
+    final List<? extends ContractDoubleConditionType> conditions)
+  {
+    return ContractDoubleComposite.of(ContractCompositeMode.ALL, conditions);
+  }
 }
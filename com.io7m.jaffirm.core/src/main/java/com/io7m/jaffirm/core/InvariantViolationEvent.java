@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>A flight recorder event published when invariants are violated.</p>
+ *
+ * <p>The event is disabled unless explicitly enabled in the recording
+ * settings, so that recordings using the default profiles do not pay for
+ * computing the call site. The event does not record a stack trace, as the
+ * call site field already identifies the caller.</p>
+ */
+
+@Name("com.io7m.jaffirm.InvariantViolation")
+@Label("Invariant Violation")
+@Category({"Jaffirm", "Contracts"})
+@Description("One or more invariants were violated.")
+@Enabled(false)
+@StackTrace(false)
+final class InvariantViolationEvent extends Event
+{
+  @Label("Kind")
+  private String kind;
+
+  @Label("Violations")
+  private int violations;
+
+  @Label("Call Site")
+  private String callSite;
+
+  private InvariantViolationEvent()
+  {
+
+  }
+
+  /**
+   * Publish an event, if events of this type are enabled in any active
+   * recording. The call site is only computed if the event will actually be
+   * committed.
+   *
+   * @param in_violations The number of violated conditions
+   */
+
+  static void publish(
+    final int in_violations)
+  {
+    final InvariantViolationEvent event = new InvariantViolationEvent();
+    if (!event.shouldCommit()) {
+      return;
+    }
+
+    event.kind = "INVARIANT";
+    event.violations = in_violations;
+    event.callSite = ContractEvents.callSite();
+    event.commit();
+  }
+}
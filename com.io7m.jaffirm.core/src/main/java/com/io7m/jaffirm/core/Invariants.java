@@ -18,6 +18,7 @@ package com.io7m.jaffirm.core;
 
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.util.Collection;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -28,16 +29,36 @@ import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptive;
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptiveDouble;
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptiveInt;
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptiveLong;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberChecked;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberDChecked;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberIChecked;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberLChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberDChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberIChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberLChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applySupplierChecked;
-import static com.io7m.jaffirm.core.SafeApplication.failedPredicate;
+import static com.io7m.jaffirm.core.Violations.arrayDescription;
+import static com.io7m.jaffirm.core.Violations.collectionDescription;
 import static com.io7m.jaffirm.core.Violations.innerCheckAll;
 import static com.io7m.jaffirm.core.Violations.innerCheckAllDouble;
 import static com.io7m.jaffirm.core.Violations.innerCheckAllInt;
 import static com.io7m.jaffirm.core.Violations.innerCheckAllLong;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayAllDouble;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayAllInt;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayAllLong;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayFirstDouble;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayFirstInt;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayFirstLong;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirst;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirstDouble;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirstInt;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirstLong;
+import static com.io7m.jaffirm.core.Violations.singlePredicateFailure;
 import static com.io7m.jaffirm.core.Violations.singleViolation;
 
 /**
@@ -46,300 +67,3522 @@ import static com.io7m.jaffirm.core.Violations.singleViolation;
 
 public final class Invariants
 {
+  /**
+   * The name of the system property that controls whether invariants are
+   * checked.
+   *
+   * @since 4.1.0
+   */
+
+  public static final String ENABLED_PROPERTY =
+    "com.io7m.jaffirm.core.invariants";
+
+  /**
+   * <p>{@code true} if invariants are checked.</p>
+   *
+   * <p>If the system property named by {@link #ENABLED_PROPERTY} is set to
+   * {@code false} when this class is initialized, all of the functions in
+   * this class return immediately without evaluating any conditions, and
+   * never raise exceptions. As the value is a {@code static final} constant,
+   * the just-in-time compiler can eliminate disabled checks entirely. Note
+   * that any arguments passed to the functions are still evaluated by the
+   * caller; expensive arguments can be guarded explicitly by testing this
+   * value.</p>
+   *
+   * @since 4.1.0
+   */
+
+  public static final boolean ENABLED =
+    !"false".equals(System.getProperty(ENABLED_PROPERTY));
+
+  /**
+   * The minimum number of elements at which the {@code checkInvariantsParallel}
+   * functions split work across threads. Smaller inputs are checked
+   * sequentially on the calling thread.
+   *
+   * @since 4.1.0
+   */
+
+  public static final int PARALLEL_THRESHOLD =
+    ParallelChecks.PARALLEL_THRESHOLD;
+
   private Invariants()
   {
-    throw new UnreachableCodeException();
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * <p>Evaluate all of the given {@code conditions} using {@code value} as
+   * input.</p>
+   *
+   * <p>All of the conditions are evaluated and the function throws {@link
+   * InvariantViolationException} if any of the conditions are false, or raise
+   * an exception that is not of type {@link Error}. Exceptions of type {@link
+   * Error} are propagated immediately, without any further contract
+   * checking.</p>
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   */
+
+  @SafeVarargs
+  public static <T> T checkInvariants(
+    final T value,
+    final ContractConditionType<T>... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAll(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * An {@code int} specialized version of {@link #checkInvariants(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   */
+
+  public static int checkInvariantsI(
+    final int value,
+    final ContractIntConditionType... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkInvariants(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   */
+
+  public static long checkInvariantsL(
+    final long value,
+    final ContractLongConditionType... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code double} specialized version of {@link #checkInvariants(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   */
+
+  public static double checkInvariantsD(
+    final double value,
+    final ContractDoubleConditionType... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkInvariants(Object,
+   * ContractConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariants(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, condition0, condition1);
+    if (violations != null) {
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkInvariants(Object,
+   * ContractConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariants(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1,
+    final ContractConditionType<T> condition2)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkInvariants(Object,
+   * ContractConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariants(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1,
+    final ContractConditionType<T> condition2,
+    final ContractConditionType<T> condition3)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkInvariantsI(int,
+   * ContractIntConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantsI(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, condition0, condition1);
+    if (violations != null) {
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkInvariantsI(int,
+   * ContractIntConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantsI(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1,
+    final ContractIntConditionType condition2)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkInvariantsI(int,
+   * ContractIntConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantsI(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1,
+    final ContractIntConditionType condition2,
+    final ContractIntConditionType condition3)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkInvariantsL(long,
+   * ContractLongConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantsL(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, condition0, condition1);
+    if (violations != null) {
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkInvariantsL(long,
+   * ContractLongConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantsL(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1,
+    final ContractLongConditionType condition2)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkInvariantsL(long,
+   * ContractLongConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantsL(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1,
+    final ContractLongConditionType condition2,
+    final ContractLongConditionType condition3)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkInvariantsD(double,
+   * ContractDoubleConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantsD(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, condition0, condition1);
+    if (violations != null) {
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkInvariantsD(double,
+   * ContractDoubleConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantsD(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1,
+    final ContractDoubleConditionType condition2)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkInvariantsD(double,
+   * ContractDoubleConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantsD(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1,
+    final ContractDoubleConditionType condition2,
+    final ContractDoubleConditionType condition3)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariants(Object, ContractConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariants(
+    final T value,
+    final ContractConditionSet<T> conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsI(int, ContractIntConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantsI(
+    final int value,
+    final ContractIntConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsL(long, ContractLongConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantsL(
+    final long value,
+    final ContractLongConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsD(double, ContractDoubleConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantsD(
+    final double value,
+    final ContractDoubleConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * <p>Evaluate the given {@code conditions} in order using {@code value}
+   * as input, stopping at the first condition that is violated.</p>
+   *
+   * <p>Unlike {@link #checkInvariants(Object, ContractConditionType[])}, this
+   * function does not evaluate any conditions following the first violated
+   * condition, and so the resulting {@link InvariantViolationException} reports at most one
+   * violated condition. This is preferable when later conditions are expensive
+   * to evaluate and a complete diagnostic is not required.</p>
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  @SafeVarargs
+  public static <T> T checkInvariantsFirst(
+    final T value,
+    final ContractConditionType<T>... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirst(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsFirst(Object, ContractConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantsFirst(
+    final T value,
+    final ContractConditionSet<T> conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirst(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsFirst(Object, ContractConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantsFirst(
+    final T value,
+    final ContractAdaptiveConditionSet<T> conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptive(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code int} specialized version of {@link #checkInvariantsFirst(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantsFirstI(
+    final int value,
+    final ContractIntConditionType... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstInt(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsFirstI(int, ContractIntConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantsFirstI(
+    final int value,
+    final ContractIntConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstInt(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsFirstI(int, ContractIntConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantsFirstI(
+    final int value,
+    final ContractAdaptiveIntConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptiveInt(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkInvariantsFirst(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantsFirstL(
+    final long value,
+    final ContractLongConditionType... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstLong(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsFirstL(long, ContractLongConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantsFirstL(
+    final long value,
+    final ContractLongConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstLong(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsFirstL(long, ContractLongConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantsFirstL(
+    final long value,
+    final ContractAdaptiveLongConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptiveLong(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code double} specialized version of {@link #checkInvariantsFirst(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantsFirstD(
+    final double value,
+    final ContractDoubleConditionType... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstDouble(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsFirstD(double, ContractDoubleConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantsFirstD(
+    final double value,
+    final ContractDoubleConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstDouble(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkInvariantsFirstD(double, ContractDoubleConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantsFirstD(
+    final double value,
+    final ContractAdaptiveDoubleConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptiveDouble(value, conditions);
+    if (violations != null) {
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A sampled version of {@link #checkInvariant(Object,
+   * ContractConditionType)}. The condition is evaluated only if {@code
+   * sampler} selects the current call; otherwise, the function returns
+   * {@code value} immediately.</p>
+   *
+   * @param sampler   The sampler
+   * @param value     The value
+   * @param condition The predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantSampled(
+    final ContractSampler sampler,
+    final T value,
+    final ContractConditionType<T> condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariant(value, condition.predicate(), condition.describer());
+  }
+
+  /**
+   * <p>A sampled version of {@link #checkInvariant(Object, Predicate,
+   * Function)}. The predicate is evaluated only if {@code sampler} selects the
+   * current call; otherwise, the function returns {@code value}
+   * immediately.</p>
+   *
+   * @param sampler   The sampler
+   * @param value     The value
+   * @param predicate The predicate
+   * @param describer A describer for the predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantSampled(
+    final ContractSampler sampler,
+    final T value,
+    final Predicate<T> predicate,
+    final Function<T, String> describer)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariant(value, predicate, describer);
+  }
+
+  /**
+   * <p>A sampled version of {@link #checkInvariants(Object,
+   * ContractConditionType[])}. The conditions are evaluated only if {@code
+   * sampler} selects the current call; otherwise, the function returns
+   * {@code value} immediately.</p>
+   *
+   * @param sampler    The sampler
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  @SafeVarargs
+  public static <T> T checkInvariantsSampled(
+    final ContractSampler sampler,
+    final T value,
+    final ContractConditionType<T>... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariants(value, conditions);
+  }
+
+  /**
+   * <p>A sampled version of {@link #checkInvariants(Object,
+   * ContractConditionSet)}. The conditions are evaluated only if {@code
+   * sampler} selects the current call; otherwise, the function returns
+   * {@code value} immediately.</p>
+   *
+   * @param sampler    The sampler
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantsSampled(
+    final ContractSampler sampler,
+    final T value,
+    final ContractConditionSet<T> conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariants(value, conditions);
+  }
+
+  /**
+   * A {@code int} specialized version of {@link
+   * #checkInvariantSampled(ContractSampler, Object, ContractConditionType)}.
+   *
+   * @param sampler   The sampler
+   * @param value     The value
+   * @param condition The predicate
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantSampledI(
+    final ContractSampler sampler,
+    final int value,
+    final ContractIntConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantI(value, condition.predicate(), condition.describer());
+  }
+
+  /**
+   * A {@code int} specialized version of {@link
+   * #checkInvariantSampled(ContractSampler, Object, Predicate, Function)}.
+   *
+   * @param sampler   The sampler
+   * @param value     The value
+   * @param predicate The predicate
+   * @param describer A describer for the predicate
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantSampledI(
+    final ContractSampler sampler,
+    final int value,
+    final IntPredicate predicate,
+    final IntFunction<String> describer)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantI(value, predicate, describer);
+  }
+
+  /**
+   * A {@code int} specialized version of {@link
+   * #checkInvariantsSampled(ContractSampler, Object, ContractConditionType[])}.
+   *
+   * @param sampler    The sampler
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantsSampledI(
+    final ContractSampler sampler,
+    final int value,
+    final ContractIntConditionType... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantsI(value, conditions);
+  }
+
+  /**
+   * A {@code int} specialized version of {@link
+   * #checkInvariantsSampled(ContractSampler, Object, ContractConditionSet)}.
+   *
+   * @param sampler    The sampler
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkInvariantsSampledI(
+    final ContractSampler sampler,
+    final int value,
+    final ContractIntConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantsI(value, conditions);
+  }
+
+  /**
+   * A {@code long} specialized version of {@link
+   * #checkInvariantSampled(ContractSampler, Object, ContractConditionType)}.
+   *
+   * @param sampler   The sampler
+   * @param value     The value
+   * @param condition The predicate
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantSampledL(
+    final ContractSampler sampler,
+    final long value,
+    final ContractLongConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantL(value, condition.predicate(), condition.describer());
+  }
+
+  /**
+   * A {@code long} specialized version of {@link
+   * #checkInvariantSampled(ContractSampler, Object, Predicate, Function)}.
+   *
+   * @param sampler   The sampler
+   * @param value     The value
+   * @param predicate The predicate
+   * @param describer A describer for the predicate
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantSampledL(
+    final ContractSampler sampler,
+    final long value,
+    final LongPredicate predicate,
+    final LongFunction<String> describer)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantL(value, predicate, describer);
+  }
+
+  /**
+   * A {@code long} specialized version of {@link
+   * #checkInvariantsSampled(ContractSampler, Object, ContractConditionType[])}.
+   *
+   * @param sampler    The sampler
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantsSampledL(
+    final ContractSampler sampler,
+    final long value,
+    final ContractLongConditionType... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantsL(value, conditions);
+  }
+
+  /**
+   * A {@code long} specialized version of {@link
+   * #checkInvariantsSampled(ContractSampler, Object, ContractConditionSet)}.
+   *
+   * @param sampler    The sampler
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkInvariantsSampledL(
+    final ContractSampler sampler,
+    final long value,
+    final ContractLongConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantsL(value, conditions);
+  }
+
+  /**
+   * A {@code double} specialized version of {@link
+   * #checkInvariantSampled(ContractSampler, Object, ContractConditionType)}.
+   *
+   * @param sampler   The sampler
+   * @param value     The value
+   * @param condition The predicate
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantSampledD(
+    final ContractSampler sampler,
+    final double value,
+    final ContractDoubleConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantD(value, condition.predicate(), condition.describer());
+  }
+
+  /**
+   * A {@code double} specialized version of {@link
+   * #checkInvariantSampled(ContractSampler, Object, Predicate, Function)}.
+   *
+   * @param sampler   The sampler
+   * @param value     The value
+   * @param predicate The predicate
+   * @param describer A describer for the predicate
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantSampledD(
+    final ContractSampler sampler,
+    final double value,
+    final DoublePredicate predicate,
+    final DoubleFunction<String> describer)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantD(value, predicate, describer);
+  }
+
+  /**
+   * A {@code double} specialized version of {@link
+   * #checkInvariantsSampled(ContractSampler, Object, ContractConditionType[])}.
+   *
+   * @param sampler    The sampler
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantsSampledD(
+    final ContractSampler sampler,
+    final double value,
+    final ContractDoubleConditionType... conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantsD(value, conditions);
+  }
+
+  /**
+   * A {@code double} specialized version of {@link
+   * #checkInvariantsSampled(ContractSampler, Object, ContractConditionSet)}.
+   *
+   * @param sampler    The sampler
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkInvariantsSampledD(
+    final ContractSampler sampler,
+    final double value,
+    final ContractDoubleConditionSet conditions)
+    throws InvariantViolationException
+  {
+    if (!ENABLED || !sampler.sample()) {
+      return value;
+    }
+
+    return checkInvariantsD(value, conditions);
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>All of the elements are evaluated and the function throws {@link
+   * InvariantViolationException} if the condition is false for any of them, or raises an exception
+   * that is not of type {@link Error}. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int[] checkInvariantsI(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayAllInt(values, offset, length, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        arrayDescription("int", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>Evaluation stops at the first element for which the condition is false
+   * (or raises an exception that is not of type {@link Error}), and the
+   * function throws {@link InvariantViolationException} reporting the position of that element in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int[] checkInvariantsFirstI(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayFirstInt(values, offset, length, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        arrayDescription("int", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>All of the elements are evaluated and the function throws {@link
+   * InvariantViolationException} if the condition is false for any of them, or raises an exception
+   * that is not of type {@link Error}. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long[] checkInvariantsL(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayAllLong(values, offset, length, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        arrayDescription("long", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>Evaluation stops at the first element for which the condition is false
+   * (or raises an exception that is not of type {@link Error}), and the
+   * function throws {@link InvariantViolationException} reporting the position of that element in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long[] checkInvariantsFirstL(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayFirstLong(values, offset, length, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        arrayDescription("long", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>All of the elements are evaluated and the function throws {@link
+   * InvariantViolationException} if the condition is false for any of them, or raises an exception
+   * that is not of type {@link Error}. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static double[] checkInvariantsD(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayAllDouble(values, offset, length, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        arrayDescription("double", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>Evaluation stops at the first element for which the condition is false
+   * (or raises an exception that is not of type {@link Error}), and the
+   * function throws {@link InvariantViolationException} reporting the position of that element in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static double[] checkInvariantsFirstD(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayFirstDouble(values, offset, length, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        arrayDescription("double", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the elements of
+   * {@code values}, in parallel.</p>
+   *
+   * <p>Collections with at least {@link #PARALLEL_THRESHOLD} elements are
+   * split into chunks that are checked in parallel using the common {@link
+   * java.util.concurrent.ForkJoinPool}; smaller collections are checked
+   * sequentially on the calling thread. All of the elements are evaluated,
+   * and the function throws {@link InvariantViolationException} if the
+   * condition is false for any of them. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * the iteration order of {@code values}, and are always reported in
+   * ascending order of position regardless of how the work was split.</p>
+   *
+   * <p>The condition must be safe to evaluate from multiple threads
+   * concurrently.</p>
+   *
+   * @param values    The values
+   * @param condition The condition the values must obey
+   * @param <T>       The type of values
+   * @param <C>       The type of collections
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   *
+   * @since 4.1.0
+   */
+
+  public static <T, C extends Collection<T>> C checkInvariantsParallel(
+    final C values,
+    final ContractConditionType<T> condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations = ParallelChecks.check(values, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        collectionDescription(values.size()), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}, in parallel.</p>
+   *
+   * <p>This is a parallel version of {@link #checkInvariantsI(int[], int,
+   * int, ContractIntConditionType)} with the same semantics as {@link
+   * #checkInvariantsParallel(Collection, ContractConditionType)}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int[] checkInvariantsParallelI(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      ParallelChecks.checkInt(values, offset, length, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        arrayDescription("int", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}, in parallel.</p>
+   *
+   * <p>This is a parallel version of {@link #checkInvariantsL(long[], int,
+   * int, ContractLongConditionType)} with the same semantics as {@link
+   * #checkInvariantsParallel(Collection, ContractConditionType)}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long[] checkInvariantsParallelL(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      ParallelChecks.checkLong(values, offset, length, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        arrayDescription("long", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}, in parallel.</p>
+   *
+   * <p>This is a parallel version of {@link #checkInvariantsD(double[], int,
+   * int, ContractDoubleConditionType)} with the same semantics as {@link
+   * #checkInvariantsParallel(Collection, ContractConditionType)}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws InvariantViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static double[] checkInvariantsParallelD(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      ParallelChecks.checkDouble(values, offset, length, condition);
+    if (violations != null) {
+      throw new InvariantViolationException(
+        arrayDescription("double", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate the given {@code condition} using {@code context} and
+   * {@code value} as input.</p>
+   *
+   * <p>The function throws {@link InvariantViolationException} if the predicate is false.</p>
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C, T> T checkInvariant(
+    final C context,
+    final T value,
+    final ContractContextConditionType<C, T> condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw new InvariantViolationException(value, singlePredicateFailure(e), e);
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberChecked(context, value, condition.describer()));
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * An {@code int} specialized version of {@link #checkInvariant(Object, Object,
+   * ContractContextConditionType)}.
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> int checkInvariantI(
+    final C context,
+    final int value,
+    final ContractObjIntConditionType<C> condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw new InvariantViolationException(Integer.valueOf(value), singlePredicateFailure(e), e);
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberIChecked(context, value, condition.describer()));
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkInvariant(Object, Object,
+   * ContractContextConditionType)}.
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> long checkInvariantL(
+    final C context,
+    final long value,
+    final ContractObjLongConditionType<C> condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw new InvariantViolationException(Long.valueOf(value), singlePredicateFailure(e), e);
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberLChecked(context, value, condition.describer()));
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code double} specialized version of {@link #checkInvariant(Object, Object,
+   * ContractContextConditionType)}.
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> double checkInvariantD(
+    final C context,
+    final double value,
+    final ContractObjDoubleConditionType<C> condition)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw new InvariantViolationException(Double.valueOf(value), singlePredicateFailure(e), e);
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberDChecked(context, value, condition.describer()));
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   *
+   * <p>The function throws {@link InvariantViolationException} if the predicate
+   * is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   */
+
+  public static <T> T checkInvariant(
+    final T value,
+    final ContractConditionType<T> condition)
+    throws InvariantViolationException
+  {
+    return checkInvariant(value, condition.predicate(), condition.describer());
+  }
+
+  /**
+   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   *
+   * <p>The function throws {@link InvariantViolationException} if the predicate
+   * is false.</p>
+   *
+   * @param value     The value
+   * @param predicate The predicate
+   * @param describer A describer for the predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   */
+
+  public static <T> T checkInvariant(
+    final T value,
+    final Predicate<T> predicate,
+    final Function<T, String> describer)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = predicate.test(value);
+    } catch (final Throwable e) {
+      final Violations violations = singlePredicateFailure(e);
+      throw new InvariantViolationException(value, violations, e);
+    }
+
+    return innerCheckInvariant(value, ok, describer);
+  }
+
+  /**
+   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   *
+   * <p>The function throws {@link InvariantViolationException} if the predicate
+   * is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param describer A describer for the predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws InvariantViolationException If the predicate is false
+   */
+
+  public static <T> T checkInvariant(
+    final T value,
+    final boolean condition,
+    final Function<T, String> describer)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    return innerCheckInvariant(value, condition, describer);
+  }
+
+  /**
+   * A specialized version of {@link #checkInvariant(Object, boolean, Function)}
+   * that does not mention an input value.
+   *
+   * @param condition The predicate
+   * @param message   The predicate description
+   *
+   * @throws InvariantViolationException Iff {@code predicate == false}
+   */
+
+  public static void checkInvariant(
+    final boolean condition,
+    final String message)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return;
+    }
+
+    if (!condition) {
+      final Violations violations = singleViolation(message);
+      throw new InvariantViolationException("<unspecified>", violations, null);
+    }
+  }
+
+  /**
+   * A specialized version of {@link #checkInvariant(Object, boolean, Function)}
+   * that does not mention an input value.
+   *
+   * @param condition The predicate
+   * @param message   The predicate description supplier
+   *
+   * @throws InvariantViolationException Iff {@code predicate == false}
+   */
+
+  public static void checkInvariant(
+    final boolean condition,
+    final Supplier<String> message)
+    throws InvariantViolationException
+  {
+    if (!ENABLED) {
+      return;
+    }
+
+    if (!condition) {
+      final Violations violations = singleViolation(applySupplierChecked(message));
+      throw new InvariantViolationException("<unspecified>", violations, null);
+    }
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariant(boolean, String)} that constructs a
+   * description message from the given format string and arguments.</p>
+   *
+   * <p>Note that the use of variadic arguments may entail allocating memory on
+   * virtual machines that fail to eliminate the allocations with <i>escape
+   * analysis</i>.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param objects   The format string arguments
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 1.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object... objects)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      final Violations violations = singleViolation(String.format(format, objects));
+      throw new InvariantViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariant(boolean, String)} that constructs a
+   * description message from the given format string and arguments.</p>
+   *
+   * <p>Note that the use of variadic arguments may entail allocating memory on
+   * virtual machines that fail to eliminate the allocations with <i>escape
+   * analysis</i>.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param objects   The format string arguments
+   *
+   * @since 1.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final Object... objects)
+  {
+    checkInvariantV("<unspecified>", condition, format, objects);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly one format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, a0);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly one format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final Object a0)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code int} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final int a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Integer.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly one {@code int} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final int a0)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code long} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final long a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Long.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly one {@code long} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final long a0)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code double} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final double a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Double.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly one {@code double} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final double a0)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code char} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final char a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Character.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly one {@code char} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final char a0)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code byte} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final byte a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Byte.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly one {@code byte} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final byte a0)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code short} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final short a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Short.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly one {@code short} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final short a0)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code float} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final float a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Float.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly one {@code float} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final float a0)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly two format string arguments. The arguments are boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, a0, a1);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly two format string arguments. The arguments are boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0, a1);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that accepts exactly three format string arguments. The arguments are boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   * @param a2        The third format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1,
+    final Object a2)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, a0, a1, a2);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * accepts exactly three format string arguments. The arguments are boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   * @param a2        The third format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1,
+    final Object a2)
+  {
+    checkInvariantV("<unspecified>", condition, format, a0, a1, a2);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0)
+  {
+    checkInvariantV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code int} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code int} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0)
+  {
+    checkInvariantV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code long} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code long} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0)
+  {
+    checkInvariantV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code double} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final double a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code double} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final double a0)
+  {
+    checkInvariantV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code char} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final char a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code char} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final char a0)
+  {
+    checkInvariantV("<unspecified>", condition, template, a0);
   }
 
   /**
-   * <p>Evaluate all of the given {@code conditions} using {@code value} as
-   * input.</p>
-   *
-   * <p>All of the conditions are evaluated and the function throws {@link
-   * InvariantViolationException} if any of the conditions are false, or raise
-   * an exception that is not of type {@link Error}. Exceptions of type {@link
-   * Error} are propagated immediately, without any further contract
-   * checking.</p>
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with two arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
-   * @param value      The value
-   * @param conditions The set of conditions
-   * @param <T>        The type of values
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws InvariantViolationException If any of the conditions are false
+   * @since 4.1.0
    */
 
-  @SafeVarargs
-  public static <T> T checkInvariants(
+  public static <T> T checkInvariantV(
     final T value,
-    final ContractConditionType<T>... conditions)
-    throws InvariantViolationException
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1)
   {
-    final Violations violations = innerCheckAll(value, conditions);
-    if (violations != null) {
-      throw new InvariantViolationException(
-        failedMessage(value, violations), null, violations.count());
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0, a1));
     }
     return value;
   }
 
   /**
-   * An {@code int} specialized version of {@link #checkInvariants(Object,
-   * ContractConditionType[])}
-   *
-   * @param value      The value
-   * @param conditions The conditions the value must obey
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with two arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * @return value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
    *
-   * @throws InvariantViolationException If any of the conditions are false
+   * @since 4.1.0
    */
 
-  public static int checkInvariantsI(
-    final int value,
-    final ContractIntConditionType... conditions)
-    throws InvariantViolationException
+  public static void checkInvariantV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1)
   {
-    final Violations violations =
-      innerCheckAllInt(value, conditions);
-    if (violations != null) {
-      throw new InvariantViolationException(
-        failedMessage(Integer.valueOf(value), violations), null, violations.count());
-    }
-    return value;
+    checkInvariantV("<unspecified>", condition, template, a0, a1);
   }
 
   /**
-   * A {@code long} specialized version of {@link #checkInvariants(Object,
-   * ContractConditionType[])}
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with two {@code int} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
-   * @param value      The value
-   * @param conditions The conditions the value must obey
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws InvariantViolationException If any of the conditions are false
+   * @since 4.1.0
    */
 
-  public static long checkInvariantsL(
-    final long value,
-    final ContractLongConditionType... conditions)
-    throws InvariantViolationException
+  public static <T> T checkInvariantV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1)
   {
-    final Violations violations =
-      innerCheckAllLong(value, conditions);
-    if (violations != null) {
-      throw new InvariantViolationException(
-        failedMessage(Long.valueOf(value), violations), null, violations.count());
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0, a1));
     }
     return value;
   }
 
   /**
-   * A {@code double} specialized version of {@link #checkInvariants(Object,
-   * ContractConditionType[])}
-   *
-   * @param value      The value
-   * @param conditions The conditions the value must obey
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with two {@code int} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * @return value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
    *
-   * @throws InvariantViolationException If any of the conditions are false
+   * @since 4.1.0
    */
 
-  public static double checkInvariantsD(
-    final double value,
-    final ContractDoubleConditionType... conditions)
-    throws InvariantViolationException
+  public static void checkInvariantV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1)
   {
-    final Violations violations =
-      innerCheckAllDouble(value, conditions);
-    if (violations != null) {
-      throw new InvariantViolationException(
-        failedMessage(Double.valueOf(value), violations), null, violations.count());
-    }
-    return value;
+    checkInvariantV("<unspecified>", condition, template, a0, a1);
   }
 
   /**
-   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
-   *
-   * <p>The function throws {@link InvariantViolationException} if the predicate
-   * is false.</p>
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with two {@code long} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
    * @param value     The value
    * @param condition The predicate
-   * @param <T>       The type of values
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws InvariantViolationException If the predicate is false
+   * @since 4.1.0
    */
 
-  public static <T> T checkInvariant(
+  public static <T> T checkInvariantV(
     final T value,
-    final ContractConditionType<T> condition)
-    throws InvariantViolationException
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1)
   {
-    return checkInvariant(value, condition.predicate(), condition.describer());
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0, a1));
+    }
+    return value;
   }
 
   /**
-   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with two {@code long} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * <p>The function throws {@link InvariantViolationException} if the predicate
-   * is false.</p>
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkInvariantV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1)
+  {
+    checkInvariantV("<unspecified>", condition, template, a0, a1);
+  }
+
+  /**
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with three arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
    * @param value     The value
-   * @param predicate The predicate
-   * @param describer A describer for the predicate
-   * @param <T>       The type of values
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws InvariantViolationException If the predicate is false
+   * @since 4.1.0
    */
 
-  public static <T> T checkInvariant(
+  public static <T> T checkInvariantV(
     final T value,
-    final Predicate<T> predicate,
-    final Function<T, String> describer)
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1,
+    final Object a2)
   {
-    final boolean ok;
-    try {
-      ok = predicate.test(value);
-    } catch (final Throwable e) {
-      final Violations violations = singleViolation(failedPredicate(e));
-      throw new InvariantViolationException(
-        failedMessage(value, violations), e, violations.count());
+    if (!ENABLED) {
+      return value;
     }
 
-    return innerCheckInvariant(value, ok, describer);
+    if (!condition) {
+      throw described(value, template.format(a0, a1, a2));
+    }
+    return value;
   }
 
   /**
-   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
-   *
-   * <p>The function throws {@link InvariantViolationException} if the predicate
-   * is false.</p>
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with three arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * @param value     The value
    * @param condition The predicate
-   * @param describer A describer for the predicate
-   * @param <T>       The type of values
-   *
-   * @return value
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    *
-   * @throws InvariantViolationException If the predicate is false
+   * @since 4.1.0
    */
 
-  public static <T> T checkInvariant(
-    final T value,
+  public static void checkInvariantV(
     final boolean condition,
-    final Function<T, String> describer)
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1,
+    final Object a2)
   {
-    return innerCheckInvariant(value, condition, describer);
+    checkInvariantV("<unspecified>", condition, template, a0, a1, a2);
   }
 
   /**
-   * A specialized version of {@link #checkInvariant(Object, boolean, Function)}
-   * that does not mention an input value.
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with three {@code int} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
+   * @param value     The value
    * @param condition The predicate
-   * @param message   The predicate description
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
+   * @param <T>       The precise type of values
    *
-   * @throws InvariantViolationException Iff {@code predicate == false}
+   * @return {@code value}
+   *
+   * @since 4.1.0
    */
 
-  public static void checkInvariant(
+  public static <T> T checkInvariantV(
+    final T value,
     final boolean condition,
-    final String message)
-    throws InvariantViolationException
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1,
+    final int a2)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     if (!condition) {
-      final Violations violations = singleViolation(message);
-      throw new InvariantViolationException(
-        failedMessage("<unspecified>", violations), null, violations.count());
+      throw described(value, template.format(a0, a1, a2));
     }
+    return value;
   }
 
   /**
-   * A specialized version of {@link #checkInvariant(Object, boolean, Function)}
-   * that does not mention an input value.
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with three {@code int} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
    * @param condition The predicate
-   * @param message   The predicate description supplier
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    *
-   * @throws InvariantViolationException Iff {@code predicate == false}
+   * @since 4.1.0
    */
 
-  public static void checkInvariant(
+  public static void checkInvariantV(
     final boolean condition,
-    final Supplier<String> message)
-    throws InvariantViolationException
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1,
+    final int a2)
   {
-    if (!condition) {
-      final Violations violations = singleViolation(applySupplierChecked(message));
-      throw new InvariantViolationException(
-        failedMessage("<unspecified>", violations), null, violations.count());
-    }
+    checkInvariantV("<unspecified>", condition, template, a0, a1, a2);
   }
 
   /**
-   * <p>A version of {@link #checkInvariant(boolean, String)} that constructs a
-   * description message from the given format string and arguments.</p>
-   *
-   * <p>Note that the use of variadic arguments may entail allocating memory on
-   * virtual machines that fail to eliminate the allocations with <i>escape
-   * analysis</i>.</p>
+   * <p>A version of {@link #checkInvariantV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with three {@code long} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
    * @param value     The value
    * @param condition The predicate
-   * @param format    The format string
-   * @param objects   The format string arguments
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    * @param <T>       The precise type of values
    *
    * @return {@code value}
    *
-   * @since 1.1.0
+   * @since 4.1.0
    */
 
   public static <T> T checkInvariantV(
     final T value,
     final boolean condition,
-    final String format,
-    final Object... objects)
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1,
+    final long a2)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     if (!condition) {
-      final Violations violations = singleViolation(String.format(format, objects));
-      throw new InvariantViolationException(
-        failedMessage(value, violations), null, violations.count());
+      throw described(value, template.format(a0, a1, a2));
     }
     return value;
   }
 
   /**
-   * <p>A version of {@link #checkInvariant(boolean, String)} that constructs a
-   * description message from the given format string and arguments.</p>
-   *
-   * <p>Note that the use of variadic arguments may entail allocating memory on
-   * virtual machines that fail to eliminate the allocations with <i>escape
-   * analysis</i>.</p>
+   * <p>A version of {@link #checkInvariantV(boolean, String, Object...)} that
+   * renders a pre-parsed template with three {@code long} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
    * @param condition The predicate
-   * @param format    The format string
-   * @param objects   The format string arguments
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    *
-   * @since 1.1.0
+   * @since 4.1.0
    */
 
   public static void checkInvariantV(
     final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1,
+    final long a2)
+  {
+    checkInvariantV("<unspecified>", condition, template, a0, a1, a2);
+  }
+
+  private static InvariantViolationException described(
+    final Object value,
+    final String message)
+  {
+    return new InvariantViolationException(
+      value, singleViolation(message), null);
+  }
+
+  private static InvariantViolationException formatted(
+    final Object value,
     final String format,
     final Object... objects)
   {
-    checkInvariantV("<unspecified>", condition, format, objects);
+    return new InvariantViolationException(
+      value, singleViolation(String.format(format, objects)), null);
   }
 
   /**
@@ -381,13 +3624,16 @@ public final class Invariants
     final IntPredicate predicate,
     final IntFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final boolean ok;
     try {
       ok = predicate.test(value);
     } catch (final Throwable e) {
-      final Violations violations = singleViolation(failedPredicate(e));
-      throw new InvariantViolationException(
-        failedMessage(Integer.valueOf(value), violations), e, violations.count());
+      final Violations violations = singlePredicateFailure(e);
+      throw new InvariantViolationException(Integer.valueOf(value), violations, e);
     }
 
     return innerCheckInvariantI(value, ok, describer);
@@ -411,6 +3657,10 @@ public final class Invariants
     final boolean condition,
     final IntFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     return innerCheckInvariantI(value, condition, describer);
   }
 
@@ -452,13 +3702,16 @@ public final class Invariants
     final LongPredicate predicate,
     final LongFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final boolean ok;
     try {
       ok = predicate.test(value);
     } catch (final Throwable e) {
-      final Violations violations = singleViolation(failedPredicate(e));
-      throw new InvariantViolationException(
-        failedMessage(Long.valueOf(value), violations), e, violations.count());
+      final Violations violations = singlePredicateFailure(e);
+      throw new InvariantViolationException(Long.valueOf(value), violations, e);
     }
 
     return innerCheckInvariantL(value, ok, describer);
@@ -482,6 +3735,10 @@ public final class Invariants
     final boolean condition,
     final LongFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     return innerCheckInvariantL(value, condition, describer);
   }
 
@@ -523,13 +3780,16 @@ public final class Invariants
     final DoublePredicate predicate,
     final DoubleFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final boolean ok;
     try {
       ok = predicate.test(value);
     } catch (final Throwable e) {
-      final Violations violations = singleViolation(failedPredicate(e));
-      throw new InvariantViolationException(
-        failedMessage(Double.valueOf(value), violations), e, violations.count());
+      final Violations violations = singlePredicateFailure(e);
+      throw new InvariantViolationException(Double.valueOf(value), violations, e);
     }
 
     return innerCheckInvariantD(value, ok, describer);
@@ -553,6 +3813,10 @@ public final class Invariants
     final boolean condition,
     final DoubleFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     return innerCheckInvariantD(value, condition, describer);
   }
 
@@ -563,8 +3827,7 @@ public final class Invariants
   {
     if (!condition) {
       final Violations violations = singleViolation(applyDescriberChecked(value, describer));
-      throw new InvariantViolationException(
-        failedMessage(value, violations), null, violations.count());
+      throw new InvariantViolationException(value, violations, null);
     }
     return value;
   }
@@ -576,8 +3839,7 @@ public final class Invariants
   {
     if (!condition) {
       final Violations violations = singleViolation(applyDescriberDChecked(value, describer));
-      throw new InvariantViolationException(
-        failedMessage(Double.valueOf(value), violations), null, violations.count());
+      throw new InvariantViolationException(Double.valueOf(value), violations, null);
     }
     return value;
   }
@@ -589,8 +3851,7 @@ public final class Invariants
   {
     if (!condition) {
       final Violations violations = singleViolation(applyDescriberLChecked(value, describer));
-      throw new InvariantViolationException(
-        failedMessage(Long.valueOf(value), violations), null, violations.count());
+      throw new InvariantViolationException(Long.valueOf(value), violations, null);
     }
     return value;
   }
@@ -602,38 +3863,8 @@ public final class Invariants
   {
     if (!condition) {
       final Violations violations = singleViolation(applyDescriberIChecked(value, describer));
-      throw new InvariantViolationException(
-        failedMessage(Integer.valueOf(value), violations), null, violations.count());
+      throw new InvariantViolationException(Integer.valueOf(value), violations, null);
     }
     return value;
   }
-
-  private static <T> String failedMessage(
-    final T value,
-    final Violations violations)
-  {
-    final String line_separator = System.lineSeparator();
-    final StringBuilder sb = new StringBuilder(128);
-    sb.append("Invariant violation.");
-    sb.append(line_separator);
-
-    sb.append("  Received: ");
-    sb.append(value);
-    sb.append(line_separator);
-
-    sb.append("  Violated conditions: ");
-    sb.append(line_separator);
-
-    final String[] messages = violations.messages();
-    for (int index = 0; index < messages.length; ++index) {
-      if (messages[index] != null) {
-        sb.append("    [");
-        sb.append(index);
-        sb.append("]: ");
-        sb.append(messages[index]);
-        sb.append(line_separator);
-      }
-    }
-    return sb.toString();
-  }
 }
@@ -0,0 +1,303 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.core;
+
+import com.io7m.jaffirm.core.Violations.ArrayViolations;
+import com.io7m.junreachable.UnreachableCodeException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Functions to evaluate a condition over large inputs in parallel using the
+ * common {@link ForkJoinPool}.
+ */
+
+final class ParallelChecks
+{
+  /**
+   * Inputs smaller than this are checked sequentially.
+   */
+
+  static final int PARALLEL_THRESHOLD = 8192;
+
+  private static final int MINIMUM_LEAF = 1024;
+
+  private ParallelChecks()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  private static int leafSize(
+    final int length)
+  {
+    final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+    return Math.max(MINIMUM_LEAF, length / (parallelism * 4));
+  }
+
+  static <T> Violations check(
+    final Collection<T> values,
+    final ContractConditionType<T> condition)
+  {
+    final List<T> list;
+    if (values instanceof List && values instanceof RandomAccess) {
+      list = (List<T>) values;
+    } else {
+      list = new ArrayList<>(values);
+    }
+
+    final int size = list.size();
+    final ArrayViolations results;
+    if (size < PARALLEL_THRESHOLD) {
+      results = Violations.collect(null, list, 0, size, condition);
+    } else {
+      results = new ObjectTask<>(list, 0, size, leafSize(size), condition)
+        .invoke();
+    }
+    return results == null ? null : results.build();
+  }
+
+  static Violations checkInt(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+  {
+    Objects.checkFromIndexSize(offset, length, values.length);
+
+    final int end = offset + length;
+    final ArrayViolations results;
+    if (length < PARALLEL_THRESHOLD) {
+      results = Violations.collectInt(null, values, offset, end, condition);
+    } else {
+      results = new IntTask(values, offset, end, leafSize(length), condition)
+        .invoke();
+    }
+    return results == null ? null : results.build();
+  }
+
+  static Violations checkLong(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+  {
+    Objects.checkFromIndexSize(offset, length, values.length);
+
+    final int end = offset + length;
+    final ArrayViolations results;
+    if (length < PARALLEL_THRESHOLD) {
+      results = Violations.collectLong(null, values, offset, end, condition);
+    } else {
+      results = new LongTask(values, offset, end, leafSize(length), condition)
+        .invoke();
+    }
+    return results == null ? null : results.build();
+  }
+
+  static Violations checkDouble(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+  {
+    Objects.checkFromIndexSize(offset, length, values.length);
+
+    final int end = offset + length;
+    final ArrayViolations results;
+    if (length < PARALLEL_THRESHOLD) {
+      results = Violations.collectDouble(null, values, offset, end, condition);
+    } else {
+      results = new DoubleTask(values, offset, end, leafSize(length), condition)
+        .invoke();
+    }
+    return results == null ? null : results.build();
+  }
+
+  private static final class ObjectTask<T>
+    extends RecursiveTask<ArrayViolations>
+  {
+    private final List<T> values;
+    private final int from;
+    private final int to;
+    private final int leaf;
+    private final ContractConditionType<T> condition;
+
+    ObjectTask(
+      final List<T> inValues,
+      final int inFrom,
+      final int inTo,
+      final int inLeaf,
+      final ContractConditionType<T> inCondition)
+    {
+      this.values = inValues;
+      this.from = inFrom;
+      this.to = inTo;
+      this.leaf = inLeaf;
+      this.condition = inCondition;
+    }
+
+    @Override
+    protected ArrayViolations compute()
+    {
+      if (this.to - this.from <= this.leaf) {
+        return Violations.collect(
+          null, this.values, this.from, this.to, this.condition);
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      final ObjectTask<T> left =
+        new ObjectTask<>(this.values, this.from, middle, this.leaf, this.condition);
+      final ObjectTask<T> right =
+        new ObjectTask<>(this.values, middle, this.to, this.leaf, this.condition);
+      left.fork();
+      final ArrayViolations rightResults = right.compute();
+      return ArrayViolations.merge(left.join(), rightResults);
+    }
+  }
+
+  private static final class IntTask
+    extends RecursiveTask<ArrayViolations>
+  {
+    private final int[] values;
+    private final int from;
+    private final int to;
+    private final int leaf;
+    private final ContractIntConditionType condition;
+
+    IntTask(
+      final int[] inValues,
+      final int inFrom,
+      final int inTo,
+      final int inLeaf,
+      final ContractIntConditionType inCondition)
+    {
+      this.values = inValues;
+      this.from = inFrom;
+      this.to = inTo;
+      this.leaf = inLeaf;
+      this.condition = inCondition;
+    }
+
+    @Override
+    protected ArrayViolations compute()
+    {
+      if (this.to - this.from <= this.leaf) {
+        return Violations.collectInt(
+          null, this.values, this.from, this.to, this.condition);
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      final IntTask left =
+        new IntTask(this.values, this.from, middle, this.leaf, this.condition);
+      final IntTask right =
+        new IntTask(this.values, middle, this.to, this.leaf, this.condition);
+      left.fork();
+      final ArrayViolations rightResults = right.compute();
+      return ArrayViolations.merge(left.join(), rightResults);
+    }
+  }
+
+  private static final class LongTask
+    extends RecursiveTask<ArrayViolations>
+  {
+    private final long[] values;
+    private final int from;
+    private final int to;
+    private final int leaf;
+    private final ContractLongConditionType condition;
+
+    LongTask(
+      final long[] inValues,
+      final int inFrom,
+      final int inTo,
+      final int inLeaf,
+      final ContractLongConditionType inCondition)
+    {
+      this.values = inValues;
+      this.from = inFrom;
+      this.to = inTo;
+      this.leaf = inLeaf;
+      this.condition = inCondition;
+    }
+
+    @Override
+    protected ArrayViolations compute()
+    {
+      if (this.to - this.from <= this.leaf) {
+        return Violations.collectLong(
+          null, this.values, this.from, this.to, this.condition);
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      final LongTask left =
+        new LongTask(this.values, this.from, middle, this.leaf, this.condition);
+      final LongTask right =
+        new LongTask(this.values, middle, this.to, this.leaf, this.condition);
+      left.fork();
+      final ArrayViolations rightResults = right.compute();
+      return ArrayViolations.merge(left.join(), rightResults);
+    }
+  }
+
+  private static final class DoubleTask
+    extends RecursiveTask<ArrayViolations>
+  {
+    private final double[] values;
+    private final int from;
+    private final int to;
+    private final int leaf;
+    private final ContractDoubleConditionType condition;
+
+    DoubleTask(
+      final double[] inValues,
+      final int inFrom,
+      final int inTo,
+      final int inLeaf,
+      final ContractDoubleConditionType inCondition)
+    {
+      this.values = inValues;
+      this.from = inFrom;
+      this.to = inTo;
+      this.leaf = inLeaf;
+      this.condition = inCondition;
+    }
+
+    @Override
+    protected ArrayViolations compute()
+    {
+      if (this.to - this.from <= this.leaf) {
+        return Violations.collectDouble(
+          null, this.values, this.from, this.to, this.condition);
+      }
+
+      final int middle = (this.from + this.to) >>> 1;
+      final DoubleTask left =
+        new DoubleTask(this.values, this.from, middle, this.leaf, this.condition);
+      final DoubleTask right =
+        new DoubleTask(this.values, middle, this.to, this.leaf, this.condition);
+      left.fork();
+      final ArrayViolations rightResults = right.compute();
+      return ArrayViolations.merge(left.join(), rightResults);
+    }
+  }
+}
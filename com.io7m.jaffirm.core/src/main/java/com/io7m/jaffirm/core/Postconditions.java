@@ -28,16 +28,35 @@ import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptive;
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptiveDouble;
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptiveInt;
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptiveLong;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberChecked;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberDChecked;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberIChecked;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberLChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberDChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberIChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberLChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applySupplierChecked;
-import static com.io7m.jaffirm.core.SafeApplication.failedPredicate;
+import static com.io7m.jaffirm.core.Violations.arrayDescription;
 import static com.io7m.jaffirm.core.Violations.innerCheckAll;
 import static com.io7m.jaffirm.core.Violations.innerCheckAllDouble;
 import static com.io7m.jaffirm.core.Violations.innerCheckAllInt;
 import static com.io7m.jaffirm.core.Violations.innerCheckAllLong;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayAllDouble;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayAllInt;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayAllLong;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayFirstDouble;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayFirstInt;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayFirstLong;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirst;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirstDouble;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirstInt;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirstLong;
+import static com.io7m.jaffirm.core.Violations.singlePredicateFailure;
 import static com.io7m.jaffirm.core.Violations.singleViolation;
 
 /**
@@ -46,6 +65,34 @@ import static com.io7m.jaffirm.core.Violations.singleViolation;
 
 public final class Postconditions
 {
+  /**
+   * The name of the system property that controls whether postconditions are
+   * checked.
+   *
+   * @since 4.1.0
+   */
+
+  public static final String ENABLED_PROPERTY =
+    "com.io7m.jaffirm.core.postconditions";
+
+  /**
+   * <p>{@code true} if postconditions are checked.</p>
+   *
+   * <p>If the system property named by {@link #ENABLED_PROPERTY} is set to
+   * {@code false} when this class is initialized, all of the functions in
+   * this class return immediately without evaluating any conditions, and
+   * never raise exceptions. As the value is a {@code static final} constant,
+   * the just-in-time compiler can eliminate disabled checks entirely. Note
+   * that any arguments passed to the functions are still evaluated by the
+   * caller; expensive arguments can be guarded explicitly by testing this
+   * value.</p>
+   *
+   * @since 4.1.0
+   */
+
+  public static final boolean ENABLED =
+    !"false".equals(System.getProperty(ENABLED_PROPERTY));
+
   private Postconditions()
   {
     throw new UnreachableCodeException();
@@ -61,278 +108,2829 @@ public final class Postconditions
    * {@link Error} are propagated immediately, without any further contract
    * checking.</p>
    *
-   * @param value      The value
-   * @param conditions The set of conditions
-   * @param <T>        The type of values
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   */
+
+  @SafeVarargs
+  public static <T> T checkPostconditions(
+    final T value,
+    final ContractConditionType<T>... conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAll(value, conditions);
+    if (violations != null) {
+      throw failed(null, value, violations);
+    }
+    return value;
+  }
+
+  /**
+   * An {@code int} specialized version of {@link #checkPostconditions(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   */
+
+  public static int checkPostconditionsI(
+    final int value,
+    final ContractIntConditionType... conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAllInt(value, conditions);
+    if (violations != null) {
+      throw failed(null, Integer.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkPostconditions(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   */
+
+  public static long checkPostconditionsL(
+    final long value,
+    final ContractLongConditionType... conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAllLong(value, conditions);
+    if (violations != null) {
+      throw failed(null, Long.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code double} specialized version of {@link #checkPostconditions(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   */
+
+  public static double checkPostconditionsD(
+    final double value,
+    final ContractDoubleConditionType... conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAllDouble(value, conditions);
+    if (violations != null) {
+      throw failed(null, Double.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkPostconditions(Object,
+   * ContractConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditions(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, condition0, condition1);
+    if (violations != null) {
+      throw failed(null, value, violations);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkPostconditions(Object,
+   * ContractConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditions(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1,
+    final ContractConditionType<T> condition2)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw failed(null, value, violations);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkPostconditions(Object,
+   * ContractConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditions(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1,
+    final ContractConditionType<T> condition2,
+    final ContractConditionType<T> condition3)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw failed(null, value, violations);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkPostconditionsI(int,
+   * ContractIntConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPostconditionsI(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, condition0, condition1);
+    if (violations != null) {
+      throw failed(null, Integer.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkPostconditionsI(int,
+   * ContractIntConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPostconditionsI(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1,
+    final ContractIntConditionType condition2)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw failed(null, Integer.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkPostconditionsI(int,
+   * ContractIntConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPostconditionsI(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1,
+    final ContractIntConditionType condition2,
+    final ContractIntConditionType condition3)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw failed(null, Integer.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkPostconditionsL(long,
+   * ContractLongConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPostconditionsL(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, condition0, condition1);
+    if (violations != null) {
+      throw failed(null, Long.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkPostconditionsL(long,
+   * ContractLongConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPostconditionsL(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1,
+    final ContractLongConditionType condition2)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw failed(null, Long.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkPostconditionsL(long,
+   * ContractLongConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPostconditionsL(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1,
+    final ContractLongConditionType condition2,
+    final ContractLongConditionType condition3)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw failed(null, Long.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkPostconditionsD(double,
+   * ContractDoubleConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPostconditionsD(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, condition0, condition1);
+    if (violations != null) {
+      throw failed(null, Double.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkPostconditionsD(double,
+   * ContractDoubleConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPostconditionsD(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1,
+    final ContractDoubleConditionType condition2)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw failed(null, Double.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkPostconditionsD(double,
+   * ContractDoubleConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPostconditionsD(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1,
+    final ContractDoubleConditionType condition2,
+    final ContractDoubleConditionType condition3)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw failed(null, Double.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditions(Object, ContractConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditions(
+    final T value,
+    final ContractConditionSet<T> conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, conditions);
+    if (violations != null) {
+      throw failed(null, value, violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsI(int, ContractIntConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPostconditionsI(
+    final int value,
+    final ContractIntConditionSet conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, conditions);
+    if (violations != null) {
+      throw failed(null, Integer.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsL(long, ContractLongConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPostconditionsL(
+    final long value,
+    final ContractLongConditionSet conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, conditions);
+    if (violations != null) {
+      throw failed(null, Long.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsD(double, ContractDoubleConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPostconditionsD(
+    final double value,
+    final ContractDoubleConditionSet conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, conditions);
+    if (violations != null) {
+      throw failed(null, Double.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * <p>Evaluate the given {@code conditions} in order using {@code value}
+   * as input, stopping at the first condition that is violated.</p>
+   *
+   * <p>Unlike {@link #checkPostconditions(Object, ContractConditionType[])}, this
+   * function does not evaluate any conditions following the first violated
+   * condition, and so the resulting {@link PostconditionViolationException} reports at most one
+   * violated condition. This is preferable when later conditions are expensive
+   * to evaluate and a complete diagnostic is not required.</p>
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  @SafeVarargs
+  public static <T> T checkPostconditionsFirst(
+    final T value,
+    final ContractConditionType<T>... conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirst(value, conditions);
+    if (violations != null) {
+      throw failed(null, value, violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsFirst(Object, ContractConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionsFirst(
+    final T value,
+    final ContractConditionSet<T> conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirst(value, conditions);
+    if (violations != null) {
+      throw failed(null, value, violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsFirst(Object, ContractConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionsFirst(
+    final T value,
+    final ContractAdaptiveConditionSet<T> conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptive(value, conditions);
+    if (violations != null) {
+      throw failed(null, value, violations);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code int} specialized version of {@link #checkPostconditionsFirst(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPostconditionsFirstI(
+    final int value,
+    final ContractIntConditionType... conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstInt(value, conditions);
+    if (violations != null) {
+      throw failed(null, Integer.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsFirstI(int, ContractIntConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPostconditionsFirstI(
+    final int value,
+    final ContractIntConditionSet conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstInt(value, conditions);
+    if (violations != null) {
+      throw failed(null, Integer.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsFirstI(int, ContractIntConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPostconditionsFirstI(
+    final int value,
+    final ContractAdaptiveIntConditionSet conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptiveInt(value, conditions);
+    if (violations != null) {
+      throw failed(null, Integer.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkPostconditionsFirst(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPostconditionsFirstL(
+    final long value,
+    final ContractLongConditionType... conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstLong(value, conditions);
+    if (violations != null) {
+      throw failed(null, Long.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsFirstL(long, ContractLongConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPostconditionsFirstL(
+    final long value,
+    final ContractLongConditionSet conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstLong(value, conditions);
+    if (violations != null) {
+      throw failed(null, Long.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsFirstL(long, ContractLongConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPostconditionsFirstL(
+    final long value,
+    final ContractAdaptiveLongConditionSet conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptiveLong(value, conditions);
+    if (violations != null) {
+      throw failed(null, Long.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code double} specialized version of {@link #checkPostconditionsFirst(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPostconditionsFirstD(
+    final double value,
+    final ContractDoubleConditionType... conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstDouble(value, conditions);
+    if (violations != null) {
+      throw failed(null, Double.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsFirstD(double, ContractDoubleConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPostconditionsFirstD(
+    final double value,
+    final ContractDoubleConditionSet conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstDouble(value, conditions);
+    if (violations != null) {
+      throw failed(null, Double.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPostconditionsFirstD(double, ContractDoubleConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPostconditionsFirstD(
+    final double value,
+    final ContractAdaptiveDoubleConditionSet conditions)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptiveDouble(value, conditions);
+    if (violations != null) {
+      throw failed(null, Double.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>All of the elements are evaluated and the function throws {@link
+   * PostconditionViolationException} if the condition is false for any of them, or raises an exception
+   * that is not of type {@link Error}. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PostconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int[] checkPostconditionsI(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayAllInt(values, offset, length, condition);
+    if (violations != null) {
+      throw failed(
+        null, arrayDescription("int", values.length, offset, length), violations);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>Evaluation stops at the first element for which the condition is false
+   * (or raises an exception that is not of type {@link Error}), and the
+   * function throws {@link PostconditionViolationException} reporting the position of that element in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PostconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int[] checkPostconditionsFirstI(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayFirstInt(values, offset, length, condition);
+    if (violations != null) {
+      throw failed(
+        null, arrayDescription("int", values.length, offset, length), violations);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>All of the elements are evaluated and the function throws {@link
+   * PostconditionViolationException} if the condition is false for any of them, or raises an exception
+   * that is not of type {@link Error}. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PostconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long[] checkPostconditionsL(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayAllLong(values, offset, length, condition);
+    if (violations != null) {
+      throw failed(
+        null, arrayDescription("long", values.length, offset, length), violations);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>Evaluation stops at the first element for which the condition is false
+   * (or raises an exception that is not of type {@link Error}), and the
+   * function throws {@link PostconditionViolationException} reporting the position of that element in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PostconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long[] checkPostconditionsFirstL(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayFirstLong(values, offset, length, condition);
+    if (violations != null) {
+      throw failed(
+        null, arrayDescription("long", values.length, offset, length), violations);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>All of the elements are evaluated and the function throws {@link
+   * PostconditionViolationException} if the condition is false for any of them, or raises an exception
+   * that is not of type {@link Error}. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PostconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static double[] checkPostconditionsD(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayAllDouble(values, offset, length, condition);
+    if (violations != null) {
+      throw failed(
+        null, arrayDescription("double", values.length, offset, length), violations);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>Evaluation stops at the first element for which the condition is false
+   * (or raises an exception that is not of type {@link Error}), and the
+   * function throws {@link PostconditionViolationException} reporting the position of that element in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PostconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static double[] checkPostconditionsFirstD(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayFirstDouble(values, offset, length, condition);
+    if (violations != null) {
+      throw failed(
+        null, arrayDescription("double", values.length, offset, length), violations);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate the given {@code condition} using {@code context} and
+   * {@code value} as input.</p>
+   *
+   * <p>The function throws {@link PostconditionViolationException} if the predicate is false.</p>
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C, T> T checkPostcondition(
+    final C context,
+    final T value,
+    final ContractContextConditionType<C, T> condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw failed(e, value, singlePredicateFailure(e));
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberChecked(context, value, condition.describer()));
+      throw failed(null, value, violations);
+    }
+    return value;
+  }
+
+  /**
+   * An {@code int} specialized version of {@link #checkPostcondition(Object, Object,
+   * ContractContextConditionType)}.
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> int checkPostconditionI(
+    final C context,
+    final int value,
+    final ContractObjIntConditionType<C> condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw failed(e, Integer.valueOf(value), singlePredicateFailure(e));
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberIChecked(context, value, condition.describer()));
+      throw failed(null, Integer.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkPostcondition(Object, Object,
+   * ContractContextConditionType)}.
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> long checkPostconditionL(
+    final C context,
+    final long value,
+    final ContractObjLongConditionType<C> condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw failed(e, Long.valueOf(value), singlePredicateFailure(e));
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberLChecked(context, value, condition.describer()));
+      throw failed(null, Long.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code double} specialized version of {@link #checkPostcondition(Object, Object,
+   * ContractContextConditionType)}.
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> double checkPostconditionD(
+    final C context,
+    final double value,
+    final ContractObjDoubleConditionType<C> condition)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw failed(e, Double.valueOf(value), singlePredicateFailure(e));
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberDChecked(context, value, condition.describer()));
+      throw failed(null, Double.valueOf(value), violations);
+    }
+    return value;
+  }
+
+  /**
+   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   *
+   * <p>The function throws {@link PostconditionViolationException} if the
+   * predicate is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If the predicate is false
+   */
+
+  public static <T> T checkPostcondition(
+    final T value,
+    final ContractConditionType<T> condition)
+    throws PostconditionViolationException
+  {
+    return checkPostcondition(
+      value, condition.predicate(), condition.describer());
+  }
+
+  /**
+   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   *
+   * <p>The function throws {@link PostconditionViolationException} if the
+   * predicate is false.</p>
+   *
+   * @param value     The value
+   * @param predicate The predicate
+   * @param describer A describer for the predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If the predicate is false
+   */
+
+  public static <T> T checkPostcondition(
+    final T value,
+    final Predicate<T> predicate,
+    final Function<T, String> describer)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = predicate.test(value);
+    } catch (final Throwable e) {
+      throw failed(e, value, singlePredicateFailure(e));
+    }
+
+    return innerCheck(value, ok, describer);
+  }
+
+  /**
+   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   *
+   * <p>The function throws {@link PostconditionViolationException} if the
+   * predicate is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param describer A describer for the predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws PostconditionViolationException If the predicate is false
+   */
+
+  public static <T> T checkPostcondition(
+    final T value,
+    final boolean condition,
+    final Function<T, String> describer)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    return innerCheck(value, condition, describer);
+  }
+
+  /**
+   * A specialized version of {@link #checkPostcondition(Object, boolean,
+   * Function)} that does not mention an input value.
+   *
+   * @param condition The predicate
+   * @param message   The predicate description
+   *
+   * @throws PostconditionViolationException Iff {@code predicate == false}
+   */
+
+  public static void checkPostcondition(
+    final boolean condition,
+    final String message)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return;
+    }
+
+    if (!condition) {
+      throw failed(
+        null, "<unspecified>", singleViolation(message));
+    }
+  }
+
+  /**
+   * A specialized version of {@link #checkPostcondition(Object, boolean,
+   * Function)} that does not mention an input value.
+   *
+   * @param condition The predicate
+   * @param message   The predicate description supplier
+   *
+   * @throws PostconditionViolationException Iff {@code predicate == false}
+   */
+
+  public static void checkPostcondition(
+    final boolean condition,
+    final Supplier<String> message)
+    throws PostconditionViolationException
+  {
+    if (!ENABLED) {
+      return;
+    }
+
+    if (!condition) {
+      throw failed(
+        null, "<unspecified>", singleViolation(applySupplierChecked(message)));
+    }
+  }
+
+  /**
+   * <p>A version of {@link #checkPostcondition(boolean, String)} that
+   * constructs a description message from the given format string and
+   * arguments.</p>
+   *
+   * <p>Note that the use of variadic arguments may entail allocating memory on
+   * virtual machines that fail to eliminate the allocations with <i>escape
+   * analysis</i>.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param objects   The format string arguments
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 1.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object... objects)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw failed(
+        null,
+        value,
+        singleViolation(String.format(format, objects)));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostcondition(boolean, String)} that
+   * constructs a description message from the given format string and
+   * arguments.</p>
+   *
+   * <p>Note that the use of variadic arguments may entail allocating memory on
+   * virtual machines that fail to eliminate the allocations with <i>escape
+   * analysis</i>.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param objects   The format string arguments
+   *
+   * @since 1.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final Object... objects)
+  {
+    checkPostconditionV("<unspecified>", condition, format, objects);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, a0);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly one format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final Object a0)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code int} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final int a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Integer.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code int} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final int a0)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code long} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final long a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Long.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code long} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final long a0)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code double} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final double a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Double.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code double} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final double a0)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code char} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final char a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Character.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code char} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final char a0)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code byte} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final byte a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Byte.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code byte} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final byte a0)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code short} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final short a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Short.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code short} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final short a0)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code float} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final float a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Float.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code float} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final float a0)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly two format string arguments. The arguments are boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, a0, a1);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly two format string arguments. The arguments are boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0, a1);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly three format string arguments. The arguments are boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   * @param a2        The third format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1,
+    final Object a2)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, a0, a1, a2);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * accepts exactly three format string arguments. The arguments are boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   * @param a2        The third format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1,
+    final Object a2)
+  {
+    checkPostconditionV("<unspecified>", condition, format, a0, a1, a2);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0)
+  {
+    checkPostconditionV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code int} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code int} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0)
+  {
+    checkPostconditionV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code long} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code long} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0)
+  {
+    checkPostconditionV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code double} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final double a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code double} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final double a0)
+  {
+    checkPostconditionV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code char} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws PostconditionViolationException If any of the conditions are false
+   * @since 4.1.0
    */
 
-  @SafeVarargs
-  public static <T> T checkPostconditions(
+  public static <T> T checkPostconditionV(
     final T value,
-    final ContractConditionType<T>... conditions)
-    throws PostconditionViolationException
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final char a0)
   {
-    final Violations violations = innerCheckAll(value, conditions);
-    if (violations != null) {
-      throw failed(null, value, violations);
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
     }
     return value;
   }
 
   /**
-   * An {@code int} specialized version of {@link #checkPostconditions(Object,
-   * ContractConditionType[])}
-   *
-   * @param value      The value
-   * @param conditions The conditions the value must obey
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code char} argument. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * @return value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
    *
-   * @throws PostconditionViolationException If any of the conditions are false
+   * @since 4.1.0
    */
 
-  public static int checkPostconditionsI(
-    final int value,
-    final ContractIntConditionType... conditions)
-    throws PostconditionViolationException
+  public static void checkPostconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final char a0)
   {
-    final Violations violations = innerCheckAllInt(value, conditions);
-    if (violations != null) {
-      throw failed(null, Integer.valueOf(value), violations);
-    }
-    return value;
+    checkPostconditionV("<unspecified>", condition, template, a0);
   }
 
   /**
-   * A {@code long} specialized version of {@link #checkPostconditions(Object,
-   * ContractConditionType[])}
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with two arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
-   * @param value      The value
-   * @param conditions The conditions the value must obey
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws PostconditionViolationException If any of the conditions are false
+   * @since 4.1.0
    */
 
-  public static long checkPostconditionsL(
-    final long value,
-    final ContractLongConditionType... conditions)
-    throws PostconditionViolationException
+  public static <T> T checkPostconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1)
   {
-    final Violations violations = innerCheckAllLong(value, conditions);
-    if (violations != null) {
-      throw failed(null, Long.valueOf(value), violations);
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0, a1));
     }
     return value;
   }
 
   /**
-   * A {@code double} specialized version of {@link #checkPostconditions(Object,
-   * ContractConditionType[])}
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with two arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * @param value      The value
-   * @param conditions The conditions the value must obey
-   *
-   * @return value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
    *
-   * @throws PostconditionViolationException If any of the conditions are false
+   * @since 4.1.0
    */
 
-  public static double checkPostconditionsD(
-    final double value,
-    final ContractDoubleConditionType... conditions)
-    throws PostconditionViolationException
+  public static void checkPostconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1)
   {
-    final Violations violations = innerCheckAllDouble(value, conditions);
-    if (violations != null) {
-      throw failed(null, Double.valueOf(value), violations);
-    }
-    return value;
+    checkPostconditionV("<unspecified>", condition, template, a0, a1);
   }
 
   /**
-   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
-   *
-   * <p>The function throws {@link PostconditionViolationException} if the
-   * predicate is false.</p>
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with two {@code int} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
    * @param value     The value
    * @param condition The predicate
-   * @param <T>       The type of values
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws PostconditionViolationException If the predicate is false
+   * @since 4.1.0
    */
 
-  public static <T> T checkPostcondition(
+  public static <T> T checkPostconditionV(
     final T value,
-    final ContractConditionType<T> condition)
-    throws PostconditionViolationException
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1)
   {
-    return checkPostcondition(
-      value, condition.predicate(), condition.describer());
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0, a1));
+    }
+    return value;
   }
 
   /**
-   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with two {@code int} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * <p>The function throws {@link PostconditionViolationException} if the
-   * predicate is false.</p>
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1)
+  {
+    checkPostconditionV("<unspecified>", condition, template, a0, a1);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with two {@code long} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
    * @param value     The value
-   * @param predicate The predicate
-   * @param describer A describer for the predicate
-   * @param <T>       The type of values
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws PostconditionViolationException If the predicate is false
+   * @since 4.1.0
    */
 
-  public static <T> T checkPostcondition(
+  public static <T> T checkPostconditionV(
     final T value,
-    final Predicate<T> predicate,
-    final Function<T, String> describer)
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1)
   {
-    final boolean ok;
-    try {
-      ok = predicate.test(value);
-    } catch (final Throwable e) {
-      throw failed(e, value, singleViolation(failedPredicate(e)));
+    if (!ENABLED) {
+      return value;
     }
 
-    return innerCheck(value, ok, describer);
+    if (!condition) {
+      throw described(value, template.format(a0, a1));
+    }
+    return value;
   }
 
   /**
-   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with two {@code long} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * <p>The function throws {@link PostconditionViolationException} if the
-   * predicate is false.</p>
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1)
+  {
+    checkPostconditionV("<unspecified>", condition, template, a0, a1);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with three arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
    * @param value     The value
    * @param condition The predicate
-   * @param describer A describer for the predicate
-   * @param <T>       The type of values
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws PostconditionViolationException If the predicate is false
+   * @since 4.1.0
    */
 
-  public static <T> T checkPostcondition(
+  public static <T> T checkPostconditionV(
     final T value,
     final boolean condition,
-    final Function<T, String> describer)
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1,
+    final Object a2)
   {
-    return innerCheck(value, condition, describer);
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0, a1, a2));
+    }
+    return value;
   }
 
   /**
-   * A specialized version of {@link #checkPostcondition(Object, boolean,
-   * Function)} that does not mention an input value.
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with three arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
    * @param condition The predicate
-   * @param message   The predicate description
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    *
-   * @throws PostconditionViolationException Iff {@code predicate == false}
+   * @since 4.1.0
    */
 
-  public static void checkPostcondition(
+  public static void checkPostconditionV(
     final boolean condition,
-    final String message)
-    throws PostconditionViolationException
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1,
+    final Object a2)
   {
-    if (!condition) {
-      throw failed(
-        null, "<unspecified>", singleViolation(message));
-    }
+    checkPostconditionV("<unspecified>", condition, template, a0, a1, a2);
   }
 
   /**
-   * A specialized version of {@link #checkPostcondition(Object, boolean,
-   * Function)} that does not mention an input value.
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with three {@code int} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
+   * @param value     The value
    * @param condition The predicate
-   * @param message   The predicate description supplier
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
+   * @param <T>       The precise type of values
    *
-   * @throws PostconditionViolationException Iff {@code predicate == false}
+   * @return {@code value}
+   *
+   * @since 4.1.0
    */
 
-  public static void checkPostcondition(
+  public static <T> T checkPostconditionV(
+    final T value,
     final boolean condition,
-    final Supplier<String> message)
-    throws PostconditionViolationException
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1,
+    final int a2)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     if (!condition) {
-      throw failed(
-        null, "<unspecified>", singleViolation(applySupplierChecked(message)));
+      throw described(value, template.format(a0, a1, a2));
     }
+    return value;
   }
 
   /**
-   * <p>A version of {@link #checkPostcondition(boolean, String)} that
-   * constructs a description message from the given format string and
-   * arguments.</p>
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with three {@code int} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * <p>Note that the use of variadic arguments may entail allocating memory on
-   * virtual machines that fail to eliminate the allocations with <i>escape
-   * analysis</i>.</p>
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPostconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1,
+    final int a2)
+  {
+    checkPostconditionV("<unspecified>", condition, template, a0, a1, a2);
+  }
+
+  /**
+   * <p>A version of {@link #checkPostconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with three {@code long} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
    * @param value     The value
    * @param condition The predicate
-   * @param format    The format string
-   * @param objects   The format string arguments
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    * @param <T>       The precise type of values
    *
    * @return {@code value}
    *
-   * @since 1.1.0
+   * @since 4.1.0
    */
 
   public static <T> T checkPostconditionV(
     final T value,
     final boolean condition,
-    final String format,
-    final Object... objects)
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1,
+    final long a2)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     if (!condition) {
-      throw failed(
-        null,
-        value,
-        singleViolation(String.format(format, objects)));
+      throw described(value, template.format(a0, a1, a2));
     }
     return value;
   }
 
   /**
-   * <p>A version of {@link #checkPostcondition(boolean, String)} that
-   * constructs a description message from the given format string and
-   * arguments.</p>
-   *
-   * <p>Note that the use of variadic arguments may entail allocating memory on
-   * virtual machines that fail to eliminate the allocations with <i>escape
-   * analysis</i>.</p>
+   * <p>A version of {@link #checkPostconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with three {@code long} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
    * @param condition The predicate
-   * @param format    The format string
-   * @param objects   The format string arguments
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    *
-   * @since 1.1.0
+   * @since 4.1.0
    */
 
   public static void checkPostconditionV(
     final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1,
+    final long a2)
+  {
+    checkPostconditionV("<unspecified>", condition, template, a0, a1, a2);
+  }
+
+  private static PostconditionViolationException described(
+    final Object value,
+    final String message)
+  {
+    return failed(null, value, singleViolation(message));
+  }
+
+  private static PostconditionViolationException formatted(
+    final Object value,
     final String format,
     final Object... objects)
   {
-    checkPostconditionV("<unspecified>", condition, format, objects);
+    return failed(null, value, singleViolation(String.format(format, objects)));
   }
 
   /**
@@ -374,6 +2972,10 @@ public final class Postconditions
     final IntPredicate predicate,
     final IntFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final boolean ok;
     try {
       ok = predicate.test(value);
@@ -381,7 +2983,7 @@ public final class Postconditions
       throw failed(
         e,
         Integer.valueOf(value),
-        singleViolation(failedPredicate(e)));
+        singlePredicateFailure(e));
     }
 
     return innerCheckI(value, ok, describer);
@@ -405,6 +3007,10 @@ public final class Postconditions
     final boolean condition,
     final IntFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     return innerCheckI(value, condition, describer);
   }
 
@@ -447,6 +3053,10 @@ public final class Postconditions
     final LongPredicate predicate,
     final LongFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final boolean ok;
     try {
       ok = predicate.test(value);
@@ -454,7 +3064,7 @@ public final class Postconditions
       throw failed(
         e,
         Long.valueOf(value),
-        singleViolation(failedPredicate(e)));
+        singlePredicateFailure(e));
     }
 
     return innerCheckL(value, ok, describer);
@@ -478,6 +3088,10 @@ public final class Postconditions
     final boolean condition,
     final LongFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     return innerCheckL(value, condition, describer);
   }
 
@@ -520,6 +3134,10 @@ public final class Postconditions
     final DoublePredicate predicate,
     final DoubleFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final boolean ok;
     try {
       ok = predicate.test(value);
@@ -527,7 +3145,7 @@ public final class Postconditions
       throw failed(
         e,
         Double.valueOf(value),
-        singleViolation(failedPredicate(e)));
+        singlePredicateFailure(e));
     }
 
     return innerCheckD(value, ok, describer);
@@ -551,6 +3169,10 @@ public final class Postconditions
     final boolean condition,
     final DoubleFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     return innerCheckD(value, condition, describer);
   }
 
@@ -610,38 +3232,12 @@ public final class Postconditions
     return value;
   }
 
-  private static <T> PostconditionViolationException failed(
+  private static PostconditionViolationException failed(
     final Throwable cause,
-    final T value,
+    final Object value,
     final Violations violations)
   {
-    final String line_separator = System.lineSeparator();
-    final StringBuilder sb = new StringBuilder(128);
-    sb.append("Postcondition violation.");
-    sb.append(line_separator);
-
-    sb.append("  Received: ");
-    sb.append(value);
-    sb.append(line_separator);
-
-    sb.append("  Violated conditions: ");
-    sb.append(line_separator);
-
-    final String[] messages = violations.messages();
-    for (int index = 0; index < messages.length; ++index) {
-      if (messages[index] != null) {
-        sb.append("    [");
-        sb.append(index);
-        sb.append("]: ");
-        sb.append(messages[index]);
-        sb.append(line_separator);
-      }
-    }
-
-    throw new PostconditionViolationException(
-      sb.toString(),
-      cause,
-      violations.count());
+    return new PostconditionViolationException(value, violations, cause);
   }
 
 }
@@ -38,6 +38,27 @@ public final class PreconditionViolationException extends ContractException
     super(message, cause, in_violations);
   }
 
+  /**
+   * Construct an exception.
+   *
+   * @param cause              The cause
+   * @param message            The message
+   * @param in_violations      The number of violated conditions
+   * @param writableStackTrace Whether or not the stack trace should be
+   *                           writable
+   *
+   * @since 4.1.0
+   */
+
+  public PreconditionViolationException(
+    final String message,
+    final Throwable cause,
+    final int in_violations,
+    final boolean writableStackTrace)
+  {
+    super(message, cause, in_violations, writableStackTrace);
+  }
+
   /**
    * Construct an exception.
    *
@@ -51,4 +72,13 @@ public final class PreconditionViolationException extends ContractException
   {
     super(message, in_violations);
   }
+
+  PreconditionViolationException(
+    final Object value,
+    final Violations violations,
+    final Throwable cause)
+  {
+    super("Precondition violation.", value, violations, cause);
+    ContractEvents.publishPrecondition(violations.count());
+  }
 }
@@ -18,6 +18,7 @@ package com.io7m.jaffirm.core;
 
 import com.io7m.junreachable.UnreachableCodeException;
 
+import java.util.Objects;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
@@ -28,16 +29,35 @@ import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptive;
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptiveDouble;
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptiveInt;
+import static com.io7m.jaffirm.core.ContractAdaptiveOrder.innerCheckAdaptiveLong;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberChecked;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberDChecked;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberIChecked;
+import static com.io7m.jaffirm.core.SafeApplication.applyContextDescriberLChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberDChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberIChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberLChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applySupplierChecked;
-import static com.io7m.jaffirm.core.SafeApplication.failedPredicate;
+import static com.io7m.jaffirm.core.Violations.arrayDescription;
 import static com.io7m.jaffirm.core.Violations.innerCheckAll;
 import static com.io7m.jaffirm.core.Violations.innerCheckAllDouble;
 import static com.io7m.jaffirm.core.Violations.innerCheckAllInt;
 import static com.io7m.jaffirm.core.Violations.innerCheckAllLong;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayAllDouble;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayAllInt;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayAllLong;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayFirstDouble;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayFirstInt;
+import static com.io7m.jaffirm.core.Violations.innerCheckArrayFirstLong;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirst;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirstDouble;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirstInt;
+import static com.io7m.jaffirm.core.Violations.innerCheckFirstLong;
+import static com.io7m.jaffirm.core.Violations.singlePredicateFailure;
 import static com.io7m.jaffirm.core.Violations.singleViolation;
 
 /**
@@ -46,6 +66,34 @@ import static com.io7m.jaffirm.core.Violations.singleViolation;
 
 public final class Preconditions
 {
+  /**
+   * The name of the system property that controls whether preconditions are
+   * checked.
+   *
+   * @since 4.1.0
+   */
+
+  public static final String ENABLED_PROPERTY =
+    "com.io7m.jaffirm.core.preconditions";
+
+  /**
+   * <p>{@code true} if preconditions are checked.</p>
+   *
+   * <p>If the system property named by {@link #ENABLED_PROPERTY} is set to
+   * {@code false} when this class is initialized, all of the functions in
+   * this class return immediately without evaluating any conditions, and
+   * never raise exceptions. As the value is a {@code static final} constant,
+   * the just-in-time compiler can eliminate disabled checks entirely. Note
+   * that any arguments passed to the functions are still evaluated by the
+   * caller; expensive arguments can be guarded explicitly by testing this
+   * value.</p>
+   *
+   * @since 4.1.0
+   */
+
+  public static final boolean ENABLED =
+    !"false".equals(System.getProperty(ENABLED_PROPERTY));
+
   private Preconditions()
   {
     throw new UnreachableCodeException();
@@ -76,10 +124,13 @@ public final class Preconditions
     final ContractConditionType<T>... conditions)
     throws PreconditionViolationException
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final Violations violations = innerCheckAll(value, conditions);
     if (violations != null) {
-      throw new PreconditionViolationException(
-        failedMessage(value, violations), null, violations.count());
+      throw new PreconditionViolationException(value, violations, null);
     }
     return value;
   }
@@ -101,10 +152,13 @@ public final class Preconditions
     final ContractIntConditionType... conditions)
     throws PreconditionViolationException
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final Violations violations = innerCheckAllInt(value, conditions);
     if (violations != null) {
-      throw new PreconditionViolationException(
-        failedMessage(Integer.valueOf(value), violations), null, violations.count());
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
     }
     return value;
   }
@@ -126,10 +180,13 @@ public final class Preconditions
     final ContractLongConditionType... conditions)
     throws PreconditionViolationException
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final Violations violations = innerCheckAllLong(value, conditions);
     if (violations != null) {
-      throw new PreconditionViolationException(
-        failedMessage(Long.valueOf(value), violations), null, violations.count());
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
     }
     return value;
   }
@@ -151,193 +208,2729 @@ public final class Preconditions
     final ContractDoubleConditionType... conditions)
     throws PreconditionViolationException
   {
-    final Violations violations = innerCheckAllDouble(value, conditions);
-    if (violations != null) {
-      throw new PreconditionViolationException(
-        failedMessage(Double.valueOf(value), violations), null, violations.count());
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAllDouble(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkPreconditions(Object,
+   * ContractConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditions(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, condition0, condition1);
+    if (violations != null) {
+      throw new PreconditionViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkPreconditions(Object,
+   * ContractConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditions(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1,
+    final ContractConditionType<T> condition2)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw new PreconditionViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkPreconditions(Object,
+   * ContractConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditions(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1,
+    final ContractConditionType<T> condition2,
+    final ContractConditionType<T> condition3)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw new PreconditionViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkPreconditionsI(int,
+   * ContractIntConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPreconditionsI(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, condition0, condition1);
+    if (violations != null) {
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkPreconditionsI(int,
+   * ContractIntConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPreconditionsI(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1,
+    final ContractIntConditionType condition2)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkPreconditionsI(int,
+   * ContractIntConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPreconditionsI(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1,
+    final ContractIntConditionType condition2,
+    final ContractIntConditionType condition3)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkPreconditionsL(long,
+   * ContractLongConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPreconditionsL(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, condition0, condition1);
+    if (violations != null) {
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkPreconditionsL(long,
+   * ContractLongConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPreconditionsL(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1,
+    final ContractLongConditionType condition2)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkPreconditionsL(long,
+   * ContractLongConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPreconditionsL(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1,
+    final ContractLongConditionType condition2,
+    final ContractLongConditionType condition3)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A two-condition version of {@link #checkPreconditionsD(double,
+   * ContractDoubleConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPreconditionsD(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, condition0, condition1);
+    if (violations != null) {
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A three-condition version of {@link #checkPreconditionsD(double,
+   * ContractDoubleConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPreconditionsD(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1,
+    final ContractDoubleConditionType condition2)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, condition0, condition1, condition2);
+    if (violations != null) {
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A four-condition version of {@link #checkPreconditionsD(double,
+   * ContractDoubleConditionType[])} that does not allocate an array of
+   * conditions.
+   *
+   * @param value      The value
+   * @param condition0 The first condition
+   * @param condition1 The second condition
+   * @param condition2 The third condition
+   * @param condition3 The fourth condition
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPreconditionsD(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1,
+    final ContractDoubleConditionType condition2,
+    final ContractDoubleConditionType condition3)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, condition0, condition1, condition2, condition3);
+    if (violations != null) {
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditions(Object, ContractConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditions(
+    final T value,
+    final ContractConditionSet<T> conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAll(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsI(int, ContractIntConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPreconditionsI(
+    final int value,
+    final ContractIntConditionSet conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllInt(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsL(long, ContractLongConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPreconditionsL(
+    final long value,
+    final ContractLongConditionSet conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllLong(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsD(double, ContractDoubleConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPreconditionsD(
+    final double value,
+    final ContractDoubleConditionSet conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations =
+      innerCheckAllDouble(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * <p>Evaluate the given {@code conditions} in order using {@code value}
+   * as input, stopping at the first condition that is violated.</p>
+   *
+   * <p>Unlike {@link #checkPreconditions(Object, ContractConditionType[])}, this
+   * function does not evaluate any conditions following the first violated
+   * condition, and so the resulting {@link PreconditionViolationException} reports at most one
+   * violated condition. This is preferable when later conditions are expensive
+   * to evaluate and a complete diagnostic is not required.</p>
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  @SafeVarargs
+  public static <T> T checkPreconditionsFirst(
+    final T value,
+    final ContractConditionType<T>... conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirst(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsFirst(Object, ContractConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionsFirst(
+    final T value,
+    final ContractConditionSet<T> conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirst(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsFirst(Object, ContractConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   * @param <T>        The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionsFirst(
+    final T value,
+    final ContractAdaptiveConditionSet<T> conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptive(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code int} specialized version of {@link #checkPreconditionsFirst(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPreconditionsFirstI(
+    final int value,
+    final ContractIntConditionType... conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstInt(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsFirstI(int, ContractIntConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPreconditionsFirstI(
+    final int value,
+    final ContractIntConditionSet conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstInt(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsFirstI(int, ContractIntConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkPreconditionsFirstI(
+    final int value,
+    final ContractAdaptiveIntConditionSet conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptiveInt(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkPreconditionsFirst(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPreconditionsFirstL(
+    final long value,
+    final ContractLongConditionType... conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstLong(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsFirstL(long, ContractLongConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPreconditionsFirstL(
+    final long value,
+    final ContractLongConditionSet conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstLong(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsFirstL(long, ContractLongConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkPreconditionsFirstL(
+    final long value,
+    final ContractAdaptiveLongConditionSet conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptiveLong(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code double} specialized version of {@link #checkPreconditionsFirst(Object,
+   * ContractConditionType[])}
+   *
+   * @param value      The value
+   * @param conditions The conditions the value must obey
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPreconditionsFirstD(
+    final double value,
+    final ContractDoubleConditionType... conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstDouble(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsFirstD(double, ContractDoubleConditionType[])}
+   * that evaluates a precompiled set of conditions.
+   *
+   * @param value      The value
+   * @param conditions The set of conditions
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPreconditionsFirstD(
+    final double value,
+    final ContractDoubleConditionSet conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckFirstDouble(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A version of {@link #checkPreconditionsFirstD(double, ContractDoubleConditionType[])}
+   * that evaluates an adaptive set of conditions. The conditions are evaluated
+   * in an order that favours cheap, frequently violated conditions, but any
+   * violated condition is reported using its declared index.
+   *
+   * @param value      The value
+   * @param conditions The adaptive set of conditions
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If any of the conditions are false
+   *
+   * @since 4.1.0
+   */
+
+  public static double checkPreconditionsFirstD(
+    final double value,
+    final ContractAdaptiveDoubleConditionSet conditions)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final Violations violations = innerCheckAdaptiveDouble(value, conditions);
+    if (violations != null) {
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>All of the elements are evaluated and the function throws {@link
+   * PreconditionViolationException} if the condition is false for any of them, or raises an exception
+   * that is not of type {@link Error}. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int[] checkPreconditionsI(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayAllInt(values, offset, length, condition);
+    if (violations != null) {
+      throw new PreconditionViolationException(
+        arrayDescription("int", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>Evaluation stops at the first element for which the condition is false
+   * (or raises an exception that is not of type {@link Error}), and the
+   * function throws {@link PreconditionViolationException} reporting the position of that element in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int[] checkPreconditionsFirstI(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayFirstInt(values, offset, length, condition);
+    if (violations != null) {
+      throw new PreconditionViolationException(
+        arrayDescription("int", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>All of the elements are evaluated and the function throws {@link
+   * PreconditionViolationException} if the condition is false for any of them, or raises an exception
+   * that is not of type {@link Error}. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long[] checkPreconditionsL(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayAllLong(values, offset, length, condition);
+    if (violations != null) {
+      throw new PreconditionViolationException(
+        arrayDescription("long", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>Evaluation stops at the first element for which the condition is false
+   * (or raises an exception that is not of type {@link Error}), and the
+   * function throws {@link PreconditionViolationException} reporting the position of that element in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long[] checkPreconditionsFirstL(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayFirstLong(values, offset, length, condition);
+    if (violations != null) {
+      throw new PreconditionViolationException(
+        arrayDescription("long", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>All of the elements are evaluated and the function throws {@link
+   * PreconditionViolationException} if the condition is false for any of them, or raises an exception
+   * that is not of type {@link Error}. The violated conditions reported by
+   * the exception are indexed by the positions of the failing elements in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static double[] checkPreconditionsD(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayAllDouble(values, offset, length, condition);
+    if (violations != null) {
+      throw new PreconditionViolationException(
+        arrayDescription("double", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate {@code condition} against each of the {@code length}
+   * elements of {@code values} starting at {@code offset}.</p>
+   *
+   * <p>Evaluation stops at the first element for which the condition is false
+   * (or raises an exception that is not of type {@link Error}), and the
+   * function throws {@link PreconditionViolationException} reporting the position of that element in
+   * {@code values}.</p>
+   *
+   * @param values    The values
+   * @param offset    The index of the first value to check
+   * @param length    The number of values to check
+   * @param condition The condition the values must obey
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If the condition is false for any value
+   * @throws IndexOutOfBoundsException If the range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static double[] checkPreconditionsFirstD(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return values;
+    }
+
+    final Violations violations =
+      innerCheckArrayFirstDouble(values, offset, length, condition);
+    if (violations != null) {
+      throw new PreconditionViolationException(
+        arrayDescription("double", values.length, offset, length), violations, null);
+    }
+    return values;
+  }
+
+  /**
+   * <p>Evaluate the given {@code condition} using {@code context} and
+   * {@code value} as input.</p>
+   *
+   * <p>The function throws {@link PreconditionViolationException} if the predicate is false.</p>
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C, T> T checkPrecondition(
+    final C context,
+    final T value,
+    final ContractContextConditionType<C, T> condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw new PreconditionViolationException(value, singlePredicateFailure(e), e);
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberChecked(context, value, condition.describer()));
+      throw new PreconditionViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * An {@code int} specialized version of {@link #checkPrecondition(Object, Object,
+   * ContractContextConditionType)}.
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> int checkPreconditionI(
+    final C context,
+    final int value,
+    final ContractObjIntConditionType<C> condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw new PreconditionViolationException(Integer.valueOf(value), singlePredicateFailure(e), e);
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberIChecked(context, value, condition.describer()));
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkPrecondition(Object, Object,
+   * ContractContextConditionType)}.
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> long checkPreconditionL(
+    final C context,
+    final long value,
+    final ContractObjLongConditionType<C> condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw new PreconditionViolationException(Long.valueOf(value), singlePredicateFailure(e), e);
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberLChecked(context, value, condition.describer()));
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * A {@code double} specialized version of {@link #checkPrecondition(Object, Object,
+   * ContractContextConditionType)}.
+   *
+   * @param context   The context value
+   * @param value     The value
+   * @param condition The condition
+   * @param <C>       The type of context values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If the predicate is false
+   *
+   * @since 4.1.0
+   */
+
+  public static <C> double checkPreconditionD(
+    final C context,
+    final double value,
+    final ContractObjDoubleConditionType<C> condition)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = condition.predicate().test(context, value);
+    } catch (final Throwable e) {
+      throw new PreconditionViolationException(Double.valueOf(value), singlePredicateFailure(e), e);
+    }
+
+    if (!ok) {
+      final Violations violations = singleViolation(
+        applyContextDescriberDChecked(context, value, condition.describer()));
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   *
+   * <p>The function throws {@link PreconditionViolationException} if the
+   * predicate is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If the predicate is false
+   */
+
+  public static <T> T checkPrecondition(
+    final T value,
+    final ContractConditionType<T> condition)
+    throws PreconditionViolationException
+  {
+    return checkPrecondition(
+      value, condition.predicate(), condition.describer());
+  }
+
+  /**
+   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   *
+   * <p>The function throws {@link PreconditionViolationException} if the
+   * predicate is false.</p>
+   *
+   * @param value     The value
+   * @param predicate The predicate
+   * @param describer A describer for the predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If the predicate is false
+   */
+
+  public static <T> T checkPrecondition(
+    final T value,
+    final Predicate<T> predicate,
+    final Function<T, String> describer)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    final boolean ok;
+    try {
+      ok = predicate.test(value);
+    } catch (final Throwable e) {
+      final Violations violations = singlePredicateFailure(e);
+      throw new PreconditionViolationException(value, violations, e);
+    }
+
+    return innerCheck(value, ok, describer);
+  }
+
+  /**
+   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
+   *
+   * <p>The function throws {@link PreconditionViolationException} if the
+   * predicate is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param describer A describer for the predicate
+   * @param <T>       The type of values
+   *
+   * @return value
+   *
+   * @throws PreconditionViolationException If the predicate is false
+   */
+
+  public static <T> T checkPrecondition(
+    final T value,
+    final boolean condition,
+    final Function<T, String> describer)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    return innerCheck(value, condition, describer);
+  }
+
+  /**
+   * A specialized version of {@link #checkPrecondition(Object, boolean,
+   * Function)} that does not mention an input value.
+   *
+   * @param condition The predicate
+   * @param message   The predicate description
+   *
+   * @throws PreconditionViolationException Iff {@code predicate == false}
+   */
+
+  public static void checkPrecondition(
+    final boolean condition,
+    final String message)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return;
+    }
+
+    if (!condition) {
+      final Violations violations = singleViolation(message);
+      throw new PreconditionViolationException("<unspecified>", violations, null);
+    }
+  }
+
+  /**
+   * A specialized version of {@link #checkPrecondition(Object, boolean,
+   * Function)} that does not mention an input value.
+   *
+   * @param condition The predicate
+   * @param message   The predicate description supplier
+   *
+   * @throws PreconditionViolationException Iff {@code predicate == false}
+   */
+
+  public static void checkPrecondition(
+    final boolean condition,
+    final Supplier<String> message)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return;
+    }
+
+    if (!condition) {
+      final Violations violations = singleViolation(applySupplierChecked(message));
+      throw new PreconditionViolationException("<unspecified>", violations, null);
+    }
+  }
+
+  /**
+   * <p>A version of {@link #checkPrecondition(boolean, String)} that constructs
+   * a description message from the given format string and arguments.</p>
+   *
+   * <p>Note that the use of variadic arguments may entail allocating memory on
+   * virtual machines that fail to eliminate the allocations with <i>escape
+   * analysis</i>.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param objects   The format string arguments
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 1.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object... objects)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      final Violations violations = singleViolation(String.format(format, objects));
+      throw new PreconditionViolationException(value, violations, null);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPrecondition(boolean, String)} that constructs
+   * a description message from the given format string and arguments.</p>
+   *
+   * <p>Note that the use of variadic arguments may entail allocating memory on
+   * virtual machines that fail to eliminate the allocations with <i>escape
+   * analysis</i>.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param objects   The format string arguments
+   *
+   * @since 1.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final Object... objects)
+  {
+    checkPreconditionV("<unspecified>", condition, format, objects);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, a0);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly one format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final Object a0)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code int} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final int a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Integer.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code int} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final int a0)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code long} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final long a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Long.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code long} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final long a0)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code double} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final double a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Double.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code double} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final double a0)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code char} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final char a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Character.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code char} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final char a0)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code byte} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final byte a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Byte.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code byte} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final byte a0)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code short} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final short a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Short.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code short} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final short a0)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly one {@code float} format string argument. The argument is boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final float a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, Float.valueOf(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly one {@code float} format string argument. The argument is boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final float a0)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly two format string arguments. The arguments are boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, a0, a1);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly two format string arguments. The arguments are boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0, a1);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that accepts exactly three format string arguments. The arguments are boxed and
+   * the message is formatted only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   * @param a2        The third format string argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1,
+    final Object a2)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw formatted(value, format, a0, a1, a2);
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * accepts exactly three format string arguments. The arguments are boxed and the
+   * message is formatted only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param format    The format string
+   * @param a0        The first format string argument
+   * @param a1        The second format string argument
+   * @param a2        The third format string argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final String format,
+    final Object a0,
+    final Object a1,
+    final Object a2)
+  {
+    checkPreconditionV("<unspecified>", condition, format, a0, a1, a2);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0)
+  {
+    checkPreconditionV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code int} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code int} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0)
+  {
+    checkPreconditionV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code long} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code long} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0)
+  {
+    checkPreconditionV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code double} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final double a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code double} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final double a0)
+  {
+    checkPreconditionV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with one {@code char} argument. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final char a0)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with one {@code char} argument. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final char a0)
+  {
+    checkPreconditionV("<unspecified>", condition, template, a0);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with two arguments. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0, a1));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with two arguments. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1)
+  {
+    checkPreconditionV("<unspecified>", condition, template, a0, a1);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with two {@code int} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0, a1));
+    }
+    return value;
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with two {@code int} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
+   *
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   *
+   * @since 4.1.0
+   */
+
+  public static void checkPreconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1)
+  {
+    checkPreconditionV("<unspecified>", condition, template, a0, a1);
+  }
+
+  /**
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with two {@code long} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
+   *
+   * @param value     The value
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param <T>       The precise type of values
+   *
+   * @return {@code value}
+   *
+   * @since 4.1.0
+   */
+
+  public static <T> T checkPreconditionV(
+    final T value,
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1)
+  {
+    if (!ENABLED) {
+      return value;
+    }
+
+    if (!condition) {
+      throw described(value, template.format(a0, a1));
     }
     return value;
   }
 
   /**
-   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
-   *
-   * <p>The function throws {@link PreconditionViolationException} if the
-   * predicate is false.</p>
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with two {@code long} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * @param value     The value
    * @param condition The predicate
-   * @param <T>       The type of values
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
    *
-   * @return value
-   *
-   * @throws PreconditionViolationException If the predicate is false
+   * @since 4.1.0
    */
 
-  public static <T> T checkPrecondition(
-    final T value,
-    final ContractConditionType<T> condition)
-    throws PreconditionViolationException
+  public static void checkPreconditionV(
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1)
   {
-    return checkPrecondition(
-      value, condition.predicate(), condition.describer());
+    checkPreconditionV("<unspecified>", condition, template, a0, a1);
   }
 
   /**
-   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
-   *
-   * <p>The function throws {@link PreconditionViolationException} if the
-   * predicate is false.</p>
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with three arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
    * @param value     The value
-   * @param predicate The predicate
-   * @param describer A describer for the predicate
-   * @param <T>       The type of values
+   * @param condition The predicate
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
+   * @param <T>       The precise type of values
    *
-   * @return value
+   * @return {@code value}
    *
-   * @throws PreconditionViolationException If the predicate is false
+   * @since 4.1.0
    */
 
-  public static <T> T checkPrecondition(
+  public static <T> T checkPreconditionV(
     final T value,
-    final Predicate<T> predicate,
-    final Function<T, String> describer)
+    final boolean condition,
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1,
+    final Object a2)
   {
-    final boolean ok;
-    try {
-      ok = predicate.test(value);
-    } catch (final Throwable e) {
-      final Violations violations = singleViolation(failedPredicate(e));
-      throw new PreconditionViolationException(
-        failedMessage(value, violations), e, violations.count());
+    if (!ENABLED) {
+      return value;
     }
 
-    return innerCheck(value, ok, describer);
+    if (!condition) {
+      throw described(value, template.format(a0, a1, a2));
+    }
+    return value;
   }
 
   /**
-   * <p>Evaluate the given {@code predicate} using {@code value} as input.</p>
-   *
-   * <p>The function throws {@link PreconditionViolationException} if the
-   * predicate is false.</p>
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with three arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
-   * @param value     The value
    * @param condition The predicate
-   * @param describer A describer for the predicate
-   * @param <T>       The type of values
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    *
-   * @return value
-   *
-   * @throws PreconditionViolationException If the predicate is false
+   * @since 4.1.0
    */
 
-  public static <T> T checkPrecondition(
-    final T value,
+  public static void checkPreconditionV(
     final boolean condition,
-    final Function<T, String> describer)
+    final ContractMessageTemplate template,
+    final Object a0,
+    final Object a1,
+    final Object a2)
   {
-    return innerCheck(value, condition, describer);
+    checkPreconditionV("<unspecified>", condition, template, a0, a1, a2);
   }
 
   /**
-   * A specialized version of {@link #checkPrecondition(Object, boolean,
-   * Function)} that does not mention an input value.
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with three {@code int} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
+   * @param value     The value
    * @param condition The predicate
-   * @param message   The predicate description
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
+   * @param <T>       The precise type of values
    *
-   * @throws PreconditionViolationException Iff {@code predicate == false}
+   * @return {@code value}
+   *
+   * @since 4.1.0
    */
 
-  public static void checkPrecondition(
+  public static <T> T checkPreconditionV(
+    final T value,
     final boolean condition,
-    final String message)
-    throws PreconditionViolationException
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1,
+    final int a2)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     if (!condition) {
-      final Violations violations = singleViolation(message);
-      throw new PreconditionViolationException(
-        failedMessage("<unspecified>", violations), null, violations.count());
+      throw described(value, template.format(a0, a1, a2));
     }
+    return value;
   }
 
   /**
-   * A specialized version of {@link #checkPrecondition(Object, boolean,
-   * Function)} that does not mention an input value.
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with three {@code int} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
    * @param condition The predicate
-   * @param message   The predicate description supplier
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    *
-   * @throws PreconditionViolationException Iff {@code predicate == false}
+   * @since 4.1.0
    */
 
-  public static void checkPrecondition(
+  public static void checkPreconditionV(
     final boolean condition,
-    final Supplier<String> message)
-    throws PreconditionViolationException
+    final ContractMessageTemplate template,
+    final int a0,
+    final int a1,
+    final int a2)
   {
-    if (!condition) {
-      final Violations violations = singleViolation(applySupplierChecked(message));
-      throw new PreconditionViolationException(
-        failedMessage("<unspecified>", violations), null, violations.count());
-    }
+    checkPreconditionV("<unspecified>", condition, template, a0, a1, a2);
   }
 
   /**
-   * <p>A version of {@link #checkPrecondition(boolean, String)} that constructs
-   * a description message from the given format string and arguments.</p>
-   *
-   * <p>Note that the use of variadic arguments may entail allocating memory on
-   * virtual machines that fail to eliminate the allocations with <i>escape
-   * analysis</i>.</p>
+   * <p>A version of {@link #checkPreconditionV(Object, boolean, String, Object...)}
+   * that renders a pre-parsed template with three {@code long} arguments. The
+   * template is rendered only if {@code condition} is false.</p>
    *
    * @param value     The value
    * @param condition The predicate
-   * @param format    The format string
-   * @param objects   The format string arguments
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    * @param <T>       The precise type of values
    *
    * @return {@code value}
    *
-   * @since 1.1.0
+   * @since 4.1.0
    */
 
   public static <T> T checkPreconditionV(
     final T value,
     final boolean condition,
-    final String format,
-    final Object... objects)
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1,
+    final long a2)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     if (!condition) {
-      final Violations violations = singleViolation(String.format(format, objects));
-      throw new PreconditionViolationException(
-        failedMessage(value, violations), null, violations.count());
+      throw described(value, template.format(a0, a1, a2));
     }
     return value;
   }
 
   /**
-   * <p>A version of {@link #checkPrecondition(boolean, String)} that constructs
-   * a description message from the given format string and arguments.</p>
-   *
-   * <p>Note that the use of variadic arguments may entail allocating memory on
-   * virtual machines that fail to eliminate the allocations with <i>escape
-   * analysis</i>.</p>
+   * <p>A version of {@link #checkPreconditionV(boolean, String, Object...)} that
+   * renders a pre-parsed template with three {@code long} arguments. The template
+   * is rendered only if {@code condition} is false.</p>
    *
    * @param condition The predicate
-   * @param format    The format string
-   * @param objects   The format string arguments
+   * @param template  The message template
+   * @param a0        The first template argument
+   * @param a1        The second template argument
+   * @param a2        The third template argument
    *
-   * @since 1.1.0
+   * @since 4.1.0
    */
 
   public static void checkPreconditionV(
     final boolean condition,
+    final ContractMessageTemplate template,
+    final long a0,
+    final long a1,
+    final long a2)
+  {
+    checkPreconditionV("<unspecified>", condition, template, a0, a1, a2);
+  }
+
+  private static PreconditionViolationException described(
+    final Object value,
+    final String message)
+  {
+    return new PreconditionViolationException(
+      value, singleViolation(message), null);
+  }
+
+  private static PreconditionViolationException formatted(
+    final Object value,
     final String format,
     final Object... objects)
   {
-    checkPreconditionV("<unspecified>", condition, format, objects);
+    return new PreconditionViolationException(
+      value, singleViolation(String.format(format, objects)), null);
   }
 
   /**
@@ -379,13 +2972,16 @@ public final class Preconditions
     final IntPredicate predicate,
     final IntFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final boolean ok;
     try {
       ok = predicate.test(value);
     } catch (final Throwable e) {
-      final Violations violations = singleViolation(failedPredicate(e));
-      throw new PreconditionViolationException(
-        failedMessage(Integer.valueOf(value), violations), e, violations.count());
+      final Violations violations = singlePredicateFailure(e);
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, e);
     }
 
     return innerCheckI(value, ok, describer);
@@ -409,6 +3005,10 @@ public final class Preconditions
     final boolean condition,
     final IntFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     return innerCheckI(value, condition, describer);
   }
 
@@ -451,13 +3051,16 @@ public final class Preconditions
     final LongPredicate predicate,
     final LongFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final boolean ok;
     try {
       ok = predicate.test(value);
     } catch (final Throwable e) {
-      final Violations violations = singleViolation(failedPredicate(e));
-      throw new PreconditionViolationException(
-        failedMessage(Long.valueOf(value), violations), e, violations.count());
+      final Violations violations = singlePredicateFailure(e);
+      throw new PreconditionViolationException(Long.valueOf(value), violations, e);
     }
 
     return innerCheckL(value, ok, describer);
@@ -481,6 +3084,10 @@ public final class Preconditions
     final boolean condition,
     final LongFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     return innerCheckL(value, condition, describer);
   }
 
@@ -523,13 +3130,16 @@ public final class Preconditions
     final DoublePredicate predicate,
     final DoubleFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     final boolean ok;
     try {
       ok = predicate.test(value);
     } catch (final Throwable e) {
-      final Violations violations = singleViolation(failedPredicate(e));
-      throw new PreconditionViolationException(
-        failedMessage(Double.valueOf(value), violations), e, violations.count());
+      final Violations violations = singlePredicateFailure(e);
+      throw new PreconditionViolationException(Double.valueOf(value), violations, e);
     }
 
     return innerCheckD(value, ok, describer);
@@ -553,9 +3163,254 @@ public final class Preconditions
     final boolean condition,
     final DoubleFunction<String> describer)
   {
+    if (!ENABLED) {
+      return value;
+    }
+
     return innerCheckD(value, condition, describer);
   }
 
+  /**
+   * <p>Check that {@code index} is within the bounds {@code [0, length)}.</p>
+   *
+   * <p>The check delegates to {@link Objects#checkIndex(int, int)}, which
+   * virtual machines treat as an intrinsic: a check of an index that is
+   * subsequently used to access an array allows the array access bounds
+   * check to be eliminated.</p>
+   *
+   * @param index  The index
+   * @param length The upper bound (exclusive) of the range
+   *
+   * @return {@code index}
+   *
+   * @throws PreconditionViolationException If the index is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkIndex(
+    final int index,
+    final int length)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return index;
+    }
+
+    try {
+      return Objects.checkIndex(index, length);
+    } catch (final IndexOutOfBoundsException e) {
+      throw indexFailure(
+        Integer.valueOf(index),
+        String.format(
+          "Index %d must be in the range [0, %d)",
+          Integer.valueOf(index),
+          Integer.valueOf(length)));
+    }
+  }
+
+  /**
+   * <p>Check that the range {@code [fromIndex, toIndex)} is within the bounds
+   * {@code [0, length)}.</p>
+   *
+   * <p>The check delegates to {@link Objects#checkFromToIndex(int, int,
+   * int)}.</p>
+   *
+   * @param fromIndex The lower bound (inclusive) of the sub-range
+   * @param toIndex   The upper bound (exclusive) of the sub-range
+   * @param length    The upper bound (exclusive) of the range
+   *
+   * @return {@code fromIndex}
+   *
+   * @throws PreconditionViolationException If the sub-range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkFromToIndex(
+    final int fromIndex,
+    final int toIndex,
+    final int length)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return fromIndex;
+    }
+
+    try {
+      return Objects.checkFromToIndex(fromIndex, toIndex, length);
+    } catch (final IndexOutOfBoundsException e) {
+      throw indexFailure(
+        Integer.valueOf(fromIndex),
+        String.format(
+          "Range [%d, %d) must be within the range [0, %d)",
+          Integer.valueOf(fromIndex),
+          Integer.valueOf(toIndex),
+          Integer.valueOf(length)));
+    }
+  }
+
+  /**
+   * <p>Check that the range {@code [fromIndex, fromIndex + size)} is within
+   * the bounds {@code [0, length)}.</p>
+   *
+   * <p>The check delegates to {@link Objects#checkFromIndexSize(int, int,
+   * int)}, and is not subject to integer overflow.</p>
+   *
+   * @param fromIndex The lower bound (inclusive) of the sub-range
+   * @param size      The size of the sub-range
+   * @param length    The upper bound (exclusive) of the range
+   *
+   * @return {@code fromIndex}
+   *
+   * @throws PreconditionViolationException If the sub-range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static int checkFromIndexSize(
+    final int fromIndex,
+    final int size,
+    final int length)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return fromIndex;
+    }
+
+    try {
+      return Objects.checkFromIndexSize(fromIndex, size, length);
+    } catch (final IndexOutOfBoundsException e) {
+      throw indexFailure(
+        Integer.valueOf(fromIndex),
+        String.format(
+          "Range [%d, %d + %d) must be within the range [0, %d)",
+          Integer.valueOf(fromIndex),
+          Integer.valueOf(fromIndex),
+          Integer.valueOf(size),
+          Integer.valueOf(length)));
+    }
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkIndex(int, int)}.
+   *
+   * @param index  The index
+   * @param length The upper bound (exclusive) of the range
+   *
+   * @return {@code index}
+   *
+   * @throws PreconditionViolationException If the index is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkIndexL(
+    final long index,
+    final long length)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return index;
+    }
+
+    try {
+      return Objects.checkIndex(index, length);
+    } catch (final IndexOutOfBoundsException e) {
+      throw indexFailure(
+        Long.valueOf(index),
+        String.format(
+          "Index %d must be in the range [0, %d)",
+          Long.valueOf(index),
+          Long.valueOf(length)));
+    }
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkFromToIndex(int, int,
+   * int)}.
+   *
+   * @param fromIndex The lower bound (inclusive) of the sub-range
+   * @param toIndex   The upper bound (exclusive) of the sub-range
+   * @param length    The upper bound (exclusive) of the range
+   *
+   * @return {@code fromIndex}
+   *
+   * @throws PreconditionViolationException If the sub-range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkFromToIndexL(
+    final long fromIndex,
+    final long toIndex,
+    final long length)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return fromIndex;
+    }
+
+    try {
+      return Objects.checkFromToIndex(fromIndex, toIndex, length);
+    } catch (final IndexOutOfBoundsException e) {
+      throw indexFailure(
+        Long.valueOf(fromIndex),
+        String.format(
+          "Range [%d, %d) must be within the range [0, %d)",
+          Long.valueOf(fromIndex),
+          Long.valueOf(toIndex),
+          Long.valueOf(length)));
+    }
+  }
+
+  /**
+   * A {@code long} specialized version of {@link #checkFromIndexSize(int,
+   * int, int)}.
+   *
+   * @param fromIndex The lower bound (inclusive) of the sub-range
+   * @param size      The size of the sub-range
+   * @param length    The upper bound (exclusive) of the range
+   *
+   * @return {@code fromIndex}
+   *
+   * @throws PreconditionViolationException If the sub-range is out of bounds
+   *
+   * @since 4.1.0
+   */
+
+  public static long checkFromIndexSizeL(
+    final long fromIndex,
+    final long size,
+    final long length)
+    throws PreconditionViolationException
+  {
+    if (!ENABLED) {
+      return fromIndex;
+    }
+
+    try {
+      return Objects.checkFromIndexSize(fromIndex, size, length);
+    } catch (final IndexOutOfBoundsException e) {
+      throw indexFailure(
+        Long.valueOf(fromIndex),
+        String.format(
+          "Range [%d, %d + %d) must be within the range [0, %d)",
+          Long.valueOf(fromIndex),
+          Long.valueOf(fromIndex),
+          Long.valueOf(size),
+          Long.valueOf(length)));
+    }
+  }
+
+  private static PreconditionViolationException indexFailure(
+    final Object value,
+    final String message)
+  {
+    return new PreconditionViolationException(
+      value, singleViolation(message), null);
+  }
+
   private static <T> T innerCheck(
     final T value,
     final boolean condition,
@@ -563,8 +3418,7 @@ public final class Preconditions
   {
     if (!condition) {
       final Violations violations = singleViolation(applyDescriberChecked(value, describer));
-      throw new PreconditionViolationException(
-        failedMessage(value, violations), null, violations.count());
+      throw new PreconditionViolationException(value, violations, null);
     }
     return value;
   }
@@ -576,8 +3430,7 @@ public final class Preconditions
   {
     if (!condition) {
       final Violations violations = singleViolation(applyDescriberIChecked(value, describer));
-      throw new PreconditionViolationException(
-        failedMessage(Integer.valueOf(value), violations), null, violations.count());
+      throw new PreconditionViolationException(Integer.valueOf(value), violations, null);
     }
     return value;
   }
@@ -589,8 +3442,7 @@ public final class Preconditions
   {
     if (!condition) {
       final Violations violations = singleViolation(applyDescriberLChecked(value, describer));
-      throw new PreconditionViolationException(
-        failedMessage(Long.valueOf(value), violations), null, violations.count());
+      throw new PreconditionViolationException(Long.valueOf(value), violations, null);
     }
     return value;
   }
@@ -602,40 +3454,8 @@ public final class Preconditions
   {
     if (!condition) {
       final Violations violations = singleViolation(applyDescriberDChecked(value, describer));
-      throw new PreconditionViolationException(
-        failedMessage(Double.valueOf(value), violations), null, violations.count());
+      throw new PreconditionViolationException(Double.valueOf(value), violations, null);
     }
     return value;
   }
-
-  private static <T> String failedMessage(
-    final T value,
-    final Violations violations)
-  {
-    final String line_separator = System.lineSeparator();
-
-    final StringBuilder sb = new StringBuilder(128);
-    sb.append("Precondition violation.");
-    sb.append(line_separator);
-
-    sb.append("  Received: ");
-    sb.append(value);
-    sb.append(line_separator);
-
-    sb.append("  Violated conditions: ");
-    sb.append(line_separator);
-
-    final String[] messages = violations.messages();
-    for (int index = 0; index < messages.length; ++index) {
-      if (messages[index] != null) {
-        sb.append("    [");
-        sb.append(index);
-        sb.append("]: ");
-        sb.append(messages[index]);
-        sb.append(line_separator);
-      }
-    }
-
-    return sb.toString();
-  }
 }
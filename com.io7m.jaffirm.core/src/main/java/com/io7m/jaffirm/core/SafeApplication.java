@@ -20,6 +20,7 @@ import com.io7m.junreachable.UnreachableCodeException;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.function.BiFunction;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
@@ -91,6 +92,65 @@ final class SafeApplication
     }
   }
 
+  static <C, T> String applyContextDescriberChecked(
+    final C context,
+    final T value,
+    final BiFunction<C, T, String> describer)
+  {
+    try {
+      return describer.apply(context, value);
+    } catch (final Throwable e) {
+      return failedDescriber(e);
+    }
+  }
+
+  static <C> String applyContextDescriberIChecked(
+    final C context,
+    final int value,
+    final ContractObjIntDescriberType<C> describer)
+  {
+    try {
+      return describer.describe(context, value);
+    } catch (final Throwable e) {
+      return failedDescriber(e);
+    }
+  }
+
+  static <C> String applyContextDescriberLChecked(
+    final C context,
+    final long value,
+    final ContractObjLongDescriberType<C> describer)
+  {
+    try {
+      return describer.describe(context, value);
+    } catch (final Throwable e) {
+      return failedDescriber(e);
+    }
+  }
+
+  static <C> String applyContextDescriberDChecked(
+    final C context,
+    final double value,
+    final ContractObjDoubleDescriberType<C> describer)
+  {
+    try {
+      return describer.describe(context, value);
+    } catch (final Throwable e) {
+      return failedDescriber(e);
+    }
+  }
+
+  static String applyToStringChecked(
+    final Object value)
+  {
+    try {
+      return String.valueOf(value);
+    } catch (final Throwable e) {
+      return failedApply(
+        e, "Exception raised whilst converting argument to a string: ");
+    }
+  }
+
   private static String failedDescriber(
     final Throwable exception)
   {
@@ -16,8 +16,20 @@
 
 package com.io7m.jaffirm.core;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
+import java.util.function.LongFunction;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 
@@ -27,17 +39,53 @@ import static com.io7m.jaffirm.core.SafeApplication.applyDescriberIChecked;
 import static com.io7m.jaffirm.core.SafeApplication.applyDescriberLChecked;
 import static com.io7m.jaffirm.core.SafeApplication.failedPredicate;
 
-final class Violations
+final class Violations implements Serializable
 {
-  private final String[] messages;
+  /**
+   * The largest number of conditions for which failures are recorded in a
+   * bitmask, with descriptions deferred until the violations are rendered.
+   */
+
+  static final int MASK_LIMIT = Long.SIZE;
+
+  private String[] messages;
+  private int[] indices;
+  private Throwable[] causes;
   private int count;
+  private long pending;
+  private transient DescriberType describer;
+  private String formatted;
+  private transient List<ContractViolation> details;
 
   private Violations(final int expected)
   {
     this.messages = new String[expected];
+    this.indices = null;
     this.count = 0;
   }
 
+  private Violations(
+    final String[] inMessages,
+    final int[] inIndices,
+    final Throwable[] inCauses)
+  {
+    this.messages = inMessages;
+    this.indices = inIndices;
+    this.causes = inCauses;
+    this.count = inMessages.length;
+  }
+
+  private Violations(
+    final long inPending,
+    final DescriberType inDescriber)
+  {
+    this.messages = null;
+    this.indices = null;
+    this.pending = inPending;
+    this.describer = inDescriber;
+    this.count = Long.bitCount(inPending);
+  }
+
   static Violations singleViolation(
     final String message)
   {
@@ -47,131 +95,1138 @@ final class Violations
     return violations;
   }
 
+  static Violations singlePredicateFailure(
+    final Throwable exception)
+  {
+    final Violations violations = singleViolation(failedPredicate(exception));
+    violations.setCause(0, exception);
+    return violations;
+  }
+
   @SafeVarargs
   static <T> Violations innerCheckAll(
     final T value,
     final ContractConditionType<T>... conditions)
+  {
+    final int count = conditions.length;
+    if (count > MASK_LIMIT) {
+      Violations violations = null;
+      for (int index = 0; index < count; ++index) {
+        violations = checkOne(
+          violations, value, conditions[index], index, count);
+      }
+      return violations;
+    }
+
+    long failed = 0L;
+    for (int index = 0; index < count; ++index) {
+      try {
+        if (!conditions[index].predicate().test(value)) {
+          failed |= 1L << index;
+        }
+      } catch (final Throwable e) {
+        Violations violations =
+          resume(failed, count, describing(value, conditions), index, e);
+        for (int rest = index + 1; rest < count; ++rest) {
+          violations = checkOne(
+            violations, value, conditions[rest], rest, count);
+        }
+        return violations;
+      }
+    }
+    return failed == 0L
+      ? null
+      : new Violations(failed, describing(value, conditions));
+  }
+
+  static <T> Violations innerCheckAll(
+    final T value,
+    final ContractConditionSet<T> conditions)
+  {
+    final Predicate<T>[] predicates = conditions.predicates();
+    final Function<T, String>[] describers = conditions.describers();
+    final int count = predicates.length;
+    if (count > MASK_LIMIT) {
+      Violations violations = null;
+      for (int index = 0; index < count; ++index) {
+        violations = checkOne(
+          violations, value, predicates[index], describers[index], index, count);
+      }
+      return violations;
+    }
+
+    long failed = 0L;
+    for (int index = 0; index < count; ++index) {
+      try {
+        if (!predicates[index].test(value)) {
+          failed |= 1L << index;
+        }
+      } catch (final Throwable e) {
+        Violations violations =
+          resume(failed, count, describing(value, describers), index, e);
+        for (int rest = index + 1; rest < count; ++rest) {
+          violations = checkOne(
+            violations, value, predicates[rest], describers[rest], rest, count);
+        }
+        return violations;
+      }
+    }
+    return failed == 0L
+      ? null
+      : new Violations(failed, describing(value, describers));
+  }
+
+  static <T> Violations innerCheckAll(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1)
   {
     Violations violations = null;
+    violations = checkOne(violations, value, condition0, 0, 2);
+    violations = checkOne(violations, value, condition1, 1, 2);
+    return violations;
+  }
 
-    for (int index = 0; index < conditions.length; ++index) {
-      final ContractConditionType<T> condition = conditions[index];
-      final Predicate<T> predicate = condition.predicate();
+  static <T> Violations innerCheckAll(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1,
+    final ContractConditionType<T> condition2)
+  {
+    Violations violations = null;
+    violations = checkOne(violations, value, condition0, 0, 3);
+    violations = checkOne(violations, value, condition1, 1, 3);
+    violations = checkOne(violations, value, condition2, 2, 3);
+    return violations;
+  }
 
-      final boolean ok;
-      final int count = conditions.length;
+  static <T> Violations innerCheckAll(
+    final T value,
+    final ContractConditionType<T> condition0,
+    final ContractConditionType<T> condition1,
+    final ContractConditionType<T> condition2,
+    final ContractConditionType<T> condition3)
+  {
+    Violations violations = null;
+    violations = checkOne(violations, value, condition0, 0, 4);
+    violations = checkOne(violations, value, condition1, 1, 4);
+    violations = checkOne(violations, value, condition2, 2, 4);
+    violations = checkOne(violations, value, condition3, 3, 4);
+    return violations;
+  }
+
+  static Violations innerCheckAllInt(
+    final int value,
+    final ContractIntConditionType... conditions)
+  {
+    final int count = conditions.length;
+    if (count > MASK_LIMIT) {
+      Violations violations = null;
+      for (int index = 0; index < count; ++index) {
+        violations = checkOneInt(
+          violations, value, conditions[index], index, count);
+      }
+      return violations;
+    }
+
+    long failed = 0L;
+    for (int index = 0; index < count; ++index) {
       try {
-        ok = predicate.test(value);
+        if (!conditions[index].predicate().test(value)) {
+          failed |= 1L << index;
+        }
       } catch (final Throwable e) {
-        violations = maybeAllocate(violations, count);
-        violations.messages()[index] = failedPredicate(e);
-        violations.countUp();
-        continue;
+        Violations violations =
+          resume(failed, count, describingInt(value, conditions), index, e);
+        for (int rest = index + 1; rest < count; ++rest) {
+          violations = checkOneInt(
+            violations, value, conditions[rest], rest, count);
+        }
+        return violations;
       }
+    }
+    return failed == 0L
+      ? null
+      : new Violations(failed, describingInt(value, conditions));
+  }
 
-      if (!ok) {
-        violations = maybeAllocate(violations, count);
-        violations.messages()[index] =
-          applyDescriberChecked(value, condition.describer());
-        violations.countUp();
+  static Violations innerCheckAllInt(
+    final int value,
+    final ContractIntConditionSet conditions)
+  {
+    final IntPredicate[] predicates = conditions.predicates();
+    final IntFunction<String>[] describers = conditions.describers();
+    final int count = predicates.length;
+    if (count > MASK_LIMIT) {
+      Violations violations = null;
+      for (int index = 0; index < count; ++index) {
+        violations = checkOneInt(
+          violations, value, predicates[index], describers[index], index, count);
       }
+      return violations;
     }
+
+    long failed = 0L;
+    for (int index = 0; index < count; ++index) {
+      try {
+        if (!predicates[index].test(value)) {
+          failed |= 1L << index;
+        }
+      } catch (final Throwable e) {
+        Violations violations =
+          resume(failed, count, describingInt(value, describers), index, e);
+        for (int rest = index + 1; rest < count; ++rest) {
+          violations = checkOneInt(
+            violations, value, predicates[rest], describers[rest], rest, count);
+        }
+        return violations;
+      }
+    }
+    return failed == 0L
+      ? null
+      : new Violations(failed, describingInt(value, describers));
+  }
+
+  static Violations innerCheckAllInt(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1)
+  {
+    Violations violations = null;
+    violations = checkOneInt(violations, value, condition0, 0, 2);
+    violations = checkOneInt(violations, value, condition1, 1, 2);
     return violations;
   }
 
   static Violations innerCheckAllInt(
     final int value,
-    final ContractIntConditionType... conditions)
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1,
+    final ContractIntConditionType condition2)
   {
     Violations violations = null;
+    violations = checkOneInt(violations, value, condition0, 0, 3);
+    violations = checkOneInt(violations, value, condition1, 1, 3);
+    violations = checkOneInt(violations, value, condition2, 2, 3);
+    return violations;
+  }
 
-    for (int index = 0; index < conditions.length; ++index) {
-      final ContractIntConditionType condition = conditions[index];
-      final IntPredicate predicate = condition.predicate();
+  static Violations innerCheckAllInt(
+    final int value,
+    final ContractIntConditionType condition0,
+    final ContractIntConditionType condition1,
+    final ContractIntConditionType condition2,
+    final ContractIntConditionType condition3)
+  {
+    Violations violations = null;
+    violations = checkOneInt(violations, value, condition0, 0, 4);
+    violations = checkOneInt(violations, value, condition1, 1, 4);
+    violations = checkOneInt(violations, value, condition2, 2, 4);
+    violations = checkOneInt(violations, value, condition3, 3, 4);
+    return violations;
+  }
 
-      final boolean ok;
-      final int count = conditions.length;
+  static Violations innerCheckAllLong(
+    final long value,
+    final ContractLongConditionType... conditions)
+  {
+    final int count = conditions.length;
+    if (count > MASK_LIMIT) {
+      Violations violations = null;
+      for (int index = 0; index < count; ++index) {
+        violations = checkOneLong(
+          violations, value, conditions[index], index, count);
+      }
+      return violations;
+    }
+
+    long failed = 0L;
+    for (int index = 0; index < count; ++index) {
       try {
-        ok = predicate.test(value);
+        if (!conditions[index].predicate().test(value)) {
+          failed |= 1L << index;
+        }
       } catch (final Throwable e) {
-        violations = maybeAllocate(violations, count);
-        violations.messages()[index] = failedPredicate(e);
-        violations.countUp();
-        continue;
+        Violations violations =
+          resume(failed, count, describingLong(value, conditions), index, e);
+        for (int rest = index + 1; rest < count; ++rest) {
+          violations = checkOneLong(
+            violations, value, conditions[rest], rest, count);
+        }
+        return violations;
       }
+    }
+    return failed == 0L
+      ? null
+      : new Violations(failed, describingLong(value, conditions));
+  }
 
-      if (!ok) {
-        violations = maybeAllocate(violations, count);
-        violations.messages()[index] =
-          applyDescriberIChecked(value, condition.describer());
-        violations.countUp();
+  static Violations innerCheckAllLong(
+    final long value,
+    final ContractLongConditionSet conditions)
+  {
+    final LongPredicate[] predicates = conditions.predicates();
+    final LongFunction<String>[] describers = conditions.describers();
+    final int count = predicates.length;
+    if (count > MASK_LIMIT) {
+      Violations violations = null;
+      for (int index = 0; index < count; ++index) {
+        violations = checkOneLong(
+          violations, value, predicates[index], describers[index], index, count);
+      }
+      return violations;
+    }
+
+    long failed = 0L;
+    for (int index = 0; index < count; ++index) {
+      try {
+        if (!predicates[index].test(value)) {
+          failed |= 1L << index;
+        }
+      } catch (final Throwable e) {
+        Violations violations =
+          resume(failed, count, describingLong(value, describers), index, e);
+        for (int rest = index + 1; rest < count; ++rest) {
+          violations = checkOneLong(
+            violations, value, predicates[rest], describers[rest], rest, count);
+        }
+        return violations;
       }
     }
+    return failed == 0L
+      ? null
+      : new Violations(failed, describingLong(value, describers));
+  }
+
+  static Violations innerCheckAllLong(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1)
+  {
+    Violations violations = null;
+    violations = checkOneLong(violations, value, condition0, 0, 2);
+    violations = checkOneLong(violations, value, condition1, 1, 2);
     return violations;
   }
 
   static Violations innerCheckAllLong(
     final long value,
-    final ContractLongConditionType... conditions)
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1,
+    final ContractLongConditionType condition2)
   {
     Violations violations = null;
+    violations = checkOneLong(violations, value, condition0, 0, 3);
+    violations = checkOneLong(violations, value, condition1, 1, 3);
+    violations = checkOneLong(violations, value, condition2, 2, 3);
+    return violations;
+  }
 
-    for (int index = 0; index < conditions.length; ++index) {
-      final ContractLongConditionType condition = conditions[index];
-      final LongPredicate predicate = condition.predicate();
+  static Violations innerCheckAllLong(
+    final long value,
+    final ContractLongConditionType condition0,
+    final ContractLongConditionType condition1,
+    final ContractLongConditionType condition2,
+    final ContractLongConditionType condition3)
+  {
+    Violations violations = null;
+    violations = checkOneLong(violations, value, condition0, 0, 4);
+    violations = checkOneLong(violations, value, condition1, 1, 4);
+    violations = checkOneLong(violations, value, condition2, 2, 4);
+    violations = checkOneLong(violations, value, condition3, 3, 4);
+    return violations;
+  }
 
-      final boolean ok;
-      final int count = conditions.length;
+  static Violations innerCheckAllDouble(
+    final double value,
+    final ContractDoubleConditionType... conditions)
+  {
+    final int count = conditions.length;
+    if (count > MASK_LIMIT) {
+      Violations violations = null;
+      for (int index = 0; index < count; ++index) {
+        violations = checkOneDouble(
+          violations, value, conditions[index], index, count);
+      }
+      return violations;
+    }
+
+    long failed = 0L;
+    for (int index = 0; index < count; ++index) {
       try {
-        ok = predicate.test(value);
+        if (!conditions[index].predicate().test(value)) {
+          failed |= 1L << index;
+        }
       } catch (final Throwable e) {
-        violations = maybeAllocate(violations, count);
-        violations.messages()[index] = failedPredicate(e);
-        violations.countUp();
-        continue;
+        Violations violations =
+          resume(failed, count, describingDouble(value, conditions), index, e);
+        for (int rest = index + 1; rest < count; ++rest) {
+          violations = checkOneDouble(
+            violations, value, conditions[rest], rest, count);
+        }
+        return violations;
       }
+    }
+    return failed == 0L
+      ? null
+      : new Violations(failed, describingDouble(value, conditions));
+  }
 
-      if (!ok) {
-        violations = maybeAllocate(violations, count);
-        violations.messages()[index] =
-          applyDescriberLChecked(value, condition.describer());
-        violations.countUp();
+  static Violations innerCheckAllDouble(
+    final double value,
+    final ContractDoubleConditionSet conditions)
+  {
+    final DoublePredicate[] predicates = conditions.predicates();
+    final DoubleFunction<String>[] describers = conditions.describers();
+    final int count = predicates.length;
+    if (count > MASK_LIMIT) {
+      Violations violations = null;
+      for (int index = 0; index < count; ++index) {
+        violations = checkOneDouble(
+          violations, value, predicates[index], describers[index], index, count);
       }
+      return violations;
     }
+
+    long failed = 0L;
+    for (int index = 0; index < count; ++index) {
+      try {
+        if (!predicates[index].test(value)) {
+          failed |= 1L << index;
+        }
+      } catch (final Throwable e) {
+        Violations violations =
+          resume(failed, count, describingDouble(value, describers), index, e);
+        for (int rest = index + 1; rest < count; ++rest) {
+          violations = checkOneDouble(
+            violations, value, predicates[rest], describers[rest], rest, count);
+        }
+        return violations;
+      }
+    }
+    return failed == 0L
+      ? null
+      : new Violations(failed, describingDouble(value, describers));
+  }
+
+  static Violations innerCheckAllDouble(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1)
+  {
+    Violations violations = null;
+    violations = checkOneDouble(violations, value, condition0, 0, 2);
+    violations = checkOneDouble(violations, value, condition1, 1, 2);
     return violations;
   }
 
   static Violations innerCheckAllDouble(
     final double value,
-    final ContractDoubleConditionType... conditions)
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1,
+    final ContractDoubleConditionType condition2)
   {
     Violations violations = null;
+    violations = checkOneDouble(violations, value, condition0, 0, 3);
+    violations = checkOneDouble(violations, value, condition1, 1, 3);
+    violations = checkOneDouble(violations, value, condition2, 2, 3);
+    return violations;
+  }
 
-    for (int index = 0; index < conditions.length; ++index) {
-      final ContractDoubleConditionType condition = conditions[index];
-      final DoublePredicate predicate = condition.predicate();
+  static Violations innerCheckAllDouble(
+    final double value,
+    final ContractDoubleConditionType condition0,
+    final ContractDoubleConditionType condition1,
+    final ContractDoubleConditionType condition2,
+    final ContractDoubleConditionType condition3)
+  {
+    Violations violations = null;
+    violations = checkOneDouble(violations, value, condition0, 0, 4);
+    violations = checkOneDouble(violations, value, condition1, 1, 4);
+    violations = checkOneDouble(violations, value, condition2, 2, 4);
+    violations = checkOneDouble(violations, value, condition3, 3, 4);
+    return violations;
+  }
+
+  static Violations innerCheckArrayFirstInt(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+  {
+    Objects.checkFromIndexSize(offset, length, values.length);
+
+    final IntPredicate predicate = condition.predicate();
+    final int end = offset + length;
+    int index = offset;
+    try {
+      while (index < end && predicate.test(values[index])) {
+        ++index;
+      }
+    } catch (final Throwable e) {
+      return arrayViolation(index, failedPredicate(e), e);
+    }
+
+    if (index < end) {
+      return arrayViolation(
+        index, applyDescriberIChecked(values[index], condition.describer()), null);
+    }
+    return null;
+  }
+
+  static Violations innerCheckArrayAllInt(
+    final int[] values,
+    final int offset,
+    final int length,
+    final ContractIntConditionType condition)
+  {
+    Objects.checkFromIndexSize(offset, length, values.length);
+
+    final ArrayViolations results =
+      collectInt(null, values, offset, offset + length, condition);
+    return results == null ? null : results.build();
+  }
+
+  static ArrayViolations collectInt(
+    final ArrayViolations existing,
+    final int[] values,
+    final int from,
+    final int to,
+    final ContractIntConditionType condition)
+  {
+    final IntPredicate predicate = condition.predicate();
+    ArrayViolations results = existing;
+    for (int index = from; index < to; ++index) {
+      final boolean ok;
+      try {
+        ok = predicate.test(values[index]);
+      } catch (final Throwable e) {
+        results = ArrayViolations.add(results, index, failedPredicate(e), e);
+        continue;
+      }
+      if (!ok) {
+        results = ArrayViolations.add(
+          results,
+          index,
+          applyDescriberIChecked(values[index], condition.describer()),
+          null);
+      }
+    }
+    return results;
+  }
+
+  static Violations innerCheckArrayFirstLong(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+  {
+    Objects.checkFromIndexSize(offset, length, values.length);
+
+    final LongPredicate predicate = condition.predicate();
+    final int end = offset + length;
+    int index = offset;
+    try {
+      while (index < end && predicate.test(values[index])) {
+        ++index;
+      }
+    } catch (final Throwable e) {
+      return arrayViolation(index, failedPredicate(e), e);
+    }
+
+    if (index < end) {
+      return arrayViolation(
+        index, applyDescriberLChecked(values[index], condition.describer()), null);
+    }
+    return null;
+  }
+
+  static Violations innerCheckArrayAllLong(
+    final long[] values,
+    final int offset,
+    final int length,
+    final ContractLongConditionType condition)
+  {
+    Objects.checkFromIndexSize(offset, length, values.length);
+
+    final ArrayViolations results =
+      collectLong(null, values, offset, offset + length, condition);
+    return results == null ? null : results.build();
+  }
+
+  static ArrayViolations collectLong(
+    final ArrayViolations existing,
+    final long[] values,
+    final int from,
+    final int to,
+    final ContractLongConditionType condition)
+  {
+    final LongPredicate predicate = condition.predicate();
+    ArrayViolations results = existing;
+    for (int index = from; index < to; ++index) {
+      final boolean ok;
+      try {
+        ok = predicate.test(values[index]);
+      } catch (final Throwable e) {
+        results = ArrayViolations.add(results, index, failedPredicate(e), e);
+        continue;
+      }
+      if (!ok) {
+        results = ArrayViolations.add(
+          results,
+          index,
+          applyDescriberLChecked(values[index], condition.describer()),
+          null);
+      }
+    }
+    return results;
+  }
+
+  static Violations innerCheckArrayFirstDouble(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+  {
+    Objects.checkFromIndexSize(offset, length, values.length);
 
+    final DoublePredicate predicate = condition.predicate();
+    final int end = offset + length;
+    int index = offset;
+    try {
+      while (index < end && predicate.test(values[index])) {
+        ++index;
+      }
+    } catch (final Throwable e) {
+      return arrayViolation(index, failedPredicate(e), e);
+    }
+
+    if (index < end) {
+      return arrayViolation(
+        index, applyDescriberDChecked(values[index], condition.describer()), null);
+    }
+    return null;
+  }
+
+  static Violations innerCheckArrayAllDouble(
+    final double[] values,
+    final int offset,
+    final int length,
+    final ContractDoubleConditionType condition)
+  {
+    Objects.checkFromIndexSize(offset, length, values.length);
+
+    final ArrayViolations results =
+      collectDouble(null, values, offset, offset + length, condition);
+    return results == null ? null : results.build();
+  }
+
+  static ArrayViolations collectDouble(
+    final ArrayViolations existing,
+    final double[] values,
+    final int from,
+    final int to,
+    final ContractDoubleConditionType condition)
+  {
+    final DoublePredicate predicate = condition.predicate();
+    ArrayViolations results = existing;
+    for (int index = from; index < to; ++index) {
+      final boolean ok;
+      try {
+        ok = predicate.test(values[index]);
+      } catch (final Throwable e) {
+        results = ArrayViolations.add(results, index, failedPredicate(e), e);
+        continue;
+      }
+      if (!ok) {
+        results = ArrayViolations.add(
+          results,
+          index,
+          applyDescriberDChecked(values[index], condition.describer()),
+          null);
+      }
+    }
+    return results;
+  }
+
+  static <T> ArrayViolations collect(
+    final ArrayViolations existing,
+    final List<T> values,
+    final int from,
+    final int to,
+    final ContractConditionType<T> condition)
+  {
+    final Predicate<T> predicate = condition.predicate();
+    ArrayViolations results = existing;
+    for (int index = from; index < to; ++index) {
+      final T value = values.get(index);
       final boolean ok;
-      final int count = conditions.length;
       try {
         ok = predicate.test(value);
       } catch (final Throwable e) {
-        violations = maybeAllocate(violations, count);
-        violations.messages()[index] = failedPredicate(e);
-        violations.countUp();
+        results = ArrayViolations.add(results, index, failedPredicate(e), e);
         continue;
       }
+      if (!ok) {
+        results = ArrayViolations.add(
+          results,
+          index,
+          applyDescriberChecked(value, condition.describer()),
+          null);
+      }
+    }
+    return results;
+  }
 
+  static String arrayDescription(
+    final String type,
+    final int arrayLength,
+    final int offset,
+    final int length)
+  {
+    return String.format(
+      "%s[%d] (offset %d, length %d)",
+      type,
+      Integer.valueOf(arrayLength),
+      Integer.valueOf(offset),
+      Integer.valueOf(length));
+  }
+
+  static <T> ArrayViolations collectElement(
+    final ArrayViolations existing,
+    final T value,
+    final int position,
+    final ContractConditionSet<T> conditions)
+  {
+    final Predicate<T>[] predicates = conditions.predicates();
+    final Function<T, String>[] describers = conditions.describers();
+    ArrayViolations results = existing;
+    for (int index = 0; index < predicates.length; ++index) {
+      final boolean ok;
+      try {
+        ok = predicates[index].test(value);
+      } catch (final Throwable e) {
+        results = ArrayViolations.add(results, position, failedPredicate(e), e);
+        continue;
+      }
       if (!ok) {
-        violations = maybeAllocate(violations, count);
-        violations.messages()[index] =
-          applyDescriberDChecked(value, condition.describer());
-        violations.countUp();
+        results = ArrayViolations.add(
+          results,
+          position,
+          applyDescriberChecked(value, describers[index]),
+          null);
+      }
+    }
+    return results;
+  }
+
+  static String collectionDescription(
+    final int size)
+  {
+    return String.format("Collection (size %d)", Integer.valueOf(size));
+  }
+
+  private static Violations arrayViolation(
+    final int index,
+    final String message,
+    final Throwable cause)
+  {
+    return new Violations(
+      new String[]{message},
+      new int[]{index},
+      cause == null ? null : new Throwable[]{cause});
+  }
+
+  @SafeVarargs
+  static <T> Violations innerCheckFirst(
+    final T value,
+    final ContractConditionType<T>... conditions)
+  {
+    for (int index = 0; index < conditions.length; ++index) {
+      final Violations violations = checkOne(
+        null, value, conditions[index], index, conditions.length);
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  static <T> Violations innerCheckFirst(
+    final T value,
+    final ContractConditionSet<T> conditions)
+  {
+    final Predicate<T>[] predicates = conditions.predicates();
+    final Function<T, String>[] describers = conditions.describers();
+    final int count = predicates.length;
+
+    for (int index = 0; index < count; ++index) {
+      final Violations violations = checkOne(
+        null, value, predicates[index], describers[index], index, count);
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  static Violations innerCheckFirstInt(
+    final int value,
+    final ContractIntConditionType... conditions)
+  {
+    for (int index = 0; index < conditions.length; ++index) {
+      final Violations violations = checkOneInt(
+        null, value, conditions[index], index, conditions.length);
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  static Violations innerCheckFirstInt(
+    final int value,
+    final ContractIntConditionSet conditions)
+  {
+    final IntPredicate[] predicates = conditions.predicates();
+    final IntFunction<String>[] describers = conditions.describers();
+    final int count = predicates.length;
+
+    for (int index = 0; index < count; ++index) {
+      final Violations violations = checkOneInt(
+        null, value, predicates[index], describers[index], index, count);
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  static Violations innerCheckFirstLong(
+    final long value,
+    final ContractLongConditionType... conditions)
+  {
+    for (int index = 0; index < conditions.length; ++index) {
+      final Violations violations = checkOneLong(
+        null, value, conditions[index], index, conditions.length);
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  static Violations innerCheckFirstLong(
+    final long value,
+    final ContractLongConditionSet conditions)
+  {
+    final LongPredicate[] predicates = conditions.predicates();
+    final LongFunction<String>[] describers = conditions.describers();
+    final int count = predicates.length;
+
+    for (int index = 0; index < count; ++index) {
+      final Violations violations = checkOneLong(
+        null, value, predicates[index], describers[index], index, count);
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  static Violations innerCheckFirstDouble(
+    final double value,
+    final ContractDoubleConditionType... conditions)
+  {
+    for (int index = 0; index < conditions.length; ++index) {
+      final Violations violations = checkOneDouble(
+        null, value, conditions[index], index, conditions.length);
+      if (violations != null) {
+        return violations;
       }
     }
+    return null;
+  }
+
+  static Violations innerCheckFirstDouble(
+    final double value,
+    final ContractDoubleConditionSet conditions)
+  {
+    final DoublePredicate[] predicates = conditions.predicates();
+    final DoubleFunction<String>[] describers = conditions.describers();
+    final int count = predicates.length;
+
+    for (int index = 0; index < count; ++index) {
+      final Violations violations = checkOneDouble(
+        null, value, predicates[index], describers[index], index, count);
+      if (violations != null) {
+        return violations;
+      }
+    }
+    return null;
+  }
+
+  private static <T> Violations checkOne(
+    final Violations violations,
+    final T value,
+    final ContractConditionType<T> condition,
+    final int index,
+    final int count)
+  {
+    return checkOne(
+      violations,
+      value,
+      condition.predicate(),
+      condition.describer(),
+      index,
+      count);
+  }
+
+  static <T> Violations checkOne(
+    final Violations violations,
+    final T value,
+    final Predicate<T> predicate,
+    final Function<T, String> describer,
+    final int index,
+    final int count)
+  {
+    final boolean ok;
+    try {
+      ok = predicate.test(value);
+    } catch (final Throwable e) {
+      final Violations result = maybeAllocate(violations, count);
+      result.messages[index] = failedPredicate(e);
+      result.setCause(index, e);
+      result.countUp();
+      return result;
+    }
+
+    if (!ok) {
+      final Violations result = maybeAllocate(violations, count);
+      result.messages[index] =
+        applyDescriberChecked(value, describer);
+      result.countUp();
+      return result;
+    }
+    return violations;
+  }
+
+  private static Violations checkOneInt(
+    final Violations violations,
+    final int value,
+    final ContractIntConditionType condition,
+    final int index,
+    final int count)
+  {
+    return checkOneInt(
+      violations,
+      value,
+      condition.predicate(),
+      condition.describer(),
+      index,
+      count);
+  }
+
+  static Violations checkOneInt(
+    final Violations violations,
+    final int value,
+    final IntPredicate predicate,
+    final IntFunction<String> describer,
+    final int index,
+    final int count)
+  {
+    final boolean ok;
+    try {
+      ok = predicate.test(value);
+    } catch (final Throwable e) {
+      final Violations result = maybeAllocate(violations, count);
+      result.messages[index] = failedPredicate(e);
+      result.setCause(index, e);
+      result.countUp();
+      return result;
+    }
+
+    if (!ok) {
+      final Violations result = maybeAllocate(violations, count);
+      result.messages[index] =
+        applyDescriberIChecked(value, describer);
+      result.countUp();
+      return result;
+    }
+    return violations;
+  }
+
+  private static Violations checkOneLong(
+    final Violations violations,
+    final long value,
+    final ContractLongConditionType condition,
+    final int index,
+    final int count)
+  {
+    return checkOneLong(
+      violations,
+      value,
+      condition.predicate(),
+      condition.describer(),
+      index,
+      count);
+  }
+
+  static Violations checkOneLong(
+    final Violations violations,
+    final long value,
+    final LongPredicate predicate,
+    final LongFunction<String> describer,
+    final int index,
+    final int count)
+  {
+    final boolean ok;
+    try {
+      ok = predicate.test(value);
+    } catch (final Throwable e) {
+      final Violations result = maybeAllocate(violations, count);
+      result.messages[index] = failedPredicate(e);
+      result.setCause(index, e);
+      result.countUp();
+      return result;
+    }
+
+    if (!ok) {
+      final Violations result = maybeAllocate(violations, count);
+      result.messages[index] =
+        applyDescriberLChecked(value, describer);
+      result.countUp();
+      return result;
+    }
     return violations;
   }
 
+  private static Violations checkOneDouble(
+    final Violations violations,
+    final double value,
+    final ContractDoubleConditionType condition,
+    final int index,
+    final int count)
+  {
+    return checkOneDouble(
+      violations,
+      value,
+      condition.predicate(),
+      condition.describer(),
+      index,
+      count);
+  }
+
+  static Violations checkOneDouble(
+    final Violations violations,
+    final double value,
+    final DoublePredicate predicate,
+    final DoubleFunction<String> describer,
+    final int index,
+    final int count)
+  {
+    final boolean ok;
+    try {
+      ok = predicate.test(value);
+    } catch (final Throwable e) {
+      final Violations result = maybeAllocate(violations, count);
+      result.messages[index] = failedPredicate(e);
+      result.setCause(index, e);
+      result.countUp();
+      return result;
+    }
+
+    if (!ok) {
+      final Violations result = maybeAllocate(violations, count);
+      result.messages[index] =
+        applyDescriberDChecked(value, describer);
+      result.countUp();
+      return result;
+    }
+    return violations;
+  }
+
+  /**
+   * Switch from a bitmask to eagerly rendered messages after the predicate at
+   * {@code index} raised an exception, so that the exception can be
+   * recorded as the cause of the violation.
+   */
+
+  private static Violations resume(
+    final long failed,
+    final int count,
+    final DescriberType describer,
+    final int index,
+    final Throwable exception)
+  {
+    final Violations violations = new Violations(count);
+    for (long bits = failed; bits != 0L; bits &= bits - 1L) {
+      final int failedIndex = Long.numberOfTrailingZeros(bits);
+      violations.messages[failedIndex] = describer.describe(failedIndex);
+      violations.countUp();
+    }
+    violations.messages[index] = failedPredicate(exception);
+    violations.setCause(index, exception);
+    violations.countUp();
+    return violations;
+  }
+
+  private static <T> DescriberType describing(
+    final T value,
+    final ContractConditionType<T>[] conditions)
+  {
+    return index -> applyDescriberChecked(value, conditions[index].describer());
+  }
+
+  private static <T> DescriberType describing(
+    final T value,
+    final Function<T, String>[] describers)
+  {
+    return index -> applyDescriberChecked(value, describers[index]);
+  }
+
+  private static DescriberType describingInt(
+    final int value,
+    final ContractIntConditionType[] conditions)
+  {
+    return index -> applyDescriberIChecked(value, conditions[index].describer());
+  }
+
+  private static DescriberType describingInt(
+    final int value,
+    final IntFunction<String>[] describers)
+  {
+    return index -> applyDescriberIChecked(value, describers[index]);
+  }
+
+  private static DescriberType describingLong(
+    final long value,
+    final ContractLongConditionType[] conditions)
+  {
+    return index -> applyDescriberLChecked(value, conditions[index].describer());
+  }
+
+  private static DescriberType describingLong(
+    final long value,
+    final LongFunction<String>[] describers)
+  {
+    return index -> applyDescriberLChecked(value, describers[index]);
+  }
+
+  private static DescriberType describingDouble(
+    final double value,
+    final ContractDoubleConditionType[] conditions)
+  {
+    return index -> applyDescriberDChecked(value, conditions[index].describer());
+  }
+
+  private static DescriberType describingDouble(
+    final double value,
+    final DoubleFunction<String>[] describers)
+  {
+    return index -> applyDescriberDChecked(value, describers[index]);
+  }
+
   private static Violations maybeAllocate(
     final Violations violations,
     final int count)
@@ -179,9 +1234,118 @@ final class Violations
     return violations == null ? new Violations(count) : violations;
   }
 
-  String[] messages()
+  String format(
+    final String heading,
+    final Object value)
+  {
+    if (this.formatted != null) {
+      return this.formatted;
+    }
+
+    this.render();
+
+    final String line_separator = System.lineSeparator();
+    final StringBuilder sb = new StringBuilder(128);
+    sb.append(heading);
+    sb.append(line_separator);
+
+    sb.append("  Received: ");
+    sb.append(value);
+    sb.append(line_separator);
+
+    sb.append("  Violated conditions: ");
+    sb.append(line_separator);
+
+    for (int index = 0; index < this.messages.length; ++index) {
+      if (this.messages[index] != null) {
+        sb.append("    [");
+        sb.append(this.indexOf(index));
+        sb.append("]: ");
+        sb.append(this.messages[index]);
+        sb.append(line_separator);
+      }
+    }
+
+    this.formatted = sb.toString();
+    return this.formatted;
+  }
+
+  List<ContractViolation> details()
+  {
+    if (this.details != null) {
+      return this.details;
+    }
+
+    this.render();
+
+    final ArrayList<ContractViolation> results = new ArrayList<>(this.count);
+    for (int index = 0; index < this.messages.length; ++index) {
+      if (this.messages[index] != null) {
+        final Throwable cause =
+          this.causes == null ? null : this.causes[index];
+        results.add(
+          ContractViolation.of(
+            this.indexOf(index),
+            this.messages[index],
+            Optional.ofNullable(cause)));
+      }
+    }
+
+    this.details = List.copyOf(results);
+    return this.details;
+  }
+
+  private int indexOf(
+    final int index)
+  {
+    return this.indices == null ? index : this.indices[index];
+  }
+
+  private void setCause(
+    final int index,
+    final Throwable cause)
+  {
+    if (this.causes == null) {
+      this.causes = new Throwable[this.messages.length];
+    }
+    this.causes[index] = cause;
+  }
+
+  /**
+   * Call the describers of any conditions recorded in the bitmask. Rendered
+   * messages are stored compactly, in ascending order of condition index.
+   */
+
+  private synchronized void render()
+  {
+    final DescriberType source = this.describer;
+    if (source == null) {
+      return;
+    }
+
+    final int size = Long.bitCount(this.pending);
+    final String[] rendered = new String[size];
+    final int[] renderedIndices = new int[size];
+    int slot = 0;
+    for (long bits = this.pending; bits != 0L; bits &= bits - 1L) {
+      final int index = Long.numberOfTrailingZeros(bits);
+      rendered[slot] = source.describe(index);
+      renderedIndices[slot] = index;
+      ++slot;
+    }
+
+    this.messages = rendered;
+    this.indices = renderedIndices;
+    this.pending = 0L;
+    this.describer = null;
+  }
+
+  private void writeObject(
+    final ObjectOutputStream output)
+    throws IOException
   {
-    return this.messages;
+    this.render();
+    output.defaultWriteObject();
   }
 
   int count()
@@ -193,4 +1357,121 @@ final class Violations
   {
     ++this.count;
   }
+
+  /**
+   * A source of descriptions for failed conditions, identified by their
+   * index in the declared list of conditions.
+   */
+
+  @FunctionalInterface
+  private interface DescriberType
+  {
+    String describe(int index);
+  }
+
+  static final class ArrayViolations
+  {
+    private String[] messages;
+    private int[] indices;
+    private Throwable[] causes;
+    private int count;
+
+    private ArrayViolations()
+    {
+      this.messages = new String[8];
+      this.indices = new int[8];
+    }
+
+    static ArrayViolations add(
+      final ArrayViolations existing,
+      final int index,
+      final String message,
+      final Throwable cause)
+    {
+      final ArrayViolations results =
+        existing == null ? new ArrayViolations() : existing;
+
+      if (results.count == results.messages.length) {
+        final int size = results.count * 2;
+        results.messages = Arrays.copyOf(results.messages, size);
+        results.indices = Arrays.copyOf(results.indices, size);
+        if (results.causes != null) {
+          results.causes = Arrays.copyOf(results.causes, size);
+        }
+      }
+      if (cause != null && results.causes == null) {
+        results.causes = new Throwable[results.messages.length];
+      }
+
+      results.messages[results.count] = message;
+      results.indices[results.count] = index;
+      if (cause != null) {
+        results.causes[results.count] = cause;
+      }
+      ++results.count;
+      return results;
+    }
+
+    static ArrayViolations merge(
+      final ArrayViolations first,
+      final ArrayViolations second)
+    {
+      return merge(first, second, 0);
+    }
+
+    /**
+     * Merge two sets of violations, adding {@code shift} to the indices of
+     * the second set.
+     */
+
+    static ArrayViolations merge(
+      final ArrayViolations first,
+      final ArrayViolations second,
+      final int shift)
+    {
+      if (second == null) {
+        return first;
+      }
+      if (shift != 0) {
+        for (int index = 0; index < second.count; ++index) {
+          second.indices[index] += shift;
+        }
+      }
+      if (first == null) {
+        return second;
+      }
+
+      final int size = first.count + second.count;
+      final String[] messages = Arrays.copyOf(first.messages, size);
+      final int[] indices = Arrays.copyOf(first.indices, size);
+      System.arraycopy(second.messages, 0, messages, first.count, second.count);
+      System.arraycopy(second.indices, 0, indices, first.count, second.count);
+
+      Throwable[] causes = null;
+      if (first.causes != null || second.causes != null) {
+        causes = new Throwable[size];
+        if (first.causes != null) {
+          System.arraycopy(first.causes, 0, causes, 0, first.count);
+        }
+        if (second.causes != null) {
+          System.arraycopy(second.causes, 0, causes, first.count, second.count);
+        }
+      }
+
+      final ArrayViolations results = new ArrayViolations();
+      results.messages = messages;
+      results.indices = indices;
+      results.causes = causes;
+      results.count = size;
+      return results;
+    }
+
+    Violations build()
+    {
+      return new Violations(
+        Arrays.copyOf(this.messages, this.count),
+        Arrays.copyOf(this.indices, this.count),
+        this.causes == null ? null : Arrays.copyOf(this.causes, this.count));
+    }
+  }
 }
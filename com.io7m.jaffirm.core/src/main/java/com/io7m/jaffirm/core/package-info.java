@@ -19,7 +19,7 @@
  */
 
 @Export
-@Version("4.0.0")
+@Version("4.1.0")
 package com.io7m.jaffirm.core;
 
 import org.osgi.annotation.bundle.Export;
@@ -24,6 +24,7 @@ module com.io7m.jaffirm.core
   requires static org.immutables.value;
   requires static org.osgi.annotation.bundle;
   requires static org.osgi.annotation.versioning;
+  requires static jdk.jfr;
 
   requires com.io7m.junreachable.core;
 
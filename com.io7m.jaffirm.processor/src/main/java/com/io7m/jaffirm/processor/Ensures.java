@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Declare a postcondition on a method.</p>
+ *
+ * <p>The {@link #value()} of the annotation is a Java boolean expression
+ * that may refer to the parameters of the annotated method by name, and to
+ * the value returned by the method as {@code result}. For a method
+ * {@code m} declared in a type {@code T}, the contract processor generates
+ * a class {@code TContracts} in the same package containing a static
+ * method {@code ensuresM} that accepts the returned value followed by the
+ * parameters of {@code m}, checks each declared postcondition in turn
+ * using {@code Postconditions}, and returns the value. The annotated
+ * method is expected to pass its result through the generated method. For
+ * {@code void} methods, the generated method accepts only the parameters
+ * and returns nothing.</p>
+ *
+ * @since 4.1.0
+ */
+
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.METHOD})
+@Repeatable(Ensures.List.class)
+public @interface Ensures
+{
+  /**
+   * @return A boolean expression over {@code result} and the parameters of the
+   * annotated method
+   */
+
+  String value();
+
+  /**
+   * @return The description of the violation, or the text of {@link #value()}
+   * if empty
+   */
+
+  String message() default "";
+
+  /**
+   * A container for repeated {@link Ensures} annotations.
+   */
+
+  @Documented
+  @Retention(RetentionPolicy.SOURCE)
+  @Target({ElementType.METHOD})
+  @interface List
+  {
+    /**
+     * @return The contained annotations
+     */
+
+    Ensures[] value();
+  }
+}
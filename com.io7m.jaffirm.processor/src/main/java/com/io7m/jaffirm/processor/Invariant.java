@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Declare an invariant on a type.</p>
+ *
+ * <p>The {@link #value()} of the annotation is a Java boolean expression
+ * that may refer to an instance of the annotated type as {@code self}. For
+ * a type {@code T}, the contract processor generates a class
+ * {@code TContracts} in the same package containing a static method
+ * {@code checkInvariants} that accepts an instance of {@code T} and checks
+ * each declared invariant in turn using {@code Invariants}. As the
+ * generated method is declared outside of {@code T}, the expression may
+ * only use members of {@code T} that are accessible from within the
+ * package.</p>
+ *
+ * @since 4.1.0
+ */
+
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE})
+@Repeatable(Invariant.List.class)
+public @interface Invariant
+{
+  /**
+   * @return A boolean expression over {@code self}
+   */
+
+  String value();
+
+  /**
+   * @return The description of the violation, or the text of {@link #value()}
+   * if empty
+   */
+
+  String message() default "";
+
+  /**
+   * A container for repeated {@link Invariant} annotations.
+   */
+
+  @Documented
+  @Retention(RetentionPolicy.SOURCE)
+  @Target({ElementType.TYPE})
+  @interface List
+  {
+    /**
+     * @return The contained annotations
+     */
+
+    Invariant[] value();
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Declare a precondition on a method or constructor.</p>
+ *
+ * <p>The {@link #value()} of the annotation is a Java boolean expression
+ * that may refer to the parameters of the annotated method by name. For a
+ * method {@code m} declared in a type {@code T}, the contract processor
+ * generates a class {@code TContracts} in the same package containing a
+ * static method {@code requiresM} that accepts the same parameters as
+ * {@code m} and checks each declared precondition in turn using
+ * {@code Preconditions.checkPrecondition}. For constructors, the generated
+ * method is named {@code requiresConstructor}. The annotated method is
+ * expected to call the generated method on entry.</p>
+ *
+ * @since 4.1.0
+ */
+
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.METHOD, ElementType.CONSTRUCTOR})
+@Repeatable(Requires.List.class)
+public @interface Requires
+{
+  /**
+   * @return A boolean expression over the parameters of the annotated method
+   */
+
+  String value();
+
+  /**
+   * @return The description of the violation, or the text of {@link #value()}
+   * if empty
+   */
+
+  String message() default "";
+
+  /**
+   * A container for repeated {@link Requires} annotations.
+   */
+
+  @Documented
+  @Retention(RetentionPolicy.SOURCE)
+  @Target({ElementType.METHOD, ElementType.CONSTRUCTOR})
+  @interface List
+  {
+    /**
+     * @return The contained annotations
+     */
+
+    Requires[] value();
+  }
+}
@@ -0,0 +1,536 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.processor.internal;
+
+import com.io7m.jaffirm.processor.Ensures;
+import com.io7m.jaffirm.processor.Invariant;
+import com.io7m.jaffirm.processor.Requires;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * A writer that produces the source code of the contract class generated
+ * for a single annotated type.
+ */
+
+final class ContractClassWriter
+{
+  private static final String PRECONDITIONS =
+    "com.io7m.jaffirm.core.Preconditions";
+  private static final String POSTCONDITIONS =
+    "com.io7m.jaffirm.core.Postconditions";
+  private static final String INVARIANTS =
+    "com.io7m.jaffirm.core.Invariants";
+
+  private final Elements elements;
+  private final Types types;
+  private final TypeElement type;
+  private final List<ExecutableElement> methods;
+  private final Map<String, ExecutableElement> signatures;
+  private boolean invariants;
+
+  ContractClassWriter(
+    final Elements inElements,
+    final Types inTypes,
+    final TypeElement inType)
+  {
+    this.elements = inElements;
+    this.types = inTypes;
+    this.type = inType;
+    this.methods = new ArrayList<>();
+    this.signatures = new HashMap<>();
+    this.invariants = false;
+  }
+
+  /**
+   * Add a method for which contract methods will be generated. The method
+   * is not added if any of the generated methods would have the same name
+   * and erased parameter types as a method generated for a method that was
+   * already added, as the generated class would not compile.
+   *
+   * @param method The method
+   *
+   * @return The previously added method with clashing generated methods
+   */
+
+  Optional<ExecutableElement> addMethod(
+    final ExecutableElement method)
+  {
+    final List<String> added = this.signaturesOf(method);
+    for (final String signature : added) {
+      final ExecutableElement existing = this.signatures.get(signature);
+      if (existing != null) {
+        return Optional.of(existing);
+      }
+    }
+    for (final String signature : added) {
+      this.signatures.put(signature, method);
+    }
+    this.methods.add(method);
+    return Optional.empty();
+  }
+
+  private List<String> signaturesOf(
+    final ExecutableElement method)
+  {
+    final List<String> parameters = new ArrayList<>();
+    for (final VariableElement parameter : method.getParameters()) {
+      parameters.add(this.types.erasure(parameter.asType()).toString());
+    }
+
+    final List<String> results = new ArrayList<>(2);
+    if (method.getAnnotationsByType(Requires.class).length > 0) {
+      results.add(
+        "requires" + methodSuffix(method) + parameters.toString());
+    }
+    if (method.getAnnotationsByType(Ensures.class).length > 0) {
+      final TypeMirror returnType = method.getReturnType();
+      final List<String> withResult = new ArrayList<>(parameters);
+      if (returnType.getKind() != TypeKind.VOID) {
+        withResult.add(0, this.types.erasure(returnType).toString());
+      }
+      results.add(
+        "ensures" + methodSuffix(method) + withResult.toString());
+    }
+    return results;
+  }
+
+  void addInvariants()
+  {
+    this.invariants = true;
+  }
+
+  String packageName()
+  {
+    return this.elements.getPackageOf(this.type)
+      .getQualifiedName()
+      .toString();
+  }
+
+  String simpleName()
+  {
+    final StringBuilder name = new StringBuilder(64);
+    Element current = this.type;
+    while (current.getKind() != ElementKind.PACKAGE) {
+      if (!name.isEmpty()) {
+        name.insert(0, '_');
+      }
+      name.insert(0, current.getSimpleName());
+      current = current.getEnclosingElement();
+    }
+    name.append("Contracts");
+    return name.toString();
+  }
+
+  String qualifiedName()
+  {
+    final String packageName = this.packageName();
+    if (packageName.isEmpty()) {
+      return this.simpleName();
+    }
+    return packageName + "." + this.simpleName();
+  }
+
+  void write(
+    final Writer output)
+    throws IOException
+  {
+    final String packageName = this.packageName();
+    final String simpleName = this.simpleName();
+
+    if (!packageName.isEmpty()) {
+      output.append("package ").append(packageName).append(";\n\n");
+    }
+
+    output.append("/**\n");
+    output.append(" * Contract checks generated from the annotations declared on\n");
+    output.append(" * {@code ").append(this.type.getQualifiedName()).append("}.\n");
+    output.append(" */\n\n");
+    output.append("final class ").append(simpleName).append("\n");
+    output.append("{\n");
+    output.append("  private ").append(simpleName).append("()\n");
+    output.append("  {\n");
+    output.append("    throw new AssertionError(\"Unreachable code\");\n");
+    output.append("  }\n");
+
+    for (final ExecutableElement method : this.methods) {
+      this.writeRequires(output, method);
+      this.writeEnsures(output, method);
+    }
+
+    if (this.invariants) {
+      this.writeInvariants(output);
+    }
+
+    output.append("}\n");
+  }
+
+  private void writeRequires(
+    final Writer output,
+    final ExecutableElement method)
+    throws IOException
+  {
+    final Requires[] conditions = method.getAnnotationsByType(Requires.class);
+    if (conditions.length == 0) {
+      return;
+    }
+
+    output.append("\n");
+    writeAnnotations(output, method);
+    output.append("  static ");
+    this.writeTypeParameters(output, method);
+    output.append("void requires").append(methodSuffix(method)).append("(");
+    writeParameters(output, method, null);
+    output.append(")\n  {\n");
+    for (final Requires condition : conditions) {
+      output.append("    ").append(PRECONDITIONS).append(".checkPrecondition(\n");
+      output.append("      ").append(condition.value()).append(",\n");
+      output.append("      ")
+        .append(quote(describe(condition.value(), condition.message())))
+        .append(");\n");
+    }
+    output.append("  }\n");
+  }
+
+  private void writeEnsures(
+    final Writer output,
+    final ExecutableElement method)
+    throws IOException
+  {
+    final Ensures[] conditions = method.getAnnotationsByType(Ensures.class);
+    if (conditions.length == 0) {
+      return;
+    }
+
+    final TypeMirror returnType = method.getReturnType();
+    final boolean isVoid = returnType.getKind() == TypeKind.VOID;
+    final boolean isPrimitive = returnType.getKind().isPrimitive();
+
+    output.append("\n");
+    writeAnnotations(output, method);
+    output.append("  static ");
+    this.writeTypeParameters(output, method);
+    output.append(isVoid ? "void" : returnType.toString());
+    output.append(" ensures").append(methodSuffix(method)).append("(");
+    writeParameters(output, method, isVoid ? null : returnType.toString());
+    output.append(")\n  {\n");
+
+    for (final Ensures condition : conditions) {
+      final String description =
+        quote(describe(condition.value(), condition.message()));
+      if (isVoid || isPrimitive) {
+        output.append("    ").append(POSTCONDITIONS).append(".checkPostcondition(\n");
+      } else {
+        output.append("    ").append(POSTCONDITIONS).append(".checkPostconditionV(\n");
+        output.append("      result,\n");
+      }
+      output.append("      ").append(condition.value()).append(",\n");
+      if (!(isVoid || isPrimitive)) {
+        output.append("      \"%s\",\n");
+      }
+      output.append("      ").append(description).append(");\n");
+    }
+
+    if (!isVoid) {
+      output.append("    return result;\n");
+    }
+    output.append("  }\n");
+  }
+
+  private void writeInvariants(
+    final Writer output)
+    throws IOException
+  {
+    final String selfType = this.type.asType().toString();
+
+    output.append("\n  static ");
+    this.writeTypeParameters(output, null);
+    output.append(selfType).append(" checkInvariants(\n");
+    output.append("    final ").append(selfType).append(" self)\n");
+    output.append("  {\n");
+    final Invariant[] conditions =
+      this.type.getAnnotationsByType(Invariant.class);
+    for (final Invariant condition : conditions) {
+      output.append("    ").append(INVARIANTS).append(".checkInvariantV(\n");
+      output.append("      self,\n");
+      output.append("      ").append(condition.value()).append(",\n");
+      output.append("      \"%s\",\n");
+      output.append("      ")
+        .append(quote(describe(condition.value(), condition.message())))
+        .append(");\n");
+    }
+    output.append("    return self;\n");
+    output.append("  }\n");
+  }
+
+  private void writeTypeParameters(
+    final Writer output,
+    final ExecutableElement method)
+    throws IOException
+  {
+    final List<TypeParameterElement> parameters =
+      usedTypeParameters(this.typeParameters(method), method, this.type);
+
+    if (parameters.isEmpty()) {
+      return;
+    }
+
+    output.append("<");
+    for (int index = 0; index < parameters.size(); ++index) {
+      if (index > 0) {
+        output.append(", ");
+      }
+      writeTypeParameter(output, parameters.get(index));
+    }
+    output.append("> ");
+  }
+
+  private List<TypeParameterElement> typeParameters(
+    final ExecutableElement method)
+  {
+    final List<TypeParameterElement> parameters = new ArrayList<>();
+    final boolean isStatic =
+      method != null && method.getModifiers().contains(Modifier.STATIC);
+
+    if (!isStatic) {
+      Element current = this.type;
+      while (current instanceof TypeElement) {
+        final TypeElement currentType = (TypeElement) current;
+        parameters.addAll(0, currentType.getTypeParameters());
+        if (currentType.getModifiers().contains(Modifier.STATIC)) {
+          break;
+        }
+        current = currentType.getEnclosingElement();
+      }
+    }
+    if (method != null) {
+      parameters.addAll(method.getTypeParameters());
+    }
+    return parameters;
+  }
+
+  /**
+   * Determine which of the given type parameters are mentioned by the
+   * signature of the generated method. Class type parameters are
+   * otherwise declared on generated methods that do not use them.
+   */
+
+  private static List<TypeParameterElement> usedTypeParameters(
+    final List<TypeParameterElement> parameters,
+    final ExecutableElement method,
+    final TypeElement type)
+  {
+    final List<String> mentioned = new ArrayList<>();
+    if (method == null) {
+      mentioned.add(type.asType().toString());
+    } else {
+      mentioned.add(method.getReturnType().toString());
+      for (final VariableElement parameter : method.getParameters()) {
+        mentioned.add(parameter.asType().toString());
+      }
+    }
+
+    final List<TypeParameterElement> used = new ArrayList<>();
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (final TypeParameterElement parameter : parameters) {
+        if (used.contains(parameter)) {
+          continue;
+        }
+        final Pattern name = Pattern.compile(
+          "\\b" + Pattern.quote(parameter.getSimpleName().toString()) + "\\b");
+        for (final String text : mentioned) {
+          if (name.matcher(text).find()) {
+            used.add(parameter);
+            for (final TypeMirror bound : parameter.getBounds()) {
+              mentioned.add(bound.toString());
+            }
+            changed = true;
+            break;
+          }
+        }
+      }
+    }
+
+    final List<TypeParameterElement> ordered = new ArrayList<>(parameters);
+    ordered.retainAll(used);
+    return ordered;
+  }
+
+  private static void writeTypeParameter(
+    final Writer output,
+    final TypeParameterElement parameter)
+    throws IOException
+  {
+    output.append(parameter.getSimpleName());
+
+    final List<String> bounds = new ArrayList<>();
+    for (final TypeMirror bound : parameter.getBounds()) {
+      final String text = bound.toString();
+      if (!"java.lang.Object".equals(text)) {
+        bounds.add(text);
+      }
+    }
+    if (!bounds.isEmpty()) {
+      output.append(" extends ").append(String.join(" & ", bounds));
+    }
+  }
+
+  private static void writeParameters(
+    final Writer output,
+    final ExecutableElement method,
+    final String resultType)
+    throws IOException
+  {
+    final List<String> declarations = new ArrayList<>();
+    if (resultType != null) {
+      declarations.add(resultType + " result");
+    }
+
+    final List<? extends VariableElement> parameters = method.getParameters();
+    for (int index = 0; index < parameters.size(); ++index) {
+      final VariableElement parameter = parameters.get(index);
+      String typeName = parameter.asType().toString();
+      if (method.isVarArgs() && index == parameters.size() - 1) {
+        typeName = typeName.substring(0, typeName.length() - 2) + "...";
+      }
+      declarations.add(typeName + " " + parameter.getSimpleName());
+    }
+
+    for (int index = 0; index < declarations.size(); ++index) {
+      output.append("\n    final ").append(declarations.get(index));
+      if (index + 1 < declarations.size()) {
+        output.append(",");
+      }
+    }
+  }
+
+  private static void writeAnnotations(
+    final Writer output,
+    final ExecutableElement method)
+    throws IOException
+  {
+    if (method.isVarArgs()) {
+      final List<? extends VariableElement> parameters = method.getParameters();
+      final ArrayType array =
+        (ArrayType) parameters.get(parameters.size() - 1).asType();
+      if (!isReifiable(array.getComponentType())) {
+        output.append("  @SafeVarargs\n");
+      }
+    }
+  }
+
+  /**
+   * Determine if a type is reifiable (JLS 4.7). The compiler warns about
+   * {@code @SafeVarargs} annotations on methods with reifiable variable
+   * arity parameter types.
+   */
+
+  private static boolean isReifiable(
+    final TypeMirror type)
+  {
+    return switch (type.getKind()) {
+      case ARRAY -> isReifiable(((ArrayType) type).getComponentType());
+      case TYPEVAR -> false;
+      case DECLARED -> isReifiableDeclared((DeclaredType) type);
+      default -> true;
+    };
+  }
+
+  private static boolean isReifiableDeclared(
+    final DeclaredType type)
+  {
+    for (final TypeMirror argument : type.getTypeArguments()) {
+      if (argument.getKind() != TypeKind.WILDCARD) {
+        return false;
+      }
+      final WildcardType wildcard = (WildcardType) argument;
+      if (wildcard.getExtendsBound() != null
+        || wildcard.getSuperBound() != null) {
+        return false;
+      }
+    }
+    return isReifiable(type.getEnclosingType());
+  }
+
+  private static String methodSuffix(
+    final ExecutableElement method)
+  {
+    if (method.getKind() == ElementKind.CONSTRUCTOR) {
+      return "Constructor";
+    }
+    final String name = method.getSimpleName().toString();
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static String describe(
+    final String expression,
+    final String message)
+  {
+    if (message.isEmpty()) {
+      return expression;
+    }
+    return message;
+  }
+
+  private static String quote(
+    final String text)
+  {
+    final StringBuilder result = new StringBuilder(text.length() + 2);
+    result.append('"');
+    for (int index = 0; index < text.length(); ++index) {
+      final char c = text.charAt(index);
+      if (c == '"' || c == '\\') {
+        result.append('\\').append(c);
+      } else if (c == '\n') {
+        result.append("\\n");
+      } else if (c == '\r') {
+        result.append("\\r");
+      } else if (c == '\t') {
+        result.append("\\t");
+      } else if (c < 0x20) {
+        result.append(String.format("\\u%04x", Integer.valueOf(c)));
+      } else {
+        result.append(c);
+      }
+    }
+    result.append('"');
+    return result.toString();
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.processor.internal;
+
+import com.io7m.jaffirm.processor.Ensures;
+import com.io7m.jaffirm.processor.Invariant;
+import com.io7m.jaffirm.processor.Requires;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <p>An annotation processor that generates contract checking methods from
+ * {@link Requires}, {@link Ensures}, and {@link Invariant} annotations.</p>
+ *
+ * <p>The generated methods evaluate each declared condition as an ordinary
+ * boolean expression and pass the result directly to the contract checking
+ * functions, so no lambda expressions or condition objects are involved at
+ * run-time.</p>
+ *
+ * @since 4.1.0
+ */
+
+public final class ContractProcessor extends AbstractProcessor
+{
+  private static final Set<Class<? extends Annotation>> METHOD_ANNOTATIONS =
+    Set.of(
+      Requires.class,
+      Requires.List.class,
+      Ensures.class,
+      Ensures.List.class);
+
+  private static final Set<Class<? extends Annotation>> TYPE_ANNOTATIONS =
+    Set.of(
+      Invariant.class,
+      Invariant.List.class);
+
+  private final Set<String> generated;
+  private Elements elements;
+  private Types types;
+  private Filer filer;
+  private Messager messager;
+
+  /**
+   * Construct a processor.
+   */
+
+  public ContractProcessor()
+  {
+    this.generated = new HashSet<>();
+  }
+
+  @Override
+  public synchronized void init(
+    final ProcessingEnvironment environment)
+  {
+    super.init(environment);
+    this.elements = environment.getElementUtils();
+    this.types = environment.getTypeUtils();
+    this.filer = environment.getFiler();
+    this.messager = environment.getMessager();
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes()
+  {
+    return Set.of(
+      Requires.class.getCanonicalName(),
+      Requires.List.class.getCanonicalName(),
+      Ensures.class.getCanonicalName(),
+      Ensures.List.class.getCanonicalName(),
+      Invariant.class.getCanonicalName(),
+      Invariant.List.class.getCanonicalName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion()
+  {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+    final Set<? extends TypeElement> annotations,
+    final RoundEnvironment round)
+  {
+    final Map<TypeElement, ContractClassWriter> classes =
+      new LinkedHashMap<>();
+
+    final Set<? extends Element> methods =
+      round.getElementsAnnotatedWithAny(METHOD_ANNOTATIONS);
+    for (final Element element : methods) {
+      final ExecutableElement method = (ExecutableElement) element;
+      final TypeElement owner = (TypeElement) method.getEnclosingElement();
+      if (this.checkMethod(method)) {
+        final Optional<ExecutableElement> clash =
+          classes.computeIfAbsent(owner, this::writerFor).addMethod(method);
+        clash.ifPresent(existing -> this.messager.printMessage(
+          Diagnostic.Kind.ERROR,
+          "The contract methods generated for this method clash with those generated for " + existing,
+          method));
+      }
+    }
+
+    final Set<? extends Element> annotatedTypes =
+      round.getElementsAnnotatedWithAny(TYPE_ANNOTATIONS);
+    for (final Element element : annotatedTypes) {
+      final TypeElement type = (TypeElement) element;
+      classes.computeIfAbsent(type, this::writerFor).addInvariants();
+    }
+
+    for (final var entry : classes.entrySet()) {
+      final TypeElement type = entry.getKey();
+      if (this.checkType(type)) {
+        this.write(type, entry.getValue());
+      }
+    }
+    return true;
+  }
+
+  private ContractClassWriter writerFor(
+    final TypeElement type)
+  {
+    return new ContractClassWriter(this.elements, this.types, type);
+  }
+
+  private boolean checkMethod(
+    final ExecutableElement method)
+  {
+    final boolean hasResult =
+      method.getAnnotationsByType(Ensures.class).length > 0
+        && method.getReturnType().getKind() != TypeKind.VOID;
+
+    if (hasResult) {
+      for (final VariableElement parameter : method.getParameters()) {
+        if (parameter.getSimpleName().contentEquals("result")) {
+          this.messager.printMessage(
+            Diagnostic.Kind.ERROR,
+            "A method with postconditions may not declare a parameter named 'result'",
+            parameter);
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private boolean checkType(
+    final TypeElement type)
+  {
+    Element current = type;
+    while (current != null && current.getKind() != ElementKind.PACKAGE) {
+      if (current.getModifiers().contains(Modifier.PRIVATE)) {
+        this.messager.printMessage(
+          Diagnostic.Kind.ERROR,
+          "Contracts cannot be generated for private types",
+          current);
+        return false;
+      }
+      if (current.getKind() == ElementKind.CLASS
+        || current.getKind().isInterface()
+        || current.getKind() == ElementKind.ENUM
+        || current.getKind() == ElementKind.RECORD) {
+        current = current.getEnclosingElement();
+      } else {
+        this.messager.printMessage(
+          Diagnostic.Kind.ERROR,
+          "Contracts cannot be generated for local or anonymous types",
+          type);
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void write(
+    final TypeElement type,
+    final ContractClassWriter writer)
+  {
+    final String name = writer.qualifiedName();
+    if (!this.generated.add(name)) {
+      return;
+    }
+
+    try {
+      final JavaFileObject file = this.filer.createSourceFile(name, type);
+      try (Writer output = file.openWriter()) {
+        writer.write(output);
+      }
+    } catch (final IOException e) {
+      this.messager.printMessage(
+        Diagnostic.Kind.ERROR,
+        "Unable to write " + name + ": " + e.getMessage(),
+        type);
+    }
+  }
+}
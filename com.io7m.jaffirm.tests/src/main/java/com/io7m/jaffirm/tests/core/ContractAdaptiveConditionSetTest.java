@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractAdaptiveConditionSet;
+import com.io7m.jaffirm.core.ContractAdaptiveDoubleConditionSet;
+import com.io7m.jaffirm.core.ContractAdaptiveIntConditionSet;
+import com.io7m.jaffirm.core.ContractAdaptiveLongConditionSet;
+import com.io7m.jaffirm.core.ContractSampler;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.Invariants;
+import com.io7m.jaffirm.core.PostconditionViolationException;
+import com.io7m.jaffirm.core.Postconditions;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ContractAdaptiveConditionSetTest
+{
+  private static ContractAdaptiveIntConditionSet bounds()
+  {
+    return ContractAdaptiveIntConditionSet.of(
+      Contracts.conditionSetI(
+        Contracts.conditionI(x -> x < 100, x -> "Value must be < 100"),
+        Contracts.conditionI(x -> x > -100, x -> "Value must be > -100"),
+        Contracts.conditionI(x -> x != 0, x -> "Value must not be 0")),
+      ContractSampler.always(),
+      new AtomicLong()::incrementAndGet);
+  }
+
+  private static int checkRepeatedly(
+    final ContractAdaptiveIntConditionSet set,
+    final int value,
+    final int times)
+  {
+    int lastIndex = -1;
+    for (int index = 0; index < times; ++index) {
+      try {
+        Preconditions.checkPreconditionsFirstI(value, set);
+      } catch (final PreconditionViolationException e) {
+        lastIndex = e.violationDetails().get(0).index();
+      }
+    }
+    return lastIndex;
+  }
+
+  @Test
+  public void testInitialOrder()
+  {
+    final ContractAdaptiveIntConditionSet set = bounds();
+    Assertions.assertEquals(3, set.size());
+    Assertions.assertEquals(List.of(0, 1, 2), set.order());
+    Assertions.assertEquals(23, Preconditions.checkPreconditionsFirstI(23, set));
+  }
+
+  @Test
+  public void testReorderedIndicesDeclared()
+  {
+    final ContractAdaptiveIntConditionSet set = bounds();
+
+    Assertions.assertEquals(2, checkRepeatedly(set, 0, 500));
+    Assertions.assertEquals(2, set.order().get(0).intValue());
+
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirstI(0, set));
+
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[2]: Value must not be 0"));
+  }
+
+  @Test
+  public void testReorderFollowsTraffic()
+  {
+    final ContractAdaptiveIntConditionSet set = bounds();
+
+    Assertions.assertEquals(1, checkRepeatedly(set, -1000, 500));
+    Assertions.assertEquals(1, set.order().get(0).intValue());
+
+    Assertions.assertEquals(0, checkRepeatedly(set, 1000, 5000));
+    Assertions.assertEquals(0, set.order().get(0).intValue());
+  }
+
+  @Test
+  public void testReorderStable()
+  {
+    final ContractAdaptiveIntConditionSet set = bounds();
+
+    for (int round = 0; round < 50; ++round) {
+      Assertions.assertEquals(1, checkRepeatedly(set, -1000, 100));
+      Assertions.assertEquals(1, set.order().get(0).intValue());
+    }
+  }
+
+  @Test
+  public void testUnsampledOrderFixed()
+  {
+    final ContractAdaptiveIntConditionSet set =
+      ContractAdaptiveIntConditionSet.of(
+        Contracts.conditionSetI(
+          Contracts.conditionI(x -> x < 100, x -> "Value must be < 100"),
+          Contracts.conditionI(x -> x != 0, x -> "Value must not be 0")),
+        ContractSampler.withProbability(0.0));
+
+    Assertions.assertEquals(1, checkRepeatedly(set, 0, 500));
+    Assertions.assertEquals(List.of(0, 1), set.order());
+  }
+
+  @Test
+  public void testSamplerNull()
+  {
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> ContractAdaptiveIntConditionSet.of(
+        Contracts.conditionSetI(), null));
+  }
+
+  @Test
+  public void testClockNull()
+  {
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> ContractAdaptiveIntConditionSet.of(
+        Contracts.conditionSetI(), ContractSampler.always(), null));
+  }
+
+  @Test
+  public void testSpecialized()
+  {
+    final ContractAdaptiveConditionSet<Integer> set =
+      ContractAdaptiveConditionSet.of(
+        Contracts.conditionSet(
+          Contracts.condition(x -> x.intValue() > 0, x -> "Value must be > 0"),
+          Contracts.condition(x -> x.intValue() < 0, x -> "Value must be < 0")));
+    final ContractAdaptiveLongConditionSet setL =
+      ContractAdaptiveLongConditionSet.of(
+        Contracts.conditionSetL(
+          Contracts.conditionL(x -> x > 0L, x -> "Value must be > 0"),
+          Contracts.conditionL(x -> x < 0L, x -> "Value must be < 0")));
+    final ContractAdaptiveDoubleConditionSet setD =
+      ContractAdaptiveDoubleConditionSet.of(
+        Contracts.conditionSetD(
+          Contracts.conditionD(x -> x > 0.0, x -> "Value must be > 0"),
+          Contracts.conditionD(x -> x < 0.0, x -> "Value must be < 0")));
+
+    Assertions.assertEquals(2, set.size());
+    Assertions.assertEquals(2, setL.size());
+    Assertions.assertEquals(2, setD.size());
+
+    final PreconditionViolationException ex0 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirst(Integer.valueOf(1), set));
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+
+    final PostconditionViolationException ex1 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsFirstL(1L, setL));
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+
+    final InvariantViolationException ex2 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsFirstD(-1.0, setD));
+    Assertions.assertEquals(0, ex2.violationDetails().get(0).index());
+  }
+}
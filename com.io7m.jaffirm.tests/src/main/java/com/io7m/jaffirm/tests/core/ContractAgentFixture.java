@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractConditions;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.Invariants;
+import com.io7m.jaffirm.core.Preconditions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Methods that are transformed by the contract stripping agent in tests.
+ * Every argument expression passed to a check calls one of the
+ * {@code observe} methods, so that tests can tell whether the argument was
+ * evaluated.
+ */
+
+public final class ContractAgentFixture
+{
+  private static final AtomicInteger EVALUATIONS = new AtomicInteger();
+
+  private ContractAgentFixture()
+  {
+
+  }
+
+  public static int evaluations()
+  {
+    return EVALUATIONS.get();
+  }
+
+  private static int observe(
+    final int x)
+  {
+    EVALUATIONS.incrementAndGet();
+    return x;
+  }
+
+  private static long observe(
+    final long x)
+  {
+    EVALUATIONS.incrementAndGet();
+    return x;
+  }
+
+  private static String observe(
+    final String x)
+  {
+    EVALUATIONS.incrementAndGet();
+    return x;
+  }
+
+  private static boolean positive(
+    final int x)
+  {
+    return observe(x) > 0;
+  }
+
+  public static int invariantStatement(
+    final int x)
+  {
+    Invariants.checkInvariant(positive(x), "x must be positive");
+    return x;
+  }
+
+  public static int invariantResult(
+    final int x)
+  {
+    return Invariants.checkInvariantI(
+      observe(x),
+      v -> v > 0,
+      v -> "x must be positive");
+  }
+
+  public static int invariantDiscarded(
+    final String x)
+  {
+    Invariants.checkInvariant(
+      observe(x),
+      v -> !v.isEmpty(),
+      v -> "x must not be empty");
+    return x.length();
+  }
+
+  public static long invariantLong(
+    final long x)
+  {
+    Invariants.checkInvariantL(
+      observe(x),
+      v -> v > 0L,
+      v -> "x must be positive");
+    return x;
+  }
+
+  public static int invariantContext(
+    final int x)
+  {
+    return Invariants.checkInvariantI(
+      observe("context"),
+      x,
+      Contracts.contextConditionI(
+        (c, v) -> v > 0,
+        (c, v) -> c + ": x must be positive"));
+  }
+
+  public static int invariantConditional(
+    final int x)
+  {
+    Invariants.checkInvariant(
+      x > 100 || positive(x) && positive(x + 1),
+      "x must be positive");
+    return x;
+  }
+
+  public static int invariantVarargs(
+    final int x)
+  {
+    Invariants.checkInvariantsI(
+      observe(x),
+      ContractConditions.positiveI(),
+      ContractConditions.positiveI(),
+      ContractConditions.positiveI(),
+      ContractConditions.positiveI(),
+      ContractConditions.positiveI());
+    return x;
+  }
+
+  public static int invariantTry(
+    final int x)
+  {
+    try {
+      Invariants.checkInvariant(positive(x), "x must be positive");
+    } catch (final InvariantViolationException e) {
+      return 0;
+    }
+    return x;
+  }
+
+  public static int invariantLoop(
+    final int x)
+  {
+    var sum = 0;
+    for (int index = 0; index < 4; ++index) {
+      Invariants.checkInvariant(positive(x), "x must be positive");
+      sum += x;
+    }
+    return sum;
+  }
+
+  public static int precondition(
+    final int x)
+  {
+    return Preconditions.checkPreconditionI(
+      observe(x),
+      v -> v > 0,
+      v -> "x must be positive");
+  }
+}
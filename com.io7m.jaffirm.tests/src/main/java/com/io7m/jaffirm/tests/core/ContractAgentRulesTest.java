@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.agent.ContractAgentRules;
+import com.io7m.jaffirm.agent.ContractKind;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public final class ContractAgentRulesTest
+{
+  @Test
+  public void testEmpty()
+  {
+    final ContractAgentRules rules = ContractAgentRules.parse(null);
+    Assertions.assertTrue(rules.isEmpty());
+    Assertions.assertFalse(rules.isVerbose());
+    Assertions.assertEquals(Set.of(), rules.kindsFor("com/example/A"));
+
+    Assertions.assertTrue(ContractAgentRules.parse(" , ").isEmpty());
+    Assertions.assertTrue(ContractAgentRules.parse("*=none").isEmpty());
+  }
+
+  @Test
+  public void testLongestPrefix()
+  {
+    final ContractAgentRules rules = ContractAgentRules.parse(
+      "verbose, com.example=invariants+postconditions, com.example.api=none");
+
+    Assertions.assertTrue(rules.isVerbose());
+    Assertions.assertFalse(rules.isEmpty());
+    Assertions.assertEquals(
+      EnumSet.of(ContractKind.INVARIANTS, ContractKind.POSTCONDITIONS),
+      rules.kindsFor("com/example/A"));
+    Assertions.assertEquals(
+      EnumSet.of(ContractKind.INVARIANTS, ContractKind.POSTCONDITIONS),
+      rules.kindsFor("com/example/internal/A"));
+    Assertions.assertEquals(
+      Set.of(),
+      rules.kindsFor("com/example/api/A"));
+    Assertions.assertEquals(
+      Set.of(),
+      rules.kindsFor("com/example/api/x/A"));
+    Assertions.assertEquals(
+      Set.of(),
+      rules.kindsFor("com/examples/A"));
+    Assertions.assertEquals(
+      Set.of(),
+      rules.kindsFor("A"));
+  }
+
+  @Test
+  public void testAnyPackage()
+  {
+    final ContractAgentRules rules =
+      ContractAgentRules.parse("*=all,com.example=preconditions");
+
+    Assertions.assertEquals(
+      EnumSet.allOf(ContractKind.class),
+      rules.kindsFor("A"));
+    Assertions.assertEquals(
+      EnumSet.allOf(ContractKind.class),
+      rules.kindsFor("org/example/A"));
+    Assertions.assertEquals(
+      EnumSet.of(ContractKind.PRECONDITIONS),
+      rules.kindsFor("com/example/A"));
+  }
+
+  @Test
+  public void testKinds()
+  {
+    for (final ContractKind kind : ContractKind.values()) {
+      Assertions.assertEquals(
+        EnumSet.of(kind),
+        ContractAgentRules.parse("p=" + kind.ruleName()).kindsFor("p/A"));
+    }
+    Assertions.assertEquals(
+      "com/io7m/jaffirm/core/Invariants",
+      ContractKind.INVARIANTS.owner());
+  }
+
+  @Test
+  public void testMalformed()
+  {
+    final IllegalArgumentException noKind =
+      Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> ContractAgentRules.parse("com.example"));
+    Assertions.assertTrue(noKind.getMessage().contains("com.example"));
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ContractAgentRules.parse("=all"));
+
+    final IllegalArgumentException badKind =
+      Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> ContractAgentRules.parse("com.example=assertions"));
+    Assertions.assertTrue(badKind.getMessage().contains("assertions"));
+  }
+}
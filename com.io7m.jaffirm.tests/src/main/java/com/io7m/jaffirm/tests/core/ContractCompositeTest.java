@@ -0,0 +1,238 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractConditions;
+import com.io7m.jaffirm.core.ContractDoubleCondition;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractLongCondition;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ContractCompositeTest
+{
+  private static final ContractIntCondition EVEN =
+    Contracts.conditionI(x -> x % 2 == 0, x -> "Value " + x + " must be even");
+  private static final ContractIntCondition SMALL =
+    Contracts.conditionI(x -> x < 10, x -> "Value " + x + " must be < 10");
+
+  @Test
+  public void testAndI()
+  {
+    final ContractIntCondition c =
+      Contracts.andI(ContractConditions.positiveI(), EVEN);
+
+    Assertions.assertTrue(c.predicate().test(2));
+    Assertions.assertFalse(c.predicate().test(3));
+    Assertions.assertFalse(c.predicate().test(-2));
+    Assertions.assertEquals("Value 3 must be even", c.describer().apply(3));
+    Assertions.assertEquals(
+      "Value -2 must be positive", c.describer().apply(-2));
+  }
+
+  @Test
+  public void testAndFlattenedI()
+  {
+    final List<Integer> order = new ArrayList<>();
+    final ContractIntCondition a =
+      Contracts.conditionI(x -> order.add(Integer.valueOf(0)), x -> "a");
+    final ContractIntCondition b =
+      Contracts.conditionI(x -> order.add(Integer.valueOf(1)), x -> "b");
+    final ContractIntCondition c =
+      Contracts.conditionI(x -> order.add(Integer.valueOf(2)) && x > 0, x -> "c");
+
+    final ContractIntCondition left = Contracts.andI(Contracts.andI(a, b), c);
+    final ContractIntCondition right = Contracts.andI(a, Contracts.andI(b, c));
+
+    Assertions.assertTrue(left.predicate().test(1));
+    Assertions.assertEquals(List.of(0, 1, 2), order);
+    order.clear();
+    Assertions.assertTrue(right.predicate().test(1));
+    Assertions.assertEquals(List.of(0, 1, 2), order);
+
+    Assertions.assertEquals("c", left.describer().apply(0));
+    Assertions.assertEquals("c", right.describer().apply(0));
+  }
+
+  @Test
+  public void testOrI()
+  {
+    final ContractIntCondition c =
+      Contracts.orI(EVEN, Contracts.orI(SMALL, ContractConditions.powerOfTwoI()));
+
+    Assertions.assertTrue(c.predicate().test(12));
+    Assertions.assertTrue(c.predicate().test(3));
+    Assertions.assertTrue(c.predicate().test(16));
+    Assertions.assertFalse(c.predicate().test(11));
+    Assertions.assertEquals(
+      "At least one of the following must hold: Value 11 must be even; "
+        + "Value 11 must be < 10; Value 11 must be a power of two",
+      c.describer().apply(11));
+  }
+
+  @Test
+  public void testNotI()
+  {
+    final ContractIntCondition c = Contracts.notI(EVEN);
+    Assertions.assertTrue(c.predicate().test(3));
+    Assertions.assertFalse(c.predicate().test(2));
+    Assertions.assertEquals(
+      "Must not hold: Value 2 must be even", c.describer().apply(2));
+
+    final ContractIntCondition n = Contracts.notI(c);
+    Assertions.assertSame(EVEN.predicate(), n.predicate());
+    Assertions.assertSame(EVEN.describer(), n.describer());
+  }
+
+  @Test
+  public void testNotOrI()
+  {
+    final ContractIntCondition c = Contracts.notI(Contracts.orI(EVEN, SMALL));
+    Assertions.assertTrue(c.predicate().test(11));
+    Assertions.assertFalse(c.predicate().test(12));
+    Assertions.assertFalse(c.predicate().test(3));
+    Assertions.assertEquals(
+      "Must not hold: Value 3 must be < 10", c.describer().apply(3));
+
+    final ContractIntCondition n = Contracts.notI(c);
+    Assertions.assertTrue(n.predicate().test(3));
+    Assertions.assertFalse(n.predicate().test(11));
+    Assertions.assertEquals(
+      "At least one of the following must hold: "
+        + "Value 11 must be even; Value 11 must be < 10",
+      n.describer().apply(11));
+  }
+
+  @Test
+  public void testNotAndI()
+  {
+    final ContractIntCondition c = Contracts.notI(Contracts.andI(EVEN, SMALL));
+    Assertions.assertTrue(c.predicate().test(3));
+    Assertions.assertTrue(c.predicate().test(12));
+    Assertions.assertFalse(c.predicate().test(2));
+    Assertions.assertEquals(
+      "Must not hold: All of the following must hold: "
+        + "Value 2 must be even; Value 2 must be < 10",
+      c.describer().apply(2));
+  }
+
+  @Test
+  public void testAllOfI()
+  {
+    final ContractIntCondition c =
+      Contracts.allOfI(List.of(ContractConditions.positiveI(), EVEN, SMALL));
+
+    Assertions.assertTrue(c.predicate().test(4));
+    Assertions.assertFalse(c.predicate().test(12));
+    Assertions.assertEquals("Value 12 must be < 10", c.describer().apply(12));
+
+    final ContractIntCondition empty = Contracts.allOfI(List.of());
+    Assertions.assertTrue(empty.predicate().test(0));
+  }
+
+  @Test
+  public void testPreconditionMessage()
+  {
+    final ContractIntCondition c =
+      Contracts.allOfI(List.of(ContractConditions.positiveI(), EVEN, SMALL));
+
+    Assertions.assertEquals(4, Preconditions.checkPreconditionI(4, c));
+
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionI(12, c));
+    Assertions.assertTrue(ex.getMessage().contains("Value 12 must be < 10"));
+    Assertions.assertFalse(ex.getMessage().contains("must be even"));
+    Assertions.assertEquals(1, ex.violations());
+  }
+
+  @Test
+  public void testGeneric()
+  {
+    final ContractCondition<String> nonEmpty =
+      Contracts.condition(s -> !s.isEmpty(), s -> "String must not be empty");
+    final ContractCondition<String> lower =
+      Contracts.condition(
+        s -> s.equals(s.toLowerCase()),
+        s -> "String " + s + " must be lowercase");
+
+    final ContractCondition<String> both = Contracts.and(nonEmpty, lower);
+    Assertions.assertTrue(both.predicate().test("x"));
+    Assertions.assertEquals("String X must be lowercase", both.describer().apply("X"));
+
+    final ContractCondition<String> either = Contracts.or(nonEmpty, lower);
+    Assertions.assertTrue(either.predicate().test("X"));
+    Assertions.assertTrue(either.predicate().test(""));
+
+    final ContractCondition<String> neither = Contracts.not(either);
+    Assertions.assertFalse(neither.predicate().test("X"));
+    Assertions.assertSame(nonEmpty.predicate(), Contracts.not(Contracts.not(nonEmpty)).predicate());
+
+    final ContractCondition<String> all =
+      Contracts.allOf(List.of(nonEmpty, lower, both));
+    Assertions.assertFalse(all.predicate().test(""));
+    Assertions.assertEquals("String must not be empty", all.describer().apply(""));
+  }
+
+  @Test
+  public void testLong()
+  {
+    final ContractLongCondition c =
+      Contracts.andL(
+        ContractConditions.positiveL(),
+        Contracts.notL(ContractConditions.powerOfTwoL()));
+
+    Assertions.assertTrue(c.predicate().test(3L));
+    Assertions.assertFalse(c.predicate().test(4L));
+    Assertions.assertEquals(
+      "Must not hold: Value 4 must be a power of two",
+      c.describer().apply(4L));
+    Assertions.assertTrue(
+      Contracts.orL(c, ContractConditions.nonNegativeL()).predicate().test(4L));
+    Assertions.assertFalse(
+      Contracts.allOfL(List.of(c, ContractConditions.nonNegativeL()))
+        .predicate()
+        .test(-1L));
+  }
+
+  @Test
+  public void testDouble()
+  {
+    final ContractDoubleCondition c =
+      Contracts.andD(
+        ContractConditions.finiteD(),
+        Contracts.notD(ContractConditions.positiveD()));
+
+    Assertions.assertTrue(c.predicate().test(-1.0));
+    Assertions.assertFalse(c.predicate().test(Double.NaN));
+    Assertions.assertFalse(c.predicate().test(1.0));
+    Assertions.assertTrue(
+      Contracts.orD(c, ContractConditions.positiveD()).predicate().test(1.0));
+    Assertions.assertFalse(
+      Contracts.allOfD(List.of(c, ContractConditions.notNaND()))
+        .predicate()
+        .test(Double.NaN));
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractConditionSet;
+import com.io7m.jaffirm.core.ContractDoubleConditionSet;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractIntConditionSet;
+import com.io7m.jaffirm.core.ContractLongConditionSet;
+import com.io7m.jaffirm.core.Contracts;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ContractConditionSetTest
+{
+  @Test
+  public void testConditionSetSize()
+  {
+    final ContractConditionSet<Integer> set =
+      Contracts.conditionSet(
+        Contracts.condition(x -> true, x -> "x"),
+        Contracts.condition(x -> true, x -> "y"));
+
+    Assertions.assertEquals(2, set.size());
+    Assertions.assertEquals(0, ContractConditionSet.of().size());
+  }
+
+  @Test
+  public void testConditionSetList()
+  {
+    final List<ContractCondition<Integer>> conditions = new ArrayList<>();
+    conditions.add(Contracts.condition(x -> true, x -> "x"));
+    conditions.add(Contracts.condition(x -> true, x -> "y"));
+    conditions.add(Contracts.condition(x -> true, x -> "z"));
+
+    final ContractConditionSet<Integer> set =
+      ContractConditionSet.of(conditions);
+    conditions.clear();
+
+    Assertions.assertEquals(3, set.size());
+  }
+
+  @Test
+  public void testConditionSetNull()
+  {
+    final List<ContractIntCondition> conditions = new ArrayList<>();
+    conditions.add(Contracts.conditionI(x -> true, x -> "x"));
+    conditions.add(null);
+
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> ContractIntConditionSet.of(conditions));
+  }
+
+  @Test
+  public void testConditionSetSpecialized()
+  {
+    final ContractIntConditionSet setI =
+      Contracts.conditionSetI(Contracts.conditionI(x -> true, x -> "x"));
+    final ContractLongConditionSet setL =
+      Contracts.conditionSetL(Contracts.conditionL(x -> true, x -> "x"));
+    final ContractDoubleConditionSet setD =
+      Contracts.conditionSetD(Contracts.conditionD(x -> true, x -> "x"));
+
+    Assertions.assertEquals(1, setI.size());
+    Assertions.assertEquals(1, setL.size());
+    Assertions.assertEquals(1, setD.size());
+
+    Assertions.assertEquals(
+      1,
+      ContractLongConditionSet.of(
+        List.of(Contracts.conditionL(x -> true, x -> "x"))).size());
+    Assertions.assertEquals(
+      1,
+      ContractDoubleConditionSet.of(
+        List.of(Contracts.conditionD(x -> true, x -> "x"))).size());
+  }
+}
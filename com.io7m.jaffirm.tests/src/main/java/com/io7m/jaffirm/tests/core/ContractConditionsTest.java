@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractConditions;
+import com.io7m.jaffirm.core.ContractDoubleConditionType;
+import com.io7m.jaffirm.core.ContractIntConditionType;
+import com.io7m.jaffirm.core.ContractLongConditionType;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ContractConditionsTest
+{
+  private static String failI(
+    final int value,
+    final ContractIntConditionType condition)
+  {
+    return Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionI(value, condition))
+      .violationDetails()
+      .get(0)
+      .description();
+  }
+
+  private static String failL(
+    final long value,
+    final ContractLongConditionType condition)
+  {
+    return Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionL(value, condition))
+      .violationDetails()
+      .get(0)
+      .description();
+  }
+
+  private static String failD(
+    final double value,
+    final ContractDoubleConditionType condition)
+  {
+    return Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionD(value, condition))
+      .violationDetails()
+      .get(0)
+      .description();
+  }
+
+  @Test
+  public void testSingletons()
+  {
+    Assertions.assertSame(
+      ContractConditions.nonNegativeI(), ContractConditions.nonNegativeI());
+    Assertions.assertSame(
+      ContractConditions.positiveL(), ContractConditions.positiveL());
+    Assertions.assertSame(
+      ContractConditions.finiteD(), ContractConditions.finiteD());
+    Assertions.assertSame(
+      ContractConditions.notNull(), ContractConditions.notNull());
+  }
+
+  @Test
+  public void testInt()
+  {
+    Assertions.assertEquals(
+      0, Preconditions.checkPreconditionI(0, ContractConditions.nonNegativeI()));
+    Assertions.assertEquals(
+      1, Preconditions.checkPreconditionI(1, ContractConditions.positiveI()));
+    Assertions.assertEquals(
+      64, Preconditions.checkPreconditionI(64, ContractConditions.powerOfTwoI()));
+    Assertions.assertEquals(
+      5, Preconditions.checkPreconditionI(5, ContractConditions.inRangeI(5, 5)));
+
+    Assertions.assertEquals(
+      "Value -1 must be non-negative",
+      failI(-1, ContractConditions.nonNegativeI()));
+    Assertions.assertEquals(
+      "Value 0 must be positive",
+      failI(0, ContractConditions.positiveI()));
+    Assertions.assertEquals(
+      "Value 12 must be a power of two",
+      failI(12, ContractConditions.powerOfTwoI()));
+    Assertions.assertEquals(
+      "Value 0 must be a power of two",
+      failI(0, ContractConditions.powerOfTwoI()));
+    Assertions.assertEquals(
+      "Value -2147483648 must be a power of two",
+      failI(Integer.MIN_VALUE, ContractConditions.powerOfTwoI()));
+    Assertions.assertEquals(
+      "Value 11 must be in the range [0, 10]",
+      failI(11, ContractConditions.inRangeI(0, 10)));
+  }
+
+  @Test
+  public void testLong()
+  {
+    Assertions.assertEquals(
+      0L, Preconditions.checkPreconditionL(0L, ContractConditions.nonNegativeL()));
+    Assertions.assertEquals(
+      1L, Preconditions.checkPreconditionL(1L, ContractConditions.positiveL()));
+    Assertions.assertEquals(
+      1L << 40,
+      Preconditions.checkPreconditionL(1L << 40, ContractConditions.powerOfTwoL()));
+    Assertions.assertEquals(
+      -3L,
+      Preconditions.checkPreconditionL(-3L, ContractConditions.inRangeL(-3L, 3L)));
+
+    Assertions.assertEquals(
+      "Value -1 must be non-negative",
+      failL(-1L, ContractConditions.nonNegativeL()));
+    Assertions.assertEquals(
+      "Value -1 must be positive",
+      failL(-1L, ContractConditions.positiveL()));
+    Assertions.assertEquals(
+      "Value 3 must be a power of two",
+      failL(3L, ContractConditions.powerOfTwoL()));
+    Assertions.assertEquals(
+      "Value 4 must be in the range [-3, 3]",
+      failL(4L, ContractConditions.inRangeL(-3L, 3L)));
+  }
+
+  @Test
+  public void testDouble()
+  {
+    Assertions.assertEquals(
+      0.0, Preconditions.checkPreconditionD(0.0, ContractConditions.nonNegativeD()));
+    Assertions.assertEquals(
+      0.5, Preconditions.checkPreconditionD(0.5, ContractConditions.positiveD()));
+    Assertions.assertEquals(
+      1.0, Preconditions.checkPreconditionD(1.0, ContractConditions.finiteD()));
+    Assertions.assertEquals(
+      Double.POSITIVE_INFINITY,
+      Preconditions.checkPreconditionD(
+        Double.POSITIVE_INFINITY, ContractConditions.notNaND()));
+    Assertions.assertEquals(
+      1.0,
+      Preconditions.checkPreconditionD(1.0, ContractConditions.inRangeD(0.0, 1.0)));
+
+    Assertions.assertEquals(
+      "Value -1.0 must be non-negative",
+      failD(-1.0, ContractConditions.nonNegativeD()));
+    Assertions.assertEquals(
+      "Value NaN must be positive",
+      failD(Double.NaN, ContractConditions.positiveD()));
+    Assertions.assertEquals(
+      "Value Infinity must be finite",
+      failD(Double.POSITIVE_INFINITY, ContractConditions.finiteD()));
+    Assertions.assertEquals(
+      "Value NaN must not be NaN",
+      failD(Double.NaN, ContractConditions.notNaND()));
+    Assertions.assertEquals(
+      "Value NaN must be in the range [0.0, 1.0]",
+      failD(Double.NaN, ContractConditions.inRangeD(0.0, 1.0)));
+  }
+
+  @Test
+  public void testObjects()
+  {
+    final ContractCondition<String> notNull = ContractConditions.notNull();
+    final ContractCondition<List<Integer>> nonEmpty =
+      ContractConditions.nonEmpty();
+    final ContractCondition<String> nonEmptyString =
+      ContractConditions.nonEmptyString();
+
+    Assertions.assertEquals("x", Preconditions.checkPrecondition("x", notNull));
+    Assertions.assertEquals(
+      List.of(1), Preconditions.checkPrecondition(List.of(1), nonEmpty));
+    Assertions.assertEquals(
+      "x", Preconditions.checkPrecondition("x", nonEmptyString));
+
+    Assertions.assertEquals(
+      "Value must not be null",
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPrecondition((String) null, notNull))
+        .violationDetails().get(0).description());
+    Assertions.assertEquals(
+      "Collection must not be empty",
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPrecondition(new ArrayList<>(), nonEmpty))
+        .violationDetails().get(0).description());
+    Assertions.assertEquals(
+      "String must not be empty",
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPrecondition("", nonEmptyString))
+        .violationDetails().get(0).description());
+  }
+}
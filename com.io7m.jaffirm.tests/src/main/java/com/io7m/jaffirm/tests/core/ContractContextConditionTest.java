@@ -0,0 +1,298 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractContextCondition;
+import com.io7m.jaffirm.core.ContractObjDoubleCondition;
+import com.io7m.jaffirm.core.ContractObjIntCondition;
+import com.io7m.jaffirm.core.ContractObjLongCondition;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.Invariants;
+import com.io7m.jaffirm.core.PostconditionViolationException;
+import com.io7m.jaffirm.core.Postconditions;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class ContractContextConditionTest
+{
+  private static final Limit LIMIT = new Limit(10);
+
+  private static final ContractObjIntCondition<Limit> BELOW_I =
+    Contracts.contextConditionI(
+      (limit, x) -> x < limit.value,
+      (limit, x) -> "Value " + x + " must be < " + limit.value);
+
+  private static final ContractObjLongCondition<Limit> BELOW_L =
+    Contracts.contextConditionL(
+      (limit, x) -> x < (long) limit.value,
+      (limit, x) -> "Value " + x + " must be < " + limit.value);
+
+  private static final ContractObjDoubleCondition<Limit> BELOW_D =
+    Contracts.contextConditionD(
+      (limit, x) -> x < (double) limit.value,
+      (limit, x) -> "Value " + x + " must be < " + limit.value);
+
+  private static final class Limit
+  {
+    private final int value;
+
+    Limit(final int inValue)
+    {
+      this.value = inValue;
+    }
+  }
+
+  @Test
+  public void testPreconditionContext()
+  {
+    final ContractContextCondition<Integer, Integer> below =
+      Contracts.contextCondition(
+        (limit, x) -> x.intValue() < limit.intValue(),
+        (limit, x) -> "Value " + x + " must be < " + limit);
+
+    Assertions.assertEquals(
+      Integer.valueOf(3),
+      Preconditions.checkPrecondition(Integer.valueOf(10), Integer.valueOf(3), below));
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPrecondition(Integer.valueOf(10), Integer.valueOf(23), below));
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(
+      "Value 23 must be < 10",
+      ex.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testPreconditionContextPrimitive()
+  {
+    Assertions.assertEquals(3, Preconditions.checkPreconditionI(LIMIT, 3, BELOW_I));
+    Assertions.assertEquals(3L, Preconditions.checkPreconditionL(LIMIT, 3L, BELOW_L));
+    Assertions.assertEquals(3.0, Preconditions.checkPreconditionD(LIMIT, 3.0, BELOW_D));
+
+    final PreconditionViolationException exI = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionI(LIMIT, 23, BELOW_I));
+    final PreconditionViolationException exL = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionL(LIMIT, 23L, BELOW_L));
+    final PreconditionViolationException exD = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionD(LIMIT, 23.0, BELOW_D));
+
+    Assertions.assertEquals(
+      "Value 23 must be < 10", exI.violationDetails().get(0).description());
+    Assertions.assertEquals(
+      "Value 23 must be < 10", exL.violationDetails().get(0).description());
+    Assertions.assertEquals(
+      "Value 23.0 must be < 10", exD.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testPreconditionContextPredicateException()
+  {
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionI(
+        LIMIT,
+        23,
+        Contracts.contextConditionI(
+          (limit, x) -> {
+            throw new IllegalStateException("OUCH");
+          },
+          (limit, x) -> "x")));
+    Assertions.assertInstanceOf(IllegalStateException.class, ex.getCause());
+  }
+
+  @Test
+  public void testPreconditionContextDescriberException()
+  {
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionL(
+        LIMIT,
+        23L,
+        Contracts.contextConditionL(
+          (limit, x) -> false,
+          (limit, x) -> {
+            throw new IllegalStateException("OUCH");
+          })));
+    Assertions.assertTrue(
+      ex.violationDetails().get(0).description().contains("OUCH"));
+  }
+
+  @Test
+  public void testPostconditionContext()
+  {
+    final ContractContextCondition<Integer, Integer> below =
+      Contracts.contextCondition(
+        (limit, x) -> x.intValue() < limit.intValue(),
+        (limit, x) -> "Value " + x + " must be < " + limit);
+
+    Assertions.assertEquals(
+      Integer.valueOf(3),
+      Postconditions.checkPostcondition(Integer.valueOf(10), Integer.valueOf(3), below));
+
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostcondition(Integer.valueOf(10), Integer.valueOf(23), below));
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(
+      "Value 23 must be < 10",
+      ex.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testPostconditionContextPrimitive()
+  {
+    Assertions.assertEquals(3, Postconditions.checkPostconditionI(LIMIT, 3, BELOW_I));
+    Assertions.assertEquals(3L, Postconditions.checkPostconditionL(LIMIT, 3L, BELOW_L));
+    Assertions.assertEquals(3.0, Postconditions.checkPostconditionD(LIMIT, 3.0, BELOW_D));
+
+    final PostconditionViolationException exI = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionI(LIMIT, 23, BELOW_I));
+    final PostconditionViolationException exL = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionL(LIMIT, 23L, BELOW_L));
+    final PostconditionViolationException exD = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionD(LIMIT, 23.0, BELOW_D));
+
+    Assertions.assertEquals(
+      "Value 23 must be < 10", exI.violationDetails().get(0).description());
+    Assertions.assertEquals(
+      "Value 23 must be < 10", exL.violationDetails().get(0).description());
+    Assertions.assertEquals(
+      "Value 23.0 must be < 10", exD.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testPostconditionContextPredicateException()
+  {
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionI(
+        LIMIT,
+        23,
+        Contracts.contextConditionI(
+          (limit, x) -> {
+            throw new IllegalStateException("OUCH");
+          },
+          (limit, x) -> "x")));
+    Assertions.assertInstanceOf(IllegalStateException.class, ex.getCause());
+  }
+
+  @Test
+  public void testPostconditionContextDescriberException()
+  {
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionL(
+        LIMIT,
+        23L,
+        Contracts.contextConditionL(
+          (limit, x) -> false,
+          (limit, x) -> {
+            throw new IllegalStateException("OUCH");
+          })));
+    Assertions.assertTrue(
+      ex.violationDetails().get(0).description().contains("OUCH"));
+  }
+
+  @Test
+  public void testInvariantContext()
+  {
+    final ContractContextCondition<Integer, Integer> below =
+      Contracts.contextCondition(
+        (limit, x) -> x.intValue() < limit.intValue(),
+        (limit, x) -> "Value " + x + " must be < " + limit);
+
+    Assertions.assertEquals(
+      Integer.valueOf(3),
+      Invariants.checkInvariant(Integer.valueOf(10), Integer.valueOf(3), below));
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariant(Integer.valueOf(10), Integer.valueOf(23), below));
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(
+      "Value 23 must be < 10",
+      ex.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testInvariantContextPrimitive()
+  {
+    Assertions.assertEquals(3, Invariants.checkInvariantI(LIMIT, 3, BELOW_I));
+    Assertions.assertEquals(3L, Invariants.checkInvariantL(LIMIT, 3L, BELOW_L));
+    Assertions.assertEquals(3.0, Invariants.checkInvariantD(LIMIT, 3.0, BELOW_D));
+
+    final InvariantViolationException exI = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantI(LIMIT, 23, BELOW_I));
+    final InvariantViolationException exL = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantL(LIMIT, 23L, BELOW_L));
+    final InvariantViolationException exD = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantD(LIMIT, 23.0, BELOW_D));
+
+    Assertions.assertEquals(
+      "Value 23 must be < 10", exI.violationDetails().get(0).description());
+    Assertions.assertEquals(
+      "Value 23 must be < 10", exL.violationDetails().get(0).description());
+    Assertions.assertEquals(
+      "Value 23.0 must be < 10", exD.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testInvariantContextPredicateException()
+  {
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantI(
+        LIMIT,
+        23,
+        Contracts.contextConditionI(
+          (limit, x) -> {
+            throw new IllegalStateException("OUCH");
+          },
+          (limit, x) -> "x")));
+    Assertions.assertInstanceOf(IllegalStateException.class, ex.getCause());
+  }
+
+  @Test
+  public void testInvariantContextDescriberException()
+  {
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantL(
+        LIMIT,
+        23L,
+        Contracts.contextConditionL(
+          (limit, x) -> false,
+          (limit, x) -> {
+            throw new IllegalStateException("OUCH");
+          })));
+    Assertions.assertTrue(
+      ex.violationDetails().get(0).description().contains("OUCH"));
+  }
+}
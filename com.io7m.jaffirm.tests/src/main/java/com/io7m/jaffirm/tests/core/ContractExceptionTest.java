@@ -0,0 +1,337 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractException;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractIntConditionSet;
+import com.io7m.jaffirm.core.ContractViolation;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.PostconditionViolationException;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ContractExceptionTest
+{
+  @Test
+  public void testStackTracesDefault()
+  {
+    Assertions.assertTrue(ContractException.stackTracesEnabled());
+
+    final ContractException ex =
+      new PreconditionViolationException("x", 1);
+    Assertions.assertNotEquals(0, ex.getStackTrace().length);
+    Assertions.assertEquals(1, ex.violations());
+  }
+
+  @Test
+  public void testStackTracesDisabled()
+  {
+    final RuntimeException cause = new RuntimeException();
+    final ContractException[] exceptions = {
+      new PreconditionViolationException("x", cause, 1, false),
+      new PostconditionViolationException("x", cause, 2, false),
+      new InvariantViolationException("x", cause, 3, false),
+    };
+
+    for (int index = 0; index < exceptions.length; ++index) {
+      final ContractException ex = exceptions[index];
+      Assertions.assertEquals(0, ex.getStackTrace().length);
+      Assertions.assertEquals(index + 1, ex.violations());
+      Assertions.assertEquals("x", ex.getMessage());
+      Assertions.assertSame(cause, ex.getCause());
+    }
+  }
+
+  @Test
+  public void testStackTracesEnabled()
+  {
+    final ContractException[] exceptions = {
+      new PreconditionViolationException("x", null, 1, true),
+      new PostconditionViolationException("x", null, 1, true),
+      new InvariantViolationException("x", null, 1, true),
+    };
+
+    for (final ContractException ex : exceptions) {
+      Assertions.assertNotEquals(0, ex.getStackTrace().length);
+    }
+  }
+
+  @Test
+  public void testMessageLazy()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final Object value = new Object()
+    {
+      @Override
+      public String toString()
+      {
+        called.incrementAndGet();
+        return "VALUE";
+      }
+    };
+
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPrecondition(value, false, x -> "Failed"));
+
+    Assertions.assertEquals(0, called.get());
+    final String message = ex.getMessage();
+    Assertions.assertTrue(message.startsWith("Precondition violation."));
+    Assertions.assertTrue(message.contains("Received: VALUE"));
+    Assertions.assertTrue(message.contains("[0]: Failed"));
+    Assertions.assertEquals(1, called.get());
+    Assertions.assertSame(message, ex.getMessage());
+    Assertions.assertEquals(1, called.get());
+  }
+
+  @Test
+  public void testMessageSerialized()
+    throws Exception
+  {
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionI(23, false, x -> "Failed"));
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(ex);
+    }
+
+    try (ObjectInputStream input =
+           new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final PreconditionViolationException read =
+        (PreconditionViolationException) input.readObject();
+      Assertions.assertEquals(ex.getMessage(), read.getMessage());
+      Assertions.assertEquals(ex.violations(), read.violations());
+    }
+  }
+
+  @Test
+  public void testViolationDetails()
+  {
+    final IllegalStateException cause = new IllegalStateException();
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(
+          23,
+          Contracts.conditionI(x -> x < 23, x -> "Value must be < 23"),
+          Contracts.conditionI(x -> x == 23, x -> "Value must be 23"),
+          Contracts.conditionI(x -> {
+            throw cause;
+          }, x -> "Unused")));
+
+    final List<ContractViolation> details = ex.violationDetails();
+    Assertions.assertEquals(2, details.size());
+    Assertions.assertEquals(ex.violations(), details.size());
+
+    Assertions.assertEquals(0, details.get(0).index());
+    Assertions.assertEquals("Value must be < 23", details.get(0).description());
+    Assertions.assertEquals(Optional.empty(), details.get(0).cause());
+
+    Assertions.assertEquals(2, details.get(1).index());
+    Assertions.assertSame(cause, details.get(1).cause().orElseThrow());
+    Assertions.assertSame(details, ex.violationDetails());
+
+    Assertions.assertThrows(
+      UnsupportedOperationException.class,
+      () -> details.remove(0));
+  }
+
+  @Test
+  public void testViolationDetailsSingle()
+  {
+    final IllegalStateException cause = new IllegalStateException();
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPrecondition(
+          Integer.valueOf(23),
+          x -> {
+            throw cause;
+          },
+          x -> "Unused"));
+
+    final List<ContractViolation> details = ex.violationDetails();
+    Assertions.assertEquals(1, details.size());
+    Assertions.assertEquals(0, details.get(0).index());
+    Assertions.assertSame(cause, details.get(0).cause().orElseThrow());
+    Assertions.assertSame(cause, ex.getCause());
+  }
+
+  @Test
+  public void testDescriptionsDeferred()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(
+          23,
+          Contracts.conditionI(x -> x < 23, x -> {
+            called.incrementAndGet();
+            return "Value must be < 23";
+          }),
+          Contracts.conditionI(x -> x == 23, x -> {
+            called.incrementAndGet();
+            return "Value must be 23";
+          }),
+          Contracts.conditionI(x -> x > 23, x -> {
+            called.incrementAndGet();
+            return "Value must be > 23";
+          }),
+          Contracts.conditionI(x -> x > 0, x -> {
+            called.incrementAndGet();
+            return "Value must be > 0";
+          }),
+          Contracts.conditionI(x -> x % 2 == 1, x -> {
+            called.incrementAndGet();
+            return "Value must be odd";
+          })));
+
+    Assertions.assertEquals(2, ex.violations());
+    Assertions.assertEquals(0, called.get());
+
+    final List<ContractViolation> details = ex.violationDetails();
+    Assertions.assertEquals(2, called.get());
+    Assertions.assertEquals(0, details.get(0).index());
+    Assertions.assertEquals("Value must be < 23", details.get(0).description());
+    Assertions.assertEquals(2, details.get(1).index());
+    Assertions.assertEquals("Value must be > 23", details.get(1).description());
+
+    final String message = ex.getMessage();
+    Assertions.assertTrue(message.contains("[0]: Value must be < 23"));
+    Assertions.assertTrue(message.contains("[2]: Value must be > 23"));
+    Assertions.assertFalse(message.contains("[1]"));
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testDescriptionsDeferredSerialized()
+    throws Exception
+  {
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(
+          23,
+          Contracts.conditionSetI(
+            Contracts.conditionI(x -> x == 23, x -> "Value must be 23"),
+            Contracts.conditionI(x -> x > 23, x -> "Value must be > 23"))));
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(ex);
+    }
+
+    try (ObjectInputStream input =
+           new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      final PreconditionViolationException read =
+        (PreconditionViolationException) input.readObject();
+      Assertions.assertEquals(ex.getMessage(), read.getMessage());
+      Assertions.assertEquals(ex.violationDetails(), read.violationDetails());
+      Assertions.assertEquals(1, read.violationDetails().get(0).index());
+    }
+  }
+
+  @Test
+  public void testDescriptionsDeferredException()
+  {
+    final IllegalStateException cause = new IllegalStateException();
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(
+          23,
+          Contracts.conditionSetI(
+            Contracts.conditionI(x -> x < 23, x -> "Value must be < 23"),
+            Contracts.conditionI(x -> x == 23, x -> "Value must be 23"),
+            Contracts.conditionI(x -> {
+              throw cause;
+            }, x -> "Unused"),
+            Contracts.conditionI(x -> x > 23, x -> "Value must be > 23"))));
+
+    final List<ContractViolation> details = ex.violationDetails();
+    Assertions.assertEquals(3, details.size());
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertEquals(0, details.get(0).index());
+    Assertions.assertEquals("Value must be < 23", details.get(0).description());
+    Assertions.assertEquals(2, details.get(1).index());
+    Assertions.assertSame(cause, details.get(1).cause().orElseThrow());
+    Assertions.assertEquals(3, details.get(2).index());
+    Assertions.assertEquals("Value must be > 23", details.get(2).description());
+  }
+
+  @Test
+  public void testDescriptionsManyConditions()
+  {
+    final List<ContractIntCondition> conditions = new ArrayList<>();
+    for (int index = 0; index < 70; ++index) {
+      final int bound = index;
+      conditions.add(
+        Contracts.conditionI(x -> x > bound, x -> "Value must be > " + bound));
+    }
+
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(
+          63,
+          ContractIntConditionSet.of(conditions)));
+
+    final List<ContractViolation> details = ex.violationDetails();
+    Assertions.assertEquals(7, details.size());
+    Assertions.assertEquals(63, details.get(0).index());
+    Assertions.assertEquals(69, details.get(6).index());
+    Assertions.assertEquals("Value must be > 69", details.get(6).description());
+
+    final PreconditionViolationException exMask =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(
+          62,
+          ContractIntConditionSet.of(conditions.subList(0, 64))));
+
+    final List<ContractViolation> detailsMask = exMask.violationDetails();
+    Assertions.assertEquals(2, detailsMask.size());
+    Assertions.assertEquals(62, detailsMask.get(0).index());
+    Assertions.assertEquals(63, detailsMask.get(1).index());
+  }
+
+  @Test
+  public void testViolationDetailsManual()
+  {
+    Assertions.assertEquals(
+      List.of(),
+      new PreconditionViolationException("x", 1).violationDetails());
+  }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractMessageTemplate;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.Invariants;
+import com.io7m.jaffirm.core.PostconditionViolationException;
+import com.io7m.jaffirm.core.Postconditions;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class ContractMessageTemplateTest
+{
+  private static final ContractMessageTemplate RANGE =
+    ContractMessageTemplate.parse("Index %d must be in the range [%d, %d)");
+
+  @Test
+  public void testParse()
+  {
+    final ContractMessageTemplate t =
+      ContractMessageTemplate.parse("100%% of %s%n");
+    Assertions.assertEquals(1, t.arguments());
+    Assertions.assertEquals("100%% of %s%n", t.template());
+    Assertions.assertEquals("100%% of %s%n", t.toString());
+    Assertions.assertEquals(
+      String.format("100%% of %s%n", "x"), t.format("x"));
+
+    Assertions.assertEquals(0, ContractMessageTemplate.parse("").arguments());
+    Assertions.assertEquals(3, RANGE.arguments());
+  }
+
+  @Test
+  public void testParseErrors()
+  {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ContractMessageTemplate.parse("Value %"));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ContractMessageTemplate.parse("Value %x"));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ContractMessageTemplate.parse("Value %5d"));
+    Assertions.assertThrows(
+      NullPointerException.class,
+      () -> ContractMessageTemplate.parse(null));
+  }
+
+  @Test
+  public void testFormat()
+  {
+    final ContractMessageTemplate one = ContractMessageTemplate.parse("<%s>");
+    Assertions.assertEquals("<x>", one.format("x"));
+    Assertions.assertEquals("<-1>", one.format(-1));
+    Assertions.assertEquals("<10000000000>", one.format(10000000000L));
+    Assertions.assertEquals("<1.5>", one.format(1.5));
+    Assertions.assertEquals("<c>", one.format('c'));
+    Assertions.assertEquals("<null>", one.format((Object) null));
+
+    final ContractMessageTemplate two = ContractMessageTemplate.parse("%s-%d");
+    Assertions.assertEquals("a-b", two.format("a", "b"));
+    Assertions.assertEquals("1-2", two.format(1, 2));
+    Assertions.assertEquals("1-2", two.format(1L, 2L));
+
+    Assertions.assertEquals(
+      String.format("Index %d must be in the range [%d, %d)", 5, 0, 4),
+      RANGE.format(5, 0, 4));
+    Assertions.assertEquals(
+      "Index 5 must be in the range [0, 4)",
+      RANGE.format(5L, 0L, 4L));
+    Assertions.assertEquals(
+      "Index a must be in the range [b, c)",
+      RANGE.format("a", "b", "c"));
+  }
+
+  @Test
+  public void testFormatLenient()
+  {
+    Assertions.assertEquals(
+      "Index 5 must be in the range [%d, %d)",
+      RANGE.format(5));
+    Assertions.assertEquals(
+      "Index 5 must be in the range [0, %d)",
+      RANGE.format(5, 0));
+
+    final ContractMessageTemplate none = ContractMessageTemplate.parse("x");
+    Assertions.assertEquals("x", none.format(1, 2, 3));
+  }
+
+  @Test
+  public void testFormatLarge()
+  {
+    final String large = "x".repeat(10000);
+    final ContractMessageTemplate t = ContractMessageTemplate.parse("%s!");
+    Assertions.assertEquals(large + "!", t.format(large));
+    Assertions.assertEquals("y!", t.format("y"));
+  }
+
+  @Test
+  public void testPreconditionTemplate()
+  {
+    Assertions.assertEquals(
+      "x", Preconditions.checkPreconditionV("x", true, RANGE, 1, 0, 4));
+    Preconditions.checkPreconditionV(true, RANGE, 1, 0, 4);
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionV("x", false, RANGE, 5, 0, 4));
+    Assertions.assertEquals(
+      "Index 5 must be in the range [0, 4)",
+      ex.violationDetails().get(0).description());
+
+    final PreconditionViolationException exNoValue = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionV(false, RANGE, 5L, 0L, 4L));
+    Assertions.assertEquals(
+      "Index 5 must be in the range [0, 4)",
+      exNoValue.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testPostconditionTemplate()
+  {
+    Assertions.assertEquals(
+      "x", Postconditions.checkPostconditionV("x", true, RANGE, 1, 0, 4));
+    Postconditions.checkPostconditionV(true, RANGE, "a", "b");
+
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionV("x", false, RANGE, 5.0));
+    Assertions.assertEquals(
+      "Index 5.0 must be in the range [%d, %d)",
+      ex.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testInvariantTemplate()
+  {
+    Assertions.assertEquals(
+      "x", Invariants.checkInvariantV("x", true, RANGE, 1, 0, 4));
+    Invariants.checkInvariantV(true, RANGE, 'c');
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantV(false, RANGE, "a", "b", "c"));
+    Assertions.assertEquals(
+      "Index a must be in the range [b, c)",
+      ex.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testReentrantArgument()
+  {
+    final ContractMessageTemplate point =
+      ContractMessageTemplate.parse("Point(%d)");
+    final Object argument = new Object()
+    {
+      @Override
+      public String toString()
+      {
+        return point.format(7);
+      }
+    };
+
+    final ContractMessageTemplate outer =
+      ContractMessageTemplate.parse("bad point %s at index %d");
+    Assertions.assertEquals(
+      "bad point Point(7) at index 3",
+      outer.format(argument, Integer.valueOf(3)));
+    Assertions.assertEquals(
+      "bad point Point(7) at index Point(7)",
+      outer.format(argument, argument, argument));
+    Assertions.assertEquals(
+      "bad point Point(7) at index %d",
+      outer.format(argument));
+  }
+
+  @Test
+  public void testArgumentToStringFails()
+  {
+    final Object argument = new Object()
+    {
+      @Override
+      public String toString()
+      {
+        throw new IllegalStateException("Broken toString");
+      }
+    };
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionV(false, RANGE, argument));
+    final String description = ex.violationDetails().get(0).description();
+    Assertions.assertTrue(description.startsWith("Index "));
+    Assertions.assertTrue(description.contains("Broken toString"));
+    Assertions.assertTrue(description.endsWith(" must be in the range [%d, %d)"));
+  }
+}
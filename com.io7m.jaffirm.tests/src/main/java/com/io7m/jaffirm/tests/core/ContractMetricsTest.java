@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractConditionSet;
+import com.io7m.jaffirm.core.ContractConditionType;
+import com.io7m.jaffirm.core.ContractDoubleCondition;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractLongCondition;
+import com.io7m.jaffirm.core.ContractMetrics;
+import com.io7m.jaffirm.core.ContractSiteMetrics;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.Invariants;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public final class ContractMetricsTest
+{
+  @Test
+  public void testGlobalDisabledByDefault()
+  {
+    Assertions.assertFalse(ContractMetrics.global().isEnabled());
+  }
+
+  @Test
+  public void testDisabledUnchanged()
+  {
+    final ContractMetrics metrics = ContractMetrics.disabled();
+    final ContractCondition<Integer> condition =
+      Contracts.condition(x -> true, x -> "x");
+    final ContractIntCondition conditionI =
+      Contracts.conditionI(x -> true, x -> "x");
+    final ContractLongCondition conditionL =
+      Contracts.conditionL(x -> true, x -> "x");
+    final ContractDoubleCondition conditionD =
+      Contracts.conditionD(x -> true, x -> "x");
+
+    Assertions.assertFalse(metrics.isEnabled());
+    Assertions.assertSame(condition, metrics.counted("a", condition));
+    Assertions.assertSame(conditionI, metrics.countedI("a", conditionI));
+    Assertions.assertSame(conditionL, metrics.countedL("a", conditionL));
+    Assertions.assertSame(conditionD, metrics.countedD("a", conditionD));
+    Assertions.assertEquals(List.of(), metrics.snapshot());
+  }
+
+  @Test
+  public void testCounted()
+  {
+    final ContractMetrics metrics = ContractMetrics.create();
+    final ContractConditionType<Integer> condition =
+      metrics.counted(
+        "positive",
+        Contracts.condition(x -> x.intValue() > 0, x -> "Must be positive"));
+
+    Preconditions.checkPrecondition(Integer.valueOf(1), condition);
+    Preconditions.checkPrecondition(Integer.valueOf(2), condition);
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPrecondition(Integer.valueOf(-1), condition));
+
+    Assertions.assertEquals(
+      List.of(ContractSiteMetrics.of("positive", 3L, 1L)),
+      metrics.snapshot());
+
+    metrics.reset();
+    Assertions.assertEquals(
+      List.of(ContractSiteMetrics.of("positive", 0L, 0L)),
+      metrics.snapshot());
+  }
+
+  @Test
+  public void testCountedPrimitive()
+  {
+    final ContractMetrics metrics = ContractMetrics.create();
+    final var conditionI =
+      metrics.countedI("i", Contracts.conditionI(x -> x > 0, x -> "x"));
+    final var conditionL =
+      metrics.countedL("l", Contracts.conditionL(x -> x > 0L, x -> "x"));
+    final var conditionD =
+      metrics.countedD("d", Contracts.conditionD(x -> x > 0.0, x -> "x"));
+
+    Preconditions.checkPreconditionI(1, conditionI);
+    Preconditions.checkPreconditionL(1L, conditionL);
+    Preconditions.checkPreconditionD(1.0, conditionD);
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionI(0, conditionI));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionL(0L, conditionL));
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionD(0.0, conditionD));
+
+    Assertions.assertEquals(
+      List.of(
+        ContractSiteMetrics.of("d", 2L, 1L),
+        ContractSiteMetrics.of("i", 2L, 1L),
+        ContractSiteMetrics.of("l", 2L, 1L)),
+      metrics.snapshot());
+  }
+
+  @Test
+  public void testCountedSharedSite()
+  {
+    final ContractMetrics metrics = ContractMetrics.create();
+    final ContractConditionSet<Integer> set =
+      Contracts.conditionSet(
+        metrics.counted("site", Contracts.condition(x -> true, x -> "x")),
+        metrics.counted("site", Contracts.condition(x -> false, x -> "y")));
+
+    Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariants(Integer.valueOf(23), set));
+
+    Assertions.assertEquals(
+      List.of(ContractSiteMetrics.of("site", 2L, 1L)),
+      metrics.snapshot());
+  }
+
+  @Test
+  public void testCountedPredicateException()
+  {
+    final ContractMetrics metrics = ContractMetrics.create();
+    final ContractConditionType<Integer> condition =
+      metrics.counted(
+        "site",
+        Contracts.condition(
+          x -> {
+            throw new IllegalStateException("OUCH");
+          },
+          x -> "x"));
+
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPrecondition(Integer.valueOf(23), condition));
+
+    Assertions.assertEquals(
+      List.of(ContractSiteMetrics.of("site", 1L, 1L)),
+      metrics.snapshot());
+  }
+
+  @Test
+  public void testCountedConcurrent()
+    throws Exception
+  {
+    final ContractMetrics metrics = ContractMetrics.create();
+    final ContractIntCondition base =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Must be even");
+    final var condition = metrics.countedI("even", base);
+
+    final Thread[] threads = new Thread[4];
+    for (int index = 0; index < threads.length; ++index) {
+      threads[index] = new Thread(() -> {
+        for (int value = 0; value < 1000; ++value) {
+          try {
+            Invariants.checkInvariantsFirstI(value, condition);
+          } catch (final InvariantViolationException e) {
+            // Expected for odd values
+          }
+        }
+      });
+    }
+
+    for (final Thread thread : threads) {
+      thread.start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    final ContractSiteMetrics result = metrics.snapshot().get(0);
+    Assertions.assertEquals("even", result.site());
+    Assertions.assertEquals(4000L, result.evaluations());
+    Assertions.assertEquals(2000L, result.violations());
+  }
+
+  @Test
+  public void testToString()
+  {
+    Assertions.assertTrue(
+      ContractMetrics.create().toString().contains("enabled=true"));
+  }
+}
@@ -0,0 +1,480 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.PostconditionViolationException;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.jaffirm.processor.Requires;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public final class ContractProcessorTest
+{
+  private static final String COUNTER = """
+    package p;
+
+    import com.io7m.jaffirm.processor.Ensures;
+    import com.io7m.jaffirm.processor.Invariant;
+    import com.io7m.jaffirm.processor.Requires;
+    import java.util.ArrayList;
+    import java.util.List;
+
+    @Invariant("self.size >= 0")
+    @Invariant(value = "self.size < 100", message = "Size must be < 100")
+    public final class Counter<T extends Comparable<T>>
+    {
+      int size;
+
+      @Requires("size >= 0")
+      public Counter(final int size)
+      {
+        CounterContracts.requiresConstructor(size);
+        this.size = size;
+      }
+
+      public void setSize(final int newSize)
+      {
+        this.size = newSize;
+        CounterContracts.checkInvariants(this);
+      }
+
+      @Requires("x > 0")
+      @Requires(value = "x % 2 == 0", message = "x must be \\"even\\"")
+      @Ensures("result > x")
+      public int twice(final int x)
+      {
+        CounterContracts.requiresTwice(x);
+        return CounterContracts.ensuresTwice(x * this.size, x);
+      }
+
+      @Ensures("!result.isEmpty()")
+      @SafeVarargs
+      public static <U> List<U> listOf(final U... items)
+      {
+        return CounterContracts.ensuresListOf(List.of(items), items);
+      }
+
+      @Requires("!items.isEmpty()")
+      @Ensures("items.isEmpty()")
+      public void consume(final List<T> items)
+      {
+        CounterContracts.requiresConsume(items);
+        items.clear();
+        CounterContracts.ensuresConsume(items);
+      }
+
+      public static final class Nested
+      {
+        private Nested()
+        {
+
+        }
+
+        @Requires("text != null")
+        public static String identity(final String text)
+        {
+          Counter_NestedContracts.requiresIdentity(text);
+          return text;
+        }
+      }
+    }
+    """;
+
+  private static Path location(
+    final Class<?> clazz)
+    throws URISyntaxException
+  {
+    return Path.of(
+      clazz.getProtectionDomain().getCodeSource().getLocation().toURI());
+  }
+
+  private static DiagnosticCollector<JavaFileObject> compile(
+    final Path directory,
+    final String className,
+    final String source)
+    throws Exception
+  {
+    return compile(directory, className, source, List.of());
+  }
+
+  private static DiagnosticCollector<JavaFileObject> compile(
+    final Path directory,
+    final String className,
+    final String source,
+    final List<String> extraOptions)
+    throws Exception
+  {
+    final Path sources = directory.resolve("src");
+    final Path generated = directory.resolve("generated");
+    final Path classes = directory.resolve("classes");
+    Files.createDirectories(sources);
+    Files.createDirectories(generated);
+    Files.createDirectories(classes);
+
+    final Path file = sources.resolve(className + ".java");
+    Files.writeString(file, source, StandardCharsets.UTF_8);
+
+    final String classPath =
+      String.join(
+        java.io.File.pathSeparator,
+        location(Preconditions.class).toString(),
+        location(Requires.class).toString());
+
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final DiagnosticCollector<JavaFileObject> diagnostics =
+      new DiagnosticCollector<>();
+
+    try (StandardJavaFileManager files =
+           compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+      final List<String> options = new ArrayList<>(List.of(
+        "-classpath", classPath,
+        "-processorpath", classPath,
+        "-s", generated.toString(),
+        "-d", classes.toString()));
+      options.addAll(extraOptions);
+      compiler.getTask(
+        null,
+        files,
+        diagnostics,
+        options,
+        null,
+        files.getJavaFileObjects(file)
+      ).call();
+    }
+    return diagnostics;
+  }
+
+  private static String errors(
+    final DiagnosticCollector<JavaFileObject> diagnostics)
+  {
+    return diagnostics.getDiagnostics()
+      .stream()
+      .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+      .map(d -> d.getMessage(Locale.ROOT))
+      .collect(Collectors.joining("\n"));
+  }
+
+  private static Throwable invokeFailing(
+    final Method method,
+    final Object receiver,
+    final Object... arguments)
+  {
+    final InvocationTargetException ex = Assertions.assertThrows(
+      InvocationTargetException.class,
+      () -> method.invoke(receiver, arguments));
+    return ex.getCause();
+  }
+
+  @Test
+  public void testGenerated(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final DiagnosticCollector<JavaFileObject> diagnostics =
+      compile(directory, "Counter", COUNTER);
+    Assertions.assertEquals("", errors(diagnostics));
+
+    final String generated = Files.readString(
+      directory.resolve("generated/p/CounterContracts.java"));
+    Assertions.assertFalse(generated.contains("->"), generated);
+    Assertions.assertTrue(Files.isRegularFile(
+      directory.resolve("generated/p/Counter_NestedContracts.java")));
+
+    try (URLClassLoader loader = new URLClassLoader(
+      new URL[]{directory.resolve("classes").toUri().toURL()},
+      ContractProcessorTest.class.getClassLoader())) {
+      final Class<?> counterClass = loader.loadClass("p.Counter");
+      final Object counter =
+        counterClass.getConstructor(int.class).newInstance(Integer.valueOf(2));
+
+      final Method twice = counterClass.getMethod("twice", int.class);
+      Assertions.assertEquals(Integer.valueOf(8), twice.invoke(counter, Integer.valueOf(4)));
+
+      final Throwable notPositive = invokeFailing(twice, counter, Integer.valueOf(-1));
+      Assertions.assertInstanceOf(PreconditionViolationException.class, notPositive);
+      final PreconditionViolationException notPositiveEx =
+        (PreconditionViolationException) notPositive;
+      Assertions.assertEquals(
+        "x > 0", notPositiveEx.violationDetails().get(0).description());
+
+      final Throwable notEven = invokeFailing(twice, counter, Integer.valueOf(3));
+      Assertions.assertEquals(
+        "x must be \"even\"",
+        ((PreconditionViolationException) notEven)
+          .violationDetails().get(0).description());
+
+      final Method setSize = counterClass.getMethod("setSize", int.class);
+      setSize.invoke(counter, Integer.valueOf(0));
+      final Throwable notGreater = invokeFailing(twice, counter, Integer.valueOf(2));
+      Assertions.assertInstanceOf(PostconditionViolationException.class, notGreater);
+
+      final Throwable tooLarge = invokeFailing(setSize, counter, Integer.valueOf(100));
+      Assertions.assertInstanceOf(InvariantViolationException.class, tooLarge);
+      Assertions.assertEquals(
+        "Size must be < 100",
+        ((InvariantViolationException) tooLarge)
+          .violationDetails().get(0).description());
+
+      final Throwable negative = invokeFailing(setSize, counter, Integer.valueOf(-1));
+      Assertions.assertEquals(
+        "self.size >= 0",
+        ((InvariantViolationException) negative)
+          .violationDetails().get(0).description());
+
+      final Method listOf = counterClass.getMethod("listOf", Object[].class);
+      Assertions.assertEquals(
+        List.of("a"), listOf.invoke(null, (Object) new Object[]{"a"}));
+      Assertions.assertInstanceOf(
+        PostconditionViolationException.class,
+        invokeFailing(listOf, null, (Object) new Object[0]));
+
+      final Method consume = counterClass.getMethod("consume", List.class);
+      consume.invoke(counter, new java.util.ArrayList<>(List.of("x")));
+      Assertions.assertInstanceOf(
+        PreconditionViolationException.class,
+        invokeFailing(consume, counter, new java.util.ArrayList<>()));
+
+      final Class<?> nested = loader.loadClass("p.Counter$Nested");
+      final Method identity = nested.getMethod("identity", String.class);
+      Assertions.assertEquals("x", identity.invoke(null, "x"));
+      Assertions.assertInstanceOf(
+        PreconditionViolationException.class,
+        invokeFailing(identity, null, (Object) null));
+
+      final Throwable negativeSize = Assertions.assertThrows(
+        InvocationTargetException.class,
+        () -> counterClass.getConstructor(int.class).newInstance(Integer.valueOf(-1)))
+        .getCause();
+      Assertions.assertInstanceOf(PreconditionViolationException.class, negativeSize);
+    }
+  }
+
+  @Test
+  public void testResultParameterRejected(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final DiagnosticCollector<JavaFileObject> diagnostics =
+      compile(directory, "Bad", """
+        package p;
+
+        import com.io7m.jaffirm.processor.Ensures;
+
+        public final class Bad
+        {
+          @Ensures("result > 0")
+          public int f(final int result)
+          {
+            return result;
+          }
+        }
+        """);
+    Assertions.assertTrue(
+      errors(diagnostics).contains("parameter named 'result'"),
+      errors(diagnostics));
+  }
+
+  @Test
+  public void testPrivateTypeRejected(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final DiagnosticCollector<JavaFileObject> diagnostics =
+      compile(directory, "Outer", """
+        package p;
+
+        import com.io7m.jaffirm.processor.Requires;
+
+        public final class Outer
+        {
+          private static final class Inner
+          {
+            @Requires("x > 0")
+            void f(final int x)
+            {
+
+            }
+          }
+        }
+        """);
+    Assertions.assertTrue(
+      errors(diagnostics).contains("private types"),
+      errors(diagnostics));
+  }
+
+  @Test
+  public void testVarargsReifiable(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    /*
+     * The classfile lint is excluded because the core jar refers to
+     * annotations that are not on the class path of the test compilation.
+     */
+
+    final DiagnosticCollector<JavaFileObject> diagnostics =
+      compile(directory, "Lists", """
+        package p;
+
+        import com.io7m.jaffirm.processor.Ensures;
+        import com.io7m.jaffirm.processor.Requires;
+        import java.util.List;
+
+        public final class Lists
+        {
+          private Lists()
+          {
+
+          }
+
+          @Requires("xs.length > 0")
+          public static void strings(final String... xs)
+          {
+            ListsContracts.requiresStrings(xs);
+          }
+
+          @Ensures("result >= 0")
+          public static int count(final int... xs)
+          {
+            return ListsContracts.ensuresCount(xs.length, xs);
+          }
+
+          @Requires("xs.length > 0")
+          public static void wildcards(final List<?>... xs)
+          {
+            ListsContracts.requiresWildcards(xs);
+          }
+
+          @Requires("xs.length > 0")
+          @SafeVarargs
+          public static void lists(final List<String>... xs)
+          {
+            ListsContracts.requiresLists(xs);
+          }
+        }
+        """, List.of("-Xlint:all,-classfile", "-Werror"));
+
+    final String messages = diagnostics.getDiagnostics()
+      .stream()
+      .map(d -> d.getMessage(Locale.ROOT))
+      .collect(Collectors.joining("\n"));
+    Assertions.assertEquals("", messages);
+
+    final String generated = Files.readString(
+      directory.resolve("generated/p/ListsContracts.java"));
+    Assertions.assertEquals(
+      1,
+      generated.split("@SafeVarargs", -1).length - 1,
+      generated);
+    Assertions.assertTrue(
+      generated.contains("@SafeVarargs\n  static void requiresLists("),
+      generated);
+  }
+
+  @Test
+  public void testOverloadClashRejected(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final DiagnosticCollector<JavaFileObject> diagnostics =
+      compile(directory, "Clash", """
+        package p;
+
+        import com.io7m.jaffirm.processor.Ensures;
+
+        public final class Clash
+        {
+          @Ensures("result > 0")
+          public int m(final int x)
+          {
+            return x;
+          }
+
+          @Ensures("a > 0")
+          public void m(final int a, final int b)
+          {
+
+          }
+        }
+        """);
+
+    final List<Diagnostic<? extends JavaFileObject>> errors =
+      diagnostics.getDiagnostics()
+        .stream()
+        .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+        .toList();
+    Assertions.assertEquals(1, errors.size(), errors(diagnostics));
+    Assertions.assertTrue(
+      errors.get(0).getMessage(Locale.ROOT).contains("clash"),
+      errors(diagnostics));
+    Assertions.assertTrue(
+      errors.get(0).getSource().getName().endsWith("Clash.java"),
+      errors.get(0).getSource().getName());
+  }
+
+  @Test
+  public void testOverloadsDistinct(
+    final @TempDir Path directory)
+    throws Exception
+  {
+    final DiagnosticCollector<JavaFileObject> diagnostics =
+      compile(directory, "Overloads", """
+        package p;
+
+        import com.io7m.jaffirm.processor.Requires;
+
+        public final class Overloads
+        {
+          @Requires("x > 0")
+          public void m(final int x)
+          {
+            OverloadsContracts.requiresM(x);
+          }
+
+          @Requires("x > 0L")
+          public void m(final long x)
+          {
+            OverloadsContracts.requiresM(x);
+          }
+        }
+        """);
+    Assertions.assertEquals("", errors(diagnostics));
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractSampler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class ContractSamplerTest
+{
+  @Test
+  public void testAlways()
+  {
+    final ContractSampler sampler = ContractSampler.always();
+    for (int index = 0; index < 100; ++index) {
+      Assertions.assertTrue(sampler.sample());
+    }
+    Assertions.assertSame(sampler, ContractSampler.everyNth(1));
+    Assertions.assertSame(sampler, ContractSampler.withProbability(1.0));
+  }
+
+  @Test
+  public void testEveryNth()
+  {
+    final ContractSampler sampler = ContractSampler.everyNth(3);
+    int count = 0;
+    for (int index = 1; index <= 30; ++index) {
+      final boolean selected = sampler.sample();
+      Assertions.assertEquals(index % 3 == 0, selected);
+      if (selected) {
+        ++count;
+      }
+    }
+    Assertions.assertEquals(10, count);
+  }
+
+  @Test
+  public void testEveryNthPerThread()
+    throws Exception
+  {
+    final ContractSampler sampler = ContractSampler.everyNth(2);
+    Assertions.assertFalse(sampler.sample());
+
+    final boolean[] other = new boolean[1];
+    final Thread thread = new Thread(() -> other[0] = sampler.sample());
+    thread.start();
+    thread.join();
+
+    Assertions.assertFalse(other[0]);
+    Assertions.assertTrue(sampler.sample());
+  }
+
+  @Test
+  public void testProbabilityZero()
+  {
+    final ContractSampler sampler = ContractSampler.withProbability(0.0);
+    for (int index = 0; index < 100; ++index) {
+      Assertions.assertFalse(sampler.sample());
+    }
+  }
+
+  @Test
+  public void testProbabilityHalf()
+  {
+    final ContractSampler sampler = ContractSampler.withProbability(0.5);
+    int count = 0;
+    for (int index = 0; index < 10_000; ++index) {
+      if (sampler.sample()) {
+        ++count;
+      }
+    }
+    Assertions.assertTrue(count > 4_000, "Count " + count);
+    Assertions.assertTrue(count < 6_000, "Count " + count);
+  }
+
+  @Test
+  public void testInvalid()
+  {
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ContractSampler.everyNth(0));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ContractSampler.withProbability(-0.1));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ContractSampler.withProbability(1.1));
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> ContractSampler.withProbability(Double.NaN));
+  }
+
+  @Test
+  public void testToString()
+  {
+    Assertions.assertTrue(
+      ContractSampler.everyNth(4).toString().contains("4"));
+    Assertions.assertTrue(
+      ContractSampler.withProbability(0.25).toString().contains("0.25"));
+  }
+}
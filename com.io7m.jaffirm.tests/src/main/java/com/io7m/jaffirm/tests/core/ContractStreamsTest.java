@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractConditionSet;
+import com.io7m.jaffirm.core.ContractStreams;
+import com.io7m.jaffirm.core.ContractViolation;
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.PostconditionViolationException;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class ContractStreamsTest
+{
+  private static final ContractCondition<Integer> NOT_SEVEN =
+    Contracts.condition(
+      x -> x.intValue() % 10 != 7,
+      x -> "Value " + x + " must not end in 7");
+
+  private static final ContractCondition<Integer> EVEN =
+    Contracts.condition(
+      x -> x.intValue() % 2 == 0,
+      x -> "Value " + x + " must be even");
+
+  private static Stream<Integer> range(
+    final int size)
+  {
+    return IntStream.range(0, size).boxed();
+  }
+
+  @Test
+  public void testCheckingPass()
+  {
+    Assertions.assertEquals(
+      List.of(0, 1, 2, 3, 4, 5, 6),
+      ContractStreams.checkingPreconditions(range(7), NOT_SEVEN).toList());
+    Assertions.assertEquals(
+      List.of(0, 1, 2),
+      ContractStreams.checkingPostconditions(range(3), NOT_SEVEN).toList());
+    Assertions.assertEquals(
+      List.of(0, 1, 2),
+      ContractStreams.checkingInvariants(range(3), NOT_SEVEN).toList());
+  }
+
+  @Test
+  public void testCheckingLazy()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final ContractCondition<Integer> counting =
+      Contracts.condition(x -> calls.incrementAndGet() > 0, x -> "x");
+
+    final Stream<Integer> stream =
+      ContractStreams.checkingPreconditions(range(100), counting);
+    Assertions.assertEquals(0, calls.get());
+    Assertions.assertEquals(List.of(0, 1, 2), stream.limit(3).toList());
+    Assertions.assertEquals(3, calls.get());
+  }
+
+  @Test
+  public void testCheckingFail()
+  {
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> ContractStreams.checkingPreconditions(
+        range(100),
+        ContractConditionSet.of(
+          NOT_SEVEN,
+          Contracts.condition(x -> x.intValue() < 7, x -> "x"))).toList());
+
+    Assertions.assertEquals(2, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("Received: 7"));
+
+    Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> ContractStreams.checkingPostconditions(range(8), NOT_SEVEN)
+        .forEach(x -> { }));
+    Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> ContractStreams.checkingInvariants(range(8), NOT_SEVEN).toList());
+  }
+
+  @Test
+  public void testCheckingParallel()
+  {
+    Assertions.assertEquals(
+      100_000,
+      ContractStreams.checkingInvariants(
+        range(100_000).parallel(),
+        Contracts.condition(x -> x.intValue() >= 0, x -> "x")).toList().size());
+
+    final Stream<Integer> stream =
+      ContractStreams.checkingInvariants(range(100_000).parallel(), NOT_SEVEN);
+    Assertions.assertTrue(stream.isParallel());
+    Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> stream.mapToInt(Integer::intValue).sum());
+  }
+
+  @Test
+  public void testCheckingClose()
+  {
+    final AtomicBoolean closed = new AtomicBoolean();
+    final Stream<Integer> stream = range(3).onClose(() -> closed.set(true));
+    ContractStreams.checkingPreconditions(stream, NOT_SEVEN).close();
+    Assertions.assertTrue(closed.get());
+  }
+
+  @Test
+  public void testCollectorPass()
+  {
+    final List<Integer> result =
+      range(7).collect(ContractStreams.toListCheckingPreconditions(
+        ContractConditionSet.of(NOT_SEVEN)));
+
+    Assertions.assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), result);
+    Assertions.assertThrows(
+      UnsupportedOperationException.class,
+      () -> result.add(Integer.valueOf(23)));
+  }
+
+  @Test
+  public void testCollectorFail()
+  {
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> range(30).collect(ContractStreams.toListCheckingPostconditions(
+        ContractConditionSet.of(NOT_SEVEN, EVEN))));
+
+    final List<ContractViolation> details = ex.violationDetails();
+    Assertions.assertEquals(18, ex.violations());
+    Assertions.assertEquals(1, details.get(0).index());
+    Assertions.assertEquals("Value 1 must be even", details.get(0).description());
+    Assertions.assertEquals(7, details.get(3).index());
+    Assertions.assertEquals(
+      "Value 7 must not end in 7", details.get(3).description());
+    Assertions.assertEquals(7, details.get(4).index());
+    Assertions.assertEquals("Value 7 must be even", details.get(4).description());
+  }
+
+  @Test
+  public void testCollectorParallelOrdered()
+  {
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> range(100_000).parallel()
+        .collect(ContractStreams.toListCheckingInvariants(
+          ContractConditionSet.of(
+            Contracts.condition(
+              x -> x.intValue() % 1000 != 0,
+              x -> "Value " + x + " is round")))));
+
+    final List<ContractViolation> details = ex.violationDetails();
+    Assertions.assertEquals(100, details.size());
+    for (int index = 0; index < details.size(); ++index) {
+      Assertions.assertEquals(index * 1000, details.get(index).index());
+      Assertions.assertEquals(
+        "Value " + index * 1000 + " is round",
+        details.get(index).description());
+    }
+    Assertions.assertTrue(ex.getMessage().contains("size 100000"));
+  }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.agent.ContractAgentRules;
+import com.io7m.jaffirm.agent.ContractStripper;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public final class ContractStripperTest
+{
+  private static final String FIXTURE =
+    ContractAgentFixture.class.getName();
+  private static final String FIXTURE_INTERNAL =
+    FIXTURE.replace('.', '/');
+
+  private static byte[] fixtureBytes()
+    throws IOException
+  {
+    try (InputStream stream =
+           ContractAgentFixture.class.getResourceAsStream(
+             "ContractAgentFixture.class")) {
+      return stream.readAllBytes();
+    }
+  }
+
+  private static byte[] transform(
+    final String rules)
+    throws IOException
+  {
+    final ContractStripper stripper =
+      new ContractStripper(ContractAgentRules.parse(rules));
+    return stripper.transform(
+      ContractStripperTest.class.getClassLoader(),
+      FIXTURE_INTERNAL,
+      null,
+      null,
+      fixtureBytes());
+  }
+
+  private static Class<?> load(
+    final String rules)
+    throws Exception
+  {
+    final byte[] data = transform(rules);
+    Assertions.assertNotNull(data);
+    return new FixtureLoader(data).loadClass(FIXTURE);
+  }
+
+  private static Object invoke(
+    final Class<?> fixture,
+    final String name,
+    final Class<?> type,
+    final Object argument)
+    throws Throwable
+  {
+    final Method method = fixture.getMethod(name, type);
+    try {
+      return method.invoke(null, argument);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static int evaluations(
+    final Class<?> fixture)
+    throws Exception
+  {
+    return ((Integer) fixture.getMethod("evaluations").invoke(null))
+      .intValue();
+  }
+
+  @Test
+  public void testOriginalChecks()
+  {
+    Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> ContractAgentFixture.invariantStatement(-1));
+    Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> ContractAgentFixture.invariantContext(-1));
+    Assertions.assertEquals(0, ContractAgentFixture.invariantTry(-1));
+  }
+
+  @Test
+  public void testUnmatched()
+    throws Exception
+  {
+    Assertions.assertNull(transform(""));
+    Assertions.assertNull(transform("com.example=all"));
+    Assertions.assertNull(
+      transform("com.io7m.jaffirm=all,com.io7m.jaffirm.tests=none"));
+    Assertions.assertNull(transform("*=postconditions"));
+  }
+
+  @Test
+  public void testUnsupportedClasses()
+  {
+    final ContractStripper stripper =
+      new ContractStripper(ContractAgentRules.parse("*=all"));
+    Assertions.assertNull(
+      stripper.transform(null, null, null, null, new byte[0]));
+    Assertions.assertNull(
+      stripper.transform(
+        null, "com/io7m/jaffirm/core/Invariants", null, null, new byte[0]));
+    Assertions.assertNull(
+      stripper.transform(
+        null, "com/example/A", null, null, new byte[] {1, 2, 3}));
+  }
+
+  @Test
+  public void testInvariantStatement()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertEquals(
+      Integer.valueOf(-1),
+      invoke(fixture, "invariantStatement", int.class, Integer.valueOf(-1)));
+    Assertions.assertEquals(0, evaluations(fixture));
+  }
+
+  @Test
+  public void testInvariantResult()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertEquals(
+      Integer.valueOf(-1),
+      invoke(fixture, "invariantResult", int.class, Integer.valueOf(-1)));
+    Assertions.assertEquals(1, evaluations(fixture));
+  }
+
+  @Test
+  public void testInvariantDiscarded()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertEquals(
+      Integer.valueOf(0),
+      invoke(fixture, "invariantDiscarded", String.class, ""));
+    Assertions.assertEquals(0, evaluations(fixture));
+  }
+
+  @Test
+  public void testInvariantLong()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertEquals(
+      Long.valueOf(-1L),
+      invoke(fixture, "invariantLong", long.class, Long.valueOf(-1L)));
+    Assertions.assertEquals(0, evaluations(fixture));
+  }
+
+  @Test
+  public void testInvariantContext()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertEquals(
+      Integer.valueOf(-1),
+      invoke(fixture, "invariantContext", int.class, Integer.valueOf(-1)));
+    Assertions.assertEquals(0, evaluations(fixture));
+  }
+
+  @Test
+  public void testInvariantConditional()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertEquals(
+      Integer.valueOf(-1),
+      invoke(fixture, "invariantConditional", int.class, Integer.valueOf(-1)));
+    Assertions.assertEquals(0, evaluations(fixture));
+  }
+
+  @Test
+  public void testInvariantVarargs()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertEquals(
+      Integer.valueOf(-1),
+      invoke(fixture, "invariantVarargs", int.class, Integer.valueOf(-1)));
+    Assertions.assertEquals(0, evaluations(fixture));
+  }
+
+  @Test
+  public void testInvariantTry()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertEquals(
+      Integer.valueOf(-1),
+      invoke(fixture, "invariantTry", int.class, Integer.valueOf(-1)));
+    Assertions.assertEquals(0, evaluations(fixture));
+  }
+
+  @Test
+  public void testInvariantLoop()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertEquals(
+      Integer.valueOf(-4),
+      invoke(fixture, "invariantLoop", int.class, Integer.valueOf(-1)));
+    Assertions.assertEquals(0, evaluations(fixture));
+  }
+
+  @Test
+  public void testPreconditionRetained()
+    throws Throwable
+  {
+    final Class<?> fixture = load("com.io7m.jaffirm.tests=invariants");
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> invoke(fixture, "precondition", int.class, Integer.valueOf(-1)));
+    Assertions.assertEquals(1, evaluations(fixture));
+  }
+
+  @Test
+  public void testPreconditionRemoved()
+    throws Throwable
+  {
+    final Class<?> fixture =
+      load("com.io7m.jaffirm=invariants,com.io7m.jaffirm.tests.core=all");
+    Assertions.assertEquals(
+      Integer.valueOf(-1),
+      invoke(fixture, "precondition", int.class, Integer.valueOf(-1)));
+    Assertions.assertEquals(1, evaluations(fixture));
+  }
+
+  private static final class FixtureLoader extends ClassLoader
+  {
+    private final byte[] data;
+
+    FixtureLoader(
+      final byte[] inData)
+    {
+      super(ContractStripperTest.class.getClassLoader());
+      this.data = inData;
+    }
+
+    @Override
+    protected Class<?> loadClass(
+      final String name,
+      final boolean resolve)
+      throws ClassNotFoundException
+    {
+      if (!FIXTURE.equals(name)) {
+        return super.loadClass(name, resolve);
+      }
+
+      synchronized (this.getClassLoadingLock(name)) {
+        final Class<?> existing = this.findLoadedClass(name);
+        if (existing != null) {
+          return existing;
+        }
+        return this.defineClass(name, this.data, 0, this.data.length);
+      }
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.InvariantViolationException;
+import com.io7m.jaffirm.core.Invariants;
+import com.io7m.jaffirm.core.PostconditionViolationException;
+import com.io7m.jaffirm.core.Postconditions;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import jdk.jfr.Configuration;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public final class ContractViolationEventTest
+{
+  private static List<RecordedEvent> record(
+    final Runnable action)
+    throws Exception
+  {
+    try (Recording recording = new Recording()) {
+      recording.enable("com.io7m.jaffirm.PreconditionViolation");
+      recording.enable("com.io7m.jaffirm.PostconditionViolation");
+      recording.enable("com.io7m.jaffirm.InvariantViolation");
+      return record(recording, action);
+    }
+  }
+
+  private static List<RecordedEvent> record(
+    final Recording recording,
+    final Runnable action)
+    throws Exception
+  {
+    final Path file = Files.createTempFile("jaffirm-", ".jfr");
+    try {
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file)
+        .stream()
+        .filter(e -> e.getEventType().getName().startsWith("com.io7m.jaffirm."))
+        .toList();
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static void violateAll()
+  {
+    Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPrecondition(false, "x"));
+    Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostcondition(false, "x"));
+    Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariant(false, "x"));
+  }
+
+  @Test
+  public void testPreconditionEvent()
+    throws Exception
+  {
+    final List<RecordedEvent> events = record(() -> {
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditions(
+          Integer.valueOf(23),
+          Contracts.condition(x -> false, x -> "x"),
+          Contracts.condition(x -> false, x -> "y")));
+    });
+
+    Assertions.assertEquals(1, events.size());
+    final RecordedEvent event = events.get(0);
+    Assertions.assertEquals(
+      "com.io7m.jaffirm.PreconditionViolation",
+      event.getEventType().getName());
+    Assertions.assertEquals("PRECONDITION", event.getString("kind"));
+    Assertions.assertEquals(2, event.getInt("violations"));
+    Assertions.assertTrue(
+      event.getString("callSite").startsWith(
+        ContractViolationEventTest.class.getName()),
+      event.getString("callSite"));
+    Assertions.assertNull(event.getStackTrace());
+  }
+
+  @Test
+  public void testPostconditionEvent()
+    throws Exception
+  {
+    final List<RecordedEvent> events = record(() -> {
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionI(
+          23, x -> false, x -> "x"));
+    });
+
+    Assertions.assertEquals(1, events.size());
+    final RecordedEvent event = events.get(0);
+    Assertions.assertEquals(
+      "com.io7m.jaffirm.PostconditionViolation",
+      event.getEventType().getName());
+    Assertions.assertEquals("POSTCONDITION", event.getString("kind"));
+    Assertions.assertEquals(1, event.getInt("violations"));
+  }
+
+  @Test
+  public void testInvariantEvent()
+    throws Exception
+  {
+    final List<RecordedEvent> events = record(() -> {
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariant(false, "x"));
+    });
+
+    Assertions.assertEquals(1, events.size());
+    final RecordedEvent event = events.get(0);
+    Assertions.assertEquals(
+      "com.io7m.jaffirm.InvariantViolation",
+      event.getEventType().getName());
+    Assertions.assertEquals("INVARIANT", event.getString("kind"));
+    Assertions.assertEquals(1, event.getInt("violations"));
+  }
+
+  @Test
+  public void testNoEventsOnSuccess()
+    throws Exception
+  {
+    final List<RecordedEvent> events = record(() -> {
+      Preconditions.checkPrecondition(true, "x");
+      Postconditions.checkPostcondition(true, "x");
+      Invariants.checkInvariant(true, "x");
+    });
+
+    Assertions.assertEquals(List.of(), events);
+  }
+
+  @Test
+  public void testDefaultRecordingDisabled()
+    throws Exception
+  {
+    violateAll();
+
+    /*
+     * The call site is only computed if the event type is enabled in a
+     * running recording, and so checking that the types are disabled
+     * whilst the default recording runs shows that no call site work is
+     * performed.
+     */
+
+    final List<EventType> types =
+      FlightRecorder.getFlightRecorder()
+        .getEventTypes()
+        .stream()
+        .filter(t -> t.getName().startsWith("com.io7m.jaffirm."))
+        .toList();
+    Assertions.assertEquals(3, types.size());
+
+    try (Recording recording =
+           new Recording(Configuration.getConfiguration("default"))) {
+      final List<RecordedEvent> events = record(recording, () -> {
+        for (final EventType type : types) {
+          Assertions.assertFalse(type.isEnabled(), type.getName());
+        }
+        violateAll();
+      });
+      Assertions.assertEquals(List.of(), events);
+    }
+  }
+}
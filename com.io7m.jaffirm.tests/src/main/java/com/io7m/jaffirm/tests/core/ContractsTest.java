@@ -21,6 +21,9 @@ import com.io7m.jaffirm.core.ContractDoubleCondition;
 import com.io7m.jaffirm.core.ContractIntCondition;
 import com.io7m.jaffirm.core.ContractLongCondition;
 import com.io7m.jaffirm.core.Contracts;
+import com.io7m.jaffirm.core.Invariants;
+import com.io7m.jaffirm.core.Postconditions;
+import com.io7m.jaffirm.core.Preconditions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -90,4 +93,12 @@ public final class ContractsTest
       ContractDoubleCondition.of(predicate, describer),
       Contracts.conditionD(predicate, describer));
   }
+
+  @Test
+  public void testContractsEnabledByDefault()
+  {
+    Assertions.assertTrue(Preconditions.ENABLED);
+    Assertions.assertTrue(Postconditions.ENABLED);
+    Assertions.assertTrue(Invariants.ENABLED);
+  }
 }
@@ -16,14 +16,29 @@
 
 package com.io7m.jaffirm.tests.core;
 
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractConditionSet;
+import com.io7m.jaffirm.core.ContractDoubleCondition;
+import com.io7m.jaffirm.core.ContractDoubleConditionSet;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractIntConditionSet;
+import com.io7m.jaffirm.core.ContractLongCondition;
+import com.io7m.jaffirm.core.ContractLongConditionSet;
+import com.io7m.jaffirm.core.ContractSampler;
+import com.io7m.jaffirm.core.ContractViolation;
 import com.io7m.jaffirm.core.Contracts;
 import com.io7m.jaffirm.core.InvariantViolationException;
 import com.io7m.jaffirm.core.Invariants;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public final class InvariantsTest
@@ -1257,4 +1272,1078 @@ public final class InvariantsTest
 
     Assertions.assertEquals(1, ex.violations());
   }
+
+  @Test
+  public void testInvariantsFixedArity()
+  {
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> even =
+      Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(Integer.valueOf(22), Invariants.checkInvariants(Integer.valueOf(22), lessThan, even));
+    Assertions.assertEquals(Integer.valueOf(22), Invariants.checkInvariants(Integer.valueOf(22), lessThan, even, lessThan));
+    Assertions.assertEquals(Integer.valueOf(22), Invariants.checkInvariants(Integer.valueOf(22), lessThan, even, lessThan, even));
+  }
+
+  @Test
+  public void testInvariantsFixedArityViolation()
+  {
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> even =
+      Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even");
+
+    final InvariantViolationException ex2 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariants(Integer.valueOf(23), even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final InvariantViolationException ex3 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariants(Integer.valueOf(23), even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final InvariantViolationException ex4 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariants(Integer.valueOf(23), lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testInvariantsIntFixedArity()
+  {
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition even =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(22, Invariants.checkInvariantsI(22, lessThan, even));
+    Assertions.assertEquals(22, Invariants.checkInvariantsI(22, lessThan, even, lessThan));
+    Assertions.assertEquals(22, Invariants.checkInvariantsI(22, lessThan, even, lessThan, even));
+  }
+
+  @Test
+  public void testInvariantsIntFixedArityViolation()
+  {
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition even =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even");
+
+    final InvariantViolationException ex2 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsI(23, even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final InvariantViolationException ex3 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsI(23, even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final InvariantViolationException ex4 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsI(23, lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testInvariantsLongFixedArity()
+  {
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition even =
+      Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even");
+
+    Assertions.assertEquals(22L, Invariants.checkInvariantsL(22L, lessThan, even));
+    Assertions.assertEquals(22L, Invariants.checkInvariantsL(22L, lessThan, even, lessThan));
+    Assertions.assertEquals(22L, Invariants.checkInvariantsL(22L, lessThan, even, lessThan, even));
+  }
+
+  @Test
+  public void testInvariantsLongFixedArityViolation()
+  {
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition even =
+      Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even");
+
+    final InvariantViolationException ex2 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsL(23L, even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final InvariantViolationException ex3 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsL(23L, even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final InvariantViolationException ex4 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsL(23L, lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testInvariantsDoubleFixedArity()
+  {
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition even =
+      Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even");
+
+    Assertions.assertEquals(22.0, Invariants.checkInvariantsD(22.0, lessThan, even), 0.0);
+    Assertions.assertEquals(22.0, Invariants.checkInvariantsD(22.0, lessThan, even, lessThan), 0.0);
+    Assertions.assertEquals(22.0, Invariants.checkInvariantsD(22.0, lessThan, even, lessThan, even), 0.0);
+  }
+
+  @Test
+  public void testInvariantsDoubleFixedArityViolation()
+  {
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition even =
+      Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even");
+
+    final InvariantViolationException ex2 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsD(23.0, even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final InvariantViolationException ex3 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsD(23.0, even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final InvariantViolationException ex4 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsD(23.0, lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testInvariantsConditionSet()
+  {
+    final ContractConditionSet<Integer> conditions =
+      Contracts.conditionSet(
+        Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23"),
+        Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even"));
+
+    Assertions.assertEquals(Integer.valueOf(22), Invariants.checkInvariants(Integer.valueOf(22), conditions));
+  }
+
+  @Test
+  public void testInvariantsConditionSetViolation()
+  {
+    final ContractConditionSet<Integer> conditions =
+      Contracts.conditionSet(
+        Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even"),
+        Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23"),
+        Contracts.condition(x -> x.intValue() < 23, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final InvariantViolationException ex =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariants(Integer.valueOf(23), conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testInvariantsIntConditionSet()
+  {
+    final ContractIntConditionSet conditions =
+      Contracts.conditionSetI(
+        Contracts.conditionI(x -> x < 23, x -> "Value must be < 23"),
+        Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even"));
+
+    Assertions.assertEquals(22, Invariants.checkInvariantsI(22, conditions));
+  }
+
+  @Test
+  public void testInvariantsIntConditionSetViolation()
+  {
+    final ContractIntConditionSet conditions =
+      Contracts.conditionSetI(
+        Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even"),
+        Contracts.conditionI(x -> x < 23, x -> "Value must be < 23"),
+        Contracts.conditionI(x -> x < 23, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final InvariantViolationException ex =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsI(23, conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testInvariantsLongConditionSet()
+  {
+    final ContractLongConditionSet conditions =
+      Contracts.conditionSetL(
+        Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23"),
+        Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even"));
+
+    Assertions.assertEquals(22L, Invariants.checkInvariantsL(22L, conditions));
+  }
+
+  @Test
+  public void testInvariantsLongConditionSetViolation()
+  {
+    final ContractLongConditionSet conditions =
+      Contracts.conditionSetL(
+        Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even"),
+        Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23"),
+        Contracts.conditionL(x -> x < 23L, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final InvariantViolationException ex =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsL(23L, conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testInvariantsDoubleConditionSet()
+  {
+    final ContractDoubleConditionSet conditions =
+      Contracts.conditionSetD(
+        Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23"),
+        Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even"));
+
+    Assertions.assertEquals(22.0, Invariants.checkInvariantsD(22.0, conditions), 0.0);
+  }
+
+  @Test
+  public void testInvariantsDoubleConditionSetViolation()
+  {
+    final ContractDoubleConditionSet conditions =
+      Contracts.conditionSetD(
+        Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even"),
+        Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23"),
+        Contracts.conditionD(x -> x < 23.0, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final InvariantViolationException ex =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsD(23.0, conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testInvariantsFirst()
+  {
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> even =
+      Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(Integer.valueOf(22), Invariants.checkInvariantsFirst(Integer.valueOf(22), lessThan, even));
+    Assertions.assertEquals(
+      Integer.valueOf(22),
+      Invariants.checkInvariantsFirst(Integer.valueOf(22), Contracts.conditionSet(lessThan, even)));
+  }
+
+  @Test
+  public void testInvariantsFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> counted =
+      Contracts.condition(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final InvariantViolationException ex0 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsFirst(Integer.valueOf(23), counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final InvariantViolationException ex1 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsFirst(
+          Integer.valueOf(23),
+          Contracts.conditionSet(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testInvariantsIntFirst()
+  {
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition even =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(22, Invariants.checkInvariantsFirstI(22, lessThan, even));
+    Assertions.assertEquals(
+      22,
+      Invariants.checkInvariantsFirstI(22, Contracts.conditionSetI(lessThan, even)));
+  }
+
+  @Test
+  public void testInvariantsIntFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition counted =
+      Contracts.conditionI(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final InvariantViolationException ex0 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsFirstI(23, counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final InvariantViolationException ex1 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsFirstI(
+          23,
+          Contracts.conditionSetI(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testInvariantsLongFirst()
+  {
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition even =
+      Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even");
+
+    Assertions.assertEquals(22L, Invariants.checkInvariantsFirstL(22L, lessThan, even));
+    Assertions.assertEquals(
+      22L,
+      Invariants.checkInvariantsFirstL(22L, Contracts.conditionSetL(lessThan, even)));
+  }
+
+  @Test
+  public void testInvariantsLongFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition counted =
+      Contracts.conditionL(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final InvariantViolationException ex0 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsFirstL(23L, counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final InvariantViolationException ex1 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsFirstL(
+          23L,
+          Contracts.conditionSetL(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testInvariantsDoubleFirst()
+  {
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition even =
+      Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even");
+
+    Assertions.assertEquals(22.0, Invariants.checkInvariantsFirstD(22.0, lessThan, even), 0.0);
+    Assertions.assertEquals(
+      22.0,
+      Invariants.checkInvariantsFirstD(22.0, Contracts.conditionSetD(lessThan, even)), 0.0);
+  }
+
+  @Test
+  public void testInvariantsDoubleFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition counted =
+      Contracts.conditionD(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final InvariantViolationException ex0 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsFirstD(23.0, counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final InvariantViolationException ex1 =
+      Assertions.assertThrows(
+        InvariantViolationException.class,
+        () -> Invariants.checkInvariantsFirstD(
+          23.0,
+          Contracts.conditionSetD(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testInvariantSampledSkipped()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final ContractSampler sampler = ContractSampler.everyNth(4);
+    final ContractCondition<Integer> condition =
+      Contracts.condition(
+        x -> calls.incrementAndGet() < 0,
+        x -> "Must be negative");
+
+    for (int index = 0; index < 3; ++index) {
+      Assertions.assertEquals(
+        Integer.valueOf(23),
+        Invariants.checkInvariantSampled(sampler, Integer.valueOf(23), condition));
+    }
+    Assertions.assertEquals(0, calls.get());
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantSampled(sampler, Integer.valueOf(23), condition));
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void testInvariantSampledPredicate()
+  {
+    final ContractSampler sampler = ContractSampler.always();
+    Assertions.assertEquals(
+      Integer.valueOf(23),
+      Invariants.checkInvariantSampled(
+        sampler, Integer.valueOf(23), x -> x.intValue() == 23, x -> "x"));
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantSampled(
+        sampler, Integer.valueOf(23), x -> x.intValue() != 23, x -> "x"));
+    Assertions.assertEquals(1, ex.violations());
+  }
+
+  @Test
+  public void testInvariantsSampled()
+  {
+    final ContractCondition<Integer> fail =
+      Contracts.condition(x -> false, x -> "Fail");
+
+    Assertions.assertEquals(
+      Integer.valueOf(23),
+      Invariants.checkInvariantsSampled(
+        ContractSampler.withProbability(0.0), Integer.valueOf(23), fail, fail));
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsSampled(
+        ContractSampler.always(), Integer.valueOf(23), fail, fail));
+    Assertions.assertEquals(2, ex.violations());
+  }
+
+  @Test
+  public void testInvariantsSampledSet()
+  {
+    final ContractConditionSet<Integer> set =
+      Contracts.conditionSet(
+        Contracts.condition(x -> false, x -> "Fail 0"),
+        Contracts.condition(x -> true, x -> "Pass"),
+        Contracts.condition(x -> false, x -> "Fail 1"));
+
+    Assertions.assertEquals(
+      Integer.valueOf(23),
+      Invariants.checkInvariantsSampled(
+        ContractSampler.withProbability(0.0), Integer.valueOf(23), set));
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsSampled(
+        ContractSampler.always(), Integer.valueOf(23), set));
+    Assertions.assertEquals(2, ex.violations());
+  }
+
+  @Test
+  public void testInvariantSampledI()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final ContractSampler sampler = ContractSampler.everyNth(2);
+    final ContractIntCondition condition =
+      Contracts.conditionI(
+        x -> calls.incrementAndGet() < 0,
+        x -> "Must be negative");
+
+    Assertions.assertEquals(
+      23, Invariants.checkInvariantSampledI(sampler, 23, condition));
+    Assertions.assertEquals(0, calls.get());
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantSampledI(sampler, 23, condition));
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(1, calls.get());
+
+    Assertions.assertEquals(
+      23,
+      Invariants.checkInvariantSampledI(
+        ContractSampler.always(), 23, x -> x == 23, x -> "x"));
+    Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantSampledI(
+        ContractSampler.always(), 23, x -> x != 23, x -> "x"));
+  }
+
+  @Test
+  public void testInvariantSampledL()
+  {
+    final ContractLongCondition condition =
+      Contracts.conditionL(x -> x < 0L, x -> "Must be negative");
+
+    Assertions.assertEquals(
+      23L,
+      Invariants.checkInvariantSampledL(
+        ContractSampler.withProbability(0.0), 23L, condition));
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantSampledL(
+        ContractSampler.always(), 23L, condition));
+    Assertions.assertEquals(1, ex.violations());
+
+    Assertions.assertEquals(
+      23L,
+      Invariants.checkInvariantSampledL(
+        ContractSampler.always(), 23L, x -> x == 23L, x -> "x"));
+    Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantSampledL(
+        ContractSampler.always(), 23L, x -> x != 23L, x -> "x"));
+  }
+
+  @Test
+  public void testInvariantSampledD()
+  {
+    final ContractDoubleCondition condition =
+      Contracts.conditionD(x -> x < 0.0, x -> "Must be negative");
+
+    Assertions.assertEquals(
+      23.0,
+      Invariants.checkInvariantSampledD(
+        ContractSampler.withProbability(0.0), 23.0, condition));
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantSampledD(
+        ContractSampler.always(), 23.0, condition));
+    Assertions.assertEquals(1, ex.violations());
+
+    Assertions.assertEquals(
+      23.0,
+      Invariants.checkInvariantSampledD(
+        ContractSampler.always(), 23.0, x -> x == 23.0, x -> "x"));
+    Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantSampledD(
+        ContractSampler.always(), 23.0, x -> x != 23.0, x -> "x"));
+  }
+
+  @Test
+  public void testInvariantsSampledSpecialized()
+  {
+    final ContractIntCondition failI =
+      Contracts.conditionI(x -> false, x -> "Fail");
+    final ContractLongCondition failL =
+      Contracts.conditionL(x -> false, x -> "Fail");
+    final ContractDoubleCondition failD =
+      Contracts.conditionD(x -> false, x -> "Fail");
+    final ContractSampler never = ContractSampler.withProbability(0.0);
+    final ContractSampler always = ContractSampler.always();
+
+    Assertions.assertEquals(
+      23, Invariants.checkInvariantsSampledI(never, 23, failI, failI));
+    Assertions.assertEquals(
+      23L, Invariants.checkInvariantsSampledL(never, 23L, failL, failL));
+    Assertions.assertEquals(
+      23.0, Invariants.checkInvariantsSampledD(never, 23.0, failD, failD));
+
+    final InvariantViolationException exI = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsSampledI(always, 23, failI, failI));
+    Assertions.assertEquals(2, exI.violations());
+    final InvariantViolationException exL = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsSampledL(always, 23L, failL, failL));
+    Assertions.assertEquals(2, exL.violations());
+    final InvariantViolationException exD = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsSampledD(always, 23.0, failD, failD));
+    Assertions.assertEquals(2, exD.violations());
+  }
+
+  @Test
+  public void testInvariantsSampledSetSpecialized()
+  {
+    final ContractIntConditionSet setI =
+      Contracts.conditionSetI(
+        Contracts.conditionI(x -> false, x -> "Fail"),
+        Contracts.conditionI(x -> true, x -> "Pass"));
+    final ContractLongConditionSet setL =
+      Contracts.conditionSetL(
+        Contracts.conditionL(x -> false, x -> "Fail"),
+        Contracts.conditionL(x -> true, x -> "Pass"));
+    final ContractDoubleConditionSet setD =
+      Contracts.conditionSetD(
+        Contracts.conditionD(x -> false, x -> "Fail"),
+        Contracts.conditionD(x -> true, x -> "Pass"));
+    final ContractSampler never = ContractSampler.withProbability(0.0);
+    final ContractSampler always = ContractSampler.always();
+
+    Assertions.assertEquals(
+      23, Invariants.checkInvariantsSampledI(never, 23, setI));
+    Assertions.assertEquals(
+      23L, Invariants.checkInvariantsSampledL(never, 23L, setL));
+    Assertions.assertEquals(
+      23.0, Invariants.checkInvariantsSampledD(never, 23.0, setD));
+
+    final InvariantViolationException exI = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsSampledI(always, 23, setI));
+    Assertions.assertEquals(1, exI.violations());
+    final InvariantViolationException exL = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsSampledL(always, 23L, setL));
+    Assertions.assertEquals(1, exL.violations());
+    final InvariantViolationException exD = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsSampledD(always, 23.0, setD));
+    Assertions.assertEquals(1, exD.violations());
+  }
+
+  @Test
+  public void testInvariantsArrayIPass()
+  {
+    final int[] values = {1, 2, 3, 4, 5};
+    Assertions.assertSame(
+      values,
+      Invariants.checkInvariantsI(values, 0, values.length, Contracts.conditionI(x -> x > 0, x -> "x")));
+    Assertions.assertSame(
+      values,
+      Invariants.checkInvariantsFirstI(values, 0, values.length, Contracts.conditionI(x -> x > 0, x -> "x")));
+  }
+
+  @Test
+  public void testInvariantsArrayIAll()
+  {
+    final int[] values = {1, -2, 3, -4, 5, -6};
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsI(
+        values, 1, 4, Contracts.conditionI(x -> x > 0, x -> "Value " + x + " must be positive")));
+
+    Assertions.assertEquals(2, ex.violations());
+    Assertions.assertEquals(1, ex.violationDetails().get(0).index());
+    Assertions.assertEquals("Value -2 must be positive", ex.violationDetails().get(0).description());
+    Assertions.assertEquals(3, ex.violationDetails().get(1).index());
+    Assertions.assertEquals("Value -4 must be positive", ex.violationDetails().get(1).description());
+    Assertions.assertTrue(ex.getMessage().contains("[3]: Value -4 must be positive"));
+    Assertions.assertTrue(ex.getMessage().contains("int[6] (offset 1, length 4)"));
+  }
+
+  @Test
+  public void testInvariantsArrayIAllMany()
+  {
+    final int[] values = new int[100];
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsI(
+        values, 0, values.length, Contracts.conditionI(x -> x > 0, x -> "x")));
+
+    Assertions.assertEquals(100, ex.violations());
+    Assertions.assertEquals(99, ex.violationDetails().get(99).index());
+  }
+
+  @Test
+  public void testInvariantsArrayIFirst()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final int[] values = {1, -2, 3, -4, 5, -6};
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsFirstI(
+        values, 0, values.length, Contracts.conditionI(x -> {
+          calls.incrementAndGet();
+          return x > 0;
+        }, x -> "Value " + x + " must be positive")));
+
+    Assertions.assertEquals(2, calls.get());
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(1, ex.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testInvariantsArrayIPredicateException()
+  {
+    final int[] values = {1, 2, 3};
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsFirstI(
+        values, 0, values.length, Contracts.conditionI(x -> {
+          if (x == 2) {
+            throw new IllegalStateException("OUCH");
+          }
+          return true;
+        }, x -> "x")));
+
+    Assertions.assertEquals(1, ex.violationDetails().get(0).index());
+    Assertions.assertInstanceOf(
+      IllegalStateException.class,
+      ex.violationDetails().get(0).cause().orElseThrow());
+
+    final InvariantViolationException exAll = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsI(
+        values, 0, values.length, Contracts.conditionI(x -> {
+          if (x != 2) {
+            throw new IllegalStateException("OUCH");
+          }
+          return false;
+        }, x -> "x")));
+
+    Assertions.assertEquals(3, exAll.violations());
+    Assertions.assertTrue(exAll.violationDetails().get(0).cause().isPresent());
+    Assertions.assertFalse(exAll.violationDetails().get(1).cause().isPresent());
+    Assertions.assertTrue(exAll.violationDetails().get(2).cause().isPresent());
+  }
+
+  @Test
+  public void testInvariantsArrayIOutOfBounds()
+  {
+    final int[] values = {1, 2, 3};
+    final var condition = Contracts.conditionI(x -> true, x -> "x");
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Invariants.checkInvariantsI(values, 1, 3, condition));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Invariants.checkInvariantsFirstI(values, -1, 1, condition));
+  }
+
+  @Test
+  public void testInvariantsArrayL()
+  {
+    final long[] values = {1L, 2L, -3L, 4L};
+    final var condition = Contracts.conditionL(x -> x > 0L, x -> "x");
+    Assertions.assertSame(values, Invariants.checkInvariantsL(values, 0, 2, condition));
+    Assertions.assertSame(values, Invariants.checkInvariantsFirstL(values, 0, 2, condition));
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsL(values, 0, values.length, condition));
+    Assertions.assertEquals(2, ex.violationDetails().get(0).index());
+
+    final InvariantViolationException exFirst = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsFirstL(values, 0, values.length, condition));
+    Assertions.assertEquals(2, exFirst.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testInvariantsArrayD()
+  {
+    final double[] values = {1.0, Double.NaN, 3.0, Double.NaN};
+    final var condition = Contracts.conditionD(x -> !Double.isNaN(x), x -> "x");
+    Assertions.assertSame(values, Invariants.checkInvariantsD(values, 2, 1, condition));
+    Assertions.assertSame(values, Invariants.checkInvariantsFirstD(values, 2, 1, condition));
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsD(values, 0, values.length, condition));
+    Assertions.assertEquals(2, ex.violations());
+    Assertions.assertEquals(3, ex.violationDetails().get(1).index());
+
+    final InvariantViolationException exFirst = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsFirstD(values, 0, values.length, condition));
+    Assertions.assertEquals(1, exFirst.violations());
+    Assertions.assertEquals(1, exFirst.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testInvariantsParallelPass()
+  {
+    final List<Integer> values = new ArrayList<>();
+    for (int index = 0; index < 100_000; ++index) {
+      values.add(Integer.valueOf(index));
+    }
+
+    Assertions.assertSame(
+      values,
+      Invariants.checkInvariantsParallel(
+        values, Contracts.condition(x -> x.intValue() >= 0, x -> "x")));
+  }
+
+  @Test
+  public void testInvariantsParallelOrdered()
+  {
+    final List<Integer> values = new ArrayList<>();
+    for (int index = 0; index < 100_000; ++index) {
+      values.add(Integer.valueOf(index));
+    }
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsParallel(
+        values,
+        Contracts.condition(
+          x -> x.intValue() % 1000 != 7,
+          x -> "Value " + x + " is unlucky")));
+
+    Assertions.assertEquals(100, ex.violations());
+    final List<ContractViolation> details = ex.violationDetails();
+    for (int index = 0; index < details.size(); ++index) {
+      final ContractViolation violation = details.get(index);
+      Assertions.assertEquals(index * 1000 + 7, violation.index());
+      Assertions.assertEquals(
+        "Value " + (index * 1000 + 7) + " is unlucky",
+        violation.description());
+    }
+    Assertions.assertTrue(ex.getMessage().contains("Collection (size 100000)"));
+  }
+
+  @Test
+  public void testInvariantsParallelSequential()
+  {
+    final Thread caller = Thread.currentThread();
+    final Set<Integer> values = new LinkedHashSet<>();
+    for (int index = 0; index < 100; ++index) {
+      values.add(Integer.valueOf(index));
+    }
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsParallel(
+        values,
+        Contracts.condition(
+          x -> Thread.currentThread() == caller && x.intValue() != 50,
+          x -> "x")));
+
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(50, ex.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testInvariantsParallelPredicateException()
+  {
+    final List<Integer> values = new ArrayList<>();
+    for (int index = 0; index < Invariants.PARALLEL_THRESHOLD * 4; ++index) {
+      values.add(Integer.valueOf(index));
+    }
+
+    final InvariantViolationException ex = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsParallel(
+        values,
+        Contracts.condition(
+          x -> {
+            if (x.intValue() == 20_000) {
+              throw new IllegalStateException("OUCH");
+            }
+            return true;
+          },
+          x -> "x")));
+
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(20_000, ex.violationDetails().get(0).index());
+    Assertions.assertInstanceOf(
+      IllegalStateException.class,
+      ex.violationDetails().get(0).cause().orElseThrow());
+  }
+
+  @Test
+  public void testInvariantsParallelArrays()
+  {
+    final int size = Invariants.PARALLEL_THRESHOLD * 8;
+    final int[] ints = new int[size];
+    final long[] longs = new long[size];
+    final double[] doubles = new double[size];
+    for (int index = 0; index < size; ++index) {
+      ints[index] = index;
+      longs[index] = index;
+      doubles[index] = index;
+    }
+
+    final var conditionI = Contracts.conditionI(x -> x % 4096 != 1, x -> "x");
+    final var conditionL = Contracts.conditionL(x -> x % 4096L != 1L, x -> "x");
+    final var conditionD = Contracts.conditionD(x -> x % 4096.0 != 1.0, x -> "x");
+
+    Assertions.assertSame(
+      ints,
+      Invariants.checkInvariantsParallelI(
+        ints, 2, size - 2, Contracts.conditionI(x -> x >= 2, x -> "x")));
+    Assertions.assertSame(
+      longs,
+      Invariants.checkInvariantsParallelL(
+        longs, 2, size - 2, Contracts.conditionL(x -> x >= 2L, x -> "x")));
+    Assertions.assertSame(
+      doubles,
+      Invariants.checkInvariantsParallelD(
+        doubles, 2, size - 2, Contracts.conditionD(x -> x >= 2.0, x -> "x")));
+
+    final InvariantViolationException exI = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsParallelI(ints, 0, size, conditionI));
+    final InvariantViolationException exL = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsParallelL(longs, 0, size, conditionL));
+    final InvariantViolationException exD = Assertions.assertThrows(
+      InvariantViolationException.class,
+      () -> Invariants.checkInvariantsParallelD(doubles, 0, size, conditionD));
+
+    for (final InvariantViolationException ex : List.of(exI, exL, exD)) {
+      Assertions.assertEquals(size / 4096, ex.violations());
+      final List<ContractViolation> details = ex.violationDetails();
+      for (int index = 0; index < details.size(); ++index) {
+        Assertions.assertEquals(index * 4096 + 1, details.get(index).index());
+      }
+    }
+
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Invariants.checkInvariantsParallelI(ints, 1, size, conditionI));
+  }
+
+  @Test
+  public void testInvariantVFixedArity()
+  {
+    final Object v = "x";
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%s", "a"));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%d", 1));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%d", 1L));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%f", 1.0));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%c", 'a'));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%s %s", "a", "b"));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%d %d", 1, 2));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%d %d", 1L, 2L));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%s %s %s", "a", "b", "c"));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%d %d %d", 1, 2, 3));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%d %d %d", 1L, 2L, 3L));
+    Invariants.checkInvariantV(true, "%s", "a");
+    Invariants.checkInvariantV(true, "%d %d", 1, 2);
+    Invariants.checkInvariantV(true, "%d %d %d", 1L, 2L, 3L);
+  }
+
+  @Test
+  public void testInvariantVFixedArityFailed()
+  {
+    final Object v = "x";
+    checkVInvariantMessage("a", () -> Invariants.checkInvariantV(v, false, "%s", "a"));
+    checkVInvariantMessage("1", () -> Invariants.checkInvariantV(v, false, "%d", 1));
+    checkVInvariantMessage("1", () -> Invariants.checkInvariantV(v, false, "%d", 1L));
+    checkVInvariantMessage("1.5", () -> Invariants.checkInvariantV(v, false, "%s", 1.5));
+    checkVInvariantMessage("a", () -> Invariants.checkInvariantV(v, false, "%s", 'a'));
+    checkVInvariantMessage("a b", () -> Invariants.checkInvariantV(v, false, "%s %s", "a", "b"));
+    checkVInvariantMessage("1 2", () -> Invariants.checkInvariantV(v, false, "%d %d", 1, 2));
+    checkVInvariantMessage("1 2", () -> Invariants.checkInvariantV(v, false, "%d %d", 1L, 2L));
+    checkVInvariantMessage("1 a", () -> Invariants.checkInvariantV(v, false, "%d %s", 1, "a"));
+    checkVInvariantMessage("a b c", () -> Invariants.checkInvariantV(v, false, "%s %s %s", "a", "b", "c"));
+    checkVInvariantMessage("1 2 3", () -> Invariants.checkInvariantV(v, false, "%d %d %d", 1, 2, 3));
+    checkVInvariantMessage("1 2 3", () -> Invariants.checkInvariantV(v, false, "%d %d %d", 1L, 2L, 3L));
+    checkVInvariantMessage("a", () -> Invariants.checkInvariantV(false, "%s", "a"));
+    checkVInvariantMessage("1 2", () -> Invariants.checkInvariantV(false, "%d %d", 1, 2));
+    checkVInvariantMessage("1 2 3", () -> Invariants.checkInvariantV(false, "%d %d %d", 1L, 2L, 3L));
+  }
+
+  @Test
+  public void testInvariantVNarrowTypes()
+  {
+    final Object v = "x";
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%x", (byte) -1));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%x", (short) -1));
+    Assertions.assertSame(v, Invariants.checkInvariantV(v, true, "%s", 0.1f));
+    Invariants.checkInvariantV(true, "%x", (byte) -1);
+    Invariants.checkInvariantV(true, "%x", (short) -1);
+    Invariants.checkInvariantV(true, "%s", 0.1f);
+
+    checkVInvariantMessage("hex ff", () -> Invariants.checkInvariantV(v, false, "hex %x", (byte) -1));
+    checkVInvariantMessage("hex ffff", () -> Invariants.checkInvariantV(v, false, "hex %x", (short) -1));
+    checkVInvariantMessage("float 0.1", () -> Invariants.checkInvariantV(v, false, "float %s", 0.1f));
+    checkVInvariantMessage("hex ff", () -> Invariants.checkInvariantV(false, "hex %x", (byte) -1));
+    checkVInvariantMessage("hex ffff", () -> Invariants.checkInvariantV(false, "hex %x", (short) -1));
+    checkVInvariantMessage("float 0.1", () -> Invariants.checkInvariantV(false, "float %s", 0.1f));
+
+    /*
+     * The two and three argument overloads accept only objects, and so
+     * narrower arguments are boxed to their own wrapper types.
+     */
+
+    checkVInvariantMessage("a/b", () -> Invariants.checkInvariantV("v", false, "%s/%s", 'a', 'b'));
+    checkVInvariantMessage("a/b", () -> Invariants.checkInvariantV(false, "%s/%s", 'a', 'b'));
+    checkVInvariantMessage("a/b/c", () -> Invariants.checkInvariantV("v", false, "%s/%s/%s", 'a', 'b', 'c'));
+    checkVInvariantMessage("a/b/c", () -> Invariants.checkInvariantV(false, "%s/%s/%s", 'a', 'b', 'c'));
+    checkVInvariantMessage("ff ffff", () -> Invariants.checkInvariantV(v, false, "%x %x", (byte) -1, (short) -1));
+    checkVInvariantMessage("ff ffff ff", () -> Invariants.checkInvariantV(v, false, "%x %x %x", (byte) -1, (short) -1, (byte) -1));
+  }
+
+  private static void checkVInvariantMessage(
+    final String expected,
+    final Executable executable)
+  {
+    final InvariantViolationException ex =
+      Assertions.assertThrows(InvariantViolationException.class, executable);
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(expected, ex.violationDetails().get(0).description());
+  }
 }
@@ -16,11 +16,20 @@
 
 package com.io7m.jaffirm.tests.core;
 
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractConditionSet;
+import com.io7m.jaffirm.core.ContractDoubleCondition;
+import com.io7m.jaffirm.core.ContractDoubleConditionSet;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractIntConditionSet;
+import com.io7m.jaffirm.core.ContractLongCondition;
+import com.io7m.jaffirm.core.ContractLongConditionSet;
 import com.io7m.jaffirm.core.Contracts;
 import com.io7m.jaffirm.core.PostconditionViolationException;
 import com.io7m.jaffirm.core.Postconditions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -1257,4 +1266,699 @@ public final class PostconditionsTest
 
     Assertions.assertEquals(1, ex.violations());
   }
+
+  @Test
+  public void testPostconditionsFixedArity()
+  {
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> even =
+      Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(Integer.valueOf(22), Postconditions.checkPostconditions(Integer.valueOf(22), lessThan, even));
+    Assertions.assertEquals(Integer.valueOf(22), Postconditions.checkPostconditions(Integer.valueOf(22), lessThan, even, lessThan));
+    Assertions.assertEquals(Integer.valueOf(22), Postconditions.checkPostconditions(Integer.valueOf(22), lessThan, even, lessThan, even));
+  }
+
+  @Test
+  public void testPostconditionsFixedArityViolation()
+  {
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> even =
+      Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even");
+
+    final PostconditionViolationException ex2 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditions(Integer.valueOf(23), even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final PostconditionViolationException ex3 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditions(Integer.valueOf(23), even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final PostconditionViolationException ex4 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditions(Integer.valueOf(23), lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testPostconditionsIntFixedArity()
+  {
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition even =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(22, Postconditions.checkPostconditionsI(22, lessThan, even));
+    Assertions.assertEquals(22, Postconditions.checkPostconditionsI(22, lessThan, even, lessThan));
+    Assertions.assertEquals(22, Postconditions.checkPostconditionsI(22, lessThan, even, lessThan, even));
+  }
+
+  @Test
+  public void testPostconditionsIntFixedArityViolation()
+  {
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition even =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even");
+
+    final PostconditionViolationException ex2 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsI(23, even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final PostconditionViolationException ex3 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsI(23, even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final PostconditionViolationException ex4 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsI(23, lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testPostconditionsLongFixedArity()
+  {
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition even =
+      Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even");
+
+    Assertions.assertEquals(22L, Postconditions.checkPostconditionsL(22L, lessThan, even));
+    Assertions.assertEquals(22L, Postconditions.checkPostconditionsL(22L, lessThan, even, lessThan));
+    Assertions.assertEquals(22L, Postconditions.checkPostconditionsL(22L, lessThan, even, lessThan, even));
+  }
+
+  @Test
+  public void testPostconditionsLongFixedArityViolation()
+  {
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition even =
+      Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even");
+
+    final PostconditionViolationException ex2 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsL(23L, even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final PostconditionViolationException ex3 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsL(23L, even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final PostconditionViolationException ex4 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsL(23L, lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testPostconditionsDoubleFixedArity()
+  {
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition even =
+      Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even");
+
+    Assertions.assertEquals(22.0, Postconditions.checkPostconditionsD(22.0, lessThan, even), 0.0);
+    Assertions.assertEquals(22.0, Postconditions.checkPostconditionsD(22.0, lessThan, even, lessThan), 0.0);
+    Assertions.assertEquals(22.0, Postconditions.checkPostconditionsD(22.0, lessThan, even, lessThan, even), 0.0);
+  }
+
+  @Test
+  public void testPostconditionsDoubleFixedArityViolation()
+  {
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition even =
+      Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even");
+
+    final PostconditionViolationException ex2 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsD(23.0, even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final PostconditionViolationException ex3 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsD(23.0, even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final PostconditionViolationException ex4 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsD(23.0, lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testPostconditionsConditionSet()
+  {
+    final ContractConditionSet<Integer> conditions =
+      Contracts.conditionSet(
+        Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23"),
+        Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even"));
+
+    Assertions.assertEquals(Integer.valueOf(22), Postconditions.checkPostconditions(Integer.valueOf(22), conditions));
+  }
+
+  @Test
+  public void testPostconditionsConditionSetViolation()
+  {
+    final ContractConditionSet<Integer> conditions =
+      Contracts.conditionSet(
+        Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even"),
+        Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23"),
+        Contracts.condition(x -> x.intValue() < 23, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final PostconditionViolationException ex =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditions(Integer.valueOf(23), conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testPostconditionsIntConditionSet()
+  {
+    final ContractIntConditionSet conditions =
+      Contracts.conditionSetI(
+        Contracts.conditionI(x -> x < 23, x -> "Value must be < 23"),
+        Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even"));
+
+    Assertions.assertEquals(22, Postconditions.checkPostconditionsI(22, conditions));
+  }
+
+  @Test
+  public void testPostconditionsIntConditionSetViolation()
+  {
+    final ContractIntConditionSet conditions =
+      Contracts.conditionSetI(
+        Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even"),
+        Contracts.conditionI(x -> x < 23, x -> "Value must be < 23"),
+        Contracts.conditionI(x -> x < 23, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final PostconditionViolationException ex =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsI(23, conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testPostconditionsLongConditionSet()
+  {
+    final ContractLongConditionSet conditions =
+      Contracts.conditionSetL(
+        Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23"),
+        Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even"));
+
+    Assertions.assertEquals(22L, Postconditions.checkPostconditionsL(22L, conditions));
+  }
+
+  @Test
+  public void testPostconditionsLongConditionSetViolation()
+  {
+    final ContractLongConditionSet conditions =
+      Contracts.conditionSetL(
+        Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even"),
+        Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23"),
+        Contracts.conditionL(x -> x < 23L, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final PostconditionViolationException ex =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsL(23L, conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testPostconditionsDoubleConditionSet()
+  {
+    final ContractDoubleConditionSet conditions =
+      Contracts.conditionSetD(
+        Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23"),
+        Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even"));
+
+    Assertions.assertEquals(22.0, Postconditions.checkPostconditionsD(22.0, conditions), 0.0);
+  }
+
+  @Test
+  public void testPostconditionsDoubleConditionSetViolation()
+  {
+    final ContractDoubleConditionSet conditions =
+      Contracts.conditionSetD(
+        Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even"),
+        Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23"),
+        Contracts.conditionD(x -> x < 23.0, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final PostconditionViolationException ex =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsD(23.0, conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testPostconditionsFirst()
+  {
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> even =
+      Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(Integer.valueOf(22), Postconditions.checkPostconditionsFirst(Integer.valueOf(22), lessThan, even));
+    Assertions.assertEquals(
+      Integer.valueOf(22),
+      Postconditions.checkPostconditionsFirst(Integer.valueOf(22), Contracts.conditionSet(lessThan, even)));
+  }
+
+  @Test
+  public void testPostconditionsFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> counted =
+      Contracts.condition(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final PostconditionViolationException ex0 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsFirst(Integer.valueOf(23), counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final PostconditionViolationException ex1 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsFirst(
+          Integer.valueOf(23),
+          Contracts.conditionSet(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testPostconditionsIntFirst()
+  {
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition even =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(22, Postconditions.checkPostconditionsFirstI(22, lessThan, even));
+    Assertions.assertEquals(
+      22,
+      Postconditions.checkPostconditionsFirstI(22, Contracts.conditionSetI(lessThan, even)));
+  }
+
+  @Test
+  public void testPostconditionsIntFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition counted =
+      Contracts.conditionI(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final PostconditionViolationException ex0 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsFirstI(23, counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final PostconditionViolationException ex1 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsFirstI(
+          23,
+          Contracts.conditionSetI(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testPostconditionsLongFirst()
+  {
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition even =
+      Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even");
+
+    Assertions.assertEquals(22L, Postconditions.checkPostconditionsFirstL(22L, lessThan, even));
+    Assertions.assertEquals(
+      22L,
+      Postconditions.checkPostconditionsFirstL(22L, Contracts.conditionSetL(lessThan, even)));
+  }
+
+  @Test
+  public void testPostconditionsLongFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition counted =
+      Contracts.conditionL(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final PostconditionViolationException ex0 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsFirstL(23L, counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final PostconditionViolationException ex1 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsFirstL(
+          23L,
+          Contracts.conditionSetL(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testPostconditionsDoubleFirst()
+  {
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition even =
+      Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even");
+
+    Assertions.assertEquals(22.0, Postconditions.checkPostconditionsFirstD(22.0, lessThan, even), 0.0);
+    Assertions.assertEquals(
+      22.0,
+      Postconditions.checkPostconditionsFirstD(22.0, Contracts.conditionSetD(lessThan, even)), 0.0);
+  }
+
+  @Test
+  public void testPostconditionsDoubleFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition counted =
+      Contracts.conditionD(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final PostconditionViolationException ex0 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsFirstD(23.0, counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final PostconditionViolationException ex1 =
+      Assertions.assertThrows(
+        PostconditionViolationException.class,
+        () -> Postconditions.checkPostconditionsFirstD(
+          23.0,
+          Contracts.conditionSetD(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testPostconditionsArrayIPass()
+  {
+    final int[] values = {1, 2, 3, 4, 5};
+    Assertions.assertSame(
+      values,
+      Postconditions.checkPostconditionsI(values, 0, values.length, Contracts.conditionI(x -> x > 0, x -> "x")));
+    Assertions.assertSame(
+      values,
+      Postconditions.checkPostconditionsFirstI(values, 0, values.length, Contracts.conditionI(x -> x > 0, x -> "x")));
+  }
+
+  @Test
+  public void testPostconditionsArrayIAll()
+  {
+    final int[] values = {1, -2, 3, -4, 5, -6};
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionsI(
+        values, 1, 4, Contracts.conditionI(x -> x > 0, x -> "Value " + x + " must be positive")));
+
+    Assertions.assertEquals(2, ex.violations());
+    Assertions.assertEquals(1, ex.violationDetails().get(0).index());
+    Assertions.assertEquals("Value -2 must be positive", ex.violationDetails().get(0).description());
+    Assertions.assertEquals(3, ex.violationDetails().get(1).index());
+    Assertions.assertEquals("Value -4 must be positive", ex.violationDetails().get(1).description());
+    Assertions.assertTrue(ex.getMessage().contains("[3]: Value -4 must be positive"));
+    Assertions.assertTrue(ex.getMessage().contains("int[6] (offset 1, length 4)"));
+  }
+
+  @Test
+  public void testPostconditionsArrayIAllMany()
+  {
+    final int[] values = new int[100];
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionsI(
+        values, 0, values.length, Contracts.conditionI(x -> x > 0, x -> "x")));
+
+    Assertions.assertEquals(100, ex.violations());
+    Assertions.assertEquals(99, ex.violationDetails().get(99).index());
+  }
+
+  @Test
+  public void testPostconditionsArrayIFirst()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final int[] values = {1, -2, 3, -4, 5, -6};
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionsFirstI(
+        values, 0, values.length, Contracts.conditionI(x -> {
+          calls.incrementAndGet();
+          return x > 0;
+        }, x -> "Value " + x + " must be positive")));
+
+    Assertions.assertEquals(2, calls.get());
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(1, ex.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testPostconditionsArrayIPredicateException()
+  {
+    final int[] values = {1, 2, 3};
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionsFirstI(
+        values, 0, values.length, Contracts.conditionI(x -> {
+          if (x == 2) {
+            throw new IllegalStateException("OUCH");
+          }
+          return true;
+        }, x -> "x")));
+
+    Assertions.assertEquals(1, ex.violationDetails().get(0).index());
+    Assertions.assertInstanceOf(
+      IllegalStateException.class,
+      ex.violationDetails().get(0).cause().orElseThrow());
+
+    final PostconditionViolationException exAll = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionsI(
+        values, 0, values.length, Contracts.conditionI(x -> {
+          if (x != 2) {
+            throw new IllegalStateException("OUCH");
+          }
+          return false;
+        }, x -> "x")));
+
+    Assertions.assertEquals(3, exAll.violations());
+    Assertions.assertTrue(exAll.violationDetails().get(0).cause().isPresent());
+    Assertions.assertFalse(exAll.violationDetails().get(1).cause().isPresent());
+    Assertions.assertTrue(exAll.violationDetails().get(2).cause().isPresent());
+  }
+
+  @Test
+  public void testPostconditionsArrayIOutOfBounds()
+  {
+    final int[] values = {1, 2, 3};
+    final var condition = Contracts.conditionI(x -> true, x -> "x");
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Postconditions.checkPostconditionsI(values, 1, 3, condition));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Postconditions.checkPostconditionsFirstI(values, -1, 1, condition));
+  }
+
+  @Test
+  public void testPostconditionsArrayL()
+  {
+    final long[] values = {1L, 2L, -3L, 4L};
+    final var condition = Contracts.conditionL(x -> x > 0L, x -> "x");
+    Assertions.assertSame(values, Postconditions.checkPostconditionsL(values, 0, 2, condition));
+    Assertions.assertSame(values, Postconditions.checkPostconditionsFirstL(values, 0, 2, condition));
+
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionsL(values, 0, values.length, condition));
+    Assertions.assertEquals(2, ex.violationDetails().get(0).index());
+
+    final PostconditionViolationException exFirst = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionsFirstL(values, 0, values.length, condition));
+    Assertions.assertEquals(2, exFirst.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testPostconditionsArrayD()
+  {
+    final double[] values = {1.0, Double.NaN, 3.0, Double.NaN};
+    final var condition = Contracts.conditionD(x -> !Double.isNaN(x), x -> "x");
+    Assertions.assertSame(values, Postconditions.checkPostconditionsD(values, 2, 1, condition));
+    Assertions.assertSame(values, Postconditions.checkPostconditionsFirstD(values, 2, 1, condition));
+
+    final PostconditionViolationException ex = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionsD(values, 0, values.length, condition));
+    Assertions.assertEquals(2, ex.violations());
+    Assertions.assertEquals(3, ex.violationDetails().get(1).index());
+
+    final PostconditionViolationException exFirst = Assertions.assertThrows(
+      PostconditionViolationException.class,
+      () -> Postconditions.checkPostconditionsFirstD(values, 0, values.length, condition));
+    Assertions.assertEquals(1, exFirst.violations());
+    Assertions.assertEquals(1, exFirst.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testPostconditionVFixedArity()
+  {
+    final Object v = "x";
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%s", "a"));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%d", 1));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%d", 1L));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%f", 1.0));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%c", 'a'));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%s %s", "a", "b"));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%d %d", 1, 2));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%d %d", 1L, 2L));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%s %s %s", "a", "b", "c"));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%d %d %d", 1, 2, 3));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%d %d %d", 1L, 2L, 3L));
+    Postconditions.checkPostconditionV(true, "%s", "a");
+    Postconditions.checkPostconditionV(true, "%d %d", 1, 2);
+    Postconditions.checkPostconditionV(true, "%d %d %d", 1L, 2L, 3L);
+  }
+
+  @Test
+  public void testPostconditionVFixedArityFailed()
+  {
+    final Object v = "x";
+    checkVPostconditionMessage("a", () -> Postconditions.checkPostconditionV(v, false, "%s", "a"));
+    checkVPostconditionMessage("1", () -> Postconditions.checkPostconditionV(v, false, "%d", 1));
+    checkVPostconditionMessage("1", () -> Postconditions.checkPostconditionV(v, false, "%d", 1L));
+    checkVPostconditionMessage("1.5", () -> Postconditions.checkPostconditionV(v, false, "%s", 1.5));
+    checkVPostconditionMessage("a", () -> Postconditions.checkPostconditionV(v, false, "%s", 'a'));
+    checkVPostconditionMessage("a b", () -> Postconditions.checkPostconditionV(v, false, "%s %s", "a", "b"));
+    checkVPostconditionMessage("1 2", () -> Postconditions.checkPostconditionV(v, false, "%d %d", 1, 2));
+    checkVPostconditionMessage("1 2", () -> Postconditions.checkPostconditionV(v, false, "%d %d", 1L, 2L));
+    checkVPostconditionMessage("1 a", () -> Postconditions.checkPostconditionV(v, false, "%d %s", 1, "a"));
+    checkVPostconditionMessage("a b c", () -> Postconditions.checkPostconditionV(v, false, "%s %s %s", "a", "b", "c"));
+    checkVPostconditionMessage("1 2 3", () -> Postconditions.checkPostconditionV(v, false, "%d %d %d", 1, 2, 3));
+    checkVPostconditionMessage("1 2 3", () -> Postconditions.checkPostconditionV(v, false, "%d %d %d", 1L, 2L, 3L));
+    checkVPostconditionMessage("a", () -> Postconditions.checkPostconditionV(false, "%s", "a"));
+    checkVPostconditionMessage("1 2", () -> Postconditions.checkPostconditionV(false, "%d %d", 1, 2));
+    checkVPostconditionMessage("1 2 3", () -> Postconditions.checkPostconditionV(false, "%d %d %d", 1L, 2L, 3L));
+  }
+
+  @Test
+  public void testPostconditionVNarrowTypes()
+  {
+    final Object v = "x";
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%x", (byte) -1));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%x", (short) -1));
+    Assertions.assertSame(v, Postconditions.checkPostconditionV(v, true, "%s", 0.1f));
+    Postconditions.checkPostconditionV(true, "%x", (byte) -1);
+    Postconditions.checkPostconditionV(true, "%x", (short) -1);
+    Postconditions.checkPostconditionV(true, "%s", 0.1f);
+
+    checkVPostconditionMessage("hex ff", () -> Postconditions.checkPostconditionV(v, false, "hex %x", (byte) -1));
+    checkVPostconditionMessage("hex ffff", () -> Postconditions.checkPostconditionV(v, false, "hex %x", (short) -1));
+    checkVPostconditionMessage("float 0.1", () -> Postconditions.checkPostconditionV(v, false, "float %s", 0.1f));
+    checkVPostconditionMessage("hex ff", () -> Postconditions.checkPostconditionV(false, "hex %x", (byte) -1));
+    checkVPostconditionMessage("hex ffff", () -> Postconditions.checkPostconditionV(false, "hex %x", (short) -1));
+    checkVPostconditionMessage("float 0.1", () -> Postconditions.checkPostconditionV(false, "float %s", 0.1f));
+
+    /*
+     * The two and three argument overloads accept only objects, and so
+     * narrower arguments are boxed to their own wrapper types.
+     */
+
+    checkVPostconditionMessage("a/b", () -> Postconditions.checkPostconditionV("v", false, "%s/%s", 'a', 'b'));
+    checkVPostconditionMessage("a/b", () -> Postconditions.checkPostconditionV(false, "%s/%s", 'a', 'b'));
+    checkVPostconditionMessage("a/b/c", () -> Postconditions.checkPostconditionV("v", false, "%s/%s/%s", 'a', 'b', 'c'));
+    checkVPostconditionMessage("a/b/c", () -> Postconditions.checkPostconditionV(false, "%s/%s/%s", 'a', 'b', 'c'));
+    checkVPostconditionMessage("ff ffff", () -> Postconditions.checkPostconditionV(v, false, "%x %x", (byte) -1, (short) -1));
+    checkVPostconditionMessage("ff ffff ff", () -> Postconditions.checkPostconditionV(v, false, "%x %x %x", (byte) -1, (short) -1, (byte) -1));
+  }
+
+  private static void checkVPostconditionMessage(
+    final String expected,
+    final Executable executable)
+  {
+    final PostconditionViolationException ex =
+      Assertions.assertThrows(PostconditionViolationException.class, executable);
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(expected, ex.violationDetails().get(0).description());
+  }
 }
@@ -16,11 +16,20 @@
 
 package com.io7m.jaffirm.tests.core;
 
+import com.io7m.jaffirm.core.ContractCondition;
+import com.io7m.jaffirm.core.ContractConditionSet;
+import com.io7m.jaffirm.core.ContractDoubleCondition;
+import com.io7m.jaffirm.core.ContractDoubleConditionSet;
+import com.io7m.jaffirm.core.ContractIntCondition;
+import com.io7m.jaffirm.core.ContractIntConditionSet;
+import com.io7m.jaffirm.core.ContractLongCondition;
+import com.io7m.jaffirm.core.ContractLongConditionSet;
 import com.io7m.jaffirm.core.Contracts;
 import com.io7m.jaffirm.core.PreconditionViolationException;
 import com.io7m.jaffirm.core.Preconditions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
@@ -1257,4 +1266,774 @@ public final class PreconditionsTest
 
     Assertions.assertEquals(1, ex.violations());
   }
+
+  @Test
+  public void testPreconditionsFixedArity()
+  {
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> even =
+      Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(Integer.valueOf(22), Preconditions.checkPreconditions(Integer.valueOf(22), lessThan, even));
+    Assertions.assertEquals(Integer.valueOf(22), Preconditions.checkPreconditions(Integer.valueOf(22), lessThan, even, lessThan));
+    Assertions.assertEquals(Integer.valueOf(22), Preconditions.checkPreconditions(Integer.valueOf(22), lessThan, even, lessThan, even));
+  }
+
+  @Test
+  public void testPreconditionsFixedArityViolation()
+  {
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> even =
+      Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even");
+
+    final PreconditionViolationException ex2 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditions(Integer.valueOf(23), even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final PreconditionViolationException ex3 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditions(Integer.valueOf(23), even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final PreconditionViolationException ex4 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditions(Integer.valueOf(23), lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testPreconditionsIntFixedArity()
+  {
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition even =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(22, Preconditions.checkPreconditionsI(22, lessThan, even));
+    Assertions.assertEquals(22, Preconditions.checkPreconditionsI(22, lessThan, even, lessThan));
+    Assertions.assertEquals(22, Preconditions.checkPreconditionsI(22, lessThan, even, lessThan, even));
+  }
+
+  @Test
+  public void testPreconditionsIntFixedArityViolation()
+  {
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition even =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even");
+
+    final PreconditionViolationException ex2 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(23, even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final PreconditionViolationException ex3 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(23, even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final PreconditionViolationException ex4 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(23, lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testPreconditionsLongFixedArity()
+  {
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition even =
+      Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even");
+
+    Assertions.assertEquals(22L, Preconditions.checkPreconditionsL(22L, lessThan, even));
+    Assertions.assertEquals(22L, Preconditions.checkPreconditionsL(22L, lessThan, even, lessThan));
+    Assertions.assertEquals(22L, Preconditions.checkPreconditionsL(22L, lessThan, even, lessThan, even));
+  }
+
+  @Test
+  public void testPreconditionsLongFixedArityViolation()
+  {
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition even =
+      Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even");
+
+    final PreconditionViolationException ex2 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsL(23L, even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final PreconditionViolationException ex3 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsL(23L, even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final PreconditionViolationException ex4 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsL(23L, lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testPreconditionsDoubleFixedArity()
+  {
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition even =
+      Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even");
+
+    Assertions.assertEquals(22.0, Preconditions.checkPreconditionsD(22.0, lessThan, even), 0.0);
+    Assertions.assertEquals(22.0, Preconditions.checkPreconditionsD(22.0, lessThan, even, lessThan), 0.0);
+    Assertions.assertEquals(22.0, Preconditions.checkPreconditionsD(22.0, lessThan, even, lessThan, even), 0.0);
+  }
+
+  @Test
+  public void testPreconditionsDoubleFixedArityViolation()
+  {
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition even =
+      Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even");
+
+    final PreconditionViolationException ex2 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsD(23.0, even, lessThan));
+    Assertions.assertEquals(2, ex2.violations());
+
+    final PreconditionViolationException ex3 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsD(23.0, even, lessThan, even));
+    Assertions.assertEquals(3, ex3.violations());
+
+    final PreconditionViolationException ex4 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsD(23.0, lessThan, even, lessThan, even));
+    Assertions.assertEquals(4, ex4.violations());
+    Assertions.assertTrue(ex4.getMessage().contains("[3]: Value must be even"));
+  }
+
+  @Test
+  public void testPreconditionsConditionSet()
+  {
+    final ContractConditionSet<Integer> conditions =
+      Contracts.conditionSet(
+        Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23"),
+        Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even"));
+
+    Assertions.assertEquals(Integer.valueOf(22), Preconditions.checkPreconditions(Integer.valueOf(22), conditions));
+  }
+
+  @Test
+  public void testPreconditionsConditionSetViolation()
+  {
+    final ContractConditionSet<Integer> conditions =
+      Contracts.conditionSet(
+        Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even"),
+        Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23"),
+        Contracts.condition(x -> x.intValue() < 23, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditions(Integer.valueOf(23), conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testPreconditionsIntConditionSet()
+  {
+    final ContractIntConditionSet conditions =
+      Contracts.conditionSetI(
+        Contracts.conditionI(x -> x < 23, x -> "Value must be < 23"),
+        Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even"));
+
+    Assertions.assertEquals(22, Preconditions.checkPreconditionsI(22, conditions));
+  }
+
+  @Test
+  public void testPreconditionsIntConditionSetViolation()
+  {
+    final ContractIntConditionSet conditions =
+      Contracts.conditionSetI(
+        Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even"),
+        Contracts.conditionI(x -> x < 23, x -> "Value must be < 23"),
+        Contracts.conditionI(x -> x < 23, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsI(23, conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testPreconditionsLongConditionSet()
+  {
+    final ContractLongConditionSet conditions =
+      Contracts.conditionSetL(
+        Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23"),
+        Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even"));
+
+    Assertions.assertEquals(22L, Preconditions.checkPreconditionsL(22L, conditions));
+  }
+
+  @Test
+  public void testPreconditionsLongConditionSetViolation()
+  {
+    final ContractLongConditionSet conditions =
+      Contracts.conditionSetL(
+        Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even"),
+        Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23"),
+        Contracts.conditionL(x -> x < 23L, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsL(23L, conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testPreconditionsDoubleConditionSet()
+  {
+    final ContractDoubleConditionSet conditions =
+      Contracts.conditionSetD(
+        Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23"),
+        Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even"));
+
+    Assertions.assertEquals(22.0, Preconditions.checkPreconditionsD(22.0, conditions), 0.0);
+  }
+
+  @Test
+  public void testPreconditionsDoubleConditionSetViolation()
+  {
+    final ContractDoubleConditionSet conditions =
+      Contracts.conditionSetD(
+        Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even"),
+        Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23"),
+        Contracts.conditionD(x -> x < 23.0, x -> {
+          throw new IllegalStateException();
+        }));
+
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsD(23.0, conditions));
+    Assertions.assertEquals(3, ex.violations());
+    Assertions.assertTrue(ex.getMessage().contains("[1]: Value must be < 23"));
+  }
+
+  @Test
+  public void testPreconditionsFirst()
+  {
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> even =
+      Contracts.condition(x -> x.intValue() % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(Integer.valueOf(22), Preconditions.checkPreconditionsFirst(Integer.valueOf(22), lessThan, even));
+    Assertions.assertEquals(
+      Integer.valueOf(22),
+      Preconditions.checkPreconditionsFirst(Integer.valueOf(22), Contracts.conditionSet(lessThan, even)));
+  }
+
+  @Test
+  public void testPreconditionsFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractCondition<Integer> lessThan =
+      Contracts.condition(x -> x.intValue() < 23, x -> "Value must be < 23");
+    final ContractCondition<Integer> counted =
+      Contracts.condition(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final PreconditionViolationException ex0 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirst(Integer.valueOf(23), counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final PreconditionViolationException ex1 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirst(
+          Integer.valueOf(23),
+          Contracts.conditionSet(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testPreconditionsIntFirst()
+  {
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition even =
+      Contracts.conditionI(x -> x % 2 == 0, x -> "Value must be even");
+
+    Assertions.assertEquals(22, Preconditions.checkPreconditionsFirstI(22, lessThan, even));
+    Assertions.assertEquals(
+      22,
+      Preconditions.checkPreconditionsFirstI(22, Contracts.conditionSetI(lessThan, even)));
+  }
+
+  @Test
+  public void testPreconditionsIntFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractIntCondition lessThan =
+      Contracts.conditionI(x -> x < 23, x -> "Value must be < 23");
+    final ContractIntCondition counted =
+      Contracts.conditionI(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final PreconditionViolationException ex0 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirstI(23, counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final PreconditionViolationException ex1 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirstI(
+          23,
+          Contracts.conditionSetI(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testPreconditionsLongFirst()
+  {
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition even =
+      Contracts.conditionL(x -> x % 2L == 0L, x -> "Value must be even");
+
+    Assertions.assertEquals(22L, Preconditions.checkPreconditionsFirstL(22L, lessThan, even));
+    Assertions.assertEquals(
+      22L,
+      Preconditions.checkPreconditionsFirstL(22L, Contracts.conditionSetL(lessThan, even)));
+  }
+
+  @Test
+  public void testPreconditionsLongFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractLongCondition lessThan =
+      Contracts.conditionL(x -> x < 23L, x -> "Value must be < 23");
+    final ContractLongCondition counted =
+      Contracts.conditionL(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final PreconditionViolationException ex0 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirstL(23L, counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final PreconditionViolationException ex1 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirstL(
+          23L,
+          Contracts.conditionSetL(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testPreconditionsDoubleFirst()
+  {
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition even =
+      Contracts.conditionD(x -> x % 2.0 == 0.0, x -> "Value must be even");
+
+    Assertions.assertEquals(22.0, Preconditions.checkPreconditionsFirstD(22.0, lessThan, even), 0.0);
+    Assertions.assertEquals(
+      22.0,
+      Preconditions.checkPreconditionsFirstD(22.0, Contracts.conditionSetD(lessThan, even)), 0.0);
+  }
+
+  @Test
+  public void testPreconditionsDoubleFirstViolation()
+  {
+    final AtomicInteger called = new AtomicInteger(0);
+    final ContractDoubleCondition lessThan =
+      Contracts.conditionD(x -> x < 23.0, x -> "Value must be < 23");
+    final ContractDoubleCondition counted =
+      Contracts.conditionD(x -> {
+        called.incrementAndGet();
+        return true;
+      }, x -> "Unused");
+
+    final PreconditionViolationException ex0 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirstD(23.0, counted, lessThan, counted, lessThan));
+    Assertions.assertEquals(1, ex0.violations());
+    Assertions.assertEquals(1, ex0.violationDetails().get(0).index());
+    Assertions.assertEquals(1, called.get());
+
+    final PreconditionViolationException ex1 =
+      Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> Preconditions.checkPreconditionsFirstD(
+          23.0,
+          Contracts.conditionSetD(counted, lessThan, counted, lessThan)));
+    Assertions.assertEquals(1, ex1.violations());
+    Assertions.assertEquals(1, ex1.violationDetails().get(0).index());
+    Assertions.assertEquals(2, called.get());
+  }
+
+  @Test
+  public void testPreconditionsArrayIPass()
+  {
+    final int[] values = {1, 2, 3, 4, 5};
+    Assertions.assertSame(
+      values,
+      Preconditions.checkPreconditionsI(values, 0, values.length, Contracts.conditionI(x -> x > 0, x -> "x")));
+    Assertions.assertSame(
+      values,
+      Preconditions.checkPreconditionsFirstI(values, 0, values.length, Contracts.conditionI(x -> x > 0, x -> "x")));
+  }
+
+  @Test
+  public void testPreconditionsArrayIAll()
+  {
+    final int[] values = {1, -2, 3, -4, 5, -6};
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionsI(
+        values, 1, 4, Contracts.conditionI(x -> x > 0, x -> "Value " + x + " must be positive")));
+
+    Assertions.assertEquals(2, ex.violations());
+    Assertions.assertEquals(1, ex.violationDetails().get(0).index());
+    Assertions.assertEquals("Value -2 must be positive", ex.violationDetails().get(0).description());
+    Assertions.assertEquals(3, ex.violationDetails().get(1).index());
+    Assertions.assertEquals("Value -4 must be positive", ex.violationDetails().get(1).description());
+    Assertions.assertTrue(ex.getMessage().contains("[3]: Value -4 must be positive"));
+    Assertions.assertTrue(ex.getMessage().contains("int[6] (offset 1, length 4)"));
+  }
+
+  @Test
+  public void testPreconditionsArrayIAllMany()
+  {
+    final int[] values = new int[100];
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionsI(
+        values, 0, values.length, Contracts.conditionI(x -> x > 0, x -> "x")));
+
+    Assertions.assertEquals(100, ex.violations());
+    Assertions.assertEquals(99, ex.violationDetails().get(99).index());
+  }
+
+  @Test
+  public void testPreconditionsArrayIFirst()
+  {
+    final AtomicInteger calls = new AtomicInteger();
+    final int[] values = {1, -2, 3, -4, 5, -6};
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionsFirstI(
+        values, 0, values.length, Contracts.conditionI(x -> {
+          calls.incrementAndGet();
+          return x > 0;
+        }, x -> "Value " + x + " must be positive")));
+
+    Assertions.assertEquals(2, calls.get());
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(1, ex.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testPreconditionsArrayIPredicateException()
+  {
+    final int[] values = {1, 2, 3};
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionsFirstI(
+        values, 0, values.length, Contracts.conditionI(x -> {
+          if (x == 2) {
+            throw new IllegalStateException("OUCH");
+          }
+          return true;
+        }, x -> "x")));
+
+    Assertions.assertEquals(1, ex.violationDetails().get(0).index());
+    Assertions.assertInstanceOf(
+      IllegalStateException.class,
+      ex.violationDetails().get(0).cause().orElseThrow());
+
+    final PreconditionViolationException exAll = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionsI(
+        values, 0, values.length, Contracts.conditionI(x -> {
+          if (x != 2) {
+            throw new IllegalStateException("OUCH");
+          }
+          return false;
+        }, x -> "x")));
+
+    Assertions.assertEquals(3, exAll.violations());
+    Assertions.assertTrue(exAll.violationDetails().get(0).cause().isPresent());
+    Assertions.assertFalse(exAll.violationDetails().get(1).cause().isPresent());
+    Assertions.assertTrue(exAll.violationDetails().get(2).cause().isPresent());
+  }
+
+  @Test
+  public void testPreconditionsArrayIOutOfBounds()
+  {
+    final int[] values = {1, 2, 3};
+    final var condition = Contracts.conditionI(x -> true, x -> "x");
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Preconditions.checkPreconditionsI(values, 1, 3, condition));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> Preconditions.checkPreconditionsFirstI(values, -1, 1, condition));
+  }
+
+  @Test
+  public void testPreconditionsArrayL()
+  {
+    final long[] values = {1L, 2L, -3L, 4L};
+    final var condition = Contracts.conditionL(x -> x > 0L, x -> "x");
+    Assertions.assertSame(values, Preconditions.checkPreconditionsL(values, 0, 2, condition));
+    Assertions.assertSame(values, Preconditions.checkPreconditionsFirstL(values, 0, 2, condition));
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionsL(values, 0, values.length, condition));
+    Assertions.assertEquals(2, ex.violationDetails().get(0).index());
+
+    final PreconditionViolationException exFirst = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionsFirstL(values, 0, values.length, condition));
+    Assertions.assertEquals(2, exFirst.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testPreconditionsArrayD()
+  {
+    final double[] values = {1.0, Double.NaN, 3.0, Double.NaN};
+    final var condition = Contracts.conditionD(x -> !Double.isNaN(x), x -> "x");
+    Assertions.assertSame(values, Preconditions.checkPreconditionsD(values, 2, 1, condition));
+    Assertions.assertSame(values, Preconditions.checkPreconditionsFirstD(values, 2, 1, condition));
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionsD(values, 0, values.length, condition));
+    Assertions.assertEquals(2, ex.violations());
+    Assertions.assertEquals(3, ex.violationDetails().get(1).index());
+
+    final PreconditionViolationException exFirst = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkPreconditionsFirstD(values, 0, values.length, condition));
+    Assertions.assertEquals(1, exFirst.violations());
+    Assertions.assertEquals(1, exFirst.violationDetails().get(0).index());
+  }
+
+  @Test
+  public void testCheckIndex()
+  {
+    Assertions.assertEquals(0, Preconditions.checkIndex(0, 10));
+    Assertions.assertEquals(9, Preconditions.checkIndex(9, 10));
+    Assertions.assertEquals(9L, Preconditions.checkIndexL(9L, 10L));
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkIndex(10, 10));
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(
+      "Index 10 must be in the range [0, 10)",
+      ex.violationDetails().get(0).description());
+    Assertions.assertTrue(ex.getMessage().contains("Received: 10"));
+
+    final PreconditionViolationException exNeg = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkIndex(-1, 10));
+    Assertions.assertEquals(
+      "Index -1 must be in the range [0, 10)",
+      exNeg.violationDetails().get(0).description());
+
+    final PreconditionViolationException exL = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkIndexL(10000000000L, 10L));
+    Assertions.assertEquals(
+      "Index 10000000000 must be in the range [0, 10)",
+      exL.violationDetails().get(0).description());
+    Assertions.assertTrue(exL.getMessage().contains("Received: 10000000000"));
+  }
+
+  @Test
+  public void testCheckFromToIndex()
+  {
+    Assertions.assertEquals(2, Preconditions.checkFromToIndex(2, 10, 10));
+    Assertions.assertEquals(10, Preconditions.checkFromToIndex(10, 10, 10));
+    Assertions.assertEquals(2L, Preconditions.checkFromToIndexL(2L, 10L, 10L));
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkFromToIndex(5, 4, 10));
+    Assertions.assertEquals(
+      "Range [5, 4) must be within the range [0, 10)",
+      ex.violationDetails().get(0).description());
+
+    final PreconditionViolationException exL = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkFromToIndexL(0L, 11L, 10L));
+    Assertions.assertEquals(
+      "Range [0, 11) must be within the range [0, 10)",
+      exL.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testCheckFromIndexSize()
+  {
+    Assertions.assertEquals(2, Preconditions.checkFromIndexSize(2, 8, 10));
+    Assertions.assertEquals(2L, Preconditions.checkFromIndexSizeL(2L, 8L, 10L));
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkFromIndexSize(1, Integer.MAX_VALUE, 10));
+    Assertions.assertEquals(
+      "Range [1, 1 + 2147483647) must be within the range [0, 10)",
+      ex.violationDetails().get(0).description());
+
+    final PreconditionViolationException exL = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> Preconditions.checkFromIndexSizeL(3L, 8L, 10L));
+    Assertions.assertEquals(
+      "Range [3, 3 + 8) must be within the range [0, 10)",
+      exL.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testPreconditionVFixedArity()
+  {
+    final Object v = "x";
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%s", "a"));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%d", 1));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%d", 1L));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%f", 1.0));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%c", 'a'));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%s %s", "a", "b"));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%d %d", 1, 2));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%d %d", 1L, 2L));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%s %s %s", "a", "b", "c"));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%d %d %d", 1, 2, 3));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%d %d %d", 1L, 2L, 3L));
+    Preconditions.checkPreconditionV(true, "%s", "a");
+    Preconditions.checkPreconditionV(true, "%d %d", 1, 2);
+    Preconditions.checkPreconditionV(true, "%d %d %d", 1L, 2L, 3L);
+  }
+
+  @Test
+  public void testPreconditionVFixedArityFailed()
+  {
+    final Object v = "x";
+    checkVPreconditionMessage("a", () -> Preconditions.checkPreconditionV(v, false, "%s", "a"));
+    checkVPreconditionMessage("1", () -> Preconditions.checkPreconditionV(v, false, "%d", 1));
+    checkVPreconditionMessage("1", () -> Preconditions.checkPreconditionV(v, false, "%d", 1L));
+    checkVPreconditionMessage("1.5", () -> Preconditions.checkPreconditionV(v, false, "%s", 1.5));
+    checkVPreconditionMessage("a", () -> Preconditions.checkPreconditionV(v, false, "%s", 'a'));
+    checkVPreconditionMessage("a b", () -> Preconditions.checkPreconditionV(v, false, "%s %s", "a", "b"));
+    checkVPreconditionMessage("1 2", () -> Preconditions.checkPreconditionV(v, false, "%d %d", 1, 2));
+    checkVPreconditionMessage("1 2", () -> Preconditions.checkPreconditionV(v, false, "%d %d", 1L, 2L));
+    checkVPreconditionMessage("1 a", () -> Preconditions.checkPreconditionV(v, false, "%d %s", 1, "a"));
+    checkVPreconditionMessage("a b c", () -> Preconditions.checkPreconditionV(v, false, "%s %s %s", "a", "b", "c"));
+    checkVPreconditionMessage("1 2 3", () -> Preconditions.checkPreconditionV(v, false, "%d %d %d", 1, 2, 3));
+    checkVPreconditionMessage("1 2 3", () -> Preconditions.checkPreconditionV(v, false, "%d %d %d", 1L, 2L, 3L));
+    checkVPreconditionMessage("a", () -> Preconditions.checkPreconditionV(false, "%s", "a"));
+    checkVPreconditionMessage("1 2", () -> Preconditions.checkPreconditionV(false, "%d %d", 1, 2));
+    checkVPreconditionMessage("1 2 3", () -> Preconditions.checkPreconditionV(false, "%d %d %d", 1L, 2L, 3L));
+  }
+
+  @Test
+  public void testPreconditionVNarrowTypes()
+  {
+    final Object v = "x";
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%x", (byte) -1));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%x", (short) -1));
+    Assertions.assertSame(v, Preconditions.checkPreconditionV(v, true, "%s", 0.1f));
+    Preconditions.checkPreconditionV(true, "%x", (byte) -1);
+    Preconditions.checkPreconditionV(true, "%x", (short) -1);
+    Preconditions.checkPreconditionV(true, "%s", 0.1f);
+
+    checkVPreconditionMessage("hex ff", () -> Preconditions.checkPreconditionV(v, false, "hex %x", (byte) -1));
+    checkVPreconditionMessage("hex ffff", () -> Preconditions.checkPreconditionV(v, false, "hex %x", (short) -1));
+    checkVPreconditionMessage("float 0.1", () -> Preconditions.checkPreconditionV(v, false, "float %s", 0.1f));
+    checkVPreconditionMessage("hex ff", () -> Preconditions.checkPreconditionV(false, "hex %x", (byte) -1));
+    checkVPreconditionMessage("hex ffff", () -> Preconditions.checkPreconditionV(false, "hex %x", (short) -1));
+    checkVPreconditionMessage("float 0.1", () -> Preconditions.checkPreconditionV(false, "float %s", 0.1f));
+
+    /*
+     * The two and three argument overloads accept only objects, and so
+     * narrower arguments are boxed to their own wrapper types.
+     */
+
+    checkVPreconditionMessage("a/b", () -> Preconditions.checkPreconditionV("v", false, "%s/%s", 'a', 'b'));
+    checkVPreconditionMessage("a/b", () -> Preconditions.checkPreconditionV(false, "%s/%s", 'a', 'b'));
+    checkVPreconditionMessage("a/b/c", () -> Preconditions.checkPreconditionV("v", false, "%s/%s/%s", 'a', 'b', 'c'));
+    checkVPreconditionMessage("a/b/c", () -> Preconditions.checkPreconditionV(false, "%s/%s/%s", 'a', 'b', 'c'));
+    checkVPreconditionMessage("ff ffff", () -> Preconditions.checkPreconditionV(v, false, "%x %x", (byte) -1, (short) -1));
+    checkVPreconditionMessage("ff ffff ff", () -> Preconditions.checkPreconditionV(v, false, "%x %x %x", (byte) -1, (short) -1, (byte) -1));
+  }
+
+  private static void checkVPreconditionMessage(
+    final String expected,
+    final Executable executable)
+  {
+    final PreconditionViolationException ex =
+      Assertions.assertThrows(PreconditionViolationException.class, executable);
+    Assertions.assertEquals(1, ex.violations());
+    Assertions.assertEquals(expected, ex.violationDetails().get(0).description());
+  }
 }
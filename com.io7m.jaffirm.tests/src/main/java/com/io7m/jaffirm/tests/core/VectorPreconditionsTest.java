@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.tests.core;
+
+import com.io7m.jaffirm.core.ContractViolation;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.vector.VectorPreconditions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public final class VectorPreconditionsTest
+{
+  private static int[] ints(
+    final int size)
+  {
+    final int[] values = new int[size];
+    for (int index = 0; index < size; ++index) {
+      values[index] = index;
+    }
+    return values;
+  }
+
+  private static long[] longs(
+    final int size)
+  {
+    final long[] values = new long[size];
+    for (int index = 0; index < size; ++index) {
+      values[index] = index;
+    }
+    return values;
+  }
+
+  private static double[] doubles(
+    final int size)
+  {
+    final double[] values = new double[size];
+    for (int index = 0; index < size; ++index) {
+      values[index] = index;
+    }
+    return values;
+  }
+
+  @Test
+  public void testRangeIPass()
+  {
+    for (int size = 0; size < 100; ++size) {
+      final int[] values = ints(size);
+      Assertions.assertSame(
+        values,
+        VectorPreconditions.checkPreconditionsRangeI(
+          values, 0, size, 0, Math.max(0, size - 1)));
+      Assertions.assertSame(
+        values,
+        VectorPreconditions.checkPreconditionsNonNegativeI(values, 0, size));
+    }
+  }
+
+  @Test
+  public void testRangeIFail()
+  {
+    for (int size = 1; size < 100; ++size) {
+      final int[] values = ints(size);
+      values[size - 1] = -1;
+
+      final int last = size - 1;
+      final PreconditionViolationException ex = Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> VectorPreconditions.checkPreconditionsRangeI(
+          values, 0, values.length, 0, 1000));
+
+      Assertions.assertEquals(1, ex.violations());
+      final ContractViolation violation = ex.violationDetails().get(0);
+      Assertions.assertEquals(last, violation.index());
+      Assertions.assertEquals(
+        "Value -1 must be in the range [0, 1000]",
+        violation.description());
+    }
+  }
+
+  @Test
+  public void testRangeIAllReported()
+  {
+    final int[] values = ints(64);
+    values[3] = 200;
+    values[40] = -5;
+    values[63] = 101;
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> VectorPreconditions.checkPreconditionsRangeI(
+        values, 0, values.length, 0, 100));
+
+    Assertions.assertEquals(
+      List.of(3, 40, 63),
+      ex.violationDetails()
+        .stream()
+        .map(ContractViolation::index)
+        .toList());
+    Assertions.assertTrue(ex.getMessage().contains("int[64] (offset 0, length 64)"));
+  }
+
+  @Test
+  public void testRangeISubrange()
+  {
+    final int[] values = ints(64);
+    values[0] = -1;
+    values[63] = -1;
+
+    Assertions.assertSame(
+      values,
+      VectorPreconditions.checkPreconditionsNonNegativeI(values, 1, 62));
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> VectorPreconditions.checkPreconditionsNonNegativeI(values, 1, 63));
+    Assertions.assertEquals(63, ex.violationDetails().get(0).index());
+    Assertions.assertEquals(
+      "Value -1 must be non-negative",
+      ex.violationDetails().get(0).description());
+  }
+
+  @Test
+  public void testOutOfBounds()
+  {
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorPreconditions.checkPreconditionsNonNegativeI(ints(4), 2, 3));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorPreconditions.checkPreconditionsNonNegativeL(longs(4), -1, 1));
+    Assertions.assertThrows(
+      IndexOutOfBoundsException.class,
+      () -> VectorPreconditions.checkPreconditionsFiniteD(doubles(4), 0, 5));
+  }
+
+  @Test
+  public void testRangeL()
+  {
+    for (int size = 1; size < 50; ++size) {
+      final long[] values = longs(size);
+      Assertions.assertSame(
+        values,
+        VectorPreconditions.checkPreconditionsRangeL(values, 0, size, 0L, 100L));
+      Assertions.assertSame(
+        values,
+        VectorPreconditions.checkPreconditionsNonNegativeL(values, 0, size));
+
+      values[size / 2] = Long.MIN_VALUE;
+      final int middle = size / 2;
+      final PreconditionViolationException ex = Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> VectorPreconditions.checkPreconditionsNonNegativeL(
+          values, 0, values.length));
+      Assertions.assertEquals(middle, ex.violationDetails().get(0).index());
+    }
+  }
+
+  @Test
+  public void testRangeD()
+  {
+    for (int size = 1; size < 50; ++size) {
+      final double[] values = doubles(size);
+      Assertions.assertSame(
+        values,
+        VectorPreconditions.checkPreconditionsRangeD(values, 0, size, 0.0, 100.0));
+      Assertions.assertSame(
+        values,
+        VectorPreconditions.checkPreconditionsNonNegativeD(values, 0, size));
+      Assertions.assertSame(
+        values,
+        VectorPreconditions.checkPreconditionsFiniteD(values, 0, size));
+
+      values[size - 1] = Double.NaN;
+      final int last = size - 1;
+
+      Assertions.assertEquals(
+        last,
+        Assertions.assertThrows(
+          PreconditionViolationException.class,
+          () -> VectorPreconditions.checkPreconditionsRangeD(
+            values, 0, values.length, 0.0, 100.0))
+          .violationDetails().get(0).index());
+      Assertions.assertEquals(
+        last,
+        Assertions.assertThrows(
+          PreconditionViolationException.class,
+          () -> VectorPreconditions.checkPreconditionsNonNegativeD(
+            values, 0, values.length))
+          .violationDetails().get(0).index());
+
+      final PreconditionViolationException ex = Assertions.assertThrows(
+        PreconditionViolationException.class,
+        () -> VectorPreconditions.checkPreconditionsFiniteD(
+          values, 0, values.length));
+      Assertions.assertEquals(last, ex.violationDetails().get(0).index());
+      Assertions.assertEquals(
+        "Value NaN must be finite",
+        ex.violationDetails().get(0).description());
+    }
+  }
+
+  @Test
+  public void testFiniteDInfinity()
+  {
+    final double[] values = doubles(33);
+    values[7] = Double.POSITIVE_INFINITY;
+    values[20] = Double.NEGATIVE_INFINITY;
+
+    final PreconditionViolationException ex = Assertions.assertThrows(
+      PreconditionViolationException.class,
+      () -> VectorPreconditions.checkPreconditionsFiniteD(
+        values, 0, values.length));
+    Assertions.assertEquals(2, ex.violations());
+    Assertions.assertEquals(7, ex.violationDetails().get(0).index());
+    Assertions.assertEquals(20, ex.violationDetails().get(1).index());
+  }
+}
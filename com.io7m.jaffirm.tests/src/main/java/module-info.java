@@ -22,7 +22,12 @@ open module com.io7m.jaffirm.tests
   requires org.junit.platform.commons;
   requires org.junit.platform.engine;
   requires org.junit.platform.launcher;
+  requires com.io7m.jaffirm.agent;
   requires com.io7m.jaffirm.core;
+  requires com.io7m.jaffirm.processor;
+  requires com.io7m.jaffirm.vector;
+  requires java.compiler;
+  requires jdk.jfr;
 
   exports com.io7m.jaffirm.tests.core;
 }
@@ -0,0 +1,434 @@
+/*
+ * Copyright © 2026 Mark Raynsford <code@io7m.com> https://www.io7m.com
+ *
+ * Permission to use, copy, modify, and/or distribute this software for any
+ * purpose with or without fee is hereby granted, provided that the above
+ * copyright notice and this permission notice appear in all copies.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS" AND THE AUTHOR DISCLAIMS ALL WARRANTIES
+ * WITH REGARD TO THIS SOFTWARE INCLUDING ALL IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS. IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY
+ * SPECIAL, DIRECT, INDIRECT, OR CONSEQUENTIAL DAMAGES OR ANY DAMAGES
+ * WHATSOEVER RESULTING FROM LOSS OF USE, DATA OR PROFITS, WHETHER IN AN
+ * ACTION OF CONTRACT, NEGLIGENCE OR OTHER TORTIOUS ACTION, ARISING OUT OF OR
+ * IN CONNECTION WITH THE USE OR PERFORMANCE OF THIS SOFTWARE.
+ */
+
+package com.io7m.jaffirm.vector;
+
+import com.io7m.jaffirm.core.ContractConditions;
+import com.io7m.jaffirm.core.ContractDoubleConditionType;
+import com.io7m.jaffirm.core.ContractIntConditionType;
+import com.io7m.jaffirm.core.ContractLongConditionType;
+import com.io7m.jaffirm.core.PreconditionViolationException;
+import com.io7m.jaffirm.core.Preconditions;
+import com.io7m.junreachable.UnreachableCodeException;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Objects;
+
+import static jdk.incubator.vector.VectorOperators.GE;
+import static jdk.incubator.vector.VectorOperators.LE;
+
+/**
+ * <p>Vectorized precondition checks over ranges of primitive arrays.</p>
+ *
+ * <p>The functions in this class check simple numeric rules (ranges, signs,
+ * and finiteness) using the incubating {@code jdk.incubator.vector} API. The
+ * passing case is evaluated entirely with vector comparisons. If any element
+ * fails, the range is re-checked with the scalar functions in
+ * {@link Preconditions}, and so the resulting exceptions and messages are
+ * exactly those of the scalar functions.</p>
+ *
+ * <p>Applications using this module must resolve the
+ * {@code jdk.incubator.vector} module; this happens automatically when the
+ * module is on the module path, and otherwise requires
+ * {@code --add-modules jdk.incubator.vector}.</p>
+ *
+ * @since 4.1.0
+ */
+
+public final class VectorPreconditions
+{
+  private static final VectorSpecies<Integer> SPECIES_I =
+    IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> SPECIES_L =
+    LongVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Double> SPECIES_D =
+    DoubleVector.SPECIES_PREFERRED;
+
+  private VectorPreconditions()
+  {
+    throw new UnreachableCodeException();
+  }
+
+  /**
+   * <p>Check that each of the {@code length} elements of {@code values}
+   * starting at {@code offset} is in the inclusive range
+   * {@code [lower, upper]}.</p>
+   *
+   * <p>This is equivalent to, and raises the same exceptions as, calling
+   * {@link Preconditions#checkPreconditionsI(int[], int, int,
+   * ContractIntConditionType)} with a condition that checks that each value
+   * {@code x} satisfies {@code x >= lower && x <= upper}.</p>
+   *
+   * @param values The values
+   * @param offset The index of the first value to check
+   * @param length The number of values to check
+   * @param lower  The inclusive lower bound
+   * @param upper  The inclusive upper bound
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If any value is out of range
+   * @throws IndexOutOfBoundsException     If the range is out of bounds
+   */
+
+  public static int[] checkPreconditionsRangeI(
+    final int[] values,
+    final int offset,
+    final int length,
+    final int lower,
+    final int upper)
+    throws PreconditionViolationException
+  {
+    if (!Preconditions.ENABLED) {
+      return values;
+    }
+
+    Objects.checkFromIndexSize(offset, length, values.length);
+    if (allInRangeI(values, offset, length, lower, upper)) {
+      return values;
+    }
+    return Preconditions.checkPreconditionsI(
+      values, offset, length, ContractConditions.inRangeI(lower, upper));
+  }
+
+  /**
+   * <p>Check that each of the {@code length} elements of {@code values}
+   * starting at {@code offset} is non-negative.</p>
+   *
+   * <p>This is equivalent to, and raises the same exceptions as, calling
+   * {@link Preconditions#checkPreconditionsI(int[], int, int,
+   * ContractIntConditionType)} with a condition that checks that each value
+   * {@code x} satisfies {@code x >= 0}.</p>
+   *
+   * @param values The values
+   * @param offset The index of the first value to check
+   * @param length The number of values to check
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If any value is negative
+   * @throws IndexOutOfBoundsException     If the range is out of bounds
+   */
+
+  public static int[] checkPreconditionsNonNegativeI(
+    final int[] values,
+    final int offset,
+    final int length)
+    throws PreconditionViolationException
+  {
+    if (!Preconditions.ENABLED) {
+      return values;
+    }
+
+    Objects.checkFromIndexSize(offset, length, values.length);
+    if (allInRangeI(values, offset, length, 0, Integer.MAX_VALUE)) {
+      return values;
+    }
+    return Preconditions.checkPreconditionsI(
+      values, offset, length, ContractConditions.nonNegativeI());
+  }
+
+  /**
+   * <p>Check that each of the {@code length} elements of {@code values}
+   * starting at {@code offset} is in the inclusive range
+   * {@code [lower, upper]}.</p>
+   *
+   * <p>This is equivalent to, and raises the same exceptions as, calling
+   * {@link Preconditions#checkPreconditionsL(long[], int, int,
+   * ContractLongConditionType)} with a condition that checks that each value
+   * {@code x} satisfies {@code x >= lower && x <= upper}.</p>
+   *
+   * @param values The values
+   * @param offset The index of the first value to check
+   * @param length The number of values to check
+   * @param lower  The inclusive lower bound
+   * @param upper  The inclusive upper bound
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If any value is out of range
+   * @throws IndexOutOfBoundsException     If the range is out of bounds
+   */
+
+  public static long[] checkPreconditionsRangeL(
+    final long[] values,
+    final int offset,
+    final int length,
+    final long lower,
+    final long upper)
+    throws PreconditionViolationException
+  {
+    if (!Preconditions.ENABLED) {
+      return values;
+    }
+
+    Objects.checkFromIndexSize(offset, length, values.length);
+    if (allInRangeL(values, offset, length, lower, upper)) {
+      return values;
+    }
+    return Preconditions.checkPreconditionsL(
+      values, offset, length, ContractConditions.inRangeL(lower, upper));
+  }
+
+  /**
+   * <p>Check that each of the {@code length} elements of {@code values}
+   * starting at {@code offset} is non-negative.</p>
+   *
+   * <p>This is equivalent to, and raises the same exceptions as, calling
+   * {@link Preconditions#checkPreconditionsL(long[], int, int,
+   * ContractLongConditionType)} with a condition that checks that each value
+   * {@code x} satisfies {@code x >= 0L}.</p>
+   *
+   * @param values The values
+   * @param offset The index of the first value to check
+   * @param length The number of values to check
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If any value is negative
+   * @throws IndexOutOfBoundsException     If the range is out of bounds
+   */
+
+  public static long[] checkPreconditionsNonNegativeL(
+    final long[] values,
+    final int offset,
+    final int length)
+    throws PreconditionViolationException
+  {
+    if (!Preconditions.ENABLED) {
+      return values;
+    }
+
+    Objects.checkFromIndexSize(offset, length, values.length);
+    if (allInRangeL(values, offset, length, 0L, Long.MAX_VALUE)) {
+      return values;
+    }
+    return Preconditions.checkPreconditionsL(
+      values, offset, length, ContractConditions.nonNegativeL());
+  }
+
+  /**
+   * <p>Check that each of the {@code length} elements of {@code values}
+   * starting at {@code offset} is in the inclusive range
+   * {@code [lower, upper]}.</p>
+   *
+   * <p>This is equivalent to, and raises the same exceptions as, calling
+   * {@link Preconditions#checkPreconditionsD(double[], int, int,
+   * ContractDoubleConditionType)} with a condition that checks that each value
+   * {@code x} satisfies {@code x >= lower && x <= upper}.</p>
+   *
+   * @param values The values
+   * @param offset The index of the first value to check
+   * @param length The number of values to check
+   * @param lower  The inclusive lower bound
+   * @param upper  The inclusive upper bound
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If any value is out of range
+   * @throws IndexOutOfBoundsException     If the range is out of bounds
+   */
+
+  public static double[] checkPreconditionsRangeD(
+    final double[] values,
+    final int offset,
+    final int length,
+    final double lower,
+    final double upper)
+    throws PreconditionViolationException
+  {
+    if (!Preconditions.ENABLED) {
+      return values;
+    }
+
+    Objects.checkFromIndexSize(offset, length, values.length);
+    if (allInRangeD(values, offset, length, lower, upper)) {
+      return values;
+    }
+    return Preconditions.checkPreconditionsD(
+      values, offset, length, ContractConditions.inRangeD(lower, upper));
+  }
+
+  /**
+   * <p>Check that each of the {@code length} elements of {@code values}
+   * starting at {@code offset} is non-negative.</p>
+   *
+   * <p>This is equivalent to, and raises the same exceptions as, calling
+   * {@link Preconditions#checkPreconditionsD(double[], int, int,
+   * ContractDoubleConditionType)} with a condition that checks that each value
+   * {@code x} satisfies {@code x >= 0.0}.</p>
+   *
+   * @param values The values
+   * @param offset The index of the first value to check
+   * @param length The number of values to check
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If any value is negative
+   * @throws IndexOutOfBoundsException     If the range is out of bounds
+   */
+
+  public static double[] checkPreconditionsNonNegativeD(
+    final double[] values,
+    final int offset,
+    final int length)
+    throws PreconditionViolationException
+  {
+    if (!Preconditions.ENABLED) {
+      return values;
+    }
+
+    Objects.checkFromIndexSize(offset, length, values.length);
+    if (allInRangeD(values, offset, length, 0.0, Double.POSITIVE_INFINITY)) {
+      return values;
+    }
+    return Preconditions.checkPreconditionsD(
+      values, offset, length, ContractConditions.nonNegativeD());
+  }
+
+  /**
+   * <p>Check that each of the {@code length} elements of {@code values}
+   * starting at {@code offset} is finite. That is, that no value is
+   * {@code NaN} or infinite.</p>
+   *
+   * <p>This is equivalent to, and raises the same exceptions as, calling
+   * {@link Preconditions#checkPreconditionsD(double[], int, int,
+   * ContractDoubleConditionType)} with a condition that checks that each
+   * value {@code x} satisfies {@link Double#isFinite(double)}.</p>
+   *
+   * @param values The values
+   * @param offset The index of the first value to check
+   * @param length The number of values to check
+   *
+   * @return values
+   *
+   * @throws PreconditionViolationException If any value is not finite
+   * @throws IndexOutOfBoundsException     If the range is out of bounds
+   */
+
+  public static double[] checkPreconditionsFiniteD(
+    final double[] values,
+    final int offset,
+    final int length)
+    throws PreconditionViolationException
+  {
+    if (!Preconditions.ENABLED) {
+      return values;
+    }
+
+    Objects.checkFromIndexSize(offset, length, values.length);
+    if (allInRangeD(
+      values, offset, length, -Double.MAX_VALUE, Double.MAX_VALUE)) {
+      return values;
+    }
+    return Preconditions.checkPreconditionsD(
+      values, offset, length, ContractConditions.finiteD());
+  }
+
+  private static boolean allInRangeI(
+    final int[] values,
+    final int offset,
+    final int length,
+    final int lower,
+    final int upper)
+  {
+    final VectorSpecies<Integer> species = SPECIES_I;
+    final int bound = offset + species.loopBound(length);
+    final int end = offset + length;
+
+    int index = offset;
+    for (; index < bound; index += species.length()) {
+      final IntVector v = IntVector.fromArray(species, values, index);
+      final VectorMask<Integer> ok =
+        v.compare(GE, lower).and(v.compare(LE, upper));
+      if (!ok.allTrue()) {
+        return false;
+      }
+    }
+
+    for (; index < end; ++index) {
+      final int x = values[index];
+      if (!(x >= lower && x <= upper)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean allInRangeL(
+    final long[] values,
+    final int offset,
+    final int length,
+    final long lower,
+    final long upper)
+  {
+    final VectorSpecies<Long> species = SPECIES_L;
+    final int bound = offset + species.loopBound(length);
+    final int end = offset + length;
+
+    int index = offset;
+    for (; index < bound; index += species.length()) {
+      final LongVector v = LongVector.fromArray(species, values, index);
+      final VectorMask<Long> ok =
+        v.compare(GE, lower).and(v.compare(LE, upper));
+      if (!ok.allTrue()) {
+        return false;
+      }
+    }
+
+    for (; index < end; ++index) {
+      final long x = values[index];
+      if (!(x >= lower && x <= upper)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean allInRangeD(
+    final double[] values,
+    final int offset,
+    final int length,
+    final double lower,
+    final double upper)
+  {
+    final VectorSpecies<Double> species = SPECIES_D;
+    final int bound = offset + species.loopBound(length);
+    final int end = offset + length;
+
+    int index = offset;
+    for (; index < bound; index += species.length()) {
+      final DoubleVector v = DoubleVector.fromArray(species, values, index);
+      final VectorMask<Double> ok =
+        v.compare(GE, lower).and(v.compare(LE, upper));
+      if (!ok.allTrue()) {
+        return false;
+      }
+    }
+
+    for (; index < end; ++index) {
+      final double x = values[index];
+      if (!(x >= lower && x <= upper)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}